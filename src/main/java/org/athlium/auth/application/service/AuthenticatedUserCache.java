@@ -0,0 +1,89 @@
+package org.athlium.auth.application.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.athlium.auth.domain.model.AuthenticatedUser;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of enriched principals keyed by Firebase UID, so authenticated requests skip the
+ * user/headquarters/organization lookups. Membership, role and profile changes evict the UID right away;
+ * anything else (e.g. direct database edits) is picked up once the TTL expires.
+ */
+@ApplicationScoped
+public class AuthenticatedUserCache {
+
+    // Mock tokens resolve "mock-<uid>" to the local user "<uid>", so both keys must be evicted together.
+    private static final String MOCK_UID_PREFIX = "mock-";
+
+    @ConfigProperty(name = "athlium.auth.principal-cache.ttl-seconds", defaultValue = "30")
+    long ttlSeconds = 30;
+
+    @ConfigProperty(name = "athlium.auth.principal-cache.max-entries", defaultValue = "10000")
+    int maxEntries = 10_000;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public AuthenticatedUser get(String firebaseUid, Supplier<AuthenticatedUser> loader) {
+        if (firebaseUid == null || ttlSeconds <= 0) {
+            return loader.get();
+        }
+
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(firebaseUid);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.user();
+        }
+
+        long loadGeneration = generation.get();
+        AuthenticatedUser loaded = loader.get();
+        // Unregistered principals are not cached so a fresh sign-up is visible on the next request.
+        if (loaded.isRegistered() && loadGeneration == generation.get()) {
+            makeRoom();
+            entries.put(firebaseUid, new Entry(loaded, now + ttlSeconds * 1000L));
+        }
+        return loaded;
+    }
+
+    public void invalidate(String firebaseUid) {
+        if (firebaseUid == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        entries.remove(firebaseUid);
+        entries.remove(MOCK_UID_PREFIX + firebaseUid);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public long size() {
+        return entries.size();
+    }
+
+    private void makeRoom() {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (entries.size() >= maxEntries) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(candidate -> candidate.getValue().expiresAt()))
+                    .map(Map.Entry::getKey)
+                    .ifPresent(entries::remove);
+        }
+    }
+
+    private record Entry(AuthenticatedUser user, long expiresAt) {
+    }
+}
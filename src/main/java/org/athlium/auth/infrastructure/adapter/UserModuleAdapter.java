@@ -5,6 +5,7 @@ import jakarta.inject.Inject;
 import org.athlium.auth.application.ports.UserProvider;
 import org.athlium.auth.domain.model.AuthenticatedUser;
 import org.athlium.gym.domain.model.Headquarters;
+import org.athlium.gym.domain.model.Organization;
 import org.athlium.gym.domain.repository.HeadquartersRepository;
 import org.athlium.gym.domain.repository.OrganizationRepository;
 import org.athlium.users.application.usecase.CreateUserUseCase;
@@ -88,12 +89,14 @@ public class UserModuleAdapter implements UserProvider {
             LOG.debugf("Enriching auth user with local data: userId=%d, roles=%s", 
                     user.getId(), user.getRoles());
 
+            OrganizationSelection selection = selectOrganizationWithHeadquarters(user);
+
             return builder
                     .userId(user.getId())
                     .roles(user.getRoles() != null ? user.getRoles() : new HashSet<>())
-                    .organizationId(resolveOrganizationId(user).orElse(null))
-                    .organizationName(resolveOrganizationName(user).orElse(null))
-                    .headquarters(resolveHeadquarters(user))
+                    .organizationId(selection != null ? selection.organizationId() : null)
+                    .organizationName(selection != null ? selection.organizationName() : null)
+                    .headquarters(resolveHeadquarters(selection))
                     .active(user.getActive() != null && user.getActive());
         } else {
             LOG.debugf("No local user found for Firebase UID: %s", firebaseUid);
@@ -108,27 +111,7 @@ public class UserModuleAdapter implements UserProvider {
         }
     }
 
-    private Optional<Long> resolveOrganizationId(User user) {
-        OrganizationSelection selection = selectOrganizationWithHeadquarters(user);
-        if (selection == null) {
-            return Optional.empty();
-        }
-        return Optional.of(selection.organizationId());
-    }
-
-    private Optional<String> resolveOrganizationName(User user) {
-        OrganizationSelection selection = selectOrganizationWithHeadquarters(user);
-        if (selection == null) {
-            return Optional.empty();
-        }
-
-        return organizationRepository.findById(selection.organizationId())
-                .map(org -> org.getName())
-                .or(() -> Optional.ofNullable(selection.organizationName()));
-    }
-
-    private List<AuthenticatedUser.AuthenticatedHeadquarters> resolveHeadquarters(User user) {
-        OrganizationSelection selection = selectOrganizationWithHeadquarters(user);
+    private List<AuthenticatedUser.AuthenticatedHeadquarters> resolveHeadquarters(OrganizationSelection selection) {
         if (selection == null) {
             return List.of();
         }
@@ -141,27 +124,35 @@ public class UserModuleAdapter implements UserProvider {
                 .toList();
     }
 
+    /**
+     * Resolves the user's membership graph with one headquarters query and one organization query,
+     * then picks the organization the user has the most headquarters in.
+     */
     private OrganizationSelection selectOrganizationWithHeadquarters(User user) {
         if (user.getHeadquartersIds() == null || user.getHeadquartersIds().isEmpty()) {
             return null;
         }
 
         Map<Long, List<Headquarters>> headquartersByOrganization = new HashMap<>();
-        for (Long headquartersId : user.getHeadquartersIds()) {
-            headquartersRepository.findById(headquartersId)
-                    .ifPresent(headquarters -> headquartersByOrganization
-                            .computeIfAbsent(headquarters.getOrganizationId(), ignored -> new ArrayList<>())
-                            .add(headquarters));
+        for (Headquarters headquarters : headquartersRepository.findByIds(user.getHeadquartersIds())) {
+            headquartersByOrganization
+                    .computeIfAbsent(headquarters.getOrganizationId(), ignored -> new ArrayList<>())
+                    .add(headquarters);
         }
 
         if (headquartersByOrganization.isEmpty()) {
             return null;
         }
 
+        Map<Long, String> organizationNames = new HashMap<>();
+        for (Organization organization : organizationRepository.findByIds(headquartersByOrganization.keySet())) {
+            organizationNames.put(organization.getId(), organization.getName());
+        }
+
         return headquartersByOrganization.entrySet().stream()
                 .map(entry -> new OrganizationSelection(
                         entry.getKey(),
-                        organizationRepository.findById(entry.getKey()).map(org -> org.getName()).orElse(null),
+                        organizationNames.get(entry.getKey()),
                         entry.getValue().stream()
                                 .sorted(Comparator.comparing(Headquarters::getName))
                                 .toList()))
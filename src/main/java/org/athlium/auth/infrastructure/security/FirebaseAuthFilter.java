@@ -11,6 +11,7 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.Provider;
+import org.athlium.auth.application.service.AuthenticatedUserCache;
 import org.athlium.auth.domain.model.AuthProvider;
 import org.athlium.auth.application.ports.TokenValidator;
 import org.athlium.auth.application.ports.UserProvider;
@@ -52,6 +53,9 @@ public class FirebaseAuthFilter implements ContainerRequestFilter {
     @Inject
     SecurityContext securityContext;
 
+    @Inject
+    AuthenticatedUserCache authenticatedUserCache;
+
     @ConfigProperty(name = "auth.dev-bypass.enabled", defaultValue = "false")
     boolean authBypassEnabled;
 
@@ -222,16 +226,29 @@ public class FirebaseAuthFilter implements ContainerRequestFilter {
     private AuthenticatedUser validateAndBuildUser(String authHeader) {
         DecodedToken decodedToken = tokenValidator.validateToken(authHeader);
 
-        AuthenticatedUser.AuthenticatedUserBuilder builder = AuthenticatedUser.builder()
+        AuthenticatedUser localUser = authenticatedUserCache.get(decodedToken.getUid(),
+                () -> userProvider
+                        .enrichWithUserData(decodedToken.getUid(), tokenClaims(decodedToken))
+                        .build());
+
+        // Claims always come from the current token; only the local user data is reused.
+        return tokenClaims(decodedToken)
+                .userId(localUser.getUserId())
+                .roles(localUser.getRoles())
+                .organizationId(localUser.getOrganizationId())
+                .organizationName(localUser.getOrganizationName())
+                .headquarters(localUser.getHeadquarters())
+                .active(localUser.isActive())
+                .build();
+    }
+
+    private AuthenticatedUser.AuthenticatedUserBuilder tokenClaims(DecodedToken decodedToken) {
+        return AuthenticatedUser.builder()
                 .firebaseUid(decodedToken.getUid())
                 .email(decodedToken.getEmail())
                 .name(decodedToken.getName())
                 .emailVerified(decodedToken.isEmailVerified())
                 .provider(decodedToken.getProvider());
-
-        return userProvider
-                .enrichWithUserData(decodedToken.getUid(), builder)
-                .build();
     }
 
     private void tryOptionalAuthentication(ContainerRequestContext requestContext) {
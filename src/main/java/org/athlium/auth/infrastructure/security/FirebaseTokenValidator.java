@@ -34,6 +34,9 @@ public class FirebaseTokenValidator implements TokenValidator {
     @Inject
     FirebaseConfig firebaseConfig;
 
+    @Inject
+    VerifiedTokenCache verifiedTokenCache;
+
     @Override
     public DecodedToken validateToken(String idToken) {
         if (idToken == null || idToken.isBlank()) {
@@ -51,6 +54,10 @@ public class FirebaseTokenValidator implements TokenValidator {
             throw new InvalidTokenException("Firebase is not initialized");
         }
 
+        return verifiedTokenCache.get(token, rawToken -> verify(firebaseAuth, rawToken));
+    }
+
+    private DecodedToken verify(FirebaseAuth firebaseAuth, String token) {
         try {
             FirebaseToken firebaseToken = firebaseAuth.verifyIdToken(token);
             return mapToDecodedToken(firebaseToken);
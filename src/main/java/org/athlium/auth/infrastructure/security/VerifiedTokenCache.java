@@ -0,0 +1,111 @@
+package org.athlium.auth.infrastructure.security;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.athlium.auth.domain.model.DecodedToken;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.annotation.Gauge;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of verified ID tokens so the signature is checked once per token instead of once per request.
+ * Entries are keyed by a SHA-256 digest of the raw token (the token itself is never held) and expire at the
+ * token's own {@code exp}. Failed verifications are never cached.
+ */
+@ApplicationScoped
+public class VerifiedTokenCache {
+
+    @ConfigProperty(name = "athlium.auth.token-cache.enabled", defaultValue = "true")
+    boolean enabled = true;
+
+    @ConfigProperty(name = "athlium.auth.token-cache.max-entries", defaultValue = "20000")
+    int maxEntries = 20_000;
+
+    private final ConcurrentMap<String, DecodedToken> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public DecodedToken get(String token, Function<String, DecodedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        String key = digest(token);
+        Instant now = Instant.now();
+        DecodedToken cached = entries.get(key);
+        if (cached != null) {
+            if (isUsable(cached, now)) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            entries.remove(key, cached);
+        }
+
+        misses.incrementAndGet();
+        DecodedToken verified = verifier.apply(token);
+        if (isUsable(verified, now)) {
+            makeRoom(now);
+            entries.put(key, verified);
+        }
+        return verified;
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    @Gauge(name = "auth_token_cache_entries", unit = MetricUnits.NONE, absolute = true,
+            description = "Verified ID tokens currently cached")
+    public long entryCount() {
+        return entries.size();
+    }
+
+    @Gauge(name = "auth_token_cache_hits", unit = MetricUnits.NONE, absolute = true,
+            description = "Token validations served without verifying the signature")
+    public long hitCount() {
+        return hits.get();
+    }
+
+    @Gauge(name = "auth_token_cache_misses", unit = MetricUnits.NONE, absolute = true,
+            description = "Token validations that required signature verification")
+    public long missCount() {
+        return misses.get();
+    }
+
+    private boolean isUsable(DecodedToken token, Instant now) {
+        return token != null && token.getExpiresAt() != null && token.getExpiresAt().isAfter(now);
+    }
+
+    private void makeRoom(Instant now) {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        entries.values().removeIf(token -> !isUsable(token, now));
+        if (entries.size() >= maxEntries) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparing(candidate -> candidate.getValue().getExpiresAt()))
+                    .map(Map.Entry::getKey)
+                    .ifPresent(entries::remove);
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package org.athlium.bookings.application.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.athlium.bookings.domain.model.BookingStatus;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.shared.exception.BadRequestException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * In-memory admission gate for session seats.
+ * Keeps per-session confirmed/waitlisted counters (committed plus in-flight holds) so requests that cannot
+ * get a seat are rejected before taking the session row lock. The database remains the source of truth:
+ * counters are warmed from the session occupancy columns, reconciled with the values read under the row lock,
+ * and re-warmed once they are older than the configured TTL. A seat freed on another instance is therefore
+ * refused here for at most that long. Committed counters only change once the
+ * surrounding transaction has committed, so a rollback never leaves a phantom booking or cancellation behind.
+ */
+@ApplicationScoped
+public class SessionSeatLedger {
+
+    private static final int MAX_TRACKED_SESSIONS = 10_000;
+
+    @Inject
+    SessionInstanceRepository sessionInstanceRepository;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @ConfigProperty(name = "athlium.bookings.seat-ledger.ttl-seconds", defaultValue = "5")
+    long ttlSeconds = 5;
+
+    private final ConcurrentMap<Long, AtomicReference<Occupancy>> ledger = new ConcurrentHashMap<>();
+
+    public SeatReservation reserve(Long sessionId) {
+        AtomicReference<Occupancy> entry = ledger.get(sessionId);
+        if (entry == null || isExpired(entry.get())) {
+            entry = warm(sessionId);
+        }
+        if (entry == null) {
+            return SeatReservation.untracked(sessionId);
+        }
+
+        while (true) {
+            Occupancy current = entry.get();
+            BookingStatus status;
+            Occupancy next;
+            // Queued users get freed seats before anyone new; see PromoteWaitlistUseCase.
+            if (current.confirmed() + current.heldConfirmed() < current.maxParticipants()
+                    && current.waitlisted() + current.heldWaitlisted() == 0) {
+                status = BookingStatus.CONFIRMED;
+                next = current.withHeld(current.heldConfirmed() + 1, current.heldWaitlisted());
+            } else if (!current.waitlistEnabled()) {
+                throw new BadRequestException("Session is full");
+            } else if (current.waitlisted() + current.heldWaitlisted() < current.waitlistMaxSize()) {
+                status = BookingStatus.WAITLISTED;
+                next = current.withHeld(current.heldConfirmed(), current.heldWaitlisted() + 1);
+            } else {
+                throw new BadRequestException("Waitlist is full for this session");
+            }
+
+            if (entry.compareAndSet(current, next)) {
+                return new SeatReservation(sessionId, status);
+            }
+        }
+    }
+
+    public void reconcile(SessionInstance session) {
+        AtomicReference<Occupancy> entry = ledger.get(session.getId());
+        if (entry == null) {
+            return;
+        }
+        entry.updateAndGet(current -> new Occupancy(
+                confirmedCount(session),
+                waitlistedCount(session),
+                current.heldConfirmed(),
+                current.heldWaitlisted(),
+                maxParticipants(session),
+                Boolean.TRUE.equals(session.getWaitlistEnabled()),
+                waitlistMaxSize(session),
+                current.loadedAt(),
+                current.epoch() + 1
+        ));
+    }
+
+    /**
+     * Turns the hold into a committed booking once the current transaction commits; a rollback only gives the
+     * hold back. Called under the session row lock, so a refresh of the counters before the commit callback
+     * runs already read this booking and it is not counted twice.
+     */
+    public void confirm(SeatReservation reservation, BookingStatus persistedStatus) {
+        if (!reservation.isTracked()) {
+            return;
+        }
+        long epoch = currentEpoch(reservation.sessionId());
+        afterCompletion(committed -> {
+            AtomicReference<Occupancy> entry = ledger.get(reservation.sessionId());
+            if (entry == null) {
+                return;
+            }
+            entry.updateAndGet(current -> committed && current.epoch() == epoch
+                    ? current.releaseHold(reservation.status()).addCommitted(persistedStatus, 1)
+                    : current.releaseHold(reservation.status()));
+        });
+    }
+
+    public void release(SeatReservation reservation) {
+        if (!reservation.isTracked()) {
+            return;
+        }
+        AtomicReference<Occupancy> entry = ledger.get(reservation.sessionId());
+        if (entry == null) {
+            return;
+        }
+        entry.updateAndGet(current -> current.releaseHold(reservation.status()));
+    }
+
+    /**
+     * Records a committed cancellation. A confirmed seat handed to the waitlist stays counted as taken until the
+     * promotion worker evicts the entry, so a new booker cannot claim it first.
+     */
+    public void recordCancellation(Long sessionId, BookingStatus previousStatus, boolean promotionPending) {
+        if (previousStatus == BookingStatus.CONFIRMED && promotionPending) {
+            return;
+        }
+        long epoch = currentEpoch(sessionId);
+        afterCompletion(committed -> {
+            AtomicReference<Occupancy> entry = ledger.get(sessionId);
+            if (!committed || entry == null) {
+                return;
+            }
+            entry.updateAndGet(current -> current.epoch() == epoch
+                    ? current.addCommitted(previousStatus, -1)
+                    : current);
+        });
+    }
+
+    /**
+     * Drops the session's counters once the current transaction ends, so the next request re-warms them from
+     * whatever was committed.
+     */
+    public void evict(Long sessionId) {
+        afterCompletion(committed -> ledger.remove(sessionId));
+    }
+
+    /**
+     * Runs the action when the current transaction completes, telling it whether it committed. Outside a
+     * transaction the action runs immediately as committed.
+     */
+    private void afterCompletion(Consumer<Boolean> action) {
+        if (transactionSynchronizationRegistry == null || transactionSynchronizationRegistry.getTransactionKey() == null) {
+            action.accept(true);
+            return;
+        }
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == Status.STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private AtomicReference<Occupancy> warm(Long sessionId) {
+        SessionInstance session = sessionInstanceRepository.findById(sessionId).orElse(null);
+        if (session == null || session.getStatus() != SessionStatus.OPEN) {
+            // Let the locked path report the precise error.
+            ledger.remove(sessionId);
+            return null;
+        }
+
+        if (ledger.size() >= MAX_TRACKED_SESSIONS) {
+            ledger.values().removeIf(existing -> isExpired(existing.get()));
+        }
+
+        AtomicReference<Occupancy> entry = ledger.computeIfAbsent(sessionId, ignored -> new AtomicReference<>(
+                new Occupancy(0, 0, 0, 0, 0, false, 0, 0L, 0L)
+        ));
+        // Holds taken by in-flight requests survive the refresh.
+        entry.updateAndGet(current -> new Occupancy(
+                confirmedCount(session),
+                waitlistedCount(session),
+                current.heldConfirmed(),
+                current.heldWaitlisted(),
+                maxParticipants(session),
+                Boolean.TRUE.equals(session.getWaitlistEnabled()),
+                waitlistMaxSize(session),
+                System.currentTimeMillis(),
+                current.epoch() + 1
+        ));
+        return entry;
+    }
+
+    private long currentEpoch(Long sessionId) {
+        AtomicReference<Occupancy> entry = ledger.get(sessionId);
+        return entry == null ? -1 : entry.get().epoch();
+    }
+
+    private boolean isExpired(Occupancy occupancy) {
+        return System.currentTimeMillis() - occupancy.loadedAt() > ttlSeconds * 1000L;
+    }
+
+    private int confirmedCount(SessionInstance session) {
+        return session.getConfirmedCount() == null ? 0 : session.getConfirmedCount();
+    }
+
+    private int waitlistedCount(SessionInstance session) {
+        return session.getWaitlistedCount() == null ? 0 : session.getWaitlistedCount();
+    }
+
+    private int maxParticipants(SessionInstance session) {
+        return session.getMaxParticipants() == null ? 0 : session.getMaxParticipants();
+    }
+
+    private int waitlistMaxSize(SessionInstance session) {
+        return session.getWaitlistMaxSize() == null ? 0 : session.getWaitlistMaxSize();
+    }
+
+    public record SeatReservation(Long sessionId, BookingStatus status) {
+
+        static SeatReservation untracked(Long sessionId) {
+            return new SeatReservation(sessionId, null);
+        }
+
+        public boolean isTracked() {
+            return status != null;
+        }
+    }
+
+    private record Occupancy(
+            int confirmed,
+            int waitlisted,
+            int heldConfirmed,
+            int heldWaitlisted,
+            int maxParticipants,
+            boolean waitlistEnabled,
+            int waitlistMaxSize,
+            long loadedAt,
+            // Advances whenever the committed counters are re-read from the database.
+            long epoch
+    ) {
+
+        Occupancy withHeld(int nextHeldConfirmed, int nextHeldWaitlisted) {
+            return new Occupancy(confirmed, waitlisted, nextHeldConfirmed, nextHeldWaitlisted,
+                    maxParticipants, waitlistEnabled, waitlistMaxSize, loadedAt, epoch);
+        }
+
+        Occupancy releaseHold(BookingStatus status) {
+            if (status == BookingStatus.CONFIRMED) {
+                return withHeld(Math.max(0, heldConfirmed - 1), heldWaitlisted);
+            }
+            if (status == BookingStatus.WAITLISTED) {
+                return withHeld(heldConfirmed, Math.max(0, heldWaitlisted - 1));
+            }
+            return this;
+        }
+
+        Occupancy addCommitted(BookingStatus status, int delta) {
+            if (status == BookingStatus.CONFIRMED) {
+                return new Occupancy(Math.max(0, confirmed + delta), waitlisted, heldConfirmed, heldWaitlisted,
+                        maxParticipants, waitlistEnabled, waitlistMaxSize, loadedAt, epoch);
+            }
+            if (status == BookingStatus.WAITLISTED) {
+                return new Occupancy(confirmed, Math.max(0, waitlisted + delta), heldConfirmed, heldWaitlisted,
+                        maxParticipants, waitlistEnabled, waitlistMaxSize, loadedAt, epoch);
+            }
+            return this;
+        }
+    }
+}
@@ -3,15 +3,21 @@ package org.athlium.bookings.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import org.athlium.bookings.application.service.SessionSeatLedger;
 import org.athlium.bookings.domain.model.Booking;
+import org.athlium.bookings.domain.model.BookingEvent;
 import org.athlium.bookings.domain.model.BookingStatus;
 import org.athlium.bookings.domain.repository.BookingRepository;
+import org.athlium.bookings.domain.repository.WaitlistPromotionQueueRepository;
 import org.athlium.clients.application.service.ClientPackageCreditService;
 import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.application.EventOutbox;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 
 import java.time.Instant;
+import java.util.List;
 
 @ApplicationScoped
 public class CancelBookingUseCase {
@@ -25,6 +31,18 @@ public class CancelBookingUseCase {
     @Inject
     ClientPackageCreditService clientPackageCreditService;
 
+    @Inject
+    SessionSeatLedger sessionSeatLedger;
+
+    @Inject
+    SessionTimetableRepository sessionTimetableRepository;
+
+    @Inject
+    WaitlistPromotionQueueRepository waitlistPromotionQueueRepository;
+
+    @Inject
+    EventOutbox eventOutbox;
+
     @Transactional
     public CancelBookingResult execute(Long bookingId, String requestId) {
         if (bookingId == null || bookingId <= 0) {
@@ -46,11 +64,14 @@ public class CancelBookingUseCase {
             }
         }
 
-        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
+        Long sessionId = bookingRepository.findSessionIdById(bookingId)
                 .orElseThrow(() -> new EntityNotFoundException("Booking", bookingId));
 
-        var session = sessionInstanceRepository.findByIdForUpdate(booking.getSessionId())
-                .orElseThrow(() -> new EntityNotFoundException("Session", booking.getSessionId()));
+        // Session row before booking row, the same order the waitlist promotion worker locks them in.
+        var session = sessionInstanceRepository.findByIdForUpdate(sessionId)
+                .orElseThrow(() -> new EntityNotFoundException("Session", sessionId));
+        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
+                .orElseThrow(() -> new EntityNotFoundException("Booking", bookingId));
 
         if (session.getActivityId() == null || session.getActivityId() <= 0) {
             throw new BadRequestException("Session activityId must be defined to cancel bookings");
@@ -77,26 +98,23 @@ public class CancelBookingUseCase {
             );
         }
 
-        Booking promoted = null;
-        if (previousStatus == BookingStatus.CONFIRMED) {
-            var waitlisted = bookingRepository.findFirstWaitlistedBySessionIdForUpdate(booking.getSessionId());
-            if (waitlisted.isPresent()) {
-                Booking candidate = waitlisted.get();
-                if (!clientPackageCreditService.hasAvailableCredit(candidate.getUserId(), session.getActivityId())) {
-                    // TODO: Emit domain event to notify/handle waitlist user without credits.
-                    throw new BadRequestException("Waitlisted user has no available credits for this activity");
-                }
-
-                Long consumedPackageId = clientPackageCreditService.consumeCredit(candidate.getUserId(), session.getActivityId());
-                candidate.setStatus(BookingStatus.CONFIRMED);
-                candidate.setConsumedPackageId(consumedPackageId);
-                promoted = bookingRepository.save(candidate);
-                cancelled.setPromotedBookingId(promoted.getId());
-                cancelled = bookingRepository.save(cancelled);
-            }
+        int confirmedDelta = previousStatus == BookingStatus.CONFIRMED ? -1 : 0;
+        int waitlistedDelta = previousStatus == BookingStatus.WAITLISTED ? -1 : 0;
+        sessionInstanceRepository.adjustOccupancy(sessionId, confirmedDelta, waitlistedDelta);
+        sessionTimetableRepository.refreshSessions(List.of(sessionId));
+
+        boolean promotionPending = previousStatus == BookingStatus.CONFIRMED
+                && session.getWaitlistedCount() != null && session.getWaitlistedCount() > 0;
+        if (promotionPending) {
+            // Promotion runs in its own transaction; see PromoteWaitlistUseCase. Until then new bookers are
+            // waitlisted behind the queue, so the freed seat is kept for it.
+            waitlistPromotionQueueRepository.enqueue(sessionId);
         }
 
-        return new CancelBookingResult(cancelled, promoted);
+        eventOutbox.append(BookingEvent.AGGREGATE, cancelled.getId(), BookingEvent.CANCELLED,
+                BookingEvent.of(cancelled, previousStatus));
+        sessionSeatLedger.recordCancellation(sessionId, previousStatus, promotionPending);
+        return new CancelBookingResult(cancelled, null);
     }
 
     private String normalizeRequestId(String requestId) {
@@ -113,6 +131,10 @@ public class CancelBookingUseCase {
         return normalized;
     }
 
+    /**
+     * {@code promotedBooking} is only set when replaying a cancellation that promoted synchronously, before
+     * promotion moved to {@link PromoteWaitlistUseCase}.
+     */
     public record CancelBookingResult(Booking cancelledBooking, Booking promotedBooking) {
     }
 }
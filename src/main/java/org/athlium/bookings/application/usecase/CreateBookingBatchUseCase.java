@@ -0,0 +1,294 @@
+package org.athlium.bookings.application.usecase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.athlium.bookings.application.service.SessionSeatLedger;
+import org.athlium.bookings.domain.model.Booking;
+import org.athlium.bookings.domain.model.BookingEvent;
+import org.athlium.bookings.domain.model.BookingStatus;
+import org.athlium.bookings.domain.model.SessionBookingOutcome;
+import org.athlium.bookings.domain.repository.BookingRepository;
+import org.athlium.bookings.domain.repository.WaitlistPromotionQueueRepository;
+import org.athlium.clients.application.service.ClientPackageCreditService;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.application.EventOutbox;
+import org.athlium.shared.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Books one user into several sessions in a single transaction, e.g. every class of a recurring reservation.
+ * Each session is evaluated with the same rules as {@link CreateBookingUseCase}, but a session that cannot be
+ * booked is reported as rejected instead of failing the whole request. Sessions are locked in ascending id
+ * order, then the user's packages once, so concurrent batches and single bookings take locks in the same order.
+ */
+@ApplicationScoped
+public class CreateBookingBatchUseCase {
+
+    static final int MAX_SESSIONS = 50;
+    // Leaves room for the ":<sessionId>" suffix within the 128 characters stored per booking.
+    static final int MAX_REQUEST_ID_LENGTH = 96;
+
+    @Inject
+    BookingRepository bookingRepository;
+
+    @Inject
+    SessionInstanceRepository sessionInstanceRepository;
+
+    @Inject
+    ClientPackageCreditService clientPackageCreditService;
+
+    @Inject
+    SessionSeatLedger sessionSeatLedger;
+
+    @Inject
+    SessionTimetableRepository sessionTimetableRepository;
+
+    @Inject
+    WaitlistPromotionQueueRepository waitlistPromotionQueueRepository;
+
+    @Inject
+    EventOutbox eventOutbox;
+
+    @Transactional
+    public List<SessionBookingOutcome> execute(List<Long> sessionIds, Long userId, String requestId) {
+        List<Long> requestedIds = validate(sessionIds, userId);
+        String normalizedRequestId = normalizeRequestId(requestId);
+
+        Map<Long, SessionBookingOutcome> outcomes = new HashMap<>();
+        replayPrevious(requestedIds, userId, normalizedRequestId, outcomes);
+
+        List<Long> pendingIds = remaining(requestedIds, outcomes).stream().sorted().toList();
+        if (!pendingIds.isEmpty()) {
+            bookLocked(pendingIds, userId, normalizedRequestId, outcomes);
+        }
+
+        return requestedIds.stream().map(outcomes::get).toList();
+    }
+
+    private void bookLocked(
+            List<Long> sessionIds,
+            Long userId,
+            String normalizedRequestId,
+            Map<Long, SessionBookingOutcome> outcomes
+    ) {
+        Map<Long, SessionSeatLedger.SeatReservation> reservations = new LinkedHashMap<>();
+        try {
+            for (Long sessionId : sessionIds) {
+                try {
+                    reservations.put(sessionId, sessionSeatLedger.reserve(sessionId));
+                } catch (BadRequestException ex) {
+                    outcomes.put(sessionId, SessionBookingOutcome.rejected(sessionId, ex.getMessage()));
+                }
+            }
+
+            Map<Long, SessionInstance> sessions = new LinkedHashMap<>();
+            for (Long sessionId : reservations.keySet()) {
+                sessionInstanceRepository.findByIdForUpdate(sessionId).ifPresentOrElse(
+                        session -> sessions.put(sessionId, session),
+                        () -> outcomes.put(sessionId, SessionBookingOutcome.rejected(sessionId,
+                                "Session with id " + sessionId + " not found")));
+            }
+
+            if (!sessions.isEmpty()) {
+                bookSessions(sessions.values(), userId, normalizedRequestId, outcomes);
+            }
+        } catch (RuntimeException ex) {
+            reservations.values().forEach(sessionSeatLedger::release);
+            throw ex;
+        }
+
+        reservations.forEach((sessionId, reservation) -> {
+            SessionBookingOutcome outcome = outcomes.get(sessionId);
+            if (outcome != null && outcome.booking() != null) {
+                sessionSeatLedger.confirm(reservation, outcome.booking().getStatus());
+            } else {
+                sessionSeatLedger.release(reservation);
+            }
+        });
+    }
+
+    private void bookSessions(
+            Collection<SessionInstance> sessions,
+            Long userId,
+            String normalizedRequestId,
+            Map<Long, SessionBookingOutcome> outcomes
+    ) {
+        // Checked only once every session row is locked, so a concurrent single booking cannot slip in between.
+        Set<Long> alreadyBooked = bookingRepository.findActiveBookingSessionIds(userId,
+                sessions.stream().map(SessionInstance::getId).toList());
+        ClientPackageCreditService.CreditBatch credits = clientPackageCreditService.lockCredits(userId);
+        List<Booking> pending = new ArrayList<>();
+        List<Long> promotionSessionIds = new ArrayList<>();
+        for (SessionInstance session : sessions) {
+            String reason = alreadyBooked.contains(session.getId())
+                    ? "User already has an active booking for this session"
+                    : rejectionReason(session);
+            BookingStatus targetStatus = reason == null ? resolveStatusForNewBooking(session) : null;
+            if (reason == null && targetStatus == null) {
+                reason = Boolean.TRUE.equals(session.getWaitlistEnabled())
+                        ? "Waitlist is full for this session"
+                        : "Session is full";
+            }
+
+            Long consumedPackageId = null;
+            if (reason == null && targetStatus == BookingStatus.CONFIRMED) {
+                consumedPackageId = credits.consume(session.getActivityId());
+                if (consumedPackageId == null) {
+                    reason = "User has no available credits for this activity";
+                }
+            } else if (reason == null && !credits.hasAvailable(session.getActivityId())) {
+                reason = "User has no available credits for this activity";
+            }
+
+            if (reason != null) {
+                outcomes.put(session.getId(), SessionBookingOutcome.rejected(session.getId(), reason));
+                continue;
+            }
+
+            if (targetStatus == BookingStatus.WAITLISTED && hasFreeSeats(session)) {
+                promotionSessionIds.add(session.getId());
+            }
+            Booking booking = new Booking();
+            booking.setSessionId(session.getId());
+            booking.setUserId(userId);
+            booking.setStatus(targetStatus);
+            booking.setConsumedPackageId(consumedPackageId);
+            booking.setCreateRequestId(sessionRequestId(normalizedRequestId, session.getId()));
+            pending.add(booking);
+        }
+
+        List<Booking> savedBookings = bookingRepository.saveAll(pending);
+        for (Booking saved : savedBookings) {
+            if (saved.getStatus() == BookingStatus.CONFIRMED) {
+                sessionInstanceRepository.adjustOccupancy(saved.getSessionId(), 1, 0);
+            } else {
+                sessionInstanceRepository.adjustOccupancy(saved.getSessionId(), 0, 1);
+            }
+            eventOutbox.append(BookingEvent.AGGREGATE, saved.getId(), BookingEvent.CREATED,
+                    BookingEvent.of(saved, null));
+            outcomes.put(saved.getSessionId(), SessionBookingOutcome.booked(saved));
+        }
+        // Seats are free but others queued first; make sure the promotion worker hands them out.
+        promotionSessionIds.forEach(waitlistPromotionQueueRepository::enqueue);
+        clientPackageCreditService.saveCredits(credits);
+        sessionTimetableRepository.refreshSessions(savedBookings.stream().map(Booking::getSessionId).toList());
+    }
+
+    /**
+     * Sessions booked by an earlier attempt with the same key are returned as they are now. Rejected sessions
+     * have no booking to find, so a retry evaluates them again.
+     */
+    private void replayPrevious(
+            List<Long> sessionIds,
+            Long userId,
+            String normalizedRequestId,
+            Map<Long, SessionBookingOutcome> outcomes
+    ) {
+        if (normalizedRequestId == null) {
+            return;
+        }
+        List<String> requestIds = sessionIds.stream()
+                .map(sessionId -> sessionRequestId(normalizedRequestId, sessionId))
+                .toList();
+        for (Booking booking : bookingRepository.findByCreateRequestIds(requestIds)) {
+            if (!booking.getUserId().equals(userId)) {
+                throw new BadRequestException("Idempotency key already used for a different booking request");
+            }
+            outcomes.put(booking.getSessionId(), SessionBookingOutcome.booked(booking));
+        }
+    }
+
+    private String rejectionReason(SessionInstance session) {
+        if (session.getStatus() != SessionStatus.OPEN) {
+            return "Session is not open for bookings";
+        }
+        if (session.getActivityId() == null || session.getActivityId() <= 0) {
+            return "Session activityId must be defined to create bookings";
+        }
+        return null;
+    }
+
+    /**
+     * Same seat rules as {@link CreateBookingUseCase}, returning null instead of throwing when the session and
+     * its waitlist are full so the rest of the batch can go ahead.
+     */
+    private BookingStatus resolveStatusForNewBooking(SessionInstance session) {
+        sessionSeatLedger.reconcile(session);
+        int confirmedCount = session.getConfirmedCount() == null ? 0 : session.getConfirmedCount();
+        int waitlistedCount = session.getWaitlistedCount() == null ? 0 : session.getWaitlistedCount();
+
+        int max = session.getMaxParticipants() == null ? 0 : session.getMaxParticipants();
+        if (confirmedCount < max && waitlistedCount == 0) {
+            return BookingStatus.CONFIRMED;
+        }
+
+        if (Boolean.TRUE.equals(session.getWaitlistEnabled())) {
+            int maxWaitlist = session.getWaitlistMaxSize() == null ? 0 : session.getWaitlistMaxSize();
+            if (waitlistedCount < maxWaitlist) {
+                return BookingStatus.WAITLISTED;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasFreeSeats(SessionInstance session) {
+        int confirmedCount = session.getConfirmedCount() == null ? 0 : session.getConfirmedCount();
+        int max = session.getMaxParticipants() == null ? 0 : session.getMaxParticipants();
+        return confirmedCount < max;
+    }
+
+    private List<Long> validate(List<Long> sessionIds, Long userId) {
+        if (userId == null || userId <= 0) {
+            throw new BadRequestException("userId must be a positive number");
+        }
+        if (sessionIds == null || sessionIds.isEmpty()) {
+            throw new BadRequestException("sessionIds must contain between 1 and " + MAX_SESSIONS + " sessions");
+        }
+        Set<Long> distinct = new LinkedHashSet<>();
+        for (Long sessionId : sessionIds) {
+            if (sessionId == null || sessionId <= 0) {
+                throw new BadRequestException("sessionId must be a positive number");
+            }
+            distinct.add(sessionId);
+        }
+        if (distinct.size() > MAX_SESSIONS) {
+            throw new BadRequestException("sessionIds must contain between 1 and " + MAX_SESSIONS + " sessions");
+        }
+        return List.copyOf(distinct);
+    }
+
+    private List<Long> remaining(List<Long> sessionIds, Map<Long, SessionBookingOutcome> outcomes) {
+        return sessionIds.stream().filter(sessionId -> !outcomes.containsKey(sessionId)).toList();
+    }
+
+    private String sessionRequestId(String normalizedRequestId, Long sessionId) {
+        return normalizedRequestId == null ? null : normalizedRequestId + ":" + sessionId;
+    }
+
+    private String normalizeRequestId(String requestId) {
+        if (requestId == null) {
+            return null;
+        }
+        String normalized = requestId.trim();
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        if (normalized.length() > MAX_REQUEST_ID_LENGTH) {
+            throw new BadRequestException(
+                    "Idempotency key length must be less than or equal to " + MAX_REQUEST_ID_LENGTH);
+        }
+        return normalized;
+    }
+}
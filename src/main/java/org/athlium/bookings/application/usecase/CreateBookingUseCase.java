@@ -3,15 +3,23 @@ package org.athlium.bookings.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import org.athlium.bookings.application.service.SessionSeatLedger;
 import org.athlium.bookings.domain.model.Booking;
+import org.athlium.bookings.domain.model.BookingEvent;
 import org.athlium.bookings.domain.model.BookingStatus;
 import org.athlium.bookings.domain.repository.BookingRepository;
+import org.athlium.bookings.domain.repository.WaitlistPromotionQueueRepository;
 import org.athlium.clients.application.service.ClientPackageCreditService;
+import org.athlium.gym.domain.model.SessionInstance;
 import org.athlium.gym.domain.model.SessionStatus;
 import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.application.EventOutbox;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 
+import java.util.List;
+
 @ApplicationScoped
 public class CreateBookingUseCase {
 
@@ -24,6 +32,18 @@ public class CreateBookingUseCase {
     @Inject
     ClientPackageCreditService clientPackageCreditService;
 
+    @Inject
+    SessionSeatLedger sessionSeatLedger;
+
+    @Inject
+    SessionTimetableRepository sessionTimetableRepository;
+
+    @Inject
+    WaitlistPromotionQueueRepository waitlistPromotionQueueRepository;
+
+    @Inject
+    EventOutbox eventOutbox;
+
     @Transactional
     public Booking execute(Long sessionId, Long userId, String requestId) {
         validateIds(sessionId, userId);
@@ -40,6 +60,19 @@ public class CreateBookingUseCase {
             }
         }
 
+        // Rejects requests that cannot get a seat before they queue on the session row lock.
+        SessionSeatLedger.SeatReservation reservation = sessionSeatLedger.reserve(sessionId);
+        try {
+            Booking created = createLocked(sessionId, userId, normalizedRequestId);
+            sessionSeatLedger.confirm(reservation, created.getStatus());
+            return created;
+        } catch (RuntimeException ex) {
+            sessionSeatLedger.release(reservation);
+            throw ex;
+        }
+    }
+
+    private Booking createLocked(Long sessionId, Long userId, String normalizedRequestId) {
         var session = sessionInstanceRepository.findByIdForUpdate(sessionId)
                 .orElseThrow(() -> new EntityNotFoundException("Session", sessionId));
 
@@ -55,8 +88,7 @@ public class CreateBookingUseCase {
             throw new BadRequestException("User already has an active booking for this session");
         }
 
-        BookingStatus targetStatus = resolveStatusForNewBooking(sessionId, session.getMaxParticipants(),
-                session.getWaitlistEnabled(), session.getWaitlistMaxSize());
+        BookingStatus targetStatus = resolveStatusForNewBooking(session);
 
         Booking booking = new Booking();
         booking.setSessionId(sessionId);
@@ -71,7 +103,19 @@ public class CreateBookingUseCase {
             }
         }
         booking.setCreateRequestId(normalizedRequestId);
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        if (targetStatus == BookingStatus.CONFIRMED) {
+            sessionInstanceRepository.adjustOccupancy(sessionId, 1, 0);
+        } else {
+            sessionInstanceRepository.adjustOccupancy(sessionId, 0, 1);
+            if (hasFreeSeats(session)) {
+                // Seats are free but others queued first; make sure the promotion worker hands them out.
+                waitlistPromotionQueueRepository.enqueue(sessionId);
+            }
+        }
+        sessionTimetableRepository.refreshSessions(List.of(sessionId));
+        eventOutbox.append(BookingEvent.AGGREGATE, saved.getId(), BookingEvent.CREATED, BookingEvent.of(saved, null));
+        return saved;
     }
 
     private void validateIds(Long sessionId, Long userId) {
@@ -83,22 +127,19 @@ public class CreateBookingUseCase {
         }
     }
 
-    private BookingStatus resolveStatusForNewBooking(
-            Long sessionId,
-            Integer maxParticipants,
-            Boolean waitlistEnabled,
-            Integer waitlistMaxSize
-    ) {
-        long confirmedCount = bookingRepository.countBySessionAndStatus(sessionId, BookingStatus.CONFIRMED);
-        int max = maxParticipants == null ? 0 : maxParticipants;
+    private BookingStatus resolveStatusForNewBooking(SessionInstance session) {
+        sessionSeatLedger.reconcile(session);
+        int confirmedCount = session.getConfirmedCount() == null ? 0 : session.getConfirmedCount();
+        int waitlistedCount = session.getWaitlistedCount() == null ? 0 : session.getWaitlistedCount();
 
-        if (confirmedCount < max) {
+        int max = session.getMaxParticipants() == null ? 0 : session.getMaxParticipants();
+        // A seat freed while users are waitlisted belongs to them until the promotion worker has run.
+        if (confirmedCount < max && waitlistedCount == 0) {
             return BookingStatus.CONFIRMED;
         }
 
-        if (Boolean.TRUE.equals(waitlistEnabled)) {
-            long waitlistedCount = bookingRepository.countBySessionAndStatus(sessionId, BookingStatus.WAITLISTED);
-            int maxWaitlist = waitlistMaxSize == null ? 0 : waitlistMaxSize;
+        if (Boolean.TRUE.equals(session.getWaitlistEnabled())) {
+            int maxWaitlist = session.getWaitlistMaxSize() == null ? 0 : session.getWaitlistMaxSize();
             if (waitlistedCount < maxWaitlist) {
                 return BookingStatus.WAITLISTED;
             }
@@ -108,6 +149,12 @@ public class CreateBookingUseCase {
         throw new BadRequestException("Session is full");
     }
 
+    private boolean hasFreeSeats(SessionInstance session) {
+        int confirmedCount = session.getConfirmedCount() == null ? 0 : session.getConfirmedCount();
+        int max = session.getMaxParticipants() == null ? 0 : session.getMaxParticipants();
+        return confirmedCount < max;
+    }
+
     private String normalizeRequestId(String requestId) {
         if (requestId == null) {
             return null;
@@ -5,7 +5,10 @@ import jakarta.inject.Inject;
 import org.athlium.bookings.domain.model.Booking;
 import org.athlium.bookings.domain.model.BookingStatus;
 import org.athlium.bookings.domain.repository.BookingRepository;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 
 import java.time.Instant;
@@ -26,19 +29,16 @@ public class GetBookingsUseCase {
             Instant to,
             int page,
             int limit,
-            String sort
+            String sort,
+            String totalMode
     ) {
         if (page < 1) {
             throw new BadRequestException("Page must be greater than or equal to 1");
         }
-        if (limit < 1 || limit > 100) {
-            throw new BadRequestException("Limit must be between 1 and 100");
-        }
-        if (from != null && to != null && from.isAfter(to)) {
-            throw new BadRequestException("from must be less than or equal to to");
-        }
+        validateWindow(limit, from, to);
 
         boolean sortAscending = parseSort(sort);
+        TotalMode parsedTotalMode = TotalMode.fromString(totalMode);
 
         return bookingRepository.findBookings(
                 sessionId,
@@ -50,10 +50,50 @@ public class GetBookingsUseCase {
                 to,
                 page - 1,
                 limit,
-                sortAscending
+                sortAscending,
+                parsedTotalMode
         );
     }
 
+    public CursorPageResponse<Booking> executeAfter(
+            Long sessionId,
+            Long userId,
+            BookingStatus status,
+            Long branchId,
+            Long activityId,
+            Instant from,
+            Instant to,
+            String cursor,
+            int limit,
+            String sort,
+            boolean includeTotal
+    ) {
+        validateWindow(limit, from, to);
+
+        return bookingRepository.findBookingsAfter(
+                sessionId,
+                userId,
+                status,
+                branchId,
+                activityId,
+                from,
+                to,
+                SeekCursor.decode(cursor),
+                limit,
+                parseSort(sort),
+                includeTotal
+        );
+    }
+
+    private void validateWindow(int limit, Instant from, Instant to) {
+        if (limit < 1 || limit > 100) {
+            throw new BadRequestException("Limit must be between 1 and 100");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("from must be less than or equal to to");
+        }
+    }
+
     private boolean parseSort(String sort) {
         if (sort == null || sort.isBlank()) {
             return false;
@@ -0,0 +1,132 @@
+package org.athlium.bookings.application.usecase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.athlium.bookings.application.service.SessionSeatLedger;
+import org.athlium.bookings.domain.model.Booking;
+import org.athlium.bookings.domain.model.BookingEvent;
+import org.athlium.bookings.domain.model.BookingStatus;
+import org.athlium.bookings.domain.repository.BookingRepository;
+import org.athlium.bookings.domain.repository.WaitlistPromotionQueueRepository;
+import org.athlium.clients.application.service.ClientPackageCreditService;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.model.WaitlistStrategy;
+import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.application.EventOutbox;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Fills the free seats of one queued session from its waitlist. Runs outside the cancel transaction, so a
+ * cancellation never waits on, or fails because of, the next user in line. Candidates without credits are
+ * skipped; if that leaves seats free the session is retried later, when they may have bought a package.
+ */
+@ApplicationScoped
+public class PromoteWaitlistUseCase {
+
+    @Inject
+    BookingRepository bookingRepository;
+
+    @Inject
+    SessionInstanceRepository sessionInstanceRepository;
+
+    @Inject
+    ClientPackageCreditService clientPackageCreditService;
+
+    @Inject
+    SessionSeatLedger sessionSeatLedger;
+
+    @Inject
+    SessionTimetableRepository sessionTimetableRepository;
+
+    @Inject
+    WaitlistPromotionQueueRepository waitlistPromotionQueueRepository;
+
+    @Inject
+    EventOutbox eventOutbox;
+
+    @ConfigProperty(name = "athlium.bookings.waitlist-promotion.retry-delay-seconds", defaultValue = "300")
+    long retryDelaySeconds = 300;
+
+    @Transactional
+    public PromotionResult execute(Long sessionId) {
+        // Same lock order as cancellations: the session row first, then its queue entry.
+        SessionInstance session = sessionInstanceRepository.findByIdForUpdate(sessionId).orElse(null);
+        if (!waitlistPromotionQueueRepository.claim(sessionId)) {
+            return PromotionResult.NONE;
+        }
+        if (session == null || !isPromotable(session)) {
+            waitlistPromotionQueueRepository.complete(sessionId);
+            return PromotionResult.NONE;
+        }
+
+        int confirmedCount = session.getConfirmedCount() == null ? 0 : session.getConfirmedCount();
+        int max = session.getMaxParticipants() == null ? 0 : session.getMaxParticipants();
+        int freeSeats = max - confirmedCount;
+
+        int promoted = 0;
+        int skipped = 0;
+        for (Booking candidate : candidates(session)) {
+            if (promoted >= freeSeats) {
+                break;
+            }
+            ClientPackageCreditService.CreditBatch credits = clientPackageCreditService.lockCredits(candidate.getUserId());
+            Long consumedPackageId = credits.consume(session.getActivityId());
+            if (consumedPackageId == null) {
+                skipped++;
+                continue;
+            }
+            clientPackageCreditService.saveCredits(credits);
+            candidate.setStatus(BookingStatus.CONFIRMED);
+            candidate.setConsumedPackageId(consumedPackageId);
+            Booking saved = bookingRepository.save(candidate);
+            eventOutbox.append(BookingEvent.AGGREGATE, saved.getId(), BookingEvent.PROMOTED,
+                    BookingEvent.of(saved, BookingStatus.WAITLISTED));
+            promoted++;
+        }
+
+        if (promoted > 0) {
+            sessionInstanceRepository.adjustOccupancy(sessionId, promoted, -promoted);
+            // The ledger has no promotion transition; let it re-warm from the counters just written.
+            sessionSeatLedger.evict(sessionId);
+            sessionTimetableRepository.refreshSessions(List.of(sessionId));
+        }
+
+        if (skipped > 0 && promoted < freeSeats) {
+            waitlistPromotionQueueRepository.retryLater(sessionId, Duration.ofSeconds(retryDelaySeconds));
+        } else {
+            waitlistPromotionQueueRepository.complete(sessionId);
+        }
+        return new PromotionResult(promoted, skipped);
+    }
+
+    private boolean isPromotable(SessionInstance session) {
+        if (session.getStatus() != SessionStatus.OPEN) {
+            return false;
+        }
+        if (session.getActivityId() == null || session.getActivityId() <= 0) {
+            return false;
+        }
+        return session.getStartsAt() == null || session.getStartsAt().isAfter(Instant.now());
+    }
+
+    private List<Booking> candidates(SessionInstance session) {
+        WaitlistStrategy strategy = session.getWaitlistStrategy() == null
+                ? WaitlistStrategy.FIFO
+                : session.getWaitlistStrategy();
+        return switch (strategy) {
+            case FIFO -> bookingRepository.findWaitlistedBySessionIdForUpdate(session.getId());
+        };
+    }
+
+    public record PromotionResult(int promoted, int skipped) {
+
+        static final PromotionResult NONE = new PromotionResult(0, 0);
+    }
+}
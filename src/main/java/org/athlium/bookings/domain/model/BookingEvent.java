@@ -0,0 +1,30 @@
+package org.athlium.bookings.domain.model;
+
+/**
+ * Outbox payload for booking changes. {@code previousStatus} is only set on cancellations and promotions.
+ */
+public record BookingEvent(
+        Long bookingId,
+        Long sessionId,
+        Long userId,
+        BookingStatus status,
+        BookingStatus previousStatus,
+        Long consumedPackageId
+) {
+
+    public static final String AGGREGATE = "booking";
+    public static final String CREATED = "booking.created";
+    public static final String CANCELLED = "booking.cancelled";
+    public static final String PROMOTED = "booking.promoted";
+
+    public static BookingEvent of(Booking booking, BookingStatus previousStatus) {
+        return new BookingEvent(
+                booking.getId(),
+                booking.getSessionId(),
+                booking.getUserId(),
+                booking.getStatus(),
+                previousStatus,
+                booking.getConsumedPackageId()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package org.athlium.bookings.domain.model;
+
+public enum BookingOutcome {
+    CONFIRMED,
+    WAITLISTED,
+    REJECTED
+}
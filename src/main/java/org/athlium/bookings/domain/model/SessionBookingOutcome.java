@@ -0,0 +1,21 @@
+package org.athlium.bookings.domain.model;
+
+/**
+ * Result of one session in a batch booking request. Rejected sessions carry the reason instead of a booking.
+ */
+public record SessionBookingOutcome(Long sessionId, BookingOutcome outcome, Booking booking, String reason) {
+
+    public static SessionBookingOutcome booked(Booking booking) {
+        BookingOutcome outcome = switch (booking.getStatus()) {
+            case CONFIRMED -> BookingOutcome.CONFIRMED;
+            case WAITLISTED -> BookingOutcome.WAITLISTED;
+            default -> BookingOutcome.REJECTED;
+        };
+        String reason = outcome == BookingOutcome.REJECTED ? "Booking is no longer active" : null;
+        return new SessionBookingOutcome(booking.getSessionId(), outcome, booking, reason);
+    }
+
+    public static SessionBookingOutcome rejected(Long sessionId, String reason) {
+        return new SessionBookingOutcome(sessionId, BookingOutcome.REJECTED, null, reason);
+    }
+}
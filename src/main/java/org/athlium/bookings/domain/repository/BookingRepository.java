@@ -2,31 +2,60 @@ package org.athlium.bookings.domain.repository;
 
 import org.athlium.bookings.domain.model.Booking;
 import org.athlium.bookings.domain.model.BookingStatus;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface BookingRepository {
 
     Booking save(Booking booking);
 
+    /**
+     * Inserts new bookings in JDBC batches and returns them with their generated ids.
+     */
+    List<Booking> saveAll(List<Booking> bookings);
+
     Optional<Booking> findById(Long id);
 
     Optional<Booking> findByIdForUpdate(Long id);
 
+    /**
+     * Reads only the session id, without loading the booking, so a later {@link #findByIdForUpdate} still
+     * returns the row as it is once locked.
+     */
+    Optional<Long> findSessionIdById(Long id);
+
     Optional<Booking> findByCreateRequestId(String requestId);
 
     Optional<Booking> findByCancelRequestId(String requestId);
 
+    List<Booking> findByCreateRequestIds(List<String> requestIds);
+
     boolean existsActiveBooking(Long sessionId, Long userId);
 
+    /**
+     * Returns which of the given sessions the user already holds a confirmed or waitlisted booking for.
+     */
+    Set<Long> findActiveBookingSessionIds(Long userId, List<Long> sessionIds);
+
     long countBySessionAndStatus(Long sessionId, BookingStatus status);
 
     Optional<Booking> findFirstWaitlistedBySessionId(Long sessionId);
 
-    Optional<Booking> findFirstWaitlistedBySessionIdForUpdate(Long sessionId);
+    /**
+     * Locks the session's waitlisted bookings, oldest first.
+     */
+    List<Booking> findWaitlistedBySessionIdForUpdate(Long sessionId);
 
+    /**
+     * Pages the matching bookings; {@code totalMode} decides whether the total is counted, estimated or skipped.
+     */
     PageResponse<Booking> findBookings(
             Long sessionId,
             Long userId,
@@ -37,6 +66,25 @@ public interface BookingRepository {
             Instant to,
             int page,
             int size,
-            boolean sortAscending
+            boolean sortAscending,
+            TotalMode totalMode
+    );
+
+    /**
+     * Keyset variant of {@link #findBookings}: seeks past {@code after} on (createdAt, id) and only counts the
+     * matching rows when {@code includeTotal} is set. A null cursor starts from the first row.
+     */
+    CursorPageResponse<Booking> findBookingsAfter(
+            Long sessionId,
+            Long userId,
+            BookingStatus status,
+            Long branchId,
+            Long activityId,
+            Instant from,
+            Instant to,
+            SeekCursor after,
+            int size,
+            boolean sortAscending,
+            boolean includeTotal
     );
 }
@@ -0,0 +1,34 @@
+package org.athlium.bookings.domain.repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Durable queue of sessions that freed a confirmed seat and may have waitlisted bookings to promote.
+ */
+public interface WaitlistPromotionQueueRepository {
+
+    /**
+     * Queues the session for promotion, or makes an already queued session due again.
+     */
+    void enqueue(Long sessionId);
+
+    List<Long> findDueSessionIds(int limit);
+
+    /**
+     * Locks the session's queue entry for the current transaction. Returns false when it is no longer queued
+     * or another worker holds it.
+     */
+    boolean claim(Long sessionId);
+
+    void complete(Long sessionId);
+
+    void retryLater(Long sessionId, Duration delay);
+
+    /**
+     * Records a promotion attempt that failed. The session is due again after a delay that doubles with every
+     * attempt, from {@code initialDelay} up to {@code maxDelay}; after {@code maxAttempts} attempts it is parked
+     * until the next {@link #enqueue}. Returns true when the session was parked.
+     */
+    boolean retryAfterFailure(Long sessionId, Duration initialDelay, Duration maxDelay, int maxAttempts);
+}
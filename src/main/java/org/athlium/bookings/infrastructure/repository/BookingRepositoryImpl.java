@@ -1,21 +1,28 @@
 package org.athlium.bookings.infrastructure.repository;
 
-import io.quarkus.hibernate.orm.panache.PanacheQuery;
-import io.quarkus.panache.common.Page;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.Query;
 import org.athlium.bookings.domain.model.Booking;
 import org.athlium.bookings.domain.model.BookingStatus;
 import org.athlium.bookings.domain.repository.BookingRepository;
 import org.athlium.bookings.infrastructure.entity.BookingEntity;
 import org.athlium.bookings.infrastructure.mapper.BookingMapper;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
+import org.athlium.shared.infrastructure.PlannerRowEstimator;
 
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class BookingRepositoryImpl implements BookingRepository {
@@ -26,6 +33,9 @@ public class BookingRepositoryImpl implements BookingRepository {
     @Inject
     BookingMapper bookingMapper;
 
+    @Inject
+    PlannerRowEstimator plannerRowEstimator;
+
     @Override
     public Booking save(Booking booking) {
         BookingEntity entity;
@@ -53,6 +63,18 @@ public class BookingRepositoryImpl implements BookingRepository {
         return bookingMapper.toDomain(entity);
     }
 
+    @Override
+    public List<Booking> saveAll(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return List.of();
+        }
+        List<BookingEntity> entities = bookings.stream().map(bookingMapper::toEntity).toList();
+        bookingPanacheRepository.persist(entities);
+        // Flush here so the inserts go out as one JDBC batch and the generated ids are assigned.
+        bookingPanacheRepository.flush();
+        return entities.stream().map(bookingMapper::toDomain).toList();
+    }
+
     @Override
     public Optional<Booking> findById(Long id) {
         return bookingPanacheRepository.findByIdOptional(id).map(bookingMapper::toDomain);
@@ -64,6 +86,15 @@ public class BookingRepositoryImpl implements BookingRepository {
         return Optional.ofNullable(entity).map(bookingMapper::toDomain);
     }
 
+    @Override
+    public Optional<Long> findSessionIdById(Long id) {
+        return bookingPanacheRepository.getEntityManager()
+                .createQuery("select b.sessionId from BookingEntity b where b.id = :id", Long.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+
     @Override
     public Optional<Booking> findByCreateRequestId(String requestId) {
         if (requestId == null || requestId.isBlank()) {
@@ -82,6 +113,16 @@ public class BookingRepositoryImpl implements BookingRepository {
         return Optional.ofNullable(entity).map(bookingMapper::toDomain);
     }
 
+    @Override
+    public List<Booking> findByCreateRequestIds(List<String> requestIds) {
+        if (requestIds == null || requestIds.isEmpty()) {
+            return List.of();
+        }
+        return bookingPanacheRepository.list("createRequestId in ?1", requestIds).stream()
+                .map(bookingMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public boolean existsActiveBooking(Long sessionId, Long userId) {
         return bookingPanacheRepository.count(
@@ -93,6 +134,23 @@ public class BookingRepositoryImpl implements BookingRepository {
         ) > 0;
     }
 
+    @Override
+    public Set<Long> findActiveBookingSessionIds(Long userId, List<Long> sessionIds) {
+        if (sessionIds == null || sessionIds.isEmpty()) {
+            return Set.of();
+        }
+        return bookingPanacheRepository.find(
+                        "userId = ?1 and sessionId in ?2 and status in (?3, ?4)",
+                        userId,
+                        sessionIds,
+                        BookingStatus.CONFIRMED,
+                        BookingStatus.WAITLISTED
+                )
+                .stream()
+                .map(entity -> entity.sessionId)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public long countBySessionAndStatus(Long sessionId, BookingStatus status) {
         return bookingPanacheRepository.count("sessionId = ?1 and status = ?2", sessionId, status);
@@ -110,15 +168,17 @@ public class BookingRepositoryImpl implements BookingRepository {
     }
 
     @Override
-    public Optional<Booking> findFirstWaitlistedBySessionIdForUpdate(Long sessionId) {
-        BookingEntity entity = bookingPanacheRepository.find(
-                        "sessionId = ?1 and status = ?2 order by createdAt asc",
+    public List<Booking> findWaitlistedBySessionIdForUpdate(Long sessionId) {
+        return bookingPanacheRepository.find(
+                        "sessionId = ?1 and status = ?2 order by createdAt asc, id asc",
                         sessionId,
                         BookingStatus.WAITLISTED
                 )
                 .withLock(LockModeType.PESSIMISTIC_WRITE)
-                .firstResult();
-        return Optional.ofNullable(entity).map(bookingMapper::toDomain);
+                .list()
+                .stream()
+                .map(bookingMapper::toDomain)
+                .toList();
     }
 
     @Override
@@ -132,65 +192,118 @@ public class BookingRepositoryImpl implements BookingRepository {
             Instant to,
             int page,
             int size,
-            boolean sortAscending
+            boolean sortAscending,
+            TotalMode totalMode
     ) {
-        StringBuilder queryBuilder = new StringBuilder();
-        List<Object> params = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        String whereClause = buildWhereClause(params, sessionId, userId, status, branchId, activityId, from, to);
+        String orderBy = " ORDER BY b.created_at " + (sortAscending ? "ASC" : "DESC");
 
-        appendCondition(queryBuilder, params, "sessionId =", sessionId);
-        appendCondition(queryBuilder, params, "userId =", userId);
-        appendCondition(queryBuilder, params, "status =", status);
+        if (totalMode == TotalMode.NONE) {
+            List<Booking> rows = findPage(whereClause + orderBy, params, page * size, size + 1);
+            return PageResponse.fromLookahead(rows, page, size);
+        }
 
-        if (branchId != null || activityId != null || from != null || to != null) {
-            if (queryBuilder.length() > 0) {
-                queryBuilder.append(" and ");
-            }
+        List<Booking> bookings = findPage(whereClause + orderBy, params, page * size, size);
+        LongSupplier exactCount = () -> countBookings(whereClause, params);
+        if (totalMode == TotalMode.ESTIMATE) {
+            PlannerRowEstimator.Total total = params.isEmpty()
+                    ? plannerRowEstimator.estimateTable("bookings", exactCount)
+                    : plannerRowEstimator.estimateQuery("SELECT 1 FROM bookings b " + whereClause, params, exactCount);
+            return new PageResponse<>(bookings, page, size, total.value(), total.exact());
+        }
+        return new PageResponse<>(bookings, page, size, exactCount.getAsLong());
+    }
 
-            StringBuilder subQuery = new StringBuilder("sessionId in (select s.id from SessionInstanceEntity s where 1=1");
-            if (branchId != null) {
-                subQuery.append(" and s.headquartersId = ?").append(params.size() + 1);
-                params.add(branchId);
-            }
-            if (activityId != null) {
-                subQuery.append(" and s.activityId = ?").append(params.size() + 1);
-                params.add(activityId);
-            }
-            if (from != null) {
-                subQuery.append(" and s.startsAt >= ?").append(params.size() + 1);
-                params.add(from);
-            }
-            if (to != null) {
-                subQuery.append(" and s.startsAt <= ?").append(params.size() + 1);
-                params.add(to);
-            }
-            subQuery.append(")");
+    @Override
+    public CursorPageResponse<Booking> findBookingsAfter(
+            Long sessionId,
+            Long userId,
+            BookingStatus status,
+            Long branchId,
+            Long activityId,
+            Instant from,
+            Instant to,
+            SeekCursor after,
+            int size,
+            boolean sortAscending,
+            boolean includeTotal
+    ) {
+        Map<String, Object> params = new HashMap<>();
+        String whereClause = buildWhereClause(params, sessionId, userId, status, branchId, activityId, from, to);
 
-            queryBuilder.append(subQuery);
+        Long total = includeTotal ? countBookings(whereClause, params) : null;
+
+        StringBuilder seekClause = new StringBuilder(whereClause);
+        if (after != null) {
+            seekClause.append(" AND (b.created_at, b.id) ").append(sortAscending ? ">" : "<")
+                    .append(" (:afterCreatedAt, :afterId)");
+            params.put("afterCreatedAt", after.sortKey(Instant::parse));
+            params.put("afterId", after.id());
         }
 
-        String orderBy = " order by createdAt " + (sortAscending ? "asc" : "desc");
+        String direction = sortAscending ? "ASC" : "DESC";
+        List<Booking> rows = findPage(
+                seekClause + " ORDER BY b.created_at " + direction + ", b.id " + direction, params, 0, size + 1);
+        return CursorPageResponse.fromLookahead(
+                rows,
+                size,
+                booking -> SeekCursor.of(booking.getCreatedAt(), booking.getId()),
+                total
+        );
+    }
 
-        PanacheQuery<BookingEntity> query;
-        if (params.isEmpty()) {
-            query = bookingPanacheRepository.find("from BookingEntity" + orderBy);
-        } else {
-            query = bookingPanacheRepository.find(queryBuilder + orderBy, params.toArray());
+    /**
+     * Filters shared by the listings, their counts and their planner estimates, as native SQL over
+     * {@code bookings b}. Session filters go through the booked session.
+     */
+    private String buildWhereClause(
+            Map<String, Object> params,
+            Long sessionId,
+            Long userId,
+            BookingStatus status,
+            Long branchId,
+            Long activityId,
+            Instant from,
+            Instant to
+    ) {
+        StringBuilder where = new StringBuilder("WHERE TRUE");
+        appendCondition(where, params, "b.session_id =", "sessionId", sessionId);
+        appendCondition(where, params, "b.user_id =", "userId", userId);
+        appendCondition(where, params, "b.status =", "status", status != null ? status.name() : null);
+        if (branchId != null || activityId != null || from != null || to != null) {
+            StringBuilder sessions = new StringBuilder("SELECT s.id FROM session_instances s WHERE TRUE");
+            appendCondition(sessions, params, "s.headquarters_id =", "branchId", branchId);
+            appendCondition(sessions, params, "s.activity_id =", "activityId", activityId);
+            appendCondition(sessions, params, "s.starts_at >=", "startsFrom", from);
+            appendCondition(sessions, params, "s.starts_at <=", "startsTo", to);
+            where.append(" AND b.session_id IN (").append(sessions).append(")");
         }
+        return where.toString();
+    }
 
-        query.page(Page.of(page, size));
+    private List<Booking> findPage(String clauses, Map<String, Object> params, int offset, int limit) {
+        Query query = bookingPanacheRepository.getEntityManager().createNativeQuery(
+                "SELECT b.* FROM bookings b " + clauses, BookingEntity.class);
+        params.forEach(query::setParameter);
+        @SuppressWarnings("unchecked")
+        List<BookingEntity> rows = query.setFirstResult(offset).setMaxResults(limit).getResultList();
+        return rows.stream().map(bookingMapper::toDomain).toList();
+    }
 
-        List<Booking> bookings = query.list().stream().map(bookingMapper::toDomain).toList();
-        return new PageResponse<>(bookings, page, size, query.count());
+    private long countBookings(String whereClause, Map<String, Object> params) {
+        Query query = bookingPanacheRepository.getEntityManager().createNativeQuery(
+                "SELECT COUNT(*) FROM bookings b " + whereClause);
+        params.forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).longValue();
     }
 
-    private void appendCondition(StringBuilder queryBuilder, List<Object> params, String expression, Object value) {
+    private static void appendCondition(StringBuilder where, Map<String, Object> params, String expression,
+            String name, Object value) {
         if (value == null) {
             return;
         }
-        if (queryBuilder.length() > 0) {
-            queryBuilder.append(" and ");
-        }
-        queryBuilder.append(expression).append(" ?").append(params.size() + 1);
-        params.add(value);
+        where.append(" AND ").append(expression).append(" :").append(name);
+        params.put(name, value);
     }
 }
@@ -0,0 +1,105 @@
+package org.athlium.bookings.infrastructure.repository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.athlium.bookings.domain.repository.WaitlistPromotionQueueRepository;
+
+import java.time.Duration;
+import java.util.List;
+
+@ApplicationScoped
+public class WaitlistPromotionQueueRepositoryImpl implements WaitlistPromotionQueueRepository {
+
+    @Inject
+    EntityManager em;
+
+    @Override
+    @Transactional
+    public void enqueue(Long sessionId) {
+        em.createNativeQuery("""
+                        INSERT INTO waitlist_promotion_queue (session_id, enqueued_at, next_attempt_at, attempts)
+                        VALUES (:sessionId, now(), now(), 0)
+                        ON CONFLICT (session_id) DO UPDATE
+                        SET next_attempt_at = now(),
+                            attempts = 0
+                        """)
+                .setParameter("sessionId", sessionId)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<Long> findDueSessionIds(int limit) {
+        @SuppressWarnings("unchecked")
+        List<Number> rows = em.createNativeQuery("""
+                        SELECT q.session_id
+                        FROM waitlist_promotion_queue q
+                        WHERE q.next_attempt_at <= now()
+                        ORDER BY q.next_attempt_at, q.session_id
+                        """)
+                .setMaxResults(limit)
+                .getResultList();
+        return rows.stream().map(Number::longValue).toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean claim(Long sessionId) {
+        return !em.createNativeQuery("""
+                        SELECT q.session_id
+                        FROM waitlist_promotion_queue q
+                        WHERE q.session_id = :sessionId
+                        FOR UPDATE SKIP LOCKED
+                        """)
+                .setParameter("sessionId", sessionId)
+                .getResultList()
+                .isEmpty();
+    }
+
+    @Override
+    @Transactional
+    public void complete(Long sessionId) {
+        em.createNativeQuery("DELETE FROM waitlist_promotion_queue WHERE session_id = :sessionId")
+                .setParameter("sessionId", sessionId)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void retryLater(Long sessionId, Duration delay) {
+        em.createNativeQuery("""
+                        UPDATE waitlist_promotion_queue
+                        SET next_attempt_at = now() + make_interval(secs => :delaySeconds),
+                            attempts = attempts + 1
+                        WHERE session_id = :sessionId
+                        """)
+                .setParameter("delaySeconds", delay.toSeconds())
+                .setParameter("sessionId", sessionId)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public boolean retryAfterFailure(Long sessionId, Duration initialDelay, Duration maxDelay, int maxAttempts) {
+        // The exponent is capped so the doubling cannot overflow the interval before LEAST applies.
+        @SuppressWarnings("unchecked")
+        List<Boolean> parked = em.createNativeQuery("""
+                        UPDATE waitlist_promotion_queue
+                        SET next_attempt_at = CASE
+                                WHEN attempts + 1 >= :maxAttempts THEN CAST('infinity' AS TIMESTAMPTZ)
+                                ELSE now() + make_interval(secs => LEAST(
+                                        :initialDelaySeconds * power(2, LEAST(attempts, 30)), :maxDelaySeconds))
+                            END,
+                            attempts = attempts + 1
+                        WHERE session_id = :sessionId
+                        RETURNING attempts >= :maxAttempts
+                        """)
+                .setParameter("maxAttempts", maxAttempts)
+                .setParameter("initialDelaySeconds", initialDelay.toSeconds())
+                .setParameter("maxDelaySeconds", maxDelay.toSeconds())
+                .setParameter("sessionId", sessionId)
+                .getResultList();
+        return !parked.isEmpty() && Boolean.TRUE.equals(parked.getFirst());
+    }
+}
@@ -0,0 +1,75 @@
+package org.athlium.bookings.infrastructure.scheduler;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.bookings.application.usecase.PromoteWaitlistUseCase;
+import org.athlium.bookings.domain.repository.WaitlistPromotionQueueRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+
+@ApplicationScoped
+public class WaitlistPromotionScheduler {
+
+    private static final Logger LOG = Logger.getLogger(WaitlistPromotionScheduler.class);
+
+    @Inject
+    WaitlistPromotionQueueRepository waitlistPromotionQueueRepository;
+
+    @Inject
+    PromoteWaitlistUseCase promoteWaitlistUseCase;
+
+    @ConfigProperty(name = "athlium.bookings.waitlist-promotion.batch-size", defaultValue = "50")
+    int batchSize = 50;
+
+    @ConfigProperty(name = "athlium.bookings.waitlist-promotion.failure-delay-seconds", defaultValue = "30")
+    long failureDelaySeconds = 30;
+
+    @ConfigProperty(name = "athlium.bookings.waitlist-promotion.retry-delay-seconds", defaultValue = "300")
+    long retryDelaySeconds = 300;
+
+    @ConfigProperty(name = "athlium.bookings.waitlist-promotion.max-attempts", defaultValue = "10")
+    int maxAttempts = 10;
+
+    // Each session is promoted in its own transaction, so one failing session does not hold back the rest.
+    @Scheduled(
+            every = "{athlium.bookings.waitlist-promotion.every}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP
+    )
+    void promoteWaitlists() {
+        int promoted = 0;
+        int skipped = 0;
+        for (Long sessionId : waitlistPromotionQueueRepository.findDueSessionIds(batchSize)) {
+            try {
+                var result = promoteWaitlistUseCase.execute(sessionId);
+                promoted += result.promoted();
+                skipped += result.skipped();
+            } catch (RuntimeException ex) {
+                LOG.warnf(ex, "Waitlist promotion failed: sessionId=%d", sessionId);
+                backOff(sessionId);
+            }
+        }
+        if (promoted > 0 || skipped > 0) {
+            LOG.infof("Waitlist promotion completed: promoted=%d skippedWithoutCredits=%d", promoted, skipped);
+        }
+    }
+
+    /**
+     * The failed attempt rolled back along with everything it wrote, so the queue entry is pushed back here in a
+     * transaction of its own; otherwise the session would be due again on every run.
+     */
+    private void backOff(Long sessionId) {
+        try {
+            boolean parked = waitlistPromotionQueueRepository.retryAfterFailure(sessionId,
+                    Duration.ofSeconds(failureDelaySeconds), Duration.ofSeconds(retryDelaySeconds), maxAttempts);
+            if (parked) {
+                LOG.errorf("Waitlist promotion parked until the next cancellation: sessionId=%d attempts=%d",
+                        sessionId, maxAttempts);
+            }
+        } catch (RuntimeException ex) {
+            LOG.warnf(ex, "Waitlist promotion backoff failed: sessionId=%d", sessionId);
+        }
+    }
+}
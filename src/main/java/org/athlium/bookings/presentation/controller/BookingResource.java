@@ -22,6 +22,7 @@ import org.athlium.bookings.domain.model.BookingStatus;
 import org.athlium.bookings.domain.repository.BookingRepository;
 import org.athlium.bookings.presentation.dto.BookingPageResponse;
 import org.athlium.bookings.presentation.mapper.BookingDtoMapper;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.dto.ApiResponse;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
@@ -87,7 +88,10 @@ public class BookingResource {
             @QueryParam("to") String to,
             @DefaultValue("1") @QueryParam("page") int page,
             @DefaultValue("20") @QueryParam("limit") int limit,
-            @DefaultValue("createdAt:desc") @QueryParam("sort") String sort
+            @DefaultValue("createdAt:desc") @QueryParam("sort") String sort,
+            @QueryParam("cursor") String cursor,
+            @QueryParam("includeTotal") boolean includeTotal,
+            @DefaultValue("exact") @QueryParam("totalMode") String totalMode
     ) {
         try {
             AuthenticatedUser currentUser = securityContext.requireCurrentUser();
@@ -96,6 +100,29 @@ public class BookingResource {
             Instant fromInstant = parseInstant(from, "from");
             Instant toInstant = parseInstant(to, "to");
 
+            if (cursor != null) {
+                var cursorPage = getBookingsUseCase.executeAfter(
+                        sessionId,
+                        effectiveUserId,
+                        status,
+                        branchId,
+                        activityId,
+                        fromInstant,
+                        toInstant,
+                        cursor,
+                        limit,
+                        sort,
+                        includeTotal
+                );
+                var response = new CursorPageResponse<>(
+                        bookingDtoMapper.toResponseList(cursorPage.getContent()),
+                        cursorPage.getSize(),
+                        cursorPage.getNextCursor(),
+                        cursorPage.getTotalElements()
+                );
+                return Response.ok(ApiResponse.success("Bookings retrieved", response)).build();
+            }
+
             var result = getBookingsUseCase.execute(
                     sessionId,
                     effectiveUserId,
@@ -106,14 +133,16 @@ public class BookingResource {
                     toInstant,
                     page,
                     limit,
-                    sort
+                    sort,
+                    totalMode
             );
 
             var response = new BookingPageResponse(
                     bookingDtoMapper.toResponseList(result.getContent()),
                     result.getPage() + 1,
                     result.getSize(),
-                    result.getTotalElements()
+                    result.getTotalElements(),
+                    result.isTotalExact()
             );
 
             return Response.ok(ApiResponse.success("Bookings retrieved", response)).build();
@@ -13,7 +13,9 @@ import jakarta.ws.rs.core.Response;
 import org.athlium.auth.domain.model.AuthenticatedUser;
 import org.athlium.auth.infrastructure.security.Authenticated;
 import org.athlium.auth.infrastructure.security.SecurityContext;
+import org.athlium.bookings.application.usecase.CreateBookingBatchUseCase;
 import org.athlium.bookings.application.usecase.CreateBookingUseCase;
+import org.athlium.bookings.presentation.dto.CreateBookingBatchRequest;
 import org.athlium.bookings.presentation.dto.CreateBookingRequest;
 import org.athlium.bookings.presentation.mapper.BookingDtoMapper;
 import org.athlium.shared.dto.ApiResponse;
@@ -30,6 +32,9 @@ public class SessionBookingResource {
     @Inject
     CreateBookingUseCase createBookingUseCase;
 
+    @Inject
+    CreateBookingBatchUseCase createBookingBatchUseCase;
+
     @Inject
     BookingDtoMapper bookingDtoMapper;
 
@@ -66,6 +71,36 @@ public class SessionBookingResource {
         }
     }
 
+    /**
+     * Books several sessions at once. Sessions that cannot be booked come back as rejected with a reason;
+     * only invalid input or a reused idempotency key fails the whole request.
+     */
+    @POST
+    @Path("/bookings/batch")
+    public Response createBookings(
+            @HeaderParam("Idempotency-Key") String idempotencyKey,
+            CreateBookingBatchRequest request
+    ) {
+        try {
+            AuthenticatedUser currentUser = securityContext.requireCurrentUser();
+            Long targetUserId = resolveTargetUserId(currentUser, request != null ? request.getUserId() : null);
+
+            var outcomes = createBookingBatchUseCase.execute(
+                    request != null ? request.getSessionIds() : null,
+                    targetUserId,
+                    idempotencyKey
+            );
+            return Response.ok(ApiResponse.success("Bookings processed", bookingDtoMapper.toOutcomeResponseList(outcomes)))
+                    .build();
+        } catch (ForbiddenException e) {
+            return Response.status(Response.Status.FORBIDDEN).entity(ApiResponse.error(e.getMessage())).build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.UNAUTHORIZED).entity(ApiResponse.error("Authentication is required")).build();
+        } catch (BadRequestException e) {
+            return Response.status(Response.Status.BAD_REQUEST).entity(ApiResponse.error(e.getMessage())).build();
+        }
+    }
+
     private Long resolveTargetUserId(AuthenticatedUser currentUser, Long requestedUserId) {
         Long currentUserId = requireCurrentUserId(currentUser);
         Long targetUserId = requestedUserId != null ? requestedUserId : currentUserId;
@@ -8,12 +8,18 @@ public class BookingPageResponse {
     private int page;
     private int limit;
     private long total;
+    private boolean totalExact;
 
     public BookingPageResponse(List<BookingResponse> items, int page, int limit, long total) {
+        this(items, page, limit, total, true);
+    }
+
+    public BookingPageResponse(List<BookingResponse> items, int page, int limit, long total, boolean totalExact) {
         this.items = items;
         this.page = page;
         this.limit = limit;
         this.total = total;
+        this.totalExact = totalExact;
     }
 
     public List<BookingResponse> getItems() {
@@ -31,4 +37,8 @@ public class BookingPageResponse {
     public long getTotal() {
         return total;
     }
+
+    public boolean isTotalExact() {
+        return totalExact;
+    }
 }
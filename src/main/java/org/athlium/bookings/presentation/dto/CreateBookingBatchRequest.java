@@ -0,0 +1,25 @@
+package org.athlium.bookings.presentation.dto;
+
+import java.util.List;
+
+public class CreateBookingBatchRequest {
+
+    private Long userId;
+    private List<Long> sessionIds;
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public List<Long> getSessionIds() {
+        return sessionIds;
+    }
+
+    public void setSessionIds(List<Long> sessionIds) {
+        this.sessionIds = sessionIds;
+    }
+}
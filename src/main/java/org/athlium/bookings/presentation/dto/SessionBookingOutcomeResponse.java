@@ -0,0 +1,43 @@
+package org.athlium.bookings.presentation.dto;
+
+import org.athlium.bookings.domain.model.BookingOutcome;
+
+public class SessionBookingOutcomeResponse {
+
+    private Long sessionId;
+    private BookingOutcome outcome;
+    private BookingResponse booking;
+    private String reason;
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(Long sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public BookingOutcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(BookingOutcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public BookingResponse getBooking() {
+        return booking;
+    }
+
+    public void setBooking(BookingResponse booking) {
+        this.booking = booking;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
@@ -3,8 +3,10 @@ package org.athlium.bookings.presentation.mapper;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.athlium.bookings.application.usecase.CancelBookingUseCase;
 import org.athlium.bookings.domain.model.Booking;
+import org.athlium.bookings.domain.model.SessionBookingOutcome;
 import org.athlium.bookings.presentation.dto.BookingResponse;
 import org.athlium.bookings.presentation.dto.CancelBookingResponse;
+import org.athlium.bookings.presentation.dto.SessionBookingOutcomeResponse;
 
 import java.util.List;
 
@@ -35,4 +37,19 @@ public class BookingDtoMapper {
         }
         return response;
     }
+
+    public List<SessionBookingOutcomeResponse> toOutcomeResponseList(List<SessionBookingOutcome> outcomes) {
+        return outcomes.stream().map(this::toOutcomeResponse).toList();
+    }
+
+    private SessionBookingOutcomeResponse toOutcomeResponse(SessionBookingOutcome outcome) {
+        SessionBookingOutcomeResponse response = new SessionBookingOutcomeResponse();
+        response.setSessionId(outcome.sessionId());
+        response.setOutcome(outcome.outcome());
+        if (outcome.booking() != null) {
+            response.setBooking(toResponse(outcome.booking()));
+        }
+        response.setReason(outcome.reason());
+        return response;
+    }
 }
@@ -13,11 +13,18 @@ import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @ApplicationScoped
 public class ClientPackageCreditService {
 
+    // Credits are taken from the package that expires first.
+    private static final Comparator<ClientPackage> CONSUMPTION_ORDER = Comparator
+            .comparing(ClientPackage::getPeriodEnd, Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(ClientPackage::getId, Comparator.nullsLast(Comparator.<Long>naturalOrder()));
+
     @Inject
     ClientPackageRepository clientPackageRepository;
 
@@ -46,9 +53,7 @@ public class ClientPackageCreditService {
         clientPackageRepository.deactivateExpiredPackagesByUserId(userId, today);
 
         List<ClientPackage> activePackages = new ArrayList<>(clientPackageRepository.findActiveByUserIdForUpdate(userId));
-        activePackages.sort(Comparator
-                .comparing(ClientPackage::getPeriodEnd, Comparator.nullsLast(Comparator.naturalOrder()))
-                .thenComparing(ClientPackage::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+        activePackages.sort(CONSUMPTION_ORDER);
 
         for (ClientPackage clientPackage : activePackages) {
             var creditOpt = findCredit(clientPackage, activityId);
@@ -84,9 +89,7 @@ public class ClientPackageCreditService {
         LocalDate today = LocalDate.now(ZoneOffset.UTC);
         clientPackageRepository.deactivateExpiredPackagesByUserId(userId, today);
         List<ClientPackage> activePackages = new ArrayList<>(clientPackageRepository.findActiveByUserIdForUpdate(userId));
-        activePackages.sort(Comparator
-                .comparing(ClientPackage::getPeriodEnd, Comparator.nullsLast(Comparator.naturalOrder()))
-                .thenComparing(ClientPackage::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+        activePackages.sort(CONSUMPTION_ORDER);
 
         for (ClientPackage clientPackage : activePackages) {
             if (findCredit(clientPackage, activityId).isPresent()) {
@@ -99,7 +102,29 @@ public class ClientPackageCreditService {
         throw new BadRequestException("No package found to refund credit for this activity");
     }
 
-    private java.util.Optional<ClientPackageCredit> findCredit(ClientPackage clientPackage, Long activityId) {
+    /**
+     * Locks the user's active packages once for a batch of bookings. Credits are then checked and taken in
+     * memory on the locked packages, and {@link #saveCredits} writes back the packages that changed.
+     */
+    @Transactional
+    public CreditBatch lockCredits(Long userId) {
+        if (userId == null || userId <= 0) {
+            throw new BadRequestException("userId must be a positive number");
+        }
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        clientPackageRepository.deactivateExpiredPackagesByUserId(userId, today);
+
+        List<ClientPackage> activePackages = new ArrayList<>(clientPackageRepository.findActiveByUserIdForUpdate(userId));
+        activePackages.sort(CONSUMPTION_ORDER);
+        return new CreditBatch(activePackages);
+    }
+
+    @Transactional
+    public void saveCredits(CreditBatch batch) {
+        batch.changed.values().forEach(clientPackageRepository::save);
+    }
+
+    private static java.util.Optional<ClientPackageCredit> findCredit(ClientPackage clientPackage, Long activityId) {
         if (clientPackage.getCredits() == null) {
             return java.util.Optional.empty();
         }
@@ -128,6 +153,46 @@ public class ClientPackageCreditService {
         credits.add(credit);
     }
 
+    /**
+     * Active packages of one user, locked and sorted in consumption order. Not thread-safe; it lives for the
+     * transaction that locked the packages.
+     */
+    public static final class CreditBatch {
+
+        private final List<ClientPackage> packages;
+        private final Map<Long, ClientPackage> changed = new LinkedHashMap<>();
+
+        public CreditBatch(List<ClientPackage> packages) {
+            this.packages = packages;
+        }
+
+        public boolean hasAvailable(Long activityId) {
+            return packages.stream().anyMatch(clientPackage -> findCredit(clientPackage, activityId)
+                    .map(credit -> credit.getTokens() != null && credit.getTokens() > 0)
+                    .orElse(false));
+        }
+
+        /**
+         * Takes one credit for the activity and returns the id of the package it came from, or null when no
+         * package has one left.
+         */
+        public Long consume(Long activityId) {
+            for (ClientPackage clientPackage : packages) {
+                var creditOpt = findCredit(clientPackage, activityId);
+                if (creditOpt.isPresent()) {
+                    ClientPackageCredit credit = creditOpt.get();
+                    Integer tokens = credit.getTokens();
+                    if (tokens != null && tokens > 0) {
+                        credit.setTokens(tokens - 1);
+                        changed.put(clientPackage.getId(), clientPackage);
+                        return clientPackage.getId();
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
     private void validateIds(Long userId, Long activityId) {
         if (userId == null || userId <= 0) {
             throw new BadRequestException("userId must be a positive number");
@@ -5,10 +5,13 @@ import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import org.athlium.clients.domain.model.ClientPackage;
 import org.athlium.clients.domain.model.ClientPackageCredit;
+import org.athlium.clients.domain.model.ClientPackageEvent;
 import org.athlium.clients.domain.repository.ClientPackageRepository;
 import org.athlium.payments.domain.repository.PaymentRepository;
+import org.athlium.shared.application.EventOutbox;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
+import org.athlium.users.domain.repository.MemberPackageStatusRepository;
 import org.athlium.users.domain.repository.UserRepository;
 
 import java.time.LocalDate;
@@ -21,12 +24,18 @@ public class CreateClientPackageUseCase {
     @Inject
     ClientPackageRepository clientPackageRepository;
 
+    @Inject
+    MemberPackageStatusRepository memberPackageStatusRepository;
+
     @Inject
     UserRepository userRepository;
 
     @Inject
     PaymentRepository paymentRepository;
 
+    @Inject
+    EventOutbox eventOutbox;
+
     @Transactional
     public ClientPackage execute(Long userId, Long paymentId, List<ClientPackageCredit> credits) {
         validateUserId(userId);
@@ -45,7 +54,11 @@ public class CreateClientPackageUseCase {
         clientPackage.setPeriodEnd(today.plusMonths(1));
         clientPackage.setActive(true);
         clientPackage.setCredits(credits);
-        return clientPackageRepository.save(clientPackage);
+        ClientPackage saved = clientPackageRepository.save(clientPackage);
+        memberPackageStatusRepository.refreshForUser(userId);
+        eventOutbox.append(ClientPackageEvent.AGGREGATE, saved.getId(), ClientPackageEvent.CREATED,
+                ClientPackageEvent.of(saved));
+        return saved;
     }
 
     private void validateUserId(Long userId) {
@@ -8,6 +8,7 @@ import org.athlium.clients.domain.model.ClientPackageCredit;
 import org.athlium.clients.domain.repository.ClientPackageRepository;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
+import org.athlium.users.domain.repository.MemberPackageStatusRepository;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -23,6 +24,9 @@ public class UpdateActiveClientPackageUseCase {
     @Inject
     ClientPackageRepository clientPackageRepository;
 
+    @Inject
+    MemberPackageStatusRepository memberPackageStatusRepository;
+
     @Transactional
     public ClientPackage execute(Long userId, Long packageId, List<ClientPackageCredit> credits) {
         validateUserId(userId);
@@ -50,7 +54,9 @@ public class UpdateActiveClientPackageUseCase {
         }
 
         existing.setCredits(applyPatch(existing.getCredits(), credits));
-        return clientPackageRepository.save(existing);
+        ClientPackage saved = clientPackageRepository.save(existing);
+        memberPackageStatusRepository.refreshForUser(userId);
+        return saved;
     }
 
     private List<ClientPackageCredit> applyPatch(List<ClientPackageCredit> existingCredits, List<ClientPackageCredit> patchCredits) {
@@ -0,0 +1,39 @@
+package org.athlium.clients.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Outbox payload for client packages, with the credits granted per activity.
+ */
+public record ClientPackageEvent(
+        Long clientPackageId,
+        Long userId,
+        Long paymentId,
+        LocalDate periodStart,
+        LocalDate periodEnd,
+        List<Credit> credits
+) {
+
+    public static final String AGGREGATE = "client-package";
+    public static final String CREATED = "client-package.created";
+
+    public static ClientPackageEvent of(ClientPackage clientPackage) {
+        List<Credit> credits = clientPackage.getCredits() == null
+                ? List.of()
+                : clientPackage.getCredits().stream()
+                        .map(credit -> new Credit(credit.getActivityId(), credit.getTokens()))
+                        .toList();
+        return new ClientPackageEvent(
+                clientPackage.getId(),
+                clientPackage.getUserId(),
+                clientPackage.getPaymentId(),
+                clientPackage.getPeriodStart(),
+                clientPackage.getPeriodEnd(),
+                credits
+        );
+    }
+
+    public record Credit(Long activityId, Integer tokens) {
+    }
+}
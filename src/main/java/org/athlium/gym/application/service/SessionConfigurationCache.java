@@ -0,0 +1,111 @@
+package org.athlium.gym.application.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.athlium.gym.domain.model.SessionConfiguration;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.annotation.Gauge;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded TTL cache of the effective (organization, headquarters, activity) configuration.
+ * Upserts evict every key under the changed scope; a generation counter keeps a load that raced
+ * with an invalidation from re-inserting the stale value.
+ */
+@ApplicationScoped
+public class SessionConfigurationCache {
+
+    @ConfigProperty(name = "athlium.sessions.config-cache.ttl-seconds", defaultValue = "300")
+    long ttlSeconds = 300;
+
+    @ConfigProperty(name = "athlium.sessions.config-cache.max-entries", defaultValue = "10000")
+    int maxEntries = 10_000;
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public SessionConfiguration get(Long organizationId, Long headquartersId, Long activityId,
+                                    Supplier<SessionConfiguration> loader) {
+        Key key = new Key(organizationId, headquartersId, activityId);
+        Entry cached = entries.get(key);
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.expiresAt() > now) {
+            hits.incrementAndGet();
+            return cached.configuration().copy();
+        }
+
+        misses.incrementAndGet();
+        long loadGeneration = generation.get();
+        SessionConfiguration loaded = loader.get();
+        if (loadGeneration == generation.get()) {
+            makeRoom();
+            entries.put(key, new Entry(loaded.copy(), now + ttlSeconds * 1000L));
+        }
+        return loaded;
+    }
+
+    public void invalidateOrganization(Long organizationId) {
+        invalidate(key -> key.organizationId().equals(organizationId));
+    }
+
+    public void invalidateHeadquarters(Long headquartersId) {
+        invalidate(key -> key.headquartersId().equals(headquartersId));
+    }
+
+    public void invalidateActivity(Long activityId) {
+        invalidate(key -> key.activityId().equals(activityId));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    @Gauge(name = "session_config_cache_entries", unit = MetricUnits.NONE, absolute = true,
+            description = "Effective session configurations currently cached")
+    public long entryCount() {
+        return entries.size();
+    }
+
+    @Gauge(name = "session_config_cache_hit_ratio", unit = MetricUnits.NONE, absolute = true,
+            description = "Share of configuration resolutions served from the cache")
+    public double hitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private void invalidate(Predicate<Key> matcher) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(matcher);
+    }
+
+    private void makeRoom() {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (entries.size() >= maxEntries) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(candidate -> candidate.getValue().expiresAt()))
+                    .map(Map.Entry::getKey)
+                    .ifPresent(entries::remove);
+        }
+    }
+
+    private record Key(Long organizationId, Long headquartersId, Long activityId) {
+    }
+
+    private record Entry(SessionConfiguration configuration, long expiresAt) {
+    }
+}
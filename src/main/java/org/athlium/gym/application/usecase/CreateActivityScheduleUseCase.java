@@ -3,10 +3,12 @@ package org.athlium.gym.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.athlium.gym.domain.model.ActivitySchedule;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.model.SchedulerType;
 import org.athlium.gym.domain.model.SessionTemplateType;
 import org.athlium.gym.domain.model.WeekDay;
 import org.athlium.gym.domain.repository.ActivityScheduleRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.BadRequestException;
 
 import java.time.LocalDate;
@@ -19,6 +21,9 @@ public class CreateActivityScheduleUseCase {
     @Inject
     ActivityScheduleRepository activityScheduleRepository;
 
+    @Inject
+    AggregateVersions aggregateVersions;
+
     public ActivitySchedule execute(ActivitySchedule schedule) {
         if (schedule == null) {
             throw new BadRequestException("Schedule body is required");
@@ -46,7 +51,9 @@ public class CreateActivityScheduleUseCase {
         if (schedule.getActive() == null) {
             schedule.setActive(true);
         }
-        return activityScheduleRepository.save(schedule);
+        ActivitySchedule saved = activityScheduleRepository.save(schedule);
+        aggregateVersions.bumpAfterWrite(CatalogAggregates.ACTIVITY_SCHEDULE);
+        return saved;
     }
 
     private void validateTemplateFields(ActivitySchedule schedule) {
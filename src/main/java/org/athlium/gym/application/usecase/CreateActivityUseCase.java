@@ -4,7 +4,9 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import org.athlium.gym.domain.model.Activity;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.repository.ActivityRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.BadRequestException;
 
 @ApplicationScoped
@@ -13,6 +15,9 @@ public class CreateActivityUseCase {
     @Inject
     ActivityRepository activityRepository;
 
+    @Inject
+    AggregateVersions aggregateVersions;
+
     @Transactional
     public Activity execute(String name, String description, Long hqId) {
         if (name == null || name.trim().isEmpty()) {
@@ -23,6 +28,8 @@ public class CreateActivityUseCase {
         }
         
         Activity activity = Activity.createNew(name, description, hqId);
-        return activityRepository.save(activity);
+        Activity saved = activityRepository.save(activity);
+        aggregateVersions.bump(CatalogAggregates.ACTIVITY);
+        return saved;
     }
 }
\ No newline at end of file
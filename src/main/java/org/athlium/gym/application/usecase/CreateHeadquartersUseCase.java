@@ -3,9 +3,11 @@ package org.athlium.gym.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.model.Headquarters;
 import org.athlium.gym.domain.model.Organization;
 import org.athlium.gym.domain.repository.HeadquartersRepository;
+import org.athlium.shared.application.AggregateVersions;
 
 @ApplicationScoped
 public class CreateHeadquartersUseCase {
@@ -16,9 +18,14 @@ public class CreateHeadquartersUseCase {
     @Inject
     GetOrganizationUseCase getOrganizationUseCase;
 
+    @Inject
+    AggregateVersions aggregateVersions;
+
     @Transactional
     public Headquarters execute(Headquarters headquarters) {
         Organization organization = getOrganizationUseCase.execute(headquarters.getOrganizationId());
-        return headquartersRepository.save(headquarters);
+        Headquarters saved = headquartersRepository.save(headquarters);
+        aggregateVersions.bump(CatalogAggregates.HEADQUARTERS);
+        return saved;
     }
 }
@@ -3,8 +3,10 @@ package org.athlium.gym.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.model.Organization;
 import org.athlium.gym.domain.repository.OrganizationRepository;
+import org.athlium.shared.application.AggregateVersions;
 
 @ApplicationScoped
 public class CreateOrganizationUseCase {
@@ -12,8 +14,13 @@ public class CreateOrganizationUseCase {
     @Inject
     OrganizationRepository organizationRepository;
 
+    @Inject
+    AggregateVersions aggregateVersions;
+
     @Transactional
     public Organization execute(Organization organization) {
-        return organizationRepository.save(organization);
+        Organization saved = organizationRepository.save(organization);
+        aggregateVersions.bump(CatalogAggregates.ORGANIZATION);
+        return saved;
     }
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package org.athlium.gym.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.athlium.gym.domain.model.ActivitySchedule;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.repository.ActivityScheduleRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 
@@ -13,6 +15,9 @@ public class DeleteActivityScheduleUseCase {
     @Inject
     ActivityScheduleRepository activityScheduleRepository;
 
+    @Inject
+    AggregateVersions aggregateVersions;
+
     public ActivitySchedule execute(Long id) {
         if (id == null) {
             throw new BadRequestException("Schedule ID is required");
@@ -24,6 +29,8 @@ public class DeleteActivityScheduleUseCase {
         }
 
         schedule.setActive(false);
-        return activityScheduleRepository.save(schedule);
+        ActivitySchedule saved = activityScheduleRepository.save(schedule);
+        aggregateVersions.bumpAfterWrite(CatalogAggregates.ACTIVITY_SCHEDULE);
+        return saved;
     }
 }
@@ -3,7 +3,9 @@ package org.athlium.gym.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.repository.ActivityRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.EntityNotFoundException;
 import org.athlium.shared.exception.BadRequestException;
 
@@ -13,6 +15,9 @@ public class DeleteActivityUseCase {
     @Inject
     ActivityRepository activityRepository;
 
+    @Inject
+    AggregateVersions aggregateVersions;
+
     @Transactional
     public void execute(Long id) {
         if (id == null) {
@@ -24,5 +29,6 @@ public class DeleteActivityUseCase {
         }
         
         activityRepository.delete(id);
+        aggregateVersions.bump(CatalogAggregates.ACTIVITY);
     }
 }
\ No newline at end of file
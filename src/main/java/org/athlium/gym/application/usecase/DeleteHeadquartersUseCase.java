@@ -3,7 +3,9 @@ package org.athlium.gym.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.repository.HeadquartersRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.EntityNotFoundException;
 
 @ApplicationScoped
@@ -12,11 +14,17 @@ public class DeleteHeadquartersUseCase {
     @Inject
     HeadquartersRepository headquartersRepository;
 
+    @Inject
+    AggregateVersions aggregateVersions;
+
     @Transactional
     public void execute(Long id) {
         if (!headquartersRepository.existsById(id)) {
             throw new EntityNotFoundException("Headquarters not found with id: " + id);
         }
         headquartersRepository.deleteById(id);
+        // The delete cascades to the headquarters' activities.
+        aggregateVersions.bump(CatalogAggregates.HEADQUARTERS);
+        aggregateVersions.bump(CatalogAggregates.ACTIVITY);
     }
 }
\ No newline at end of file
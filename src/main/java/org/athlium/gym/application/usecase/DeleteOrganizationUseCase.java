@@ -3,7 +3,9 @@ package org.athlium.gym.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.repository.OrganizationRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.EntityNotFoundException;
 
 @ApplicationScoped
@@ -12,11 +14,18 @@ public class DeleteOrganizationUseCase {
     @Inject
     OrganizationRepository organizationRepository;
 
+    @Inject
+    AggregateVersions aggregateVersions;
+
     @Transactional
     public void execute(Long id) {
         if (!organizationRepository.existsById(id)) {
             throw new EntityNotFoundException("Organization not found with id: " + id);
         }
         organizationRepository.deleteById(id);
+        // The delete cascades to the organization's headquarters and their activities.
+        aggregateVersions.bump(CatalogAggregates.ORGANIZATION);
+        aggregateVersions.bump(CatalogAggregates.HEADQUARTERS);
+        aggregateVersions.bump(CatalogAggregates.ACTIVITY);
     }
 }
\ No newline at end of file
@@ -3,8 +3,11 @@ package org.athlium.gym.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.athlium.gym.domain.model.ActivitySchedule;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.model.SchedulerType;
 import org.athlium.gym.domain.repository.ActivityScheduleRepository;
+import org.athlium.shared.application.AggregateVersions;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
 import java.time.DayOfWeek;
@@ -12,7 +15,14 @@ import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 @ApplicationScoped
 public class GenerateNextWeekSessionsUseCase {
@@ -25,16 +35,33 @@ public class GenerateNextWeekSessionsUseCase {
     @Inject
     GenerateSessionForScheduleUseCase generateSessionForScheduleUseCase;
 
+    @Inject
+    GenerateSessionsInBulkUseCase generateSessionsInBulkUseCase;
+
+    @Inject
+    AggregateVersions aggregateVersions;
+
+    @ConfigProperty(name = "athlium.sessions.generation.bulk-enabled", defaultValue = "true")
+    boolean bulkEnabled;
+
+    @ConfigProperty(name = "athlium.sessions.generation.max-concurrent-headquarters", defaultValue = "4")
+    int maxConcurrentHeadquarters = 4;
+
     public GenerationResult execute() {
         List<ActivitySchedule> schedules = activityScheduleRepository.findAllActive();
         LocalDate today = LocalDate.now(ZoneOffset.UTC);
         LocalDate nextMonday = LocalDate.now(ZoneOffset.UTC)
                 .with(TemporalAdjusters.next(DayOfWeek.MONDAY));
 
+        if (bulkEnabled) {
+            return announceDeactivations(executeBulk(schedules, today, nextMonday));
+        }
+
         int created = 0;
         int skipped = 0;
         int failed = 0;
         int deactivated = 0;
+        List<Long> failedScheduleIds = new ArrayList<>();
 
         for (ActivitySchedule schedule : new ArrayList<>(schedules)) {
             try {
@@ -53,6 +80,7 @@ public class GenerateNextWeekSessionsUseCase {
                 }
             } catch (Exception ex) {
                 failed++;
+                failedScheduleIds.add(schedule.getId());
                 LOG.errorf(
                         ex,
                         "Failed generating session for schedule id=%s organizationId=%s headquartersId=%s activityId=%s",
@@ -64,7 +92,90 @@ public class GenerateNextWeekSessionsUseCase {
             }
         }
 
-        return new GenerationResult(created, skipped, failed, deactivated);
+        return announceDeactivations(new GenerationResult(created, skipped, failed, deactivated, failedScheduleIds));
+    }
+
+    private GenerationResult executeBulk(List<ActivitySchedule> schedules, LocalDate today, LocalDate nextMonday) {
+        List<ActivitySchedule> pending = new ArrayList<>();
+        List<Long> failedScheduleIds = new ArrayList<>();
+        int deactivated = 0;
+
+        for (ActivitySchedule schedule : new ArrayList<>(schedules)) {
+            if (!shouldDeactivateByExpiration(schedule, today)) {
+                pending.add(schedule);
+                continue;
+            }
+            try {
+                schedule.setActive(false);
+                activityScheduleRepository.save(schedule);
+                deactivated++;
+            } catch (Exception ex) {
+                failedScheduleIds.add(schedule.getId());
+                LOG.errorf(ex, "Failed deactivating expired schedule id=%s", schedule.getId());
+            }
+        }
+
+        GenerationResult expired = new GenerationResult(0, 0, failedScheduleIds.size(), deactivated, failedScheduleIds);
+        return expired.plus(generateByHeadquarters(pending, nextMonday));
+    }
+
+    // Headquarters share no slots, so each partition runs on its own virtual thread with its own batch
+    // transactions; the semaphore caps how many partitions hit the database at once.
+    private GenerationResult generateByHeadquarters(List<ActivitySchedule> schedules, LocalDate nextMonday) {
+        Map<Long, List<ActivitySchedule>> partitions = new LinkedHashMap<>();
+        for (ActivitySchedule schedule : schedules) {
+            partitions.computeIfAbsent(schedule.getHeadquartersId(), ignored -> new ArrayList<>()).add(schedule);
+        }
+
+        GenerationResult result = GenerationResult.empty();
+        if (partitions.size() <= 1 || maxConcurrentHeadquarters <= 1) {
+            for (List<ActivitySchedule> partition : partitions.values()) {
+                result = result.plus(generateSessionsInBulkUseCase.execute(partition, nextMonday));
+            }
+            return result;
+        }
+
+        Semaphore permits = new Semaphore(maxConcurrentHeadquarters);
+        Map<Long, Future<GenerationResult>> futures = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            partitions.forEach((headquartersId, partition) -> futures.put(headquartersId, executor.submit(() -> {
+                permits.acquire();
+                try {
+                    return generateSessionsInBulkUseCase.execute(partition, nextMonday);
+                } finally {
+                    permits.release();
+                }
+            })));
+
+            for (var entry : futures.entrySet()) {
+                result = result.plus(awaitPartition(entry.getKey(), entry.getValue(), partitions.get(entry.getKey())));
+            }
+        }
+        return result;
+    }
+
+    private GenerationResult awaitPartition(
+            Long headquartersId,
+            Future<GenerationResult> future,
+            List<ActivitySchedule> partition
+    ) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            LOG.errorf(ex, "Interrupted while generating sessions for headquartersId=%s", headquartersId);
+        } catch (ExecutionException ex) {
+            LOG.errorf(ex.getCause(), "Failed generating sessions for headquartersId=%s", headquartersId);
+        }
+        List<Long> scheduleIds = partition.stream().map(ActivitySchedule::getId).toList();
+        return new GenerationResult(0, 0, scheduleIds.size(), 0, scheduleIds);
+    }
+
+    private GenerationResult announceDeactivations(GenerationResult result) {
+        if (result.deactivated() > 0) {
+            aggregateVersions.bumpAfterWrite(CatalogAggregates.ACTIVITY_SCHEDULE);
+        }
+        return result;
     }
 
     private boolean shouldDeactivateByExpiration(ActivitySchedule schedule, LocalDate today) {
@@ -73,6 +184,22 @@ public class GenerateNextWeekSessionsUseCase {
                 && today.isAfter(schedule.getActiveUntil());
     }
 
-    public record GenerationResult(int created, int skipped, int failed, int deactivated) {
+    public record GenerationResult(int created, int skipped, int failed, int deactivated, List<Long> failedScheduleIds) {
+
+        public static GenerationResult empty() {
+            return new GenerationResult(0, 0, 0, 0, List.of());
+        }
+
+        public GenerationResult plus(GenerationResult other) {
+            List<Long> mergedFailures = new ArrayList<>(failedScheduleIds);
+            mergedFailures.addAll(other.failedScheduleIds());
+            return new GenerationResult(
+                    created + other.created(),
+                    skipped + other.skipped(),
+                    failed + other.failed(),
+                    deactivated + other.deactivated(),
+                    List.copyOf(mergedFailures)
+            );
+        }
     }
 }
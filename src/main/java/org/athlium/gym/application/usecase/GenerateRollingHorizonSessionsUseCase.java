@@ -0,0 +1,134 @@
+package org.athlium.gym.application.usecase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.gym.application.usecase.GenerateNextWeekSessionsUseCase.GenerationResult;
+import org.athlium.gym.domain.model.ActivitySchedule;
+import org.athlium.gym.domain.model.CatalogAggregates;
+import org.athlium.gym.domain.model.SchedulerType;
+import org.athlium.gym.domain.repository.ActivityScheduleRepository;
+import org.athlium.shared.application.AggregateVersions;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps sessions materialized for the configured number of weeks ahead. Every schedule carries a
+ * generated-until watermark (the first Monday not generated yet), so a tick only expands the weeks
+ * between the watermark and the horizon instead of re-checking slots that already exist.
+ */
+@ApplicationScoped
+public class GenerateRollingHorizonSessionsUseCase {
+
+    private static final Logger LOG = Logger.getLogger(GenerateRollingHorizonSessionsUseCase.class);
+
+    @Inject
+    ActivityScheduleRepository activityScheduleRepository;
+
+    @Inject
+    GenerateSessionsInBulkUseCase generateSessionsInBulkUseCase;
+
+    @Inject
+    AggregateVersions aggregateVersions;
+
+    @ConfigProperty(name = "athlium.sessions.generation.horizon-weeks", defaultValue = "4")
+    int horizonWeeks = 4;
+
+    public GenerationResult execute() {
+        return execute(LocalDate.now(ZoneOffset.UTC));
+    }
+
+    GenerationResult execute(LocalDate today) {
+        LocalDate firstWeek = today.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        LocalDate horizon = firstWeek.plusWeeks(Math.max(1, horizonWeeks));
+
+        List<ActivitySchedule> pending = new ArrayList<>();
+        List<Long> failedScheduleIds = new ArrayList<>();
+        int deactivated = 0;
+
+        for (ActivitySchedule schedule : activityScheduleRepository.findAllActive()) {
+            if (isExpired(schedule, today)) {
+                try {
+                    schedule.setActive(false);
+                    activityScheduleRepository.save(schedule);
+                    deactivated++;
+                } catch (Exception ex) {
+                    failedScheduleIds.add(schedule.getId());
+                    LOG.errorf(ex, "Failed deactivating expired schedule id=%s", schedule.getId());
+                }
+                continue;
+            }
+            if (startWeek(schedule, firstWeek).isBefore(horizon)) {
+                pending.add(schedule);
+            }
+        }
+
+        GenerationResult result = new GenerationResult(0, 0, failedScheduleIds.size(), deactivated, failedScheduleIds);
+        if (pending.isEmpty()) {
+            return announceDeactivations(result);
+        }
+
+        Set<Long> failed = new HashSet<>();
+        for (LocalDate week = firstWeek; week.isBefore(horizon); week = week.plusWeeks(1)) {
+            LocalDate currentWeek = week;
+            List<ActivitySchedule> due = pending.stream()
+                    .filter(schedule -> !failed.contains(schedule.getId()))
+                    .filter(schedule -> Boolean.TRUE.equals(schedule.getActive()))
+                    .filter(schedule -> !startWeek(schedule, firstWeek).isAfter(currentWeek))
+                    .toList();
+            if (due.isEmpty()) {
+                continue;
+            }
+
+            GenerationResult weekResult = generateSessionsInBulkUseCase.execute(due, currentWeek);
+            failed.addAll(weekResult.failedScheduleIds());
+            result = result.plus(weekResult);
+        }
+
+        for (ActivitySchedule schedule : pending) {
+            if (failed.contains(schedule.getId())) {
+                continue;
+            }
+            try {
+                boolean advanced = activityScheduleRepository.updateGeneratedUntil(
+                        schedule.getId(), schedule.getRevision(), horizon);
+                if (advanced) {
+                    schedule.setGeneratedUntil(horizon);
+                } else {
+                    // Edited since this tick loaded it; the edit reset the watermark, so the next tick starts over.
+                    LOG.infof("Schedule id=%s changed during generation; keeping its watermark", schedule.getId());
+                }
+            } catch (Exception ex) {
+                // The next tick redoes these weeks; the inserts skip slots that already exist.
+                LOG.warnf(ex, "Failed advancing generation watermark for schedule id=%s", schedule.getId());
+            }
+        }
+        return announceDeactivations(result);
+    }
+
+    private GenerationResult announceDeactivations(GenerationResult result) {
+        if (result.deactivated() > 0) {
+            aggregateVersions.bumpAfterWrite(CatalogAggregates.ACTIVITY_SCHEDULE);
+        }
+        return result;
+    }
+
+    private LocalDate startWeek(ActivitySchedule schedule, LocalDate firstWeek) {
+        LocalDate generatedUntil = schedule.getGeneratedUntil();
+        return generatedUntil == null || generatedUntil.isBefore(firstWeek) ? firstWeek : generatedUntil;
+    }
+
+    private boolean isExpired(ActivitySchedule schedule, LocalDate today) {
+        return schedule.getSchedulerType() == SchedulerType.WEEKLY_RANGE
+                && schedule.getActiveUntil() != null
+                && today.isAfter(schedule.getActiveUntil());
+    }
+}
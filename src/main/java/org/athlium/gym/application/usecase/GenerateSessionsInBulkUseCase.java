@@ -0,0 +1,208 @@
+package org.athlium.gym.application.usecase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.gym.application.service.ScheduleTimezoneResolver;
+import org.athlium.gym.application.usecase.GenerateNextWeekSessionsUseCase.GenerationResult;
+import org.athlium.gym.application.usecase.template.SessionSlot;
+import org.athlium.gym.application.usecase.template.SessionTemplateDirector;
+import org.athlium.gym.domain.model.ActivitySchedule;
+import org.athlium.gym.domain.model.SchedulerType;
+import org.athlium.gym.domain.model.SessionConfiguration;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.athlium.gym.domain.repository.ActivityScheduleRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based variant of the weekly generation: expands every schedule in memory, resolves each
+ * (organization, headquarters, activity) configuration once and writes the slots with batched inserts.
+ * A schedule is never split across batches, so when a batch fails its schedules are retried one by one
+ * and only the offending ones are reported as failed.
+ */
+@ApplicationScoped
+public class GenerateSessionsInBulkUseCase {
+
+    private static final Logger LOG = Logger.getLogger(GenerateSessionsInBulkUseCase.class);
+
+    @Inject
+    ResolveSessionConfigurationUseCase resolveSessionConfigurationUseCase;
+
+    @Inject
+    SessionTemplateDirector sessionTemplateDirector;
+
+    @Inject
+    ScheduleTimezoneResolver scheduleTimezoneResolver;
+
+    @Inject
+    ActivityScheduleRepository activityScheduleRepository;
+
+    @Inject
+    PersistGeneratedSessionsBatchUseCase persistGeneratedSessionsBatchUseCase;
+
+    @ConfigProperty(name = "athlium.sessions.generation.batch-size", defaultValue = "500")
+    int batchSize = 500;
+
+    public GenerationResult execute(List<ActivitySchedule> schedules, LocalDate nextMonday) {
+        Map<ConfigKey, SessionConfiguration> configs = new HashMap<>();
+        Map<Long, ZoneId> zones = new HashMap<>();
+        List<PlannedSchedule> planned = new ArrayList<>();
+        List<Long> failedScheduleIds = new ArrayList<>();
+
+        for (ActivitySchedule schedule : schedules) {
+            try {
+                planned.add(plan(schedule, nextMonday, configs, zones));
+            } catch (Exception ex) {
+                failedScheduleIds.add(schedule.getId());
+                logFailure(ex, schedule);
+            }
+        }
+
+        Counters counters = new Counters();
+        List<PlannedSchedule> batch = new ArrayList<>();
+        int batchRows = 0;
+        for (PlannedSchedule plannedSchedule : planned) {
+            if (!batch.isEmpty() && batchRows + plannedSchedule.sessions().size() > batchSize) {
+                writeBatch(batch, counters, failedScheduleIds);
+                batch = new ArrayList<>();
+                batchRows = 0;
+            }
+            batch.add(plannedSchedule);
+            batchRows += plannedSchedule.sessions().size();
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, counters, failedScheduleIds);
+        }
+
+        return new GenerationResult(
+                counters.created,
+                counters.skipped,
+                failedScheduleIds.size(),
+                counters.deactivated,
+                List.copyOf(failedScheduleIds)
+        );
+    }
+
+    private PlannedSchedule plan(
+            ActivitySchedule schedule,
+            LocalDate nextMonday,
+            Map<ConfigKey, SessionConfiguration> configs,
+            Map<Long, ZoneId> zones
+    ) {
+        ZoneId zoneId = zones.computeIfAbsent(
+                schedule.getHeadquartersId(),
+                scheduleTimezoneResolver::resolveForHeadquarters
+        );
+        List<SessionSlot> slots = sessionTemplateDirector.buildSlotsForWeek(schedule, nextMonday, zoneId);
+        if (slots.isEmpty()) {
+            return new PlannedSchedule(schedule, List.of());
+        }
+
+        ConfigKey key = new ConfigKey(schedule.getOrganizationId(), schedule.getHeadquartersId(), schedule.getActivityId());
+        SessionConfiguration config = configs.get(key);
+        if (config == null) {
+            config = resolveSessionConfigurationUseCase.execute(key.organizationId(), key.headquartersId(), key.activityId(), null);
+            configs.put(key, config);
+        }
+
+        List<SessionInstance> sessions = new ArrayList<>(slots.size());
+        for (SessionSlot slot : slots) {
+            sessions.add(PersistGeneratedSessionUseCase.newScheduledSession(schedule, slot.startsAt(), slot.endsAt(), config));
+        }
+        return new PlannedSchedule(schedule, sessions);
+    }
+
+    private void writeBatch(List<PlannedSchedule> batch, Counters counters, List<Long> failedScheduleIds) {
+        List<SessionInstance> rows = new ArrayList<>();
+        batch.forEach(plannedSchedule -> rows.addAll(plannedSchedule.sessions()));
+
+        int[] inserted;
+        try {
+            inserted = persistGeneratedSessionsBatchUseCase.execute(rows);
+        } catch (Exception ex) {
+            LOG.warnf(ex, "Batch insert of %d sessions failed, retrying schedule by schedule", rows.size());
+            batch.forEach(plannedSchedule -> writeSingle(plannedSchedule, counters, failedScheduleIds));
+            return;
+        }
+
+        int offset = 0;
+        for (PlannedSchedule plannedSchedule : batch) {
+            int size = plannedSchedule.sessions().size();
+            record(plannedSchedule, slice(inserted, offset, size), counters, failedScheduleIds);
+            offset += size;
+        }
+    }
+
+    private void writeSingle(PlannedSchedule plannedSchedule, Counters counters, List<Long> failedScheduleIds) {
+        try {
+            int[] inserted = persistGeneratedSessionsBatchUseCase.execute(plannedSchedule.sessions());
+            record(plannedSchedule, inserted, counters, failedScheduleIds);
+        } catch (Exception ex) {
+            failedScheduleIds.add(plannedSchedule.schedule().getId());
+            logFailure(ex, plannedSchedule.schedule());
+        }
+    }
+
+    private void record(PlannedSchedule plannedSchedule, int[] inserted, Counters counters, List<Long> failedScheduleIds) {
+        int created = 0;
+        for (int count : inserted) {
+            // Only a positive count proves the row was written; SUCCESS_NO_INFO and failures count as skipped.
+            if (count > 0) {
+                created++;
+            }
+        }
+        int skipped = inserted.length - created;
+
+        ActivitySchedule schedule = plannedSchedule.schedule();
+        try {
+            boolean shouldDeactivate = schedule.getSchedulerType() == SchedulerType.ONE_TIME_DISPOSABLE
+                    && (created > 0 || skipped > 0);
+            if (shouldDeactivate) {
+                schedule.setActive(false);
+                activityScheduleRepository.save(schedule);
+                counters.deactivated++;
+            }
+        } catch (Exception ex) {
+            failedScheduleIds.add(schedule.getId());
+            logFailure(ex, schedule);
+        }
+        counters.created += created;
+        counters.skipped += skipped;
+    }
+
+    private int[] slice(int[] values, int offset, int size) {
+        int[] result = new int[size];
+        System.arraycopy(values, offset, result, 0, Math.min(size, Math.max(0, values.length - offset)));
+        return result;
+    }
+
+    private void logFailure(Exception ex, ActivitySchedule schedule) {
+        LOG.errorf(
+                ex,
+                "Failed generating session for schedule id=%s organizationId=%s headquartersId=%s activityId=%s",
+                schedule.getId(),
+                schedule.getOrganizationId(),
+                schedule.getHeadquartersId(),
+                schedule.getActivityId()
+        );
+    }
+
+    private record ConfigKey(Long organizationId, Long headquartersId, Long activityId) {
+    }
+
+    private record PlannedSchedule(ActivitySchedule schedule, List<SessionInstance> sessions) {
+    }
+
+    private static class Counters {
+        private int created;
+        private int skipped;
+        private int deactivated;
+    }
+}
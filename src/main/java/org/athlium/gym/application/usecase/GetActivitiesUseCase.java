@@ -8,7 +8,11 @@ import org.athlium.gym.domain.repository.ActivityRepository;
 import org.athlium.shared.domain.PageResponse;
 import org.athlium.shared.exception.BadRequestException;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class GetActivitiesUseCase {
@@ -35,6 +39,18 @@ public class GetActivitiesUseCase {
         return activityRepository.findAllByHqId(hqId, isActive);
     }
 
+    /**
+     * Activities of several headquarters in one query, grouped by headquarters id.
+     */
+    public Map<Long, List<Activity>> executeAllByHeadquarters(Collection<Long> hqIds, Boolean isActive) {
+        if (hqIds == null || hqIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return activityRepository.findAllByHqIds(hqIds, isActive).stream()
+                .collect(Collectors.groupingBy(Activity::getHqId, LinkedHashMap::new, Collectors.toList()));
+    }
+
     public PageResponse<Activity> executeByName(String name, Long hqId, int page, int size) {
         if (name == null || name.trim().isEmpty()) {
             throw new BadRequestException("Activity name is required");
@@ -0,0 +1,225 @@
+package org.athlium.gym.application.usecase;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.gym.domain.model.Activity;
+import org.athlium.gym.domain.model.ActivitySessionSummary;
+import org.athlium.gym.domain.model.Headquarters;
+import org.athlium.gym.domain.model.HeadquartersOverview;
+import org.athlium.gym.domain.model.HeadquartersOverviewCriteria;
+import org.athlium.gym.domain.model.Organization;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.athlium.gym.domain.model.SessionParticipant;
+import org.athlium.gym.domain.repository.HeadquartersOverviewRepository;
+import org.athlium.gym.domain.repository.SessionParticipantRepository;
+import org.athlium.shared.exception.BadRequestException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Assembles the headquarters endpoints' response data. However many headquarters are listed, it runs one
+ * query for their organizations, one for their activities and one for their sessions in a bounded window,
+ * plus one for participants when asked for.
+ */
+@ApplicationScoped
+public class GetHeadquartersOverviewUseCase {
+
+    static final int MAX_UPCOMING = 50;
+    static final Duration MAX_WINDOW = Duration.ofDays(92);
+
+    @Inject
+    HeadquartersOverviewRepository headquartersOverviewRepository;
+
+    @Inject
+    SessionParticipantRepository sessionParticipantRepository;
+
+    @Inject
+    GetOrganizationsUseCase getOrganizationsUseCase;
+
+    @Inject
+    GetActivitiesUseCase getActivitiesUseCase;
+
+    @ConfigProperty(name = "athlium.headquarters.overview.window-days", defaultValue = "14")
+    int windowDays = 14;
+
+    @ConfigProperty(name = "athlium.headquarters.overview.upcoming-per-activity", defaultValue = "5")
+    int defaultUpcoming = 5;
+
+    @ConfigProperty(name = "athlium.headquarters.overview.max-concurrent-queries", defaultValue = "8")
+    int maxConcurrentQueries = 8;
+
+    // Shared by every request so concurrent overviews together hold at most maxConcurrentQueries connections.
+    private volatile Semaphore queryPermits;
+
+    /**
+     * Fills in the defaults: the window starts at the beginning of the current UTC day, so classes already
+     * under way today are still listed, and spans {@code windowDays} from its start.
+     */
+    public HeadquartersOverviewCriteria resolveCriteria(Instant from, Instant to, Integer upcoming, boolean includeParticipants) {
+        Instant effectiveFrom = from != null ? from : Instant.now().truncatedTo(ChronoUnit.DAYS);
+        Instant effectiveTo = to != null ? to : effectiveFrom.plus(Duration.ofDays(windowDays));
+        if (!effectiveFrom.isBefore(effectiveTo)) {
+            throw new BadRequestException("from must be before to");
+        }
+        if (Duration.between(effectiveFrom, effectiveTo).compareTo(MAX_WINDOW) > 0) {
+            throw new BadRequestException("The overview window cannot exceed " + MAX_WINDOW.toDays() + " days");
+        }
+        int effectiveUpcoming = upcoming != null ? upcoming : defaultUpcoming;
+        if (effectiveUpcoming < 0 || effectiveUpcoming > MAX_UPCOMING) {
+            throw new BadRequestException("upcoming must be between 0 and " + MAX_UPCOMING);
+        }
+        return new HeadquartersOverviewCriteria(effectiveFrom, effectiveTo, effectiveUpcoming, includeParticipants);
+    }
+
+    public List<HeadquartersOverview> execute(List<Headquarters> headquarters, HeadquartersOverviewCriteria criteria) {
+        if (headquarters.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> headquartersIds = headquarters.stream().map(Headquarters::getId).distinct().toList();
+        List<Long> organizationIds = headquarters.stream()
+                .map(Headquarters::getOrganizationId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Loaded loaded = load(
+                () -> getOrganizationsUseCase.executeByIds(organizationIds),
+                () -> getActivitiesUseCase.executeAllByHeadquarters(headquartersIds, null),
+                () -> loadSummaries(headquartersIds, criteria)
+        );
+
+        return headquarters.stream()
+                .map(item -> new HeadquartersOverview(
+                        item,
+                        loaded.organizations().get(item.getOrganizationId()),
+                        loaded.activities().getOrDefault(item.getId(), List.of()),
+                        loaded.summaries()
+                ))
+                .toList();
+    }
+
+    // The three loads are independent, so they run side by side on virtual threads, each in a transaction of
+    // its own because a persistence context cannot be shared across threads.
+    private Loaded load(
+            Callable<Map<Long, Organization>> organizations,
+            Callable<Map<Long, List<Activity>>> activities,
+            Callable<Map<Long, ActivitySessionSummary>> summaries
+    ) {
+        if (maxConcurrentQueries <= 1) {
+            return new Loaded(call(organizations), call(activities), call(summaries));
+        }
+
+        Semaphore permits = queryPermits();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Map<Long, Organization>> organizationsFuture = executor.submit(bounded(permits, organizations));
+            Future<Map<Long, List<Activity>>> activitiesFuture = executor.submit(bounded(permits, activities));
+            Future<Map<Long, ActivitySessionSummary>> summariesFuture = executor.submit(bounded(permits, summaries));
+            return new Loaded(await(organizationsFuture), await(activitiesFuture), await(summariesFuture));
+        }
+    }
+
+    private <T> Callable<T> bounded(Semaphore permits, Callable<T> task) {
+        return () -> {
+            permits.acquire();
+            try {
+                return inNewTransaction(task);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    <T> T inNewTransaction(Callable<T> task) {
+        return QuarkusTransaction.requiringNew().call(task);
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the headquarters overview", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed loading the headquarters overview", ex.getCause());
+        }
+    }
+
+    private <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed loading the headquarters overview", ex);
+        }
+    }
+
+    private Semaphore queryPermits() {
+        Semaphore permits = queryPermits;
+        if (permits == null) {
+            synchronized (this) {
+                permits = queryPermits;
+                if (permits == null) {
+                    permits = new Semaphore(maxConcurrentQueries);
+                    queryPermits = permits;
+                }
+            }
+        }
+        return permits;
+    }
+
+    private Map<Long, ActivitySessionSummary> loadSummaries(
+            List<Long> headquartersIds,
+            HeadquartersOverviewCriteria criteria
+    ) {
+        Map<Long, ActivitySessionSummary> summaries = headquartersOverviewRepository.summarizeByActivity(
+                headquartersIds,
+                criteria.from(),
+                criteria.to(),
+                criteria.upcomingLimit()
+        );
+        if (criteria.includeParticipants()) {
+            enrichParticipants(summaries);
+        }
+        return summaries;
+    }
+
+    private void enrichParticipants(Map<Long, ActivitySessionSummary> summaries) {
+        List<SessionInstance> sessions = summaries.values().stream()
+                .flatMap(summary -> summary.upcomingSessions().stream())
+                .toList();
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<SessionParticipant>> participantsBySession = sessionParticipantRepository.findBySessionIds(
+                sessions.stream().map(SessionInstance::getId).toList()
+        );
+        sessions.forEach(session -> session.setParticipants(
+                participantsBySession.getOrDefault(session.getId(), List.of())
+        ));
+    }
+
+    private record Loaded(
+            Map<Long, Organization> organizations,
+            Map<Long, List<Activity>> activities,
+            Map<Long, ActivitySessionSummary> summaries) {
+    }
+}
@@ -5,7 +5,10 @@ import jakarta.inject.Inject;
 import org.athlium.gym.domain.model.Organization;
 import org.athlium.gym.domain.repository.OrganizationRepository;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @ApplicationScoped
 public class GetOrganizationsUseCase {
@@ -16,4 +19,15 @@ public class GetOrganizationsUseCase {
     public List<Organization> execute() {
         return organizationRepository.findAll();
     }
+
+    /**
+     * Organizations by id in one query; ids that do not exist are absent from the map.
+     */
+    public Map<Long, Organization> executeByIds(Collection<Long> ids) {
+        Map<Long, Organization> organizationsById = new LinkedHashMap<>();
+        for (Organization organization : organizationRepository.findByIds(ids)) {
+            organizationsById.put(organization.getId(), organization);
+        }
+        return organizationsById;
+    }
 }
\ No newline at end of file
@@ -9,7 +9,10 @@ import org.athlium.gym.domain.model.SessionStatus;
 import org.athlium.gym.domain.repository.ActivityRepository;
 import org.athlium.gym.domain.repository.SessionInstanceRepository;
 import org.athlium.gym.domain.repository.SessionParticipantRepository;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 
 import java.time.Instant;
@@ -37,19 +40,16 @@ public class GetSessionsUseCase {
             Instant to,
             int page,
             int limit,
-            String sort
+            String sort,
+            String totalMode
     ) {
         if (page < 1) {
             throw new BadRequestException("Page must be greater than or equal to 1");
         }
-        if (limit < 1 || limit > 100) {
-            throw new BadRequestException("Limit must be between 1 and 100");
-        }
-        if (from != null && to != null && from.isAfter(to)) {
-            throw new BadRequestException("from must be less than or equal to to");
-        }
+        validateWindow(limit, from, to);
 
         boolean sortAscending = parseSort(sort);
+        TotalMode parsedTotalMode = TotalMode.fromString(totalMode);
 
         PageResponse<SessionInstance> sessionsPage = sessionInstanceRepository.findSessions(
                 organizationId,
@@ -60,7 +60,8 @@ public class GetSessionsUseCase {
                 to,
                 page - 1,
                 limit,
-                sortAscending
+                sortAscending,
+                parsedTotalMode
         );
 
         enrichActivities(sessionsPage.getContent());
@@ -68,6 +69,47 @@ public class GetSessionsUseCase {
         return sessionsPage;
     }
 
+    public CursorPageResponse<SessionInstance> executeAfter(
+            Long organizationId,
+            Long headquartersId,
+            Long activityId,
+            SessionStatus status,
+            Instant from,
+            Instant to,
+            String cursor,
+            int limit,
+            String sort,
+            boolean includeTotal
+    ) {
+        validateWindow(limit, from, to);
+
+        CursorPageResponse<SessionInstance> sessionsPage = sessionInstanceRepository.findSessionsAfter(
+                organizationId,
+                headquartersId,
+                activityId,
+                status,
+                from,
+                to,
+                SeekCursor.decode(cursor),
+                limit,
+                parseSort(sort),
+                includeTotal
+        );
+
+        enrichActivities(sessionsPage.getContent());
+        enrichParticipants(sessionsPage.getContent());
+        return sessionsPage;
+    }
+
+    private void validateWindow(int limit, Instant from, Instant to) {
+        if (limit < 1 || limit > 100) {
+            throw new BadRequestException("Limit must be between 1 and 100");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("from must be less than or equal to to");
+        }
+    }
+
     private void enrichActivities(List<SessionInstance> sessions) {
         if (sessions == null || sessions.isEmpty()) {
             return;
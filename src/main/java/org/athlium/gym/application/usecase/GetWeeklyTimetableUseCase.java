@@ -0,0 +1,62 @@
+package org.athlium.gym.application.usecase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.gym.domain.model.TimetableEntry;
+import org.athlium.gym.domain.model.WeeklyTimetable;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Reads a headquarters' week from the timetable projection: one index range scan, no joins and no
+ * participants. Any day of the week selects it; without one, the current UTC week is returned.
+ */
+@ApplicationScoped
+public class GetWeeklyTimetableUseCase {
+
+    @Inject
+    SessionTimetableRepository sessionTimetableRepository;
+
+    public WeeklyTimetable execute(Long headquartersId, LocalDate day) {
+        if (headquartersId == null || headquartersId <= 0) {
+            throw new BadRequestException("headquartersId must be a positive number");
+        }
+        LocalDate weekStart = (day != null ? day : LocalDate.now(ZoneOffset.UTC))
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        List<TimetableEntry> entries = sessionTimetableRepository.findWeek(headquartersId, weekStart);
+        return new WeeklyTimetable(headquartersId, weekStart, entries, etag(headquartersId, weekStart, entries));
+    }
+
+    private String etag(Long headquartersId, LocalDate weekStart, List<TimetableEntry> entries) {
+        StringBuilder content = new StringBuilder()
+                .append(headquartersId).append('|').append(weekStart).append('\n');
+        for (TimetableEntry entry : entries) {
+            content.append(entry.sessionId()).append('|')
+                    .append(entry.activityId()).append('|')
+                    .append(entry.activityName()).append('|')
+                    .append(entry.startsAt()).append('|')
+                    .append(entry.endsAt()).append('|')
+                    .append(entry.status()).append('|')
+                    .append(entry.maxParticipants()).append('|')
+                    .append(entry.confirmedCount()).append('|')
+                    .append(entry.waitlistedCount()).append('\n');
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -9,9 +9,11 @@ import org.athlium.gym.domain.model.SessionInstance;
 import org.athlium.gym.domain.model.SessionSource;
 import org.athlium.gym.domain.model.SessionStatus;
 import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
 import org.hibernate.exception.ConstraintViolationException;
 
 import java.time.Instant;
+import java.util.List;
 
 @ApplicationScoped
 public class PersistGeneratedSessionUseCase {
@@ -19,6 +21,9 @@ public class PersistGeneratedSessionUseCase {
     @Inject
     SessionInstanceRepository sessionInstanceRepository;
 
+    @Inject
+    SessionTimetableRepository sessionTimetableRepository;
+
     @Transactional(Transactional.TxType.REQUIRES_NEW)
     public GenerateSessionForScheduleUseCase.GenerationStatus execute(
             ActivitySchedule schedule,
@@ -37,6 +42,26 @@ public class PersistGeneratedSessionUseCase {
             return GenerateSessionForScheduleUseCase.GenerationStatus.SKIPPED;
         }
 
+        SessionInstance session = newScheduledSession(schedule, startsAt, endsAt, config);
+
+        try {
+            SessionInstance saved = sessionInstanceRepository.save(session);
+            sessionTimetableRepository.refreshSessions(List.of(saved.getId()));
+            return GenerateSessionForScheduleUseCase.GenerationStatus.CREATED;
+        } catch (RuntimeException ex) {
+            if (isUniqueConstraintViolation(ex)) {
+                return GenerateSessionForScheduleUseCase.GenerationStatus.SKIPPED;
+            }
+            throw ex;
+        }
+    }
+
+    static SessionInstance newScheduledSession(
+            ActivitySchedule schedule,
+            Instant startsAt,
+            Instant endsAt,
+            SessionConfiguration config
+    ) {
         SessionInstance session = new SessionInstance();
         session.setOrganizationId(schedule.getOrganizationId());
         session.setHeadquartersId(schedule.getHeadquartersId());
@@ -51,16 +76,7 @@ public class PersistGeneratedSessionUseCase {
         session.setWaitlistStrategy(config.getWaitlistStrategy());
         session.setCancellationMinHoursBeforeStart(config.getCancellationMinHoursBeforeStart());
         session.setCancellationAllowLateCancel(config.getCancellationAllowLateCancel());
-
-        try {
-            sessionInstanceRepository.save(session);
-            return GenerateSessionForScheduleUseCase.GenerationStatus.CREATED;
-        } catch (RuntimeException ex) {
-            if (isUniqueConstraintViolation(ex)) {
-                return GenerateSessionForScheduleUseCase.GenerationStatus.SKIPPED;
-            }
-            throw ex;
-        }
+        return session;
     }
 
     private boolean isUniqueConstraintViolation(Throwable throwable) {
@@ -0,0 +1,35 @@
+package org.athlium.gym.application.usecase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+
+import java.util.Comparator;
+import java.util.List;
+
+@ApplicationScoped
+public class PersistGeneratedSessionsBatchUseCase {
+
+    @Inject
+    SessionInstanceRepository sessionInstanceRepository;
+
+    @Inject
+    SessionTimetableRepository sessionTimetableRepository;
+
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public int[] execute(List<SessionInstance> sessions) {
+        int[] inserted = sessionInstanceRepository.insertIgnoringConflicts(sessions);
+        if (!sessions.isEmpty()) {
+            // The batch insert does not return ids; its slots are found again by headquarters and start time.
+            sessionTimetableRepository.refreshHeadquartersBetween(
+                    sessions.stream().map(SessionInstance::getHeadquartersId).distinct().toList(),
+                    sessions.stream().map(SessionInstance::getStartsAt).min(Comparator.naturalOrder()).orElseThrow(),
+                    sessions.stream().map(SessionInstance::getStartsAt).max(Comparator.naturalOrder()).orElseThrow()
+            );
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,48 @@
+package org.athlium.gym.application.usecase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+@ApplicationScoped
+public class RebuildSessionOccupancyUseCase {
+
+    @Inject
+    SessionInstanceRepository sessionInstanceRepository;
+
+    @Inject
+    SessionTimetableRepository sessionTimetableRepository;
+
+    @ConfigProperty(name = "athlium.sessions.occupancy-repair.batch-size", defaultValue = "200")
+    int batchSize = 200;
+
+    /**
+     * Repairs the next batch of sessions starting at or after {@code from} with an id above {@code afterId}.
+     * Each call is its own transaction, so the batch's row locks are held only for one short recount.
+     */
+    @Transactional
+    public RepairBatch executeBatch(Instant from, long afterId) {
+        List<Long> sessionIds = sessionInstanceRepository.findIdsStartingFrom(from, afterId, batchSize);
+        if (sessionIds.isEmpty()) {
+            return new RepairBatch(null, 0);
+        }
+        List<Long> drifted = sessionInstanceRepository.rebuildOccupancyCounters(sessionIds);
+        // The counters were rewritten in SQL; only the timetable rows of the sessions that changed are stale.
+        if (!drifted.isEmpty()) {
+            sessionTimetableRepository.refreshSessions(drifted);
+        }
+        return new RepairBatch(sessionIds.get(sessionIds.size() - 1), drifted.size());
+    }
+
+    /**
+     * {@code lastId} is null once no sessions are left to repair.
+     */
+    public record RepairBatch(Long lastId, int repaired) {
+    }
+}
@@ -2,6 +2,7 @@ package org.athlium.gym.application.usecase;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.athlium.gym.application.service.SessionConfigurationCache;
 import org.athlium.gym.domain.model.SessionConfiguration;
 import org.athlium.gym.domain.repository.SessionConfigurationRepository;
 import org.athlium.shared.exception.BadRequestException;
@@ -12,14 +13,19 @@ public class ResolveSessionConfigurationUseCase {
     @Inject
     SessionConfigurationRepository sessionConfigurationRepository;
 
+    @Inject
+    SessionConfigurationCache sessionConfigurationCache;
+
     public SessionConfiguration execute(Long organizationId, Long headquartersId, Long activityId, Long sessionId) {
         validateRequiredIds(organizationId, headquartersId, activityId);
 
-        SessionConfiguration effective = SessionConfiguration.defaults();
-
-        effective = effective.mergeWith(sessionConfigurationRepository.getOrganizationConfig(organizationId).orElse(null));
-        effective = effective.mergeWith(sessionConfigurationRepository.getHeadquartersConfig(headquartersId).orElse(null));
-        effective = effective.mergeWith(sessionConfigurationRepository.getActivityConfig(activityId).orElse(null));
+        // Session overrides are per instance and never cached; only the shared layers are.
+        SessionConfiguration effective = sessionConfigurationCache.get(
+                organizationId,
+                headquartersId,
+                activityId,
+                () -> resolveSharedLayers(organizationId, headquartersId, activityId)
+        );
 
         if (sessionId != null) {
             effective = effective.mergeWith(sessionConfigurationRepository.getSessionConfig(sessionId).orElse(null));
@@ -28,6 +34,19 @@ public class ResolveSessionConfigurationUseCase {
         return effective;
     }
 
+    private SessionConfiguration resolveSharedLayers(Long organizationId, Long headquartersId, Long activityId) {
+        SessionConfiguration effective = SessionConfiguration.defaults();
+        for (SessionConfiguration layer : sessionConfigurationRepository.findConfigLayers(
+                organizationId,
+                headquartersId,
+                activityId,
+                null
+        )) {
+            effective = effective.mergeWith(layer);
+        }
+        return effective;
+    }
+
     private void validateRequiredIds(Long organizationId, Long headquartersId, Long activityId) {
         if (organizationId == null || organizationId <= 0) {
             throw new BadRequestException("organizationId is required and must be positive");
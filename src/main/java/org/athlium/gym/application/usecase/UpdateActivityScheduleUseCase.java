@@ -3,7 +3,9 @@ package org.athlium.gym.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.athlium.gym.domain.model.ActivitySchedule;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.repository.ActivityScheduleRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 
@@ -13,6 +15,9 @@ public class UpdateActivityScheduleUseCase {
     @Inject
     ActivityScheduleRepository activityScheduleRepository;
 
+    @Inject
+    AggregateVersions aggregateVersions;
+
     public ActivitySchedule execute(Long id, ActivitySchedule updatedData) {
         if (id == null) {
             throw new BadRequestException("Schedule ID is required");
@@ -65,7 +70,11 @@ public class UpdateActivityScheduleUseCase {
         }
 
         existing.setId(id);
-        return activityScheduleRepository.save(existing);
+        // The slots may have changed shape, so the rolling generator has to expand the horizon again.
+        existing.setGeneratedUntil(null);
+        ActivitySchedule saved = activityScheduleRepository.save(existing);
+        aggregateVersions.bumpAfterWrite(CatalogAggregates.ACTIVITY_SCHEDULE);
+        return saved;
     }
 
     private boolean hasAnyMutableField(ActivitySchedule updatedData) {
@@ -4,16 +4,27 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import org.athlium.gym.domain.model.Activity;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.repository.ActivityRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.EntityNotFoundException;
 import org.athlium.shared.exception.BadRequestException;
 
+import java.util.Objects;
+
 @ApplicationScoped
 public class UpdateActivityUseCase {
 
     @Inject
     ActivityRepository activityRepository;
 
+    @Inject
+    SessionTimetableRepository sessionTimetableRepository;
+
+    @Inject
+    AggregateVersions aggregateVersions;
+
     @Transactional
     public Activity execute(Activity activity) {
         if (activity == null) {
@@ -28,6 +39,11 @@ public class UpdateActivityUseCase {
             throw new EntityNotFoundException("Activity", activity.getId());
         }
         
-        return activityRepository.update(activity);
+        Activity updated = activityRepository.update(activity);
+        if (!Objects.equals(updated.getName(), existing.getName())) {
+            sessionTimetableRepository.refreshActivity(updated.getId());
+        }
+        aggregateVersions.bump(CatalogAggregates.ACTIVITY);
+        return updated;
     }
 }
\ No newline at end of file
@@ -3,8 +3,10 @@ package org.athlium.gym.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.model.Headquarters;
 import org.athlium.gym.domain.repository.HeadquartersRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.EntityNotFoundException;
 
 @ApplicationScoped
@@ -13,12 +15,17 @@ public class UpdateHeadquartersUseCase {
     @Inject
     HeadquartersRepository headquartersRepository;
 
+    @Inject
+    AggregateVersions aggregateVersions;
+
     @Transactional
     public Headquarters execute(Long id, Headquarters headquarters) {
         if (!headquartersRepository.existsById(id)) {
             throw new EntityNotFoundException("Headquarters not found with id: " + id);
         }
         headquarters.setId(id);
-        return headquartersRepository.save(headquarters);
+        Headquarters saved = headquartersRepository.save(headquarters);
+        aggregateVersions.bump(CatalogAggregates.HEADQUARTERS);
+        return saved;
     }
 }
\ No newline at end of file
@@ -3,8 +3,10 @@ package org.athlium.gym.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.model.Organization;
 import org.athlium.gym.domain.repository.OrganizationRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.EntityNotFoundException;
 
 @ApplicationScoped
@@ -13,12 +15,17 @@ public class UpdateOrganizationUseCase {
     @Inject
     OrganizationRepository organizationRepository;
 
+    @Inject
+    AggregateVersions aggregateVersions;
+
     @Transactional
     public Organization execute(Long id, Organization organization) {
         if (!organizationRepository.existsById(id)) {
             throw new EntityNotFoundException("Organization not found with id: " + id);
         }
         organization.setId(id);
-        return organizationRepository.save(organization);
+        Organization saved = organizationRepository.save(organization);
+        aggregateVersions.bump(CatalogAggregates.ORGANIZATION);
+        return saved;
     }
 }
\ No newline at end of file
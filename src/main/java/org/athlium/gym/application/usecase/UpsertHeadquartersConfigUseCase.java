@@ -2,8 +2,11 @@ package org.athlium.gym.application.usecase;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.athlium.gym.application.service.SessionConfigurationCache;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.model.SessionConfiguration;
 import org.athlium.gym.domain.repository.SessionConfigurationRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.BadRequestException;
 
 @ApplicationScoped
@@ -12,10 +15,19 @@ public class UpsertHeadquartersConfigUseCase {
     @Inject
     SessionConfigurationRepository sessionConfigurationRepository;
 
+    @Inject
+    SessionConfigurationCache sessionConfigurationCache;
+
+    @Inject
+    AggregateVersions aggregateVersions;
+
     public SessionConfiguration execute(Long headquartersId, SessionConfiguration configuration) {
         validateId(headquartersId, "Headquarters");
         SessionConfigurationValidator.validate(configuration);
-        return sessionConfigurationRepository.upsertHeadquartersConfig(headquartersId, configuration);
+        SessionConfiguration saved = sessionConfigurationRepository.upsertHeadquartersConfig(headquartersId, configuration);
+        sessionConfigurationCache.invalidateHeadquarters(headquartersId);
+        aggregateVersions.bumpAfterWrite(CatalogAggregates.SESSION_CONFIGURATION);
+        return saved;
     }
 
     private void validateId(Long id, String name) {
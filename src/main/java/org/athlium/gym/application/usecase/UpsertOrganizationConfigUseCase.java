@@ -2,8 +2,11 @@ package org.athlium.gym.application.usecase;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.athlium.gym.application.service.SessionConfigurationCache;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.model.SessionConfiguration;
 import org.athlium.gym.domain.repository.SessionConfigurationRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.BadRequestException;
 
 @ApplicationScoped
@@ -12,10 +15,19 @@ public class UpsertOrganizationConfigUseCase {
     @Inject
     SessionConfigurationRepository sessionConfigurationRepository;
 
+    @Inject
+    SessionConfigurationCache sessionConfigurationCache;
+
+    @Inject
+    AggregateVersions aggregateVersions;
+
     public SessionConfiguration execute(Long organizationId, SessionConfiguration configuration) {
         validateId(organizationId, "Organization");
         SessionConfigurationValidator.validate(configuration);
-        return sessionConfigurationRepository.upsertOrganizationConfig(organizationId, configuration);
+        SessionConfiguration saved = sessionConfigurationRepository.upsertOrganizationConfig(organizationId, configuration);
+        sessionConfigurationCache.invalidateOrganization(organizationId);
+        aggregateVersions.bumpAfterWrite(CatalogAggregates.SESSION_CONFIGURATION);
+        return saved;
     }
 
     private void validateId(Long id, String name) {
@@ -2,8 +2,10 @@ package org.athlium.gym.application.usecase;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.model.SessionConfiguration;
 import org.athlium.gym.domain.repository.SessionConfigurationRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.BadRequestException;
 
 @ApplicationScoped
@@ -12,10 +14,15 @@ public class UpsertSessionConfigUseCase {
     @Inject
     SessionConfigurationRepository sessionConfigurationRepository;
 
+    @Inject
+    AggregateVersions aggregateVersions;
+
     public SessionConfiguration execute(Long sessionId, SessionConfiguration configuration) {
         validateId(sessionId, "Session");
         SessionConfigurationValidator.validate(configuration);
-        return sessionConfigurationRepository.upsertSessionConfig(sessionId, configuration);
+        SessionConfiguration saved = sessionConfigurationRepository.upsertSessionConfig(sessionId, configuration);
+        aggregateVersions.bumpAfterWrite(CatalogAggregates.SESSION_CONFIGURATION);
+        return saved;
     }
 
     private void validateId(Long id, String name) {
@@ -21,6 +21,8 @@ public class ActivitySchedule {
     private LocalDate activeFrom;
     private LocalDate activeUntil;
     private LocalDate scheduledDate;
+    private LocalDate generatedUntil;
+    private Long revision;
 
     public Long getId() {
         return id;
@@ -141,4 +143,20 @@ public class ActivitySchedule {
     public void setScheduledDate(LocalDate scheduledDate) {
         this.scheduledDate = scheduledDate;
     }
+
+    public LocalDate getGeneratedUntil() {
+        return generatedUntil;
+    }
+
+    public void setGeneratedUntil(LocalDate generatedUntil) {
+        this.generatedUntil = generatedUntil;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
 }
@@ -0,0 +1,33 @@
+package org.athlium.gym.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Sessions of one activity within an overview window: totals and the first start over the sessions that were
+ * not cancelled, plus the first {@code upcomingSessions} by start time, which may include cancelled ones.
+ */
+public record ActivitySessionSummary(
+        Long activityId,
+        int sessionCount,
+        int confirmedCount,
+        int waitlistedCount,
+        int capacity,
+        Instant firstSessionAt,
+        List<SessionInstance> upcomingSessions
+) {
+
+    public static ActivitySessionSummary empty(Long activityId) {
+        return new ActivitySessionSummary(activityId, 0, 0, 0, 0, null, List.of());
+    }
+
+    /**
+     * Confirmed seats over offered seats, between 0 and 1; null when no seats were offered.
+     */
+    public Double occupancyRate() {
+        if (capacity <= 0) {
+            return null;
+        }
+        return Math.min(1.0, (double) confirmedCount / capacity);
+    }
+}
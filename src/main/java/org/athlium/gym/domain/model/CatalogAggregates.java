@@ -0,0 +1,17 @@
+package org.athlium.gym.domain.model;
+
+/**
+ * Names of the gym catalog aggregates whose versions tag cacheable GET responses. Every use case that writes
+ * one of them bumps its version.
+ */
+public final class CatalogAggregates {
+
+    public static final String ACTIVITY = "activity";
+    public static final String ORGANIZATION = "organization";
+    public static final String HEADQUARTERS = "headquarters";
+    public static final String ACTIVITY_SCHEDULE = "activity-schedule";
+    public static final String SESSION_CONFIGURATION = "session-configuration";
+
+    private CatalogAggregates() {
+    }
+}
@@ -0,0 +1,20 @@
+package org.athlium.gym.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the headquarters endpoints show for one headquarters. {@code organization} is null when the
+ * headquarters points at an organization that no longer exists.
+ */
+public record HeadquartersOverview(
+        Headquarters headquarters,
+        Organization organization,
+        List<Activity> activities,
+        Map<Long, ActivitySessionSummary> summariesByActivity
+) {
+
+    public ActivitySessionSummary summaryFor(Long activityId) {
+        return summariesByActivity.getOrDefault(activityId, ActivitySessionSummary.empty(activityId));
+    }
+}
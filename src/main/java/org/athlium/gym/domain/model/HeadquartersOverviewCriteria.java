@@ -0,0 +1,14 @@
+package org.athlium.gym.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Window of a headquarters overview: sessions starting in [from, to), at most {@code upcomingLimit} listed
+ * per activity.
+ */
+public record HeadquartersOverviewCriteria(
+        Instant from,
+        Instant to,
+        int upcomingLimit,
+        boolean includeParticipants) {
+}
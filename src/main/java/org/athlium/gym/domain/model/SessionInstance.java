@@ -21,6 +21,8 @@ public class SessionInstance {
     private WaitlistStrategy waitlistStrategy;
     private Integer cancellationMinHoursBeforeStart;
     private Boolean cancellationAllowLateCancel;
+    private Integer confirmedCount;
+    private Integer waitlistedCount;
 
     public Long getId() {
         return id;
@@ -149,4 +151,20 @@ public class SessionInstance {
     public void setCancellationAllowLateCancel(Boolean cancellationAllowLateCancel) {
         this.cancellationAllowLateCancel = cancellationAllowLateCancel;
     }
+
+    public Integer getConfirmedCount() {
+        return confirmedCount;
+    }
+
+    public void setConfirmedCount(Integer confirmedCount) {
+        this.confirmedCount = confirmedCount;
+    }
+
+    public Integer getWaitlistedCount() {
+        return waitlistedCount;
+    }
+
+    public void setWaitlistedCount(Integer waitlistedCount) {
+        this.waitlistedCount = waitlistedCount;
+    }
 }
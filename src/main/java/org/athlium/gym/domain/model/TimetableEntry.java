@@ -0,0 +1,18 @@
+package org.athlium.gym.domain.model;
+
+import java.time.Instant;
+
+/**
+ * One session as listed in a headquarters' weekly timetable.
+ */
+public record TimetableEntry(
+        Long sessionId,
+        Long activityId,
+        String activityName,
+        Instant startsAt,
+        Instant endsAt,
+        SessionStatus status,
+        Integer maxParticipants,
+        int confirmedCount,
+        int waitlistedCount) {
+}
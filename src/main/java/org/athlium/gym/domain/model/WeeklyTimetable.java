@@ -0,0 +1,11 @@
+package org.athlium.gym.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The sessions of one headquarters in the Monday-based UTC week starting at {@code weekStart}. {@code etag}
+ * is derived from everything listed, so it changes exactly when the rendered timetable does.
+ */
+public record WeeklyTimetable(Long headquartersId, LocalDate weekStart, List<TimetableEntry> entries, String etag) {
+}
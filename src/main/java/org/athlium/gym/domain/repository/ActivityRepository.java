@@ -4,6 +4,7 @@ import io.quarkus.panache.common.Page;
 import org.athlium.gym.domain.model.Activity;
 import org.athlium.shared.domain.PageResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -15,5 +16,6 @@ public interface ActivityRepository {
     void delete(Long id);
     PageResponse<Activity> findPagedByHqId(Long hqId, Boolean isActive, Page page);
     List<Activity> findAllByHqId(Long hqId, Boolean isActive);
+    List<Activity> findAllByHqIds(Collection<Long> hqIds, Boolean isActive);
     PageResponse<Activity> findByNameAndHqId(String name, Long hqId, Page page);
 }
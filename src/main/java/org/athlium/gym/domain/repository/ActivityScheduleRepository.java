@@ -2,6 +2,7 @@ package org.athlium.gym.domain.repository;
 
 import org.athlium.gym.domain.model.ActivitySchedule;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface ActivityScheduleRepository {
@@ -13,4 +14,10 @@ public interface ActivityScheduleRepository {
     List<ActivitySchedule> findAllActive();
 
     List<ActivitySchedule> findByHeadquartersId(Long headquartersId);
+
+    /**
+     * Advances the generation watermark unless the schedule was saved since it was read at
+     * {@code expectedRevision}; returns whether it was advanced.
+     */
+    boolean updateGeneratedUntil(Long scheduleId, Long expectedRevision, LocalDate generatedUntil);
 }
@@ -0,0 +1,21 @@
+package org.athlium.gym.domain.repository;
+
+import org.athlium.gym.domain.model.ActivitySessionSummary;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+
+public interface HeadquartersOverviewRepository {
+
+    /**
+     * Summarizes the sessions of the given headquarters that start in [from, to), keyed by activity id.
+     * Activities without sessions in the window are absent.
+     */
+    Map<Long, ActivitySessionSummary> summarizeByActivity(
+            Collection<Long> headquartersIds,
+            Instant from,
+            Instant to,
+            int upcomingLimit
+    );
+}
@@ -2,12 +2,14 @@ package org.athlium.gym.domain.repository;
 
 import org.athlium.gym.domain.model.Headquarters;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface HeadquartersRepository {
     Headquarters save(Headquarters headquarters);
     Optional<Headquarters> findById(Long id);
+    List<Headquarters> findByIds(Collection<Long> ids);
     List<Headquarters> findAll();
     List<Headquarters> findByOrganizationId(Long organizationId);
     void deleteById(Long id);
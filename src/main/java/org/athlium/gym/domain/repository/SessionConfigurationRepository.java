@@ -2,6 +2,7 @@ package org.athlium.gym.domain.repository;
 
 import org.athlium.gym.domain.model.SessionConfiguration;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface SessionConfigurationRepository {
@@ -21,4 +22,10 @@ public interface SessionConfigurationRepository {
     Optional<SessionConfiguration> getActivityConfig(Long activityId);
 
     Optional<SessionConfiguration> getSessionConfig(Long sessionId);
+
+    /**
+     * Fetches the organization, headquarters, activity and (when sessionId is not null) session layers in a
+     * single round-trip. Missing layers are omitted; the rest come back from lowest to highest precedence.
+     */
+    List<SessionConfiguration> findConfigLayers(Long organizationId, Long headquartersId, Long activityId, Long sessionId);
 }
@@ -2,9 +2,13 @@ package org.athlium.gym.domain.repository;
 
 import org.athlium.gym.domain.model.SessionInstance;
 import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface SessionInstanceRepository {
@@ -18,10 +22,34 @@ public interface SessionInstanceRepository {
             Instant startsAt
     );
 
+    /**
+     * Batch-inserts sessions, skipping slots that already exist. Returns the affected row count per session (1 or 0).
+     */
+    int[] insertIgnoringConflicts(List<SessionInstance> sessions);
+
     Optional<SessionInstance> findById(Long id);
 
     Optional<SessionInstance> findByIdForUpdate(Long id);
 
+    /**
+     * Applies deltas to the materialized booking counters. Callers must hold the session row lock.
+     */
+    void adjustOccupancy(Long sessionId, int confirmedDelta, int waitlistedDelta);
+
+    /**
+     * Ids of the sessions starting at or after {@code from} with an id above {@code afterId}, in id order.
+     */
+    List<Long> findIdsStartingFrom(Instant from, long afterId, int limit);
+
+    /**
+     * Recomputes the booking counters of the given sessions from bookings and returns the ids of the sessions
+     * that had drifted.
+     */
+    List<Long> rebuildOccupancyCounters(List<Long> sessionIds);
+
+    /**
+     * Pages the matching sessions; {@code totalMode} decides whether the total is counted, estimated or skipped.
+     */
     PageResponse<SessionInstance> findSessions(
             Long organizationId,
             Long headquartersId,
@@ -31,6 +59,24 @@ public interface SessionInstanceRepository {
             Instant to,
             int page,
             int size,
-            boolean sortAscending
+            boolean sortAscending,
+            TotalMode totalMode
+    );
+
+    /**
+     * Keyset variant of {@link #findSessions}: seeks past {@code after} on (startsAt, id) and only counts the
+     * matching rows when {@code includeTotal} is set. A null cursor starts from the first row.
+     */
+    CursorPageResponse<SessionInstance> findSessionsAfter(
+            Long organizationId,
+            Long headquartersId,
+            Long activityId,
+            SessionStatus status,
+            Instant from,
+            Instant to,
+            SeekCursor after,
+            int size,
+            boolean sortAscending,
+            boolean includeTotal
     );
 }
@@ -0,0 +1,32 @@
+package org.athlium.gym.domain.repository;
+
+import org.athlium.gym.domain.model.TimetableEntry;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Maintains the per-headquarters weekly timetable read by members browsing sessions. Refreshes copy the
+ * current session rows, so they must run after the change they reflect, in the same transaction.
+ */
+public interface SessionTimetableRepository {
+
+    List<TimetableEntry> findWeek(Long headquartersId, LocalDate weekStart);
+
+    void refreshSessions(Collection<Long> sessionIds);
+
+    /**
+     * Refreshes the sessions of the given headquarters starting within {@code [from, to]}, for writes that do
+     * not return the ids of the rows they created.
+     */
+    void refreshHeadquartersBetween(Collection<Long> headquartersIds, Instant from, Instant to);
+
+    void refreshActivity(Long activityId);
+
+    /**
+     * Rewrites every row that differs from its session and returns how many did.
+     */
+    int refreshAll();
+}
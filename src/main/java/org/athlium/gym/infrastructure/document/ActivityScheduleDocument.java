@@ -25,4 +25,6 @@ public class ActivityScheduleDocument extends PanacheMongoEntity {
     public LocalDate activeFrom;
     public LocalDate activeUntil;
     public LocalDate scheduledDate;
+    public LocalDate generatedUntil;
+    public Long revision;
 }
@@ -81,6 +81,12 @@ public class SessionInstanceEntity extends PanacheEntity {
     @Column(name = "cancellation_allow_late_cancel")
     private Boolean cancellationAllowLateCancel;
 
+    @Column(name = "confirmed_count", nullable = false)
+    private Integer confirmedCount = 0;
+
+    @Column(name = "waitlisted_count", nullable = false)
+    private Integer waitlistedCount = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
@@ -14,5 +14,7 @@ public interface SessionInstanceMapper {
 
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "confirmedCount", defaultValue = "0")
+    @Mapping(target = "waitlistedCount", defaultValue = "0")
     SessionInstanceEntity toEntity(SessionInstance domain);
 }
@@ -10,6 +10,7 @@ import org.athlium.gym.infrastructure.entity.ActivityEntity;
 import org.athlium.gym.infrastructure.mapper.ActivityMapper;
 import org.athlium.shared.domain.PageResponse;
 
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -97,4 +98,19 @@ public class ActivityRepositoryImpl implements ActivityRepository {
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public List<Activity> findAllByHqIds(Collection<Long> hqIds, Boolean isActive) {
+        if (hqIds == null || hqIds.isEmpty()) {
+            return List.of();
+        }
+        String queryStr = "hqId in ?1" + (isActive != null ? " AND isActive = ?2" : "");
+        Object[] params = isActive != null ? new Object[]{hqIds, isActive} : new Object[]{hqIds};
+
+        return panacheRepo.find(queryStr, params)
+                .list()
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
 }
@@ -16,10 +16,13 @@ import org.athlium.gym.domain.repository.ActivityScheduleRepository;
 import org.athlium.gym.infrastructure.document.ActivityScheduleDocument;
 import org.athlium.gym.infrastructure.mapper.ActivityScheduleMapper;
 import org.bson.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.time.LocalDate;
 import java.util.Comparator;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 @ApplicationScoped
 public class ActivityScheduleRepositoryImpl implements ActivityScheduleRepository {
@@ -36,8 +39,13 @@ public class ActivityScheduleRepositoryImpl implements ActivityScheduleRepositor
     @Inject
     MongoClient mongoClient;
 
+    @ConfigProperty(name = "athlium.schedules.id-block-size", defaultValue = "100")
+    int idBlockSize = 100;
+
     private String databaseName;
 
+    private volatile IdBlock currentIdBlock;
+
     @PostConstruct
     void init() {
         databaseName = panacheRepository.mongoCollection().getNamespace().getDatabaseName();
@@ -62,7 +70,9 @@ public class ActivityScheduleRepositoryImpl implements ActivityScheduleRepositor
                             Updates.set("templateType", schedule.getTemplateType()),
                             Updates.set("activeFrom", schedule.getActiveFrom()),
                             Updates.set("activeUntil", schedule.getActiveUntil()),
-                            Updates.set("scheduledDate", schedule.getScheduledDate())
+                            Updates.set("scheduledDate", schedule.getScheduledDate()),
+                            Updates.set("generatedUntil", schedule.getGeneratedUntil()),
+                            Updates.inc("revision", 1L)
                     )
             );
 
@@ -106,6 +116,16 @@ public class ActivityScheduleRepositoryImpl implements ActivityScheduleRepositor
         return toDomainList(panacheRepository.find("headquartersId = ?1 and active = ?2", headquartersId, true).list());
     }
 
+    @Override
+    public boolean updateGeneratedUntil(Long scheduleId, Long expectedRevision, LocalDate generatedUntil) {
+        // Documents saved before revisions existed have none; eq(null) matches the missing field.
+        UpdateResult result = panacheRepository.mongoCollection().updateOne(
+                Filters.and(Filters.eq("scheduleId", scheduleId), Filters.eq("revision", expectedRevision)),
+                Updates.set("generatedUntil", generatedUntil)
+        );
+        return result.getMatchedCount() > 0;
+    }
+
     private List<ActivitySchedule> toDomainList(List<ActivityScheduleDocument> documents) {
         return documents.stream()
                 .sorted(Comparator.comparing(doc -> doc.scheduleId))
@@ -124,12 +144,40 @@ public class ActivityScheduleRepositoryImpl implements ActivityScheduleRepositor
         return schedule;
     }
 
-    private Long nextScheduleId() {
+    /**
+     * Hands out ids from a block reserved with a single {@code $inc}, so creating many schedules costs one
+     * counter round trip per block. Each instance reserves its own blocks, which keeps ids unique across
+     * instances; ids left in a block when the instance stops are never used.
+     */
+    Long nextScheduleId() {
+        while (true) {
+            IdBlock block = currentIdBlock;
+            if (block != null) {
+                long id = block.next().getAndIncrement();
+                if (id <= block.last()) {
+                    return id;
+                }
+            }
+            synchronized (this) {
+                // Only the first thread to find the block exhausted reserves the next one.
+                if (currentIdBlock == block) {
+                    int size = Math.max(1, idBlockSize);
+                    long last = reserveIdBlock(size);
+                    currentIdBlock = new IdBlock(new AtomicLong(last - size + 1), last);
+                }
+            }
+        }
+    }
+
+    /**
+     * Advances the shared counter by a whole block and returns the last id of the reserved range.
+     */
+    long reserveIdBlock(int size) {
         Document result = mongoClient.getDatabase(databaseName)
                 .getCollection(COUNTERS_COLLECTION)
                 .findOneAndUpdate(
                         Filters.eq("_id", COUNTER_ID),
-                        Updates.inc("sequence", 1L),
+                        Updates.inc("sequence", (long) size),
                         new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER)
                 );
 
@@ -139,4 +187,7 @@ public class ActivityScheduleRepositoryImpl implements ActivityScheduleRepositor
 
         return ((Number) result.get("sequence")).longValue();
     }
+
+    private record IdBlock(AtomicLong next, long last) {
+    }
 }
@@ -0,0 +1,142 @@
+package org.athlium.gym.infrastructure.repository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.athlium.gym.domain.model.ActivitySessionSummary;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.athlium.gym.domain.model.SessionSource;
+import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.model.WaitlistStrategy;
+import org.athlium.gym.domain.repository.HeadquartersOverviewRepository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@ApplicationScoped
+public class HeadquartersOverviewRepositoryImpl implements HeadquartersOverviewRepository {
+
+    // Totals come from window aggregates over the whole activity partition, so the rows cut by the rank
+    // filter still count towards them. At least one row per activity is kept to carry the totals; sessions
+    // beyond the requested limit are dropped when mapping.
+    private static final String SUMMARY_SQL = """
+            SELECT r.id, r.organization_id, r.headquarters_id, r.activity_id, r.starts_at, r.ends_at, r.status,
+                   r.source, r.max_participants, r.waitlist_enabled, r.waitlist_max_size, r.waitlist_strategy,
+                   r.cancellation_min_hours_before_start, r.cancellation_allow_late_cancel,
+                   r.confirmed_count, r.waitlisted_count,
+                   r.session_count, r.total_confirmed, r.total_waitlisted, r.total_capacity, r.first_session_at
+            FROM (
+                SELECT s.*,
+                       ROW_NUMBER() OVER (PARTITION BY s.activity_id ORDER BY s.starts_at, s.id) AS rank_in_activity,
+                       COUNT(*) FILTER (WHERE s.status <> 'CANCELLED') OVER activity AS session_count,
+                       COALESCE(SUM(s.confirmed_count) FILTER (WHERE s.status <> 'CANCELLED') OVER activity, 0)
+                           AS total_confirmed,
+                       COALESCE(SUM(s.waitlisted_count) FILTER (WHERE s.status <> 'CANCELLED') OVER activity, 0)
+                           AS total_waitlisted,
+                       COALESCE(SUM(s.max_participants) FILTER (WHERE s.status <> 'CANCELLED') OVER activity, 0)
+                           AS total_capacity,
+                       MIN(s.starts_at) FILTER (WHERE s.status <> 'CANCELLED') OVER activity AS first_session_at
+                FROM session_instances s
+                WHERE s.headquarters_id IN (:headquartersIds)
+                  AND s.starts_at >= :from
+                  AND s.starts_at < :to
+                WINDOW activity AS (PARTITION BY s.activity_id)
+            ) r
+            WHERE r.rank_in_activity <= GREATEST(:upcomingLimit, 1)
+            ORDER BY r.activity_id, r.starts_at, r.id
+            """;
+
+    @Inject
+    EntityManager em;
+
+    @Override
+    public Map<Long, ActivitySessionSummary> summarizeByActivity(
+            Collection<Long> headquartersIds,
+            Instant from,
+            Instant to,
+            int upcomingLimit
+    ) {
+        if (headquartersIds.isEmpty()) {
+            return Map.of();
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery(SUMMARY_SQL)
+                .setParameter("headquartersIds", headquartersIds)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setParameter("upcomingLimit", upcomingLimit)
+                .getResultList();
+
+        Map<Long, Object[]> totalsByActivity = new LinkedHashMap<>();
+        Map<Long, List<SessionInstance>> sessionsByActivity = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Long activityId = toLong(row[3]);
+            totalsByActivity.putIfAbsent(activityId, row);
+            List<SessionInstance> sessions = sessionsByActivity.computeIfAbsent(activityId, ignored -> new ArrayList<>());
+            if (sessions.size() < upcomingLimit) {
+                sessions.add(toSession(row));
+            }
+        }
+
+        Map<Long, ActivitySessionSummary> summaries = new LinkedHashMap<>();
+        totalsByActivity.forEach((activityId, row) -> summaries.put(activityId, new ActivitySessionSummary(
+                activityId,
+                toInt(row[16]),
+                toInt(row[17]),
+                toInt(row[18]),
+                toInt(row[19]),
+                row[20] == null ? null : toInstant(row[20]),
+                sessionsByActivity.get(activityId)
+        )));
+        return summaries;
+    }
+
+    private SessionInstance toSession(Object[] row) {
+        SessionInstance session = new SessionInstance();
+        session.setId(toLong(row[0]));
+        session.setOrganizationId(toLong(row[1]));
+        session.setHeadquartersId(toLong(row[2]));
+        session.setActivityId(toLong(row[3]));
+        session.setStartsAt(toInstant(row[4]));
+        session.setEndsAt(toInstant(row[5]));
+        session.setStatus(SessionStatus.valueOf(row[6].toString()));
+        session.setSource(SessionSource.valueOf(row[7].toString()));
+        session.setMaxParticipants(row[8] == null ? null : toInt(row[8]));
+        session.setWaitlistEnabled((Boolean) row[9]);
+        session.setWaitlistMaxSize(row[10] == null ? null : toInt(row[10]));
+        session.setWaitlistStrategy(row[11] == null ? null : WaitlistStrategy.valueOf(row[11].toString()));
+        session.setCancellationMinHoursBeforeStart(row[12] == null ? null : toInt(row[12]));
+        session.setCancellationAllowLateCancel((Boolean) row[13]);
+        session.setConfirmedCount(toInt(row[14]));
+        session.setWaitlistedCount(toInt(row[15]));
+        return session;
+    }
+
+    private Long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private int toInt(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    private Instant toInstant(Object value) {
+        if (value instanceof Instant instant) {
+            return instant;
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toInstant();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        }
+        return Instant.parse(value.toString());
+    }
+}
@@ -7,6 +7,7 @@ import org.athlium.gym.domain.model.Headquarters;
 import org.athlium.gym.domain.repository.HeadquartersRepository;
 import org.athlium.gym.infrastructure.mapper.HeadquartersMapper;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -43,6 +44,16 @@ public class HeadquartersRepositoryImpl implements HeadquartersRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Headquarters> findByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return panacheRepository.list("id in ?1", ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Headquarters> findAll() {
         return panacheRepository.listAll().stream()
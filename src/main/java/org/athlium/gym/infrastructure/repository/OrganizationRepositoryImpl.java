@@ -7,6 +7,7 @@ import org.athlium.gym.domain.model.Organization;
 import org.athlium.gym.domain.repository.OrganizationRepository;
 import org.athlium.gym.infrastructure.mapper.OrganizationMapper;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -40,6 +41,16 @@ public class OrganizationRepositoryImpl implements OrganizationRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Organization> findByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return panacheRepository.list("id in ?1", ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Organization> findAll() {
         return panacheRepository.listAll().stream()
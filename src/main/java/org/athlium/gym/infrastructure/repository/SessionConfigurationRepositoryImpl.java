@@ -1,27 +1,39 @@
 package org.athlium.gym.infrastructure.repository;
 
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.Updates;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.athlium.gym.domain.model.SessionConfiguration;
+import org.athlium.gym.domain.model.WaitlistStrategy;
 import org.athlium.gym.domain.repository.SessionConfigurationRepository;
 import org.athlium.gym.infrastructure.document.ActivityConfigDocument;
 import org.athlium.gym.infrastructure.document.HeadquartersConfigDocument;
 import org.athlium.gym.infrastructure.document.OrganizationConfigDocument;
 import org.athlium.gym.infrastructure.document.SessionConfigDocument;
 import org.athlium.gym.infrastructure.document.SessionConfigurationDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @ApplicationScoped
 public class SessionConfigurationRepositoryImpl implements SessionConfigurationRepository {
 
+    private static final String HEADQUARTERS_CONFIG_COLLECTION = "branch_config";
+    private static final String ACTIVITY_CONFIG_COLLECTION = "activity_config";
+    private static final String SESSION_CONFIG_COLLECTION = "session_overrides";
+
     @Inject
     OrganizationConfigPanacheRepository organizationConfigRepository;
 
@@ -142,6 +154,60 @@ public class SessionConfigurationRepositoryImpl implements SessionConfigurationR
         return Optional.ofNullable(document).map(value -> toDomain(value.configuration));
     }
 
+    @Override
+    public List<SessionConfiguration> findConfigLayers(
+            Long organizationId,
+            Long headquartersId,
+            Long activityId,
+            Long sessionId
+    ) {
+        List<Bson> pipeline = new ArrayList<>();
+        pipeline.add(Aggregates.match(Filters.eq("organizationId", organizationId)));
+        pipeline.add(layerProjection(0));
+        pipeline.add(unionWithLayer(HEADQUARTERS_CONFIG_COLLECTION, "headquartersId", headquartersId, 1));
+        pipeline.add(unionWithLayer(ACTIVITY_CONFIG_COLLECTION, "activityId", activityId, 2));
+        if (sessionId != null) {
+            pipeline.add(unionWithLayer(SESSION_CONFIG_COLLECTION, "sessionId", sessionId, 3));
+        }
+        pipeline.add(Aggregates.sort(Sorts.ascending("precedence")));
+
+        List<SessionConfiguration> layers = new ArrayList<>();
+        for (Document layer : organizationConfigRepository.mongoCollection()
+                .withDocumentClass(Document.class)
+                .aggregate(pipeline)) {
+            Document configuration = layer.get("configuration", Document.class);
+            if (configuration != null) {
+                layers.add(toDomain(configuration));
+            }
+        }
+        return layers;
+    }
+
+    private Bson unionWithLayer(String collection, String idField, Long id, int precedence) {
+        return new Document("$unionWith", new Document("coll", collection)
+                .append("pipeline", List.of(Aggregates.match(Filters.eq(idField, id)), layerProjection(precedence))));
+    }
+
+    private Bson layerProjection(int precedence) {
+        return Aggregates.project(Projections.fields(
+                Projections.excludeId(),
+                Projections.include("configuration"),
+                Projections.computed("precedence", new Document("$literal", precedence))
+        ));
+    }
+
+    private SessionConfiguration toDomain(Document document) {
+        SessionConfiguration configuration = new SessionConfiguration();
+        configuration.setMaxParticipants(document.getInteger("maxParticipants"));
+        configuration.setWaitlistEnabled(document.getBoolean("waitlistEnabled"));
+        configuration.setWaitlistMaxSize(document.getInteger("waitlistMaxSize"));
+        String waitlistStrategy = document.getString("waitlistStrategy");
+        configuration.setWaitlistStrategy(waitlistStrategy == null ? null : WaitlistStrategy.valueOf(waitlistStrategy));
+        configuration.setCancellationMinHoursBeforeStart(document.getInteger("cancellationMinHoursBeforeStart"));
+        configuration.setCancellationAllowLateCancel(document.getBoolean("cancellationAllowLateCancel"));
+        return configuration;
+    }
+
     private SessionConfigurationDocument toDocument(SessionConfiguration configuration) {
         SessionConfigurationDocument document = new SessionConfigurationDocument();
         document.maxParticipants = configuration.getMaxParticipants();
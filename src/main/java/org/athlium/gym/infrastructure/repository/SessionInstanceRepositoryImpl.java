@@ -1,31 +1,58 @@
 package org.athlium.gym.infrastructure.repository;
 
-import io.quarkus.hibernate.orm.panache.PanacheQuery;
-import io.quarkus.panache.common.Page;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.Query;
 import org.athlium.gym.domain.model.SessionInstance;
 import org.athlium.gym.domain.model.SessionStatus;
 import org.athlium.gym.domain.repository.SessionInstanceRepository;
 import org.athlium.gym.infrastructure.entity.SessionInstanceEntity;
 import org.athlium.gym.infrastructure.mapper.SessionInstanceMapper;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
+import org.athlium.shared.exception.EntityNotFoundException;
+import org.athlium.shared.infrastructure.PlannerRowEstimator;
+import org.hibernate.Session;
 
+import java.sql.PreparedStatement;
+import java.sql.Types;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 @ApplicationScoped
 public class SessionInstanceRepositoryImpl implements SessionInstanceRepository {
 
+    // Each row draws its own sequence value: a raw nextval is the top of a pooled block, so it can never
+    // collide with the id ranges Hibernate hands out from the same sequence.
+    private static final String INSERT_IGNORING_CONFLICTS_SQL = """
+            INSERT INTO session_instances (
+                id, organization_id, headquarters_id, activity_id, starts_at, ends_at, status, source,
+                max_participants, waitlist_enabled, waitlist_max_size, waitlist_strategy,
+                cancellation_min_hours_before_start, cancellation_allow_late_cancel,
+                confirmed_count, waitlisted_count, created_at, updated_at
+            )
+            VALUES (nextval('session_instances_SEQ'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, now(), now())
+            ON CONFLICT (organization_id, headquarters_id, activity_id, starts_at) DO NOTHING
+            """;
+
     @Inject
     SessionInstancePanacheRepository panacheRepository;
 
     @Inject
     SessionInstanceMapper mapper;
 
+    @Inject
+    PlannerRowEstimator plannerRowEstimator;
+
     @Override
     public SessionInstance save(SessionInstance sessionInstance) {
         if (sessionInstance.getId() != null) {
@@ -69,6 +96,38 @@ public class SessionInstanceRepositoryImpl implements SessionInstanceRepository
         ) > 0;
     }
 
+    @Override
+    public int[] insertIgnoringConflicts(List<SessionInstance> sessions) {
+        if (sessions == null || sessions.isEmpty()) {
+            return new int[0];
+        }
+
+        Session hibernateSession = panacheRepository.getEntityManager().unwrap(Session.class);
+        return hibernateSession.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_IGNORING_CONFLICTS_SQL)) {
+                for (SessionInstance session : sessions) {
+                    statement.setLong(1, session.getOrganizationId());
+                    statement.setLong(2, session.getHeadquartersId());
+                    statement.setLong(3, session.getActivityId());
+                    statement.setObject(4, OffsetDateTime.ofInstant(session.getStartsAt(), ZoneOffset.UTC));
+                    statement.setObject(5, OffsetDateTime.ofInstant(session.getEndsAt(), ZoneOffset.UTC));
+                    statement.setString(6, session.getStatus().name());
+                    statement.setString(7, session.getSource().name());
+                    statement.setObject(8, session.getMaxParticipants(), Types.INTEGER);
+                    statement.setObject(9, session.getWaitlistEnabled(), Types.BOOLEAN);
+                    statement.setObject(10, session.getWaitlistMaxSize(), Types.INTEGER);
+                    statement.setObject(11, session.getWaitlistStrategy() == null
+                            ? null
+                            : session.getWaitlistStrategy().name(), Types.VARCHAR);
+                    statement.setObject(12, session.getCancellationMinHoursBeforeStart(), Types.INTEGER);
+                    statement.setObject(13, session.getCancellationAllowLateCancel(), Types.BOOLEAN);
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            }
+        });
+    }
+
     @Override
     public Optional<SessionInstance> findById(Long id) {
         SessionInstanceEntity entity = panacheRepository.findById(id);
@@ -81,6 +140,67 @@ public class SessionInstanceRepositoryImpl implements SessionInstanceRepository
         return Optional.ofNullable(entity).map(mapper::toDomain);
     }
 
+    @Override
+    public void adjustOccupancy(Long sessionId, int confirmedDelta, int waitlistedDelta) {
+        SessionInstanceEntity entity = panacheRepository.findById(sessionId);
+        if (entity == null) {
+            throw new EntityNotFoundException("Session", sessionId);
+        }
+        entity.setConfirmedCount(Math.max(0, entity.getConfirmedCount() + confirmedDelta));
+        entity.setWaitlistedCount(Math.max(0, entity.getWaitlistedCount() + waitlistedDelta));
+    }
+
+    @Override
+    public List<Long> findIdsStartingFrom(Instant from, long afterId, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Object> ids = panacheRepository.getEntityManager().createNativeQuery(
+                        "SELECT id FROM session_instances WHERE starts_at >= :from AND id > :afterId "
+                                + "ORDER BY id LIMIT :limit")
+                .setParameter("from", from)
+                .setParameter("afterId", afterId)
+                .setParameter("limit", limit)
+                .getResultList();
+        return ids.stream().map(id -> ((Number) id).longValue()).toList();
+    }
+
+    @Override
+    public List<Long> rebuildOccupancyCounters(List<Long> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return List.of();
+        }
+        // Bookings adjust the counters under the session row lock. Taking the batch's row locks first, in the
+        // same ascending id order batch bookings use, means the recount below starts from a snapshot no booking
+        // can change before it writes; otherwise an UPDATE blocked on a row would overwrite the increment it
+        // waited for.
+        panacheRepository.getEntityManager().createNativeQuery(
+                        "SELECT COUNT(*) FROM (SELECT id FROM session_instances WHERE id IN (:ids) "
+                                + "ORDER BY id FOR UPDATE) locked")
+                .setParameter("ids", sessionIds)
+                .getSingleResult();
+        String sql = """
+                UPDATE session_instances s
+                SET confirmed_count = c.confirmed,
+                    waitlisted_count = c.waitlisted
+                FROM (
+                    SELECT si.id,
+                           COUNT(b.id) FILTER (WHERE b.status = 'CONFIRMED') AS confirmed,
+                           COUNT(b.id) FILTER (WHERE b.status = 'WAITLISTED') AS waitlisted
+                    FROM session_instances si
+                    LEFT JOIN bookings b ON b.session_id = si.id
+                    WHERE si.id IN (:ids)
+                    GROUP BY si.id
+                ) c
+                WHERE s.id = c.id
+                  AND (s.confirmed_count <> c.confirmed OR s.waitlisted_count <> c.waitlisted)
+                RETURNING s.id
+                """;
+        @SuppressWarnings("unchecked")
+        List<Object> ids = panacheRepository.getEntityManager().createNativeQuery(sql)
+                .setParameter("ids", sessionIds)
+                .getResultList();
+        return ids.stream().map(id -> ((Number) id).longValue()).toList();
+    }
+
     @Override
     public PageResponse<SessionInstance> findSessions(
             Long organizationId,
@@ -91,51 +211,113 @@ public class SessionInstanceRepositoryImpl implements SessionInstanceRepository
             Instant to,
             int page,
             int size,
-            boolean sortAscending
+            boolean sortAscending,
+            TotalMode totalMode
     ) {
-        StringBuilder queryBuilder = new StringBuilder();
-        List<Object> params = new ArrayList<>();
-
-        appendCondition(queryBuilder, params, "organizationId =", organizationId);
-        appendCondition(queryBuilder, params, "headquartersId =", headquartersId);
-        appendCondition(queryBuilder, params, "activityId =", activityId);
-        appendCondition(queryBuilder, params, "status =", status);
+        Map<String, Object> params = new HashMap<>();
+        String whereClause = buildWhereClause(params, organizationId, headquartersId, activityId, status, from, to);
+        String orderBy = " ORDER BY s.starts_at " + (sortAscending ? "ASC" : "DESC");
 
-        if (from != null) {
-            appendCondition(queryBuilder, params, "startsAt >=", from);
+        if (totalMode == TotalMode.NONE) {
+            List<SessionInstance> rows = findPage(whereClause + orderBy, params, page * size, size + 1);
+            return PageResponse.fromLookahead(rows, page, size);
         }
-        if (to != null) {
-            appendCondition(queryBuilder, params, "startsAt <=", to);
+
+        List<SessionInstance> sessions = findPage(whereClause + orderBy, params, page * size, size);
+        LongSupplier exactCount = () -> countSessions(whereClause, params);
+        if (totalMode == TotalMode.ESTIMATE) {
+            PlannerRowEstimator.Total total = params.isEmpty()
+                    ? plannerRowEstimator.estimateTable("session_instances", exactCount)
+                    : plannerRowEstimator.estimateQuery(
+                            "SELECT 1 FROM session_instances s " + whereClause, params, exactCount);
+            return new PageResponse<>(sessions, page, size, total.value(), total.exact());
         }
+        return new PageResponse<>(sessions, page, size, exactCount.getAsLong());
+    }
 
-        String orderBy = " order by startsAt " + (sortAscending ? "asc" : "desc");
+    @Override
+    public CursorPageResponse<SessionInstance> findSessionsAfter(
+            Long organizationId,
+            Long headquartersId,
+            Long activityId,
+            SessionStatus status,
+            Instant from,
+            Instant to,
+            SeekCursor after,
+            int size,
+            boolean sortAscending,
+            boolean includeTotal
+    ) {
+        Map<String, Object> params = new HashMap<>();
+        String whereClause = buildWhereClause(params, organizationId, headquartersId, activityId, status, from, to);
+
+        Long total = includeTotal ? countSessions(whereClause, params) : null;
 
-        PanacheQuery<SessionInstanceEntity> query;
-        if (params.isEmpty()) {
-            query = panacheRepository.find("from SessionInstanceEntity" + orderBy);
-        } else {
-            query = panacheRepository.find(queryBuilder + orderBy, params.toArray());
+        StringBuilder seekClause = new StringBuilder(whereClause);
+        if (after != null) {
+            seekClause.append(" AND (s.starts_at, s.id) ").append(sortAscending ? ">" : "<")
+                    .append(" (:afterStartsAt, :afterId)");
+            params.put("afterStartsAt", after.sortKey(Instant::parse));
+            params.put("afterId", after.id());
         }
 
-        query.page(Page.of(page, size));
+        String direction = sortAscending ? "ASC" : "DESC";
+        List<SessionInstance> rows = findPage(
+                seekClause + " ORDER BY s.starts_at " + direction + ", s.id " + direction, params, 0, size + 1);
 
-        List<SessionInstance> sessions = query.list().stream()
-                .map(mapper::toDomain)
-                .toList();
+        return CursorPageResponse.fromLookahead(
+                rows,
+                size,
+                session -> SeekCursor.of(session.getStartsAt(), session.getId()),
+                total
+        );
+    }
 
-        return new PageResponse<>(sessions, page, size, query.count());
+    /**
+     * Filters shared by the listings, their counts and their planner estimates, as native SQL over
+     * {@code session_instances s}.
+     */
+    private String buildWhereClause(
+            Map<String, Object> params,
+            Long organizationId,
+            Long headquartersId,
+            Long activityId,
+            SessionStatus status,
+            Instant from,
+            Instant to
+    ) {
+        StringBuilder where = new StringBuilder("WHERE TRUE");
+        appendCondition(where, params, "s.organization_id =", "organizationId", organizationId);
+        appendCondition(where, params, "s.headquarters_id =", "headquartersId", headquartersId);
+        appendCondition(where, params, "s.activity_id =", "activityId", activityId);
+        appendCondition(where, params, "s.status =", "status", status != null ? status.name() : null);
+        appendCondition(where, params, "s.starts_at >=", "startsFrom", from);
+        appendCondition(where, params, "s.starts_at <=", "startsTo", to);
+        return where.toString();
+    }
+
+    private List<SessionInstance> findPage(String clauses, Map<String, Object> params, int offset, int limit) {
+        Query query = panacheRepository.getEntityManager().createNativeQuery(
+                "SELECT s.* FROM session_instances s " + clauses, SessionInstanceEntity.class);
+        params.forEach(query::setParameter);
+        @SuppressWarnings("unchecked")
+        List<SessionInstanceEntity> rows = query.setFirstResult(offset).setMaxResults(limit).getResultList();
+        return rows.stream().map(mapper::toDomain).toList();
     }
 
-    private void appendCondition(StringBuilder queryBuilder, List<Object> params, String expression, Object value) {
+    private long countSessions(String whereClause, Map<String, Object> params) {
+        Query query = panacheRepository.getEntityManager().createNativeQuery(
+                "SELECT COUNT(*) FROM session_instances s " + whereClause);
+        params.forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    private static void appendCondition(StringBuilder where, Map<String, Object> params, String expression,
+            String name, Object value) {
         if (value == null) {
             return;
         }
-
-        if (queryBuilder.length() > 0) {
-            queryBuilder.append(" and ");
-        }
-
-        queryBuilder.append(expression).append(" ?").append(params.size() + 1);
-        params.add(value);
+        where.append(" AND ").append(expression).append(" :").append(name);
+        params.put(name, value);
     }
 }
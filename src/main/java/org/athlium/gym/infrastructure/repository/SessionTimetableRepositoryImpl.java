@@ -0,0 +1,145 @@
+package org.athlium.gym.infrastructure.repository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.transaction.Transactional;
+import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.model.TimetableEntry;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@ApplicationScoped
+public class SessionTimetableRepositoryImpl implements SessionTimetableRepository {
+
+    // Rows that already match are left alone, so the returned count is what actually changed.
+    private static final String UPSERT_TEMPLATE = """
+            INSERT INTO session_timetable (
+                session_id, headquarters_id, week_start, activity_id, activity_name, starts_at, ends_at, status,
+                max_participants, confirmed_count, waitlisted_count
+            )
+            SELECT s.id, s.headquarters_id, CAST(date_trunc('week', s.starts_at AT TIME ZONE 'UTC') AS DATE),
+                   s.activity_id, a.name, s.starts_at, s.ends_at, s.status, s.max_participants,
+                   s.confirmed_count, s.waitlisted_count
+            FROM session_instances s
+            LEFT JOIN activity a ON a.id = s.activity_id
+            %s
+            ON CONFLICT (session_id) DO UPDATE
+            SET headquarters_id = EXCLUDED.headquarters_id,
+                week_start = EXCLUDED.week_start,
+                activity_id = EXCLUDED.activity_id,
+                activity_name = EXCLUDED.activity_name,
+                starts_at = EXCLUDED.starts_at,
+                ends_at = EXCLUDED.ends_at,
+                status = EXCLUDED.status,
+                max_participants = EXCLUDED.max_participants,
+                confirmed_count = EXCLUDED.confirmed_count,
+                waitlisted_count = EXCLUDED.waitlisted_count
+            WHERE (session_timetable.headquarters_id, session_timetable.week_start, session_timetable.activity_id,
+                   session_timetable.activity_name, session_timetable.starts_at, session_timetable.ends_at,
+                   session_timetable.status, session_timetable.max_participants,
+                   session_timetable.confirmed_count, session_timetable.waitlisted_count)
+                IS DISTINCT FROM
+                  (EXCLUDED.headquarters_id, EXCLUDED.week_start, EXCLUDED.activity_id, EXCLUDED.activity_name,
+                   EXCLUDED.starts_at, EXCLUDED.ends_at, EXCLUDED.status, EXCLUDED.max_participants,
+                   EXCLUDED.confirmed_count, EXCLUDED.waitlisted_count)
+            """;
+
+    @Inject
+    EntityManager em;
+
+    @Override
+    public List<TimetableEntry> findWeek(Long headquartersId, LocalDate weekStart) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery("""
+                        SELECT t.session_id, t.activity_id, t.activity_name, t.starts_at, t.ends_at, t.status,
+                               t.max_participants, t.confirmed_count, t.waitlisted_count
+                        FROM session_timetable t
+                        WHERE t.headquarters_id = :headquartersId
+                          AND t.week_start = :weekStart
+                        ORDER BY t.starts_at, t.session_id
+                        """)
+                .setParameter("headquartersId", headquartersId)
+                .setParameter("weekStart", weekStart)
+                .getResultList();
+        return rows.stream().map(this::mapRow).toList();
+    }
+
+    @Override
+    @Transactional
+    public void refreshSessions(Collection<Long> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        upsert("WHERE s.id IN (:sessionIds)")
+                .setParameter("sessionIds", sessionIds)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void refreshHeadquartersBetween(Collection<Long> headquartersIds, Instant from, Instant to) {
+        if (headquartersIds.isEmpty()) {
+            return;
+        }
+        upsert("WHERE s.headquarters_id IN (:headquartersIds) AND s.starts_at BETWEEN :from AND :to")
+                .setParameter("headquartersIds", headquartersIds)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void refreshActivity(Long activityId) {
+        upsert("WHERE s.activity_id = :activityId")
+                .setParameter("activityId", activityId)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int refreshAll() {
+        return upsert("").executeUpdate();
+    }
+
+    private Query upsert(String condition) {
+        // Counters and session edits may still be pending in the persistence context; the copy must see them.
+        em.flush();
+        return em.createNativeQuery(UPSERT_TEMPLATE.formatted(condition));
+    }
+
+    private TimetableEntry mapRow(Object[] row) {
+        return new TimetableEntry(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                row[2] == null ? null : row[2].toString(),
+                toInstant(row[3]),
+                toInstant(row[4]),
+                SessionStatus.valueOf(row[5].toString()),
+                row[6] == null ? null : ((Number) row[6]).intValue(),
+                ((Number) row[7]).intValue(),
+                ((Number) row[8]).intValue()
+        );
+    }
+
+    private Instant toInstant(Object value) {
+        if (value instanceof Instant instant) {
+            return instant;
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toInstant();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        }
+        return Instant.parse(value.toString());
+    }
+}
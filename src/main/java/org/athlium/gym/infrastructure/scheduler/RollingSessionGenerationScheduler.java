@@ -0,0 +1,32 @@
+package org.athlium.gym.infrastructure.scheduler;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.gym.application.usecase.GenerateRollingHorizonSessionsUseCase;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class RollingSessionGenerationScheduler {
+
+    private static final Logger LOG = Logger.getLogger(RollingSessionGenerationScheduler.class);
+
+    @Inject
+    GenerateRollingHorizonSessionsUseCase generateRollingHorizonSessionsUseCase;
+
+    @Scheduled(
+            cron = "{athlium.sessions.generation.rolling-cron}",
+            timeZone = "UTC",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP
+    )
+    void generateAhead() {
+        var result = generateRollingHorizonSessionsUseCase.execute();
+        LOG.infof(
+                "Rolling session generation completed: created=%d skipped=%d failed=%d deactivated=%d",
+                result.created(),
+                result.skipped(),
+                result.failed(),
+                result.deactivated()
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package org.athlium.gym.infrastructure.scheduler;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.gym.application.usecase.RebuildSessionOccupancyUseCase;
+import org.athlium.gym.application.usecase.RebuildSessionOccupancyUseCase.RepairBatch;
+import org.jboss.logging.Logger;
+
+import java.time.Instant;
+
+@ApplicationScoped
+public class SessionOccupancyRepairScheduler {
+
+    private static final Logger LOG = Logger.getLogger(SessionOccupancyRepairScheduler.class);
+
+    @Inject
+    RebuildSessionOccupancyUseCase rebuildSessionOccupancyUseCase;
+
+    @Scheduled(cron = "0 45 3 * * ?", timeZone = "UTC")
+    void repairOccupancy() {
+        // Only sessions that have not started can still take bookings, so past sessions are left alone.
+        Instant from = Instant.now();
+        int repaired = 0;
+        long afterId = 0L;
+        while (true) {
+            RepairBatch batch = rebuildSessionOccupancyUseCase.executeBatch(from, afterId);
+            if (batch.lastId() == null) {
+                break;
+            }
+            repaired += batch.repaired();
+            afterId = batch.lastId();
+        }
+        if (repaired > 0) {
+            LOG.warnf("Session occupancy repair fixed drifted counters: sessions=%d", repaired);
+        } else {
+            LOG.info("Session occupancy repair completed: no drift");
+        }
+    }
+}
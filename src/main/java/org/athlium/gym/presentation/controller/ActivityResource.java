@@ -18,12 +18,14 @@ import org.athlium.gym.application.usecase.DeleteActivityUseCase;
 import org.athlium.gym.application.usecase.GetActivitiesUseCase;
 import org.athlium.gym.application.usecase.GetActivityUseCase;
 import org.athlium.gym.application.usecase.UpdateActivityUseCase;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.presentation.dto.ActivityInput;
 import org.athlium.gym.presentation.dto.ActivityUpdateInput;
 import org.athlium.gym.presentation.mapper.ActivityDtoMapper;
 import org.athlium.shared.dto.ApiResponse;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
+import org.athlium.shared.infrastructure.http.VersionedBy;
 
 @Path("/api/activities")
 @Produces(MediaType.APPLICATION_JSON)
@@ -50,6 +52,7 @@ public class ActivityResource {
     ActivityDtoMapper dtoMapper;
 
     @GET
+    @VersionedBy(CatalogAggregates.ACTIVITY)
     public Response getActivities(
             @QueryParam("hqId") Long hqId,
             @QueryParam("isActive") Boolean isActive,
@@ -81,6 +84,7 @@ public class ActivityResource {
 
     @GET
     @Path("/{id}")
+    @VersionedBy(CatalogAggregates.ACTIVITY)
     public Response getActivity(@PathParam("id") Long id) {
         try {
             var activity = getActivityUseCase.execute(id);
@@ -20,11 +20,13 @@ import org.athlium.gym.application.usecase.DeleteActivityScheduleUseCase;
 import org.athlium.gym.application.usecase.GetActivitySchedulesUseCase;
 import org.athlium.gym.application.usecase.GenerateNextWeekSessionsUseCase;
 import org.athlium.gym.application.usecase.UpdateActivityScheduleUseCase;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.presentation.dto.ActivityScheduleRequest;
 import org.athlium.gym.presentation.mapper.ActivityScheduleDtoMapper;
 import org.athlium.shared.dto.ApiResponse;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
+import org.athlium.shared.infrastructure.http.VersionedBy;
 
 @Path("/api/activity-schedules")
 @Produces(MediaType.APPLICATION_JSON)
@@ -63,6 +65,7 @@ public class ActivityScheduleResource {
     }
 
     @GET
+    @VersionedBy({CatalogAggregates.ACTIVITY_SCHEDULE, CatalogAggregates.ACTIVITY})
     public Response list(@QueryParam("headquartersId") Long headquartersId) {
         var schedules = getActivitySchedulesUseCase.execute(headquartersId);
         return Response.ok(ApiResponse.success("Schedules retrieved", mapper.toResponseList(schedules))).build();
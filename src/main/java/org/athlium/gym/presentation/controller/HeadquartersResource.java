@@ -15,26 +15,26 @@ import jakarta.ws.rs.core.Response;
 import org.athlium.auth.infrastructure.security.Authenticated;
 import org.athlium.gym.application.usecase.CreateHeadquartersUseCase;
 import org.athlium.gym.application.usecase.DeleteHeadquartersUseCase;
-import org.athlium.gym.application.usecase.GetActivitiesUseCase;
 import org.athlium.gym.application.usecase.GetAllHeadquartersUseCase;
 import org.athlium.gym.application.usecase.GetHeadquartersByOrganizationUseCase;
+import org.athlium.gym.application.usecase.GetHeadquartersOverviewUseCase;
 import org.athlium.gym.application.usecase.GetHeadquartersUseCase;
-import org.athlium.gym.application.usecase.GetOrganizationUseCase;
-import org.athlium.gym.application.usecase.GetSessionsUseCase;
-import org.athlium.gym.domain.model.Headquarters;
 import org.athlium.gym.application.usecase.UpdateHeadquartersUseCase;
+import org.athlium.gym.domain.model.ActivitySessionSummary;
+import org.athlium.gym.domain.model.HeadquartersOverview;
+import org.athlium.gym.domain.model.HeadquartersOverviewCriteria;
 import org.athlium.gym.presentation.dto.HeadquartersInput;
 import org.athlium.gym.presentation.dto.HeadquartersResponse;
 import org.athlium.gym.presentation.mapper.ActivityDtoMapper;
 import org.athlium.gym.presentation.mapper.HeadquartersDtoMapper;
 import org.athlium.gym.presentation.mapper.SessionDtoMapper;
 import org.athlium.shared.dto.ApiResponse;
+import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 
-import java.util.ArrayList;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Path("/api/headquarters")
 @Produces(MediaType.APPLICATION_JSON)
@@ -55,13 +55,7 @@ public class HeadquartersResource {
     GetHeadquartersByOrganizationUseCase getHeadquartersByOrganizationUseCase;
 
     @Inject
-    GetOrganizationUseCase getOrganizationUseCase;
-
-    @Inject
-    GetActivitiesUseCase getActivitiesUseCase;
-
-    @Inject
-    GetSessionsUseCase getSessionsUseCase;
+    GetHeadquartersOverviewUseCase getHeadquartersOverviewUseCase;
 
     @Inject
     UpdateHeadquartersUseCase updateHeadquartersUseCase;
@@ -80,83 +74,102 @@ public class HeadquartersResource {
 
     @GET
     @Authenticated
-    public Response getHeadquarters(@QueryParam("organizationId") Long organizationId) {
-        var result = organizationId == null
-                ? getAllHeadquartersUseCase.execute()
-                : getHeadquartersByOrganizationUseCase.execute(organizationId);
-        var response = result.stream().map(this::toResponseWithActivitiesAndSessions).toList();
-        return Response.ok(ApiResponse.success("Headquarters retrieved", response)).build();
+    public Response getHeadquarters(
+            @QueryParam("organizationId") Long organizationId,
+            @QueryParam("from") String from,
+            @QueryParam("to") String to,
+            @QueryParam("upcoming") Integer upcoming,
+            @QueryParam("expand") String expand
+    ) {
+        try {
+            var criteria = resolveCriteria(from, to, upcoming, expand);
+            var result = organizationId == null
+                    ? getAllHeadquartersUseCase.execute()
+                    : getHeadquartersByOrganizationUseCase.execute(organizationId);
+            var response = getHeadquartersOverviewUseCase.execute(result, criteria).stream()
+                    .map(overview -> toResponse(overview, criteria))
+                    .toList();
+            return Response.ok(ApiResponse.success("Headquarters retrieved", response)).build();
+        } catch (BadRequestException e) {
+            return Response.status(Response.Status.BAD_REQUEST).entity(ApiResponse.error(e.getMessage())).build();
+        }
     }
 
     @GET
     @Path("/{id}")
     @Authenticated
-    public Response getHeadquarter(@PathParam("id") Long id) {
+    public Response getHeadquarter(
+            @PathParam("id") Long id,
+            @QueryParam("from") String from,
+            @QueryParam("to") String to,
+            @QueryParam("upcoming") Integer upcoming,
+            @QueryParam("expand") String expand
+    ) {
         try {
+            var criteria = resolveCriteria(from, to, upcoming, expand);
             var headquarters = getHeadquartersUseCase.execute(id);
-            return Response.ok(ApiResponse.success("Headquarters found", toResponseWithActivitiesAndSessions(headquarters)))
-                    .build();
+            var overview = getHeadquartersOverviewUseCase.execute(List.of(headquarters), criteria).get(0);
+            return Response.ok(ApiResponse.success("Headquarters found", toResponse(overview, criteria))).build();
+        } catch (BadRequestException e) {
+            return Response.status(Response.Status.BAD_REQUEST).entity(ApiResponse.error(e.getMessage())).build();
         } catch (EntityNotFoundException e) {
             return Response.status(Response.Status.NOT_FOUND).entity(ApiResponse.error(e.getMessage())).build();
         }
     }
 
-    private HeadquartersResponse toResponseWithActivitiesAndSessions(Headquarters headquarters) {
-        HeadquartersResponse response = mapper.toResponse(headquarters);
-
-        // Fetch and set organization details
-        try {
-            var organization = getOrganizationUseCase.execute(headquarters.getOrganizationId());
-            response.setOrganization(mapper.toOrganizationResponse(organization));
-        } catch (Exception e) {
-            // If organization not found, set organizationId only
-            // The response already has organizationId from the mapper
+    private HeadquartersResponse toResponse(HeadquartersOverview overview, HeadquartersOverviewCriteria criteria) {
+        HeadquartersResponse response = mapper.toResponse(overview.headquarters());
+        // Without an organization the response keeps only the organizationId from the mapper
+        if (overview.organization() != null) {
+            response.setOrganization(mapper.toOrganizationResponse(overview.organization()));
         }
 
-        List<org.athlium.gym.domain.model.Activity> activities =
-                getActivitiesUseCase.executeAllByHeadquarter(headquarters.getId(), null);
-        List<org.athlium.gym.domain.model.SessionInstance> sessions = loadAllSessionsByHeadquarters(headquarters.getId());
-
-        Map<Long, List<org.athlium.gym.presentation.dto.SessionResponse>> sessionsByActivity = sessions.stream()
-                .filter(session -> session.getActivityId() != null)
-                .collect(Collectors.groupingBy(
-                        org.athlium.gym.domain.model.SessionInstance::getActivityId,
-                        Collectors.mapping(sessionDtoMapper::toResponse, Collectors.toList())
-                ));
-
-        var activityResponses = activityDtoMapper.toResponseList(activities);
+        var activityResponses = activityDtoMapper.toResponseList(overview.activities());
         for (var activityResponse : activityResponses) {
-            activityResponse.setSessions(sessionsByActivity.getOrDefault(activityResponse.getId(), List.of()));
+            ActivitySessionSummary summary = overview.summaryFor(activityResponse.getId());
+            activityResponse.setSessions(sessionDtoMapper.toResponseList(summary.upcomingSessions()));
+            activityResponse.setSessionSummary(sessionDtoMapper.toSummaryResponse(summary));
         }
 
         response.setActivities(activityResponses);
+        response.setSessionsFrom(criteria.from());
+        response.setSessionsTo(criteria.to());
         return response;
     }
 
-    private List<org.athlium.gym.domain.model.SessionInstance> loadAllSessionsByHeadquarters(Long headquartersId) {
-        final int pageSize = 100;
-        int page = 1;
-        List<org.athlium.gym.domain.model.SessionInstance> sessions = new ArrayList<>();
-
-        while (true) {
-            var pageResponse = getSessionsUseCase.execute(
-                    null,
-                    headquartersId,
-                    null,
-                    null,
-                    null,
-                    null,
-                    page,
-                    pageSize,
-                    "startsAt:asc"
-            );
-
-            sessions.addAll(pageResponse.getContent());
-            if (pageResponse.getContent().size() < pageSize) {
-                return sessions;
+    private HeadquartersOverviewCriteria resolveCriteria(String from, String to, Integer upcoming, String expand) {
+        return getHeadquartersOverviewUseCase.resolveCriteria(
+                parseInstant(from, "from"),
+                parseInstant(to, "to"),
+                upcoming,
+                parseExpandParticipants(expand)
+        );
+    }
+
+    private boolean parseExpandParticipants(String expand) {
+        if (expand == null || expand.isBlank()) {
+            return false;
+        }
+        boolean participants = false;
+        for (String value : expand.split(",")) {
+            String normalized = value.trim().toLowerCase();
+            if ("participants".equals(normalized)) {
+                participants = true;
+            } else if (!normalized.isEmpty()) {
+                throw new BadRequestException("expand supports only: participants");
             }
+        }
+        return participants;
+    }
 
-            page++;
+    private Instant parseInstant(String value, String fieldName) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new BadRequestException(fieldName + " must be a valid ISO-8601 instant");
         }
     }
 
@@ -17,10 +17,12 @@ import org.athlium.gym.application.usecase.DeleteOrganizationUseCase;
 import org.athlium.gym.application.usecase.GetOrganizationUseCase;
 import org.athlium.gym.application.usecase.GetOrganizationsUseCase;
 import org.athlium.gym.application.usecase.UpdateOrganizationUseCase;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.presentation.dto.OrganizationInput;
 import org.athlium.gym.presentation.mapper.OrganizationDtoMapper;
 import org.athlium.shared.dto.ApiResponse;
 import org.athlium.shared.exception.EntityNotFoundException;
+import org.athlium.shared.infrastructure.http.VersionedBy;
 
 @Path("/api/organizations")
 @Produces(MediaType.APPLICATION_JSON)
@@ -48,6 +50,7 @@ public class OrganizationResource {
 
     @GET
     @Authenticated
+    @VersionedBy({CatalogAggregates.ORGANIZATION, CatalogAggregates.HEADQUARTERS})
     public Response getOrganizations() {
         var response = getOrganizationsUseCase.execute().stream().map(mapper::toResponse).toList();
         return Response.ok(ApiResponse.success("Organizations retrieved", response)).build();
@@ -56,6 +59,7 @@ public class OrganizationResource {
     @GET
     @Path("/{id}")
     @Authenticated
+    @VersionedBy({CatalogAggregates.ORGANIZATION, CatalogAggregates.HEADQUARTERS})
     public Response getOrganization(@PathParam("id") Long id) {
         try {
             var organization = getOrganizationUseCase.execute(id);
@@ -16,10 +16,12 @@ import org.athlium.gym.application.usecase.UpsertActivityConfigUseCase;
 import org.athlium.gym.application.usecase.UpsertHeadquartersConfigUseCase;
 import org.athlium.gym.application.usecase.UpsertOrganizationConfigUseCase;
 import org.athlium.gym.application.usecase.UpsertSessionConfigUseCase;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.presentation.dto.SessionConfigurationRequest;
 import org.athlium.gym.presentation.mapper.SessionConfigurationDtoMapper;
 import org.athlium.shared.dto.ApiResponse;
 import org.athlium.shared.exception.BadRequestException;
+import org.athlium.shared.infrastructure.http.VersionedBy;
 
 @Path("/api/gym/config")
 @Produces(MediaType.APPLICATION_JSON)
@@ -105,6 +107,7 @@ public class SessionConfigurationResource {
     @GET
     @Path("/effective")
     @Authenticated(roles = {"SUPERADMIN", "ORG_OWNER", "ORG_ADMIN", "PROFESSOR"})
+    @VersionedBy(CatalogAggregates.SESSION_CONFIGURATION)
     public Response getEffectiveConfig(
             @QueryParam("organizationId") Long organizationId,
             @QueryParam("headquartersId") Long headquartersId,
@@ -3,24 +3,31 @@ package org.athlium.gym.presentation.controller;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.athlium.auth.infrastructure.security.Authenticated;
 import org.athlium.gym.application.usecase.GetSessionByIdUseCase;
 import org.athlium.gym.application.usecase.GetSessionsUseCase;
+import org.athlium.gym.application.usecase.GetWeeklyTimetableUseCase;
 import org.athlium.gym.domain.model.SessionStatus;
 import org.athlium.gym.presentation.dto.SessionPageResponse;
 import org.athlium.gym.presentation.mapper.SessionDtoMapper;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.dto.ApiResponse;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 
 @Path("/api/sessions")
 @Produces(MediaType.APPLICATION_JSON)
@@ -33,6 +40,9 @@ public class SessionResource {
     @Inject
     GetSessionByIdUseCase getSessionByIdUseCase;
 
+    @Inject
+    GetWeeklyTimetableUseCase getWeeklyTimetableUseCase;
+
     @Inject
     SessionDtoMapper sessionDtoMapper;
 
@@ -48,7 +58,10 @@ public class SessionResource {
             @QueryParam("to") String to,
             @DefaultValue("1") @QueryParam("page") int page,
             @DefaultValue("20") @QueryParam("limit") int limit,
-            @DefaultValue("startsAt:asc") @QueryParam("sort") String sort
+            @DefaultValue("startsAt:asc") @QueryParam("sort") String sort,
+            @QueryParam("cursor") String cursor,
+            @QueryParam("includeTotal") boolean includeTotal,
+            @DefaultValue("exact") @QueryParam("totalMode") String totalMode
     ) {
         try {
             Long effectiveOrganizationId = organizationId != null ? organizationId : gymId;
@@ -56,6 +69,28 @@ public class SessionResource {
             Instant fromInstant = parseInstant(from, "from");
             Instant toInstant = parseInstant(to, "to");
 
+            if (cursor != null) {
+                var cursorPage = getSessionsUseCase.executeAfter(
+                        effectiveOrganizationId,
+                        effectiveHeadquartersId,
+                        activityId,
+                        status,
+                        fromInstant,
+                        toInstant,
+                        cursor,
+                        limit,
+                        sort,
+                        includeTotal
+                );
+                var response = new CursorPageResponse<>(
+                        sessionDtoMapper.toResponseList(cursorPage.getContent()),
+                        cursorPage.getSize(),
+                        cursorPage.getNextCursor(),
+                        cursorPage.getTotalElements()
+                );
+                return Response.ok(ApiResponse.success("Sessions retrieved successfully", response)).build();
+            }
+
             var result = getSessionsUseCase.execute(
                     effectiveOrganizationId,
                     effectiveHeadquartersId,
@@ -65,7 +100,8 @@ public class SessionResource {
                     toInstant,
                     page,
                     limit,
-                    sort
+                    sort,
+                    totalMode
             );
 
             var response = new SessionPageResponse(
@@ -74,6 +110,7 @@ public class SessionResource {
                     result.getSize(),
                     result.getTotalElements()
             );
+            response.setTotalExact(result.isTotalExact());
 
             return Response.ok(ApiResponse.success("Sessions retrieved successfully", response)).build();
         } catch (BadRequestException e) {
@@ -94,6 +131,53 @@ public class SessionResource {
         }
     }
 
+    @GET
+    @Path("/timetable")
+    public Response getWeeklyTimetable(
+            @QueryParam("headquartersId") Long headquartersId,
+            @QueryParam("week") String week,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch
+    ) {
+        try {
+            var timetable = getWeeklyTimetableUseCase.execute(headquartersId, parseDate(week, "week"));
+            EntityTag etag = new EntityTag(timetable.etag());
+            if (matches(ifNoneMatch, etag)) {
+                return Response.notModified(etag).build();
+            }
+            return Response.ok(ApiResponse.success(
+                            "Timetable retrieved successfully", sessionDtoMapper.toTimetableResponse(timetable)))
+                    .tag(etag)
+                    .build();
+        } catch (BadRequestException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(ApiResponse.error(e.getMessage()))
+                    .build();
+        }
+    }
+
+    private LocalDate parseDate(String value, String fieldName) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new BadRequestException(fieldName + " must be a valid ISO-8601 date");
+        }
+    }
+
+    // If-None-Match compares weakly, so a W/ prefix from an intermediary still matches.
+    private boolean matches(String ifNoneMatch, EntityTag etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String quoted = "\"" + etag.getValue() + "\"";
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(quoted));
+    }
+
     @GET
     @Path("/{id}")
     public Response getSessionById(@PathParam("id") Long id) {
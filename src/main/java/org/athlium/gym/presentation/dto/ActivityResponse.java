@@ -17,4 +17,5 @@ public class ActivityResponse {
     private Long hqId;
 
     private List<SessionResponse> sessions;
+    private ActivitySessionSummaryResponse sessionSummary;
 }
@@ -0,0 +1,15 @@
+package org.athlium.gym.presentation.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+public class ActivitySessionSummaryResponse {
+    private Integer sessionCount;
+    private Integer confirmedCount;
+    private Integer waitlistedCount;
+    private Integer capacity;
+    private Double occupancyRate;
+    private Instant firstSessionAt;
+}
@@ -2,6 +2,7 @@ package org.athlium.gym.presentation.dto;
 
 import lombok.Data;
 
+import java.time.Instant;
 import java.util.List;
 
 @Data
@@ -15,4 +16,8 @@ public class HeadquartersResponse {
     private List<ActivityResponse> activities;
 
     private HeadquartersOrganizationResponse organization;
+
+    private Instant sessionsFrom;
+
+    private Instant sessionsTo;
 }
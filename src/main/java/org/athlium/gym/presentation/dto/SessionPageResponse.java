@@ -10,6 +10,7 @@ public class SessionPageResponse {
     private int page;
     private int limit;
     private long total;
+    private boolean totalExact = true;
 
     public SessionPageResponse(List<SessionResponse> items, int page, int limit, long total) {
         this.items = items;
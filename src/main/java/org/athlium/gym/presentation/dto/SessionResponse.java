@@ -24,5 +24,7 @@ public class SessionResponse {
     private WaitlistStrategy waitlistStrategy;
     private Integer cancellationMinHoursBeforeStart;
     private Boolean cancellationAllowLateCancel;
+    private Integer confirmedCount;
+    private Integer waitlistedCount;
     private List<SessionParticipantResponse> participants;
 }
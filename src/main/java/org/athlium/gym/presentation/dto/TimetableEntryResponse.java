@@ -0,0 +1,19 @@
+package org.athlium.gym.presentation.dto;
+
+import lombok.Data;
+import org.athlium.gym.domain.model.SessionStatus;
+
+import java.time.Instant;
+
+@Data
+public class TimetableEntryResponse {
+    private Long sessionId;
+    private Long activityId;
+    private String activityName;
+    private Instant startsAt;
+    private Instant endsAt;
+    private SessionStatus status;
+    private Integer maxParticipants;
+    private Integer confirmedCount;
+    private Integer waitlistedCount;
+}
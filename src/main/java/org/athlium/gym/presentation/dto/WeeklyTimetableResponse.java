@@ -0,0 +1,13 @@
+package org.athlium.gym.presentation.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class WeeklyTimetableResponse {
+    private Long headquartersId;
+    private LocalDate weekStart;
+    private List<TimetableEntryResponse> sessions;
+}
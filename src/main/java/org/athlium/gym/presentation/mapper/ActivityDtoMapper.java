@@ -22,6 +22,7 @@ public interface ActivityDtoMapper {
     Activity toDomain(ActivityUpdateInput input);
 
     @Mapping(target = "sessions", ignore = true)
+    @Mapping(target = "sessionSummary", ignore = true)
     ActivityResponse toResponse(Activity activity);
 
     List<ActivityResponse> toResponseList(List<Activity> activities);
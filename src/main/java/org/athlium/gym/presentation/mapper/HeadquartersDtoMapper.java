@@ -16,6 +16,8 @@ public interface HeadquartersDtoMapper {
     Headquarters toDomain(HeadquartersInput input);
 
     @Mapping(target = "organization", ignore = true)
+    @Mapping(target = "sessionsFrom", ignore = true)
+    @Mapping(target = "sessionsTo", ignore = true)
     HeadquartersResponse toResponse(Headquarters domain);
 
     @Mapping(source = "id", target = "id")
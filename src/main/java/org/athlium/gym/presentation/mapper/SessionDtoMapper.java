@@ -1,11 +1,17 @@
 package org.athlium.gym.presentation.mapper;
 
 import org.athlium.gym.domain.model.Activity;
+import org.athlium.gym.domain.model.ActivitySessionSummary;
 import org.athlium.gym.domain.model.SessionInstance;
 import org.athlium.gym.domain.model.SessionParticipant;
+import org.athlium.gym.domain.model.TimetableEntry;
+import org.athlium.gym.domain.model.WeeklyTimetable;
 import org.athlium.gym.presentation.dto.ActivityResponse;
+import org.athlium.gym.presentation.dto.ActivitySessionSummaryResponse;
 import org.athlium.gym.presentation.dto.SessionParticipantResponse;
 import org.athlium.gym.presentation.dto.SessionResponse;
+import org.athlium.gym.presentation.dto.TimetableEntryResponse;
+import org.athlium.gym.presentation.dto.WeeklyTimetableResponse;
 import org.mapstruct.Mapper;
 
 import java.util.List;
@@ -48,4 +54,37 @@ public interface SessionDtoMapper {
         response.setEmail(participant.getEmail());
         return response;
     }
+
+    default ActivitySessionSummaryResponse toSummaryResponse(ActivitySessionSummary summary) {
+        ActivitySessionSummaryResponse response = new ActivitySessionSummaryResponse();
+        response.setSessionCount(summary.sessionCount());
+        response.setConfirmedCount(summary.confirmedCount());
+        response.setWaitlistedCount(summary.waitlistedCount());
+        response.setCapacity(summary.capacity());
+        response.setOccupancyRate(summary.occupancyRate());
+        response.setFirstSessionAt(summary.firstSessionAt());
+        return response;
+    }
+
+    default WeeklyTimetableResponse toTimetableResponse(WeeklyTimetable timetable) {
+        WeeklyTimetableResponse response = new WeeklyTimetableResponse();
+        response.setHeadquartersId(timetable.headquartersId());
+        response.setWeekStart(timetable.weekStart());
+        response.setSessions(timetable.entries().stream().map(this::toTimetableEntryResponse).toList());
+        return response;
+    }
+
+    default TimetableEntryResponse toTimetableEntryResponse(TimetableEntry entry) {
+        TimetableEntryResponse response = new TimetableEntryResponse();
+        response.setSessionId(entry.sessionId());
+        response.setActivityId(entry.activityId());
+        response.setActivityName(entry.activityName());
+        response.setStartsAt(entry.startsAt());
+        response.setEndsAt(entry.endsAt());
+        response.setStatus(entry.status());
+        response.setMaxParticipants(entry.maxParticipants());
+        response.setConfirmedCount(entry.confirmedCount());
+        response.setWaitlistedCount(entry.waitlistedCount());
+        return response;
+    }
 }
@@ -4,8 +4,11 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import org.athlium.payments.domain.model.Payment;
+import org.athlium.payments.domain.model.PaymentEvent;
 import org.athlium.payments.domain.model.PaymentMethod;
 import org.athlium.payments.domain.repository.PaymentRepository;
+import org.athlium.payments.domain.repository.PaymentRollupRepository;
+import org.athlium.shared.application.EventOutbox;
 import org.athlium.shared.exception.BadRequestException;
 
 import java.math.BigDecimal;
@@ -18,6 +21,12 @@ public class CreatePaymentUseCase {
     @Inject
     PaymentRepository paymentRepository;
 
+    @Inject
+    PaymentRollupRepository paymentRollupRepository;
+
+    @Inject
+    EventOutbox eventOutbox;
+
     @Transactional
     public Payment execute(BigDecimal amount, String method, Long clientId, Long headquartersId, Long organizationId) {
         if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
@@ -36,7 +45,10 @@ public class CreatePaymentUseCase {
         payment.setClientId(clientId);
         payment.setHeadquartersId(headquartersId);
         payment.setOrganizationId(organizationId);
-        return paymentRepository.save(payment);
+        Payment saved = paymentRepository.save(payment);
+        paymentRollupRepository.add(saved);
+        eventOutbox.append(PaymentEvent.AGGREGATE, saved.getId(), PaymentEvent.CREATED, PaymentEvent.of(saved));
+        return saved;
     }
 
     private void validateRequiredId(Long value, String fieldName) {
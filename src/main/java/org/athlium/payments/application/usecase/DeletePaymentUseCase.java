@@ -3,7 +3,9 @@ package org.athlium.payments.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import org.athlium.payments.domain.model.Payment;
 import org.athlium.payments.domain.repository.PaymentRepository;
+import org.athlium.payments.domain.repository.PaymentRollupRepository;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 
@@ -13,6 +15,9 @@ public class DeletePaymentUseCase {
     @Inject
     PaymentRepository paymentRepository;
 
+    @Inject
+    PaymentRollupRepository paymentRollupRepository;
+
     @Transactional
     public void execute(Long paymentId) {
         if (paymentId == null) {
@@ -22,8 +27,11 @@ public class DeletePaymentUseCase {
             throw new BadRequestException("paymentId must be a positive number");
         }
 
+        Payment existing = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new EntityNotFoundException("Payment", paymentId));
         if (!paymentRepository.deleteById(paymentId)) {
             throw new EntityNotFoundException("Payment", paymentId);
         }
+        paymentRollupRepository.subtract(existing);
     }
 }
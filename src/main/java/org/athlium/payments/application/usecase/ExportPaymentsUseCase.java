@@ -0,0 +1,51 @@
+package org.athlium.payments.application.usecase;
+
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.athlium.payments.domain.model.PaymentListItem;
+import org.athlium.payments.domain.model.PaymentSearchCriteria;
+import org.athlium.payments.domain.repository.PaymentRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Streams every payment matching the list filters instead of paging through them. Criteria are validated
+ * up front so a bad request fails before the response body starts; the export itself runs in one
+ * transaction, which the forward-only cursor needs to keep its position. Large exports outlive the default
+ * transaction timeout, so the export has its own.
+ */
+@ApplicationScoped
+public class ExportPaymentsUseCase {
+
+    @Inject
+    PaymentRepository paymentRepository;
+
+    @Inject
+    GetPaymentsUseCase getPaymentsUseCase;
+
+    public PaymentSearchCriteria prepare(
+            String player,
+            LocalDate paidAtFrom,
+            LocalDate paidAtTo,
+            Long clientId,
+            String paymentMethod,
+            BigDecimal amountMin,
+            BigDecimal amountMax,
+            Long headquartersId,
+            Long organizationId,
+            String sort) {
+        return getPaymentsUseCase.buildCriteria(player, paidAtFrom, paidAtTo, clientId, paymentMethod,
+                amountMin, amountMax, headquartersId, organizationId, 0, 0, sort);
+    }
+
+    @Transactional
+    @TransactionConfiguration(timeout = 900,
+            timeoutFromConfigProperty = "athlium.payments.export.transaction-timeout-seconds")
+    public void execute(PaymentSearchCriteria criteria, Consumer<PaymentListItem> consumer) {
+        paymentRepository.streamPayments(criteria, consumer);
+    }
+}
@@ -6,7 +6,10 @@ import org.athlium.payments.domain.model.PaymentListItem;
 import org.athlium.payments.domain.model.PaymentMethod;
 import org.athlium.payments.domain.model.PaymentSearchCriteria;
 import org.athlium.payments.domain.repository.PaymentRepository;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 
 import java.math.BigDecimal;
@@ -30,13 +33,61 @@ public class GetPaymentsUseCase {
             Long organizationId,
             int page,
             int size,
-            String sort) {
+            String sort,
+            String totalMode) {
         if (page < 1) {
             throw new BadRequestException("Page must be >= 1");
         }
-        if (size < 1 || size > 100) {
-            throw new BadRequestException("Size must be between 1 and 100");
+        validateSize(size);
+
+        PaymentSearchCriteria criteria = buildCriteria(player, paidAtFrom, paidAtTo, clientId, paymentMethod,
+                amountMin, amountMax, headquartersId, organizationId, page - 1, size, sort);
+
+        return paymentRepository.findPayments(criteria, TotalMode.fromString(totalMode));
+    }
+
+    public CursorPageResponse<PaymentListItem> executeAfter(
+            String player,
+            LocalDate paidAtFrom,
+            LocalDate paidAtTo,
+            Long clientId,
+            String paymentMethod,
+            BigDecimal amountMin,
+            BigDecimal amountMax,
+            Long headquartersId,
+            Long organizationId,
+            String cursor,
+            int size,
+            String sort,
+            boolean includeTotal) {
+        validateSize(size);
+
+        PaymentSearchCriteria criteria = buildCriteria(player, paidAtFrom, paidAtTo, clientId, paymentMethod,
+                amountMin, amountMax, headquartersId, organizationId, 0, size, sort);
+        // createdAt is nullable, so it cannot key a cursor.
+        if ("created_at".equals(criteria.sortColumn())) {
+            throw new BadRequestException("cursor pagination supports sort by paidAt, amount or id");
         }
+
+        return paymentRepository.findPaymentsAfter(criteria, SeekCursor.decode(cursor), includeTotal);
+    }
+
+    /**
+     * Validates the list filters and normalizes them into search criteria; shared with the export.
+     */
+    PaymentSearchCriteria buildCriteria(
+            String player,
+            LocalDate paidAtFrom,
+            LocalDate paidAtTo,
+            Long clientId,
+            String paymentMethod,
+            BigDecimal amountMin,
+            BigDecimal amountMax,
+            Long headquartersId,
+            Long organizationId,
+            int page,
+            int size,
+            String sort) {
         if (paidAtFrom != null && paidAtTo != null && paidAtFrom.isAfter(paidAtTo)) {
             throw new BadRequestException("paidAtFrom must be less than or equal to paidAtTo");
         }
@@ -51,7 +102,7 @@ public class GetPaymentsUseCase {
         PaymentMethod parsedMethod = parseMethod(paymentMethod);
         SortSpec sortSpec = parseSort(sort);
 
-        PaymentSearchCriteria criteria = new PaymentSearchCriteria(
+        return new PaymentSearchCriteria(
                 blankToNull(player),
                 paidAtFrom,
                 paidAtTo,
@@ -61,12 +112,10 @@ public class GetPaymentsUseCase {
                 amountMax,
                 headquartersId,
                 organizationId,
-                page - 1,
+                page,
                 size,
                 sortSpec.column(),
                 sortSpec.ascending());
-
-        return paymentRepository.findPayments(criteria);
     }
 
     private PaymentMethod parseMethod(String method) {
@@ -107,6 +156,12 @@ public class GetPaymentsUseCase {
         return new SortSpec(column, ascending);
     }
 
+    private void validateSize(int size) {
+        if (size < 1 || size > 100) {
+            throw new BadRequestException("Size must be between 1 and 100");
+        }
+    }
+
     private void validateOptionalPositiveId(Long value, String fieldName) {
         if (value != null && value <= 0) {
             throw new BadRequestException(fieldName + " must be a positive number");
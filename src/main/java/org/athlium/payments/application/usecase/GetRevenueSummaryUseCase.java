@@ -0,0 +1,66 @@
+package org.athlium.payments.application.usecase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.payments.domain.model.PaymentMethod;
+import org.athlium.payments.domain.model.RevenueGranularity;
+import org.athlium.payments.domain.model.RevenueSummaryCriteria;
+import org.athlium.payments.domain.model.RevenueSummaryRow;
+import org.athlium.payments.domain.repository.PaymentRollupRepository;
+import org.athlium.shared.exception.BadRequestException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Revenue per organization, headquarters and method, bucketed by day, week or month. Reads the daily rollup,
+ * so the cost depends on the number of days and headquarters in range rather than the number of payments.
+ */
+@ApplicationScoped
+public class GetRevenueSummaryUseCase {
+
+    @Inject
+    PaymentRollupRepository paymentRollupRepository;
+
+    public List<RevenueSummaryRow> execute(
+            LocalDate from,
+            LocalDate to,
+            String granularity,
+            Long organizationId,
+            Long headquartersId,
+            String paymentMethod) {
+        if (from == null || to == null) {
+            throw new BadRequestException("from and to are required");
+        }
+        if (from.isAfter(to)) {
+            throw new BadRequestException("from must be less than or equal to to");
+        }
+        validateOptionalPositiveId(organizationId, "organizationId");
+        validateOptionalPositiveId(headquartersId, "headquartersId");
+
+        return paymentRollupRepository.summarize(new RevenueSummaryCriteria(
+                from,
+                to,
+                RevenueGranularity.fromString(granularity),
+                organizationId,
+                headquartersId,
+                parseMethod(paymentMethod)));
+    }
+
+    private PaymentMethod parseMethod(String method) {
+        if (method == null || method.isBlank()) {
+            return null;
+        }
+        try {
+            return PaymentMethod.valueOf(method.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("paymentMethod must be one of: CASH, CARD, TRANSFER, OTHER");
+        }
+    }
+
+    private void validateOptionalPositiveId(Long value, String fieldName) {
+        if (value != null && value <= 0) {
+            throw new BadRequestException(fieldName + " must be a positive number");
+        }
+    }
+}
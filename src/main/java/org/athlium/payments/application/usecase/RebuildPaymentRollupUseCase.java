@@ -0,0 +1,18 @@
+package org.athlium.payments.application.usecase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.athlium.payments.domain.repository.PaymentRollupRepository;
+
+@ApplicationScoped
+public class RebuildPaymentRollupUseCase {
+
+    @Inject
+    PaymentRollupRepository paymentRollupRepository;
+
+    @Transactional
+    public int execute() {
+        return paymentRollupRepository.rebuild();
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.transaction.Transactional;
 import org.athlium.payments.domain.model.Payment;
 import org.athlium.payments.domain.model.PaymentMethod;
 import org.athlium.payments.domain.repository.PaymentRepository;
+import org.athlium.payments.domain.repository.PaymentRollupRepository;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 
@@ -18,6 +19,9 @@ public class UpdatePaymentUseCase {
     @Inject
     PaymentRepository paymentRepository;
 
+    @Inject
+    PaymentRollupRepository paymentRollupRepository;
+
     @Transactional
     public Payment execute(Long paymentId, BigDecimal amount, String method, LocalDate paidAt,
             Long clientId, Long headquartersId, Long organizationId) {
@@ -44,6 +48,8 @@ public class UpdatePaymentUseCase {
         if (updated == null) {
             throw new EntityNotFoundException("Payment", paymentId);
         }
+        paymentRollupRepository.subtract(existing);
+        paymentRollupRepository.add(updated);
         return updated;
     }
 
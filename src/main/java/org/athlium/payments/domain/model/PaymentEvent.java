@@ -0,0 +1,33 @@
+package org.athlium.payments.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Outbox payload for recorded payments.
+ */
+public record PaymentEvent(
+        Long paymentId,
+        BigDecimal amount,
+        PaymentMethod method,
+        LocalDate paidAt,
+        Long clientId,
+        Long headquartersId,
+        Long organizationId
+) {
+
+    public static final String AGGREGATE = "payment";
+    public static final String CREATED = "payment.created";
+
+    public static PaymentEvent of(Payment payment) {
+        return new PaymentEvent(
+                payment.getId(),
+                payment.getAmount(),
+                payment.getMethod(),
+                payment.getPaidAt(),
+                payment.getClientId(),
+                payment.getHeadquartersId(),
+                payment.getOrganizationId()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package org.athlium.payments.domain.model;
+
+import org.athlium.shared.exception.BadRequestException;
+
+/**
+ * Bucket size of a revenue summary. Weeks start on Monday.
+ */
+public enum RevenueGranularity {
+    DAY,
+    WEEK,
+    MONTH;
+
+    public static RevenueGranularity fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return DAY;
+        }
+        try {
+            return RevenueGranularity.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("granularity must be one of: day, week, month");
+        }
+    }
+}
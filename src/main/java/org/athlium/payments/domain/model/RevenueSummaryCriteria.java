@@ -0,0 +1,12 @@
+package org.athlium.payments.domain.model;
+
+import java.time.LocalDate;
+
+public record RevenueSummaryCriteria(
+        LocalDate from,
+        LocalDate to,
+        RevenueGranularity granularity,
+        Long organizationId,
+        Long headquartersId,
+        PaymentMethod paymentMethod) {
+}
@@ -0,0 +1,48 @@
+package org.athlium.payments.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class RevenueSummaryRow {
+
+    private final LocalDate periodStart;
+    private final Long organizationId;
+    private final Long headquartersId;
+    private final PaymentMethod paymentMethod;
+    private final long paymentCount;
+    private final BigDecimal totalAmount;
+
+    public RevenueSummaryRow(LocalDate periodStart, Long organizationId, Long headquartersId,
+            PaymentMethod paymentMethod, long paymentCount, BigDecimal totalAmount) {
+        this.periodStart = periodStart;
+        this.organizationId = organizationId;
+        this.headquartersId = headquartersId;
+        this.paymentMethod = paymentMethod;
+        this.paymentCount = paymentCount;
+        this.totalAmount = totalAmount;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public Long getOrganizationId() {
+        return organizationId;
+    }
+
+    public Long getHeadquartersId() {
+        return headquartersId;
+    }
+
+    public PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public long getPaymentCount() {
+        return paymentCount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+}
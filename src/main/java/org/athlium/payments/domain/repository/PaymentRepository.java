@@ -3,9 +3,13 @@ package org.athlium.payments.domain.repository;
 import org.athlium.payments.domain.model.Payment;
 import org.athlium.payments.domain.model.PaymentListItem;
 import org.athlium.payments.domain.model.PaymentSearchCriteria;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface PaymentRepository {
 
@@ -17,5 +21,21 @@ public interface PaymentRepository {
 
     boolean deleteById(Long paymentId);
 
-    PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria);
+    /**
+     * Pages the matching payments; {@code totalMode} decides whether the total is counted, estimated or skipped.
+     */
+    PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria, TotalMode totalMode);
+
+    /**
+     * Keyset variant of {@link #findPayments}: seeks past {@code after} on (sort column, id), ignoring the
+     * criteria page, and only counts the matching rows when {@code includeTotal} is set.
+     */
+    CursorPageResponse<PaymentListItem> findPaymentsAfter(PaymentSearchCriteria criteria, SeekCursor after,
+            boolean includeTotal);
+
+    /**
+     * Feeds every payment matching the criteria (page and size are ignored) to the consumer, enriched with its
+     * paid package, while reading the result set forward-only. Must run inside a transaction.
+     */
+    void streamPayments(PaymentSearchCriteria criteria, Consumer<PaymentListItem> consumer);
 }
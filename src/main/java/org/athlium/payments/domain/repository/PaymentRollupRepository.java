@@ -0,0 +1,30 @@
+package org.athlium.payments.domain.repository;
+
+import org.athlium.payments.domain.model.Payment;
+import org.athlium.payments.domain.model.RevenueSummaryCriteria;
+import org.athlium.payments.domain.model.RevenueSummaryRow;
+
+import java.util.List;
+
+/**
+ * Maintains and reads the per-day payment rollup behind the revenue summary.
+ */
+public interface PaymentRollupRepository {
+
+    /**
+     * Adds the payment to the bucket of its organization, headquarters, method and day.
+     */
+    void add(Payment payment);
+
+    /**
+     * Takes the payment back out of its bucket, dropping the bucket once it holds no payments.
+     */
+    void subtract(Payment payment);
+
+    /**
+     * Regenerates every bucket from the payments table and returns how many buckets were written.
+     */
+    int rebuild();
+
+    List<RevenueSummaryRow> summarize(RevenueSummaryCriteria criteria);
+}
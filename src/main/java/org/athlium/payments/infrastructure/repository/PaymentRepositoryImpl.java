@@ -1,5 +1,8 @@
 package org.athlium.payments.infrastructure.repository;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
@@ -13,25 +16,30 @@ import org.athlium.payments.domain.model.PaymentPackageInfo;
 import org.athlium.payments.domain.model.PaymentSearchCriteria;
 import org.athlium.payments.domain.repository.PaymentRepository;
 import org.athlium.payments.infrastructure.entity.PaymentEntity;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
-import org.jboss.logging.Logger;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
+import org.athlium.shared.infrastructure.PlannerRowEstimator;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
 
 import java.math.BigDecimal;
 import java.sql.Date;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class PaymentRepositoryImpl implements PaymentRepository {
 
-    private static final Logger LOG = Logger.getLogger(PaymentRepositoryImpl.class);
+    private static final TypeReference<List<PackageActivityRow>> PACKAGE_ACTIVITIES_TYPE = new TypeReference<>() {
+    };
 
     @Inject
     PaymentPanacheRepository paymentPanacheRepository;
@@ -39,6 +47,15 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     @Inject
     EntityManager em;
 
+    @Inject
+    PlannerRowEstimator plannerRowEstimator;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "athlium.payments.export.fetch-size", defaultValue = "500")
+    int exportFetchSize = 500;
+
     @Override
     public Payment save(Payment payment) {
         PaymentEntity entity = new PaymentEntity();
@@ -79,46 +96,121 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     }
 
     @Override
-    public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria) {
+    public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria, TotalMode totalMode) {
         Map<String, Object> params = new LinkedHashMap<>();
         String whereClause = buildWhereClause(criteria, params);
 
-        Query countQuery = em.createNativeQuery(buildCountSql(whereClause));
-        setQueryParameters(countQuery, params);
-        long total = ((Number) countQuery.getSingleResult()).longValue();
+        if (totalMode == TotalMode.NONE) {
+            // One row past the page tells whether another one follows.
+            List<PaymentListItem> items = findPage(criteria, whereClause, params, criteria.size() + 1);
+            return PageResponse.fromLookahead(items, criteria.page(), criteria.size());
+        }
+
+        long total;
+        boolean totalExact = true;
+        if (totalMode == TotalMode.ESTIMATE) {
+            PlannerRowEstimator.Total estimated = plannerRowEstimator.estimateQuery(
+                    buildFilteredSql("SELECT 1", whereClause), params, () -> countPayments(whereClause, params));
+            total = estimated.value();
+            totalExact = estimated.exact();
+        } else {
+            total = countPayments(whereClause, params);
+        }
 
         if (total == 0) {
             return new PageResponse<>(Collections.emptyList(), criteria.page(), criteria.size(), 0);
         }
 
-        Query dataQuery = em.createNativeQuery(buildDataSql(whereClause, criteria.sortColumn(), criteria.sortAscending()));
+        List<PaymentListItem> items = findPage(criteria, whereClause, params, criteria.size());
+        return new PageResponse<>(items, criteria.page(), criteria.size(), total, totalExact);
+    }
+
+    @Override
+    public CursorPageResponse<PaymentListItem> findPaymentsAfter(PaymentSearchCriteria criteria, SeekCursor after,
+            boolean includeTotal) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String whereClause = buildWhereClause(criteria, params);
+
+        Long total = includeTotal ? countPayments(whereClause, params) : null;
+
+        String direction = criteria.sortAscending() ? "ASC" : "DESC";
+        StringBuilder seekClause = new StringBuilder(whereClause);
+        if (after != null) {
+            seekClause.append(" AND (p.%s, p.id) %s (:afterKey, :afterId)"
+                    .formatted(criteria.sortColumn(), criteria.sortAscending() ? ">" : "<"));
+            params.put("afterKey", after.sortKey(value -> parseSortKey(criteria.sortColumn(), value)));
+            params.put("afterId", after.id());
+        }
+
+        Query dataQuery = em.createNativeQuery(
+                buildListSql(seekClause.toString(), criteria.sortColumn(), direction, direction, "LIMIT :size"));
         setQueryParameters(dataQuery, params);
-        dataQuery.setParameter("size", criteria.size());
-        dataQuery.setParameter("offset", criteria.page() * criteria.size());
+        // One row past the page tells whether another one follows.
+        dataQuery.setParameter("size", criteria.size() + 1);
 
         @SuppressWarnings("unchecked")
         List<Object[]> rows = dataQuery.getResultList();
         List<PaymentListItem> items = rows.stream().map(this::mapRow).toList();
 
-        List<Long> paymentIds = items.stream().map(PaymentListItem::getId).toList();
-        Map<Long, PaymentPackageInfo> paidPackageByPayment = findPaidPackageByPaymentIds(paymentIds);
-        List<PaymentListItem> enrichedItems = items.stream()
-                .map(item -> new PaymentListItem(
-                        item.getId(),
-                        item.getAmount(),
-                        item.getPaymentMethod(),
-                        item.getPaidAt(),
-                        item.getUserName(),
-                        item.getUserLastName(),
-                        extractActivities(paidPackageByPayment.get(item.getId())),
-                        paidPackageByPayment.get(item.getId()),
-                        item.getClientId(),
-                        item.getHeadquartersId(),
-                        item.getOrganizationId()
-                ))
-                .toList();
+        return CursorPageResponse.fromLookahead(
+                items,
+                criteria.size(),
+                item -> SeekCursor.of(sortKeyOf(criteria.sortColumn(), item), item.getId()),
+                total);
+    }
+
+    @Override
+    public void streamPayments(PaymentSearchCriteria criteria, Consumer<PaymentListItem> consumer) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String whereClause = buildWhereClause(criteria, params);
+
+        Query query = em.createNativeQuery(buildListSql(whereClause, criteria.sortColumn(),
+                criteria.sortAscending() ? "ASC" : "DESC", "DESC", ""));
+        setQueryParameters(query, params);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+
+        try (@SuppressWarnings("unchecked") Stream<Object[]> rows = query.getResultStream()) {
+            rows.map(this::mapRow).forEach(consumer);
+        }
+    }
+
+    private List<PaymentListItem> findPage(PaymentSearchCriteria criteria, String whereClause,
+            Map<String, Object> params, int limit) {
+        String direction = criteria.sortAscending() ? "ASC" : "DESC";
+        Query dataQuery = em.createNativeQuery(
+                buildListSql(whereClause, criteria.sortColumn(), direction, "DESC", "LIMIT :size OFFSET :offset"));
+        setQueryParameters(dataQuery, params);
+        dataQuery.setParameter("size", limit);
+        dataQuery.setParameter("offset", criteria.page() * criteria.size());
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = dataQuery.getResultList();
+        return rows.stream().map(this::mapRow).toList();
+    }
+
+    private long countPayments(String whereClause, Map<String, Object> params) {
+        Query countQuery = em.createNativeQuery(buildCountSql(whereClause));
+        setQueryParameters(countQuery, params);
+        return ((Number) countQuery.getSingleResult()).longValue();
+    }
+
+    private Object sortKeyOf(String sortColumn, PaymentListItem item) {
+        return switch (sortColumn) {
+            case "paid_at" -> item.getPaidAt();
+            case "amount" -> item.getAmount();
+            case "id" -> item.getId();
+            default -> throw new IllegalArgumentException("Unsupported cursor sort column: " + sortColumn);
+        };
+    }
 
-        return new PageResponse<>(enrichedItems, criteria.page(), criteria.size(), total);
+    private Object parseSortKey(String sortColumn, String value) {
+        return switch (sortColumn) {
+            case "paid_at" -> LocalDate.parse(value);
+            case "amount" -> new BigDecimal(value);
+            case "id" -> Long.valueOf(value);
+            default -> throw new IllegalArgumentException("Unsupported cursor sort column: " + sortColumn);
+        };
     }
 
     private Payment toDomain(PaymentEntity entity) {
@@ -179,32 +271,76 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     }
 
     private String buildCountSql(String whereClause) {
+        return buildFilteredSql("SELECT COUNT(*)", whereClause);
+    }
+
+    private String buildFilteredSql(String selectClause, String whereClause) {
         return """
-                SELECT COUNT(*)
+                %s
                 FROM payments p
                 LEFT JOIN users u ON u.id = p.client_id
                 %s
-                """.formatted(whereClause);
+                """.formatted(selectClause, whereClause);
     }
 
-    private String buildDataSql(String whereClause, String sortColumn, boolean sortAscending) {
-        String direction = sortAscending ? "ASC" : "DESC";
+    /**
+     * One statement per page: the filtered, sorted and limited payments are picked first, and only those rows
+     * get their latest package and its activities attached, aggregated to a JSON array so each payment stays
+     * one row.
+     */
+    private String buildListSql(String whereClause, String sortColumn, String direction, String idDirection,
+            String limitClause) {
         return """
-                SELECT p.id,
-                       p.amount,
-                       p.method,
-                       p.paid_at,
-                       u.name,
-                       u.last_name,
-                       p.client_id,
-                       p.headquarters_id,
-                       p.organization_id
-                FROM payments p
-                LEFT JOIN users u ON u.id = p.client_id
-                %s
-                ORDER BY p.%s %s, p.id DESC
-                LIMIT :size OFFSET :offset
-                """.formatted(whereClause, sortColumn, direction);
+                SELECT page.id,
+                       page.amount,
+                       page.method,
+                       page.paid_at,
+                       page.name,
+                       page.last_name,
+                       page.client_id,
+                       page.headquarters_id,
+                       page.organization_id,
+                       pkg.package_id,
+                       pkg.activities
+                FROM (
+                    SELECT p.id,
+                           p.amount,
+                           p.method,
+                           p.paid_at,
+                           u.name,
+                           u.last_name,
+                           p.client_id,
+                           p.headquarters_id,
+                           p.organization_id,
+                           p.%2$s AS sort_key
+                    FROM payments p
+                    LEFT JOIN users u ON u.id = p.client_id
+                    %1$s
+                    ORDER BY p.%2$s %3$s, p.id %4$s
+                    %5$s
+                ) page
+                LEFT JOIN LATERAL (
+                    SELECT cp.id AS package_id,
+                           CAST((
+                               SELECT json_agg(json_build_object(
+                                          'activityId', cpc.activity_id,
+                                          'name', a.name,
+                                          'description', a.description,
+                                          'isActive', a.isactive,
+                                          'hqId', a.hq_id,
+                                          'tokens', cpc.tokens)
+                                      ORDER BY cpc.activity_id)
+                               FROM client_package_credits cpc
+                               LEFT JOIN activity a ON a.id = cpc.activity_id
+                               WHERE cpc.package_id = cp.id
+                           ) AS TEXT) AS activities
+                    FROM client_packages cp
+                    WHERE cp.payment_id = page.id
+                    ORDER BY cp.id DESC
+                    LIMIT 1
+                ) pkg ON TRUE
+                ORDER BY page.sort_key %3$s, page.id %4$s
+                """.formatted(whereClause, sortColumn, direction, idDirection, limitClause);
     }
 
     private void setQueryParameters(Query query, Map<String, Object> params) {
@@ -221,181 +357,23 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         Long clientId = toLong(row[6]);
         Long headquartersId = toLong(row[7]);
         Long organizationId = toLong(row[8]);
-        return new PaymentListItem(id, amount, paymentMethod, paidAt, userName, userLastName, List.of(), null, clientId,
-                headquartersId, organizationId);
-    }
-
-    private Map<Long, PaymentPackageInfo> findPaidPackageByPaymentIds(List<Long> paymentIds) {
-        if (paymentIds == null || paymentIds.isEmpty()) {
-            return Map.of();
-        }
-
-        Map<Long, Long> packageByPayment = findLatestPackageIdsByPaymentIds(paymentIds);
-        if (packageByPayment.isEmpty()) {
-            return Map.of();
-        }
-
-        List<Long> packageIds = packageByPayment.values().stream().distinct().toList();
-        Map<Long, List<PaymentPackageActivity>> activitiesByPackage = findActivitiesByPackageIds(packageIds);
-
-        Map<Long, PaymentPackageInfo> packagesByPayment = new LinkedHashMap<>();
-        for (Long paymentId : paymentIds) {
-            Long packageId = packageByPayment.get(paymentId);
-            if (packageId == null) {
-                continue;
-            }
-            List<PaymentPackageActivity> activities = activitiesByPackage.getOrDefault(packageId, List.of());
-            packagesByPayment.put(paymentId, new PaymentPackageInfo(packageId, activities));
-        }
-
-        return packagesByPayment;
-    }
-
-    private Map<Long, Long> findLatestPackageIdsByPaymentIds(List<Long> paymentIds) {
-        List<Object[]> rows;
-        try {
-            String paymentIdCondition = buildPaymentIdCondition(paymentIds.size());
-            Query query = em.createNativeQuery("""
-                    SELECT cp.payment_id,
-                           cp.id
-                    FROM client_packages cp
-                    WHERE %s
-                    ORDER BY cp.payment_id, cp.id DESC
-                    """.formatted(paymentIdCondition));
-            setPaymentIdParameters(query, paymentIds);
-
-            @SuppressWarnings("unchecked")
-            List<Object[]> resultRows = query.getResultList();
-            rows = resultRows;
-        } catch (RuntimeException ex) {
-            LOG.warn("Failed to fetch package ids for payments list. Returning payments without package details.", ex);
-            return Map.of();
-        }
-
-        Map<Long, Long> packageByPayment = new LinkedHashMap<>();
-        for (Object[] row : rows) {
-            Long paymentId = toLong(row[0]);
-            Long packageId = toLong(row[1]);
-            if (paymentId == null || packageId == null || packageByPayment.containsKey(paymentId)) {
-                continue;
-            }
-            packageByPayment.put(paymentId, packageId);
-        }
-        return packageByPayment;
+        Long packageId = toLong(row[9]);
+        PaymentPackageInfo paidPackage = packageId != null
+                ? new PaymentPackageInfo(packageId, parsePackageActivities(id, row[10]))
+                : null;
+        return new PaymentListItem(id, amount, paymentMethod, paidAt, userName, userLastName,
+                extractActivities(paidPackage), paidPackage, clientId, headquartersId, organizationId);
     }
 
-    private Map<Long, List<PaymentPackageActivity>> findActivitiesByPackageIds(List<Long> packageIds) {
-        if (packageIds == null || packageIds.isEmpty()) {
-            return Map.of();
+    private List<PaymentPackageActivity> parsePackageActivities(Long paymentId, Object value) {
+        if (value == null) {
+            return List.of();
         }
-
         try {
-            return queryActivitiesByPackageIds(packageIds);
-        } catch (RuntimeException ex) {
-            LOG.warn("Failed to fetch package activities for payments list. Returning paidPackage without activities.",
-                    ex);
-            return Map.of();
-        }
-    }
-
-    private Map<Long, List<PaymentPackageActivity>> queryActivitiesByPackageIds(List<Long> packageIds) {
-        String packageIdCondition = buildPackageIdCondition(packageIds.size());
-        Query query = em.createNativeQuery("""
-                 SELECT cpc.package_id,
-                        cpc.activity_id,
-                        a.name,
-                        a.description,
-                        a.isactive,
-                        a.hq_id,
-                        cpc.tokens AS weekly_frequency
-                 FROM client_package_credits cpc
-                 LEFT JOIN activity a ON a.id = cpc.activity_id
-                WHERE %s
-                ORDER BY cpc.package_id, cpc.activity_id
-                """.formatted(packageIdCondition));
-        setPackageIdParameters(query, packageIds);
-
-        @SuppressWarnings("unchecked")
-        List<Object[]> rows = query.getResultList();
-
-        Map<Long, PackageAccumulator> accumulators = new LinkedHashMap<>();
-
-        for (Object[] row : rows) {
-            Long packageId = toLong(row[0]);
-            if (packageId == null) {
-                continue;
-            }
-
-            PackageAccumulator accumulator = accumulators.computeIfAbsent(packageId,
-                    key -> new PackageAccumulator(packageId));
-
-            Long activityId = toLong(row[1]);
-            if (activityId == null || accumulator.activityIds.contains(activityId)) {
-                continue;
-            }
-
-            Activity activity = new Activity();
-            activity.setId(activityId);
-            activity.setName((String) row[2]);
-            activity.setDescription((String) row[3]);
-            activity.setIsActive(parseBoolean(row[4]));
-            activity.setHqId(toLong(row[5]));
-
-            PaymentPackageActivity packageActivity = new PaymentPackageActivity(activity, toInteger(row[6]));
-            accumulator.activities.add(packageActivity);
-            accumulator.activityIds.add(activityId);
-        }
-
-        Map<Long, List<PaymentPackageActivity>> activitiesByPackage = new LinkedHashMap<>();
-        for (Map.Entry<Long, PackageAccumulator> entry : accumulators.entrySet()) {
-            PackageAccumulator value = entry.getValue();
-            activitiesByPackage.put(entry.getKey(), value.activities);
-        }
-
-        return activitiesByPackage;
-    }
-
-    private String buildPaymentIdCondition(int size) {
-        if (size == 1) {
-            return "cp.payment_id = :paymentId0";
-        }
-
-        StringBuilder condition = new StringBuilder("cp.payment_id IN (");
-        for (int i = 0; i < size; i++) {
-            if (i > 0) {
-                condition.append(", ");
-            }
-            condition.append(":paymentId").append(i);
-        }
-        condition.append(")");
-        return condition.toString();
-    }
-
-    private void setPaymentIdParameters(Query query, List<Long> paymentIds) {
-        for (int i = 0; i < paymentIds.size(); i++) {
-            query.setParameter("paymentId" + i, paymentIds.get(i));
-        }
-    }
-
-    private String buildPackageIdCondition(int size) {
-        if (size == 1) {
-            return "cpc.package_id = :packageId0";
-        }
-
-        StringBuilder condition = new StringBuilder("cpc.package_id IN (");
-        for (int i = 0; i < size; i++) {
-            if (i > 0) {
-                condition.append(", ");
-            }
-            condition.append(":packageId").append(i);
-        }
-        condition.append(")");
-        return condition.toString();
-    }
-
-    private void setPackageIdParameters(Query query, List<Long> packageIds) {
-        for (int i = 0; i < packageIds.size(); i++) {
-            query.setParameter("packageId" + i, packageIds.get(i));
+            List<PackageActivityRow> rows = objectMapper.readValue(value.toString(), PACKAGE_ACTIVITIES_TYPE);
+            return rows.stream().map(PackageActivityRow::toDomain).toList();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Malformed package activities for payment " + paymentId, ex);
         }
     }
 
@@ -409,16 +387,6 @@ public class PaymentRepositoryImpl implements PaymentRepository {
                 .toList();
     }
 
-    private Boolean parseBoolean(Object value) {
-        if (value instanceof Boolean bool) {
-            return bool;
-        }
-        if (value == null) {
-            return null;
-        }
-        return Boolean.parseBoolean(value.toString());
-    }
-
     private PaymentMethod parsePaymentMethod(Object value) {
         if (value == null) {
             return PaymentMethod.OTHER;
@@ -466,20 +434,17 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return ((Number) value).longValue();
     }
 
-    private Integer toInteger(Object value) {
-        if (value == null) {
-            return null;
-        }
-        return ((Number) value).intValue();
-    }
+    record PackageActivityRow(Long activityId, String name, String description, Boolean isActive, Long hqId,
+            Integer tokens) {
 
-    private static class PackageAccumulator {
-        private Long packageId;
-        private final List<PaymentPackageActivity> activities = new ArrayList<>();
-        private final Set<Long> activityIds = new HashSet<>();
-
-        private PackageAccumulator(Long packageId) {
-            this.packageId = packageId;
+        private PaymentPackageActivity toDomain() {
+            Activity activity = new Activity();
+            activity.setId(activityId);
+            activity.setName(name);
+            activity.setDescription(description);
+            activity.setIsActive(isActive);
+            activity.setHqId(hqId);
+            return new PaymentPackageActivity(activity, tokens);
         }
     }
 }
@@ -0,0 +1,152 @@
+package org.athlium.payments.infrastructure.repository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.transaction.Transactional;
+import org.athlium.payments.domain.model.Payment;
+import org.athlium.payments.domain.model.PaymentMethod;
+import org.athlium.payments.domain.model.RevenueSummaryCriteria;
+import org.athlium.payments.domain.model.RevenueSummaryRow;
+import org.athlium.payments.domain.repository.PaymentRollupRepository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@ApplicationScoped
+public class PaymentRollupRepositoryImpl implements PaymentRollupRepository {
+
+    private static final String APPLY_DELTA_SQL = """
+            INSERT INTO payment_daily_rollup
+                (organization_id, headquarters_id, method, day, payment_count, total_amount)
+            VALUES (:organizationId, :headquartersId, :method, :day, :count, :amount)
+            ON CONFLICT (organization_id, headquarters_id, method, day) DO UPDATE
+            SET payment_count = payment_daily_rollup.payment_count + EXCLUDED.payment_count,
+                total_amount = payment_daily_rollup.total_amount + EXCLUDED.total_amount
+            """;
+
+    @Inject
+    EntityManager em;
+
+    @Override
+    @Transactional
+    public void add(Payment payment) {
+        applyDelta(payment, 1, payment.getAmount());
+    }
+
+    @Override
+    @Transactional
+    public void subtract(Payment payment) {
+        applyDelta(payment, -1, payment.getAmount().negate());
+        em.createNativeQuery("""
+                        DELETE FROM payment_daily_rollup
+                        WHERE organization_id = :organizationId
+                          AND headquarters_id = :headquartersId
+                          AND method = :method
+                          AND day = :day
+                          AND payment_count <= 0
+                        """)
+                .setParameter("organizationId", payment.getOrganizationId())
+                .setParameter("headquartersId", payment.getHeadquartersId())
+                .setParameter("method", payment.getMethod().name())
+                .setParameter("day", payment.getPaidAt())
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        // Payment writes apply their deltas to the rollup in their own transaction. EXCLUSIVE mode makes them
+        // wait until the rebuild commits, and makes the rebuild wait for those already in flight, so no delta is
+        // counted twice or lost. Reads are not blocked.
+        em.createNativeQuery("LOCK TABLE payment_daily_rollup IN EXCLUSIVE MODE").executeUpdate();
+        // DELETE rather than TRUNCATE so summaries keep reading the old buckets until this commits.
+        em.createNativeQuery("DELETE FROM payment_daily_rollup").executeUpdate();
+        return em.createNativeQuery("""
+                        INSERT INTO payment_daily_rollup
+                            (organization_id, headquarters_id, method, day, payment_count, total_amount)
+                        SELECT p.organization_id, p.headquarters_id, p.method, p.paid_at, COUNT(*), SUM(p.amount)
+                        FROM payments p
+                        GROUP BY p.organization_id, p.headquarters_id, p.method, p.paid_at
+                        """)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<RevenueSummaryRow> summarize(RevenueSummaryCriteria criteria) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        List<String> conditions = new ArrayList<>();
+        conditions.add("r.day >= :from");
+        params.put("from", criteria.from());
+        conditions.add("r.day <= :to");
+        params.put("to", criteria.to());
+        if (criteria.organizationId() != null) {
+            conditions.add("r.organization_id = :organizationId");
+            params.put("organizationId", criteria.organizationId());
+        }
+        if (criteria.headquartersId() != null) {
+            conditions.add("r.headquarters_id = :headquartersId");
+            params.put("headquartersId", criteria.headquartersId());
+        }
+        if (criteria.paymentMethod() != null) {
+            conditions.add("r.method = :method");
+            params.put("method", criteria.paymentMethod().name());
+        }
+
+        Query query = em.createNativeQuery("""
+                SELECT CAST(date_trunc('%s', r.day) AS DATE) AS period_start,
+                       r.organization_id,
+                       r.headquarters_id,
+                       r.method,
+                       SUM(r.payment_count),
+                       SUM(r.total_amount)
+                FROM payment_daily_rollup r
+                WHERE %s
+                GROUP BY period_start, r.organization_id, r.headquarters_id, r.method
+                ORDER BY period_start, r.organization_id, r.headquarters_id, r.method
+                """.formatted(criteria.granularity().name().toLowerCase(), String.join(" AND ", conditions)));
+        params.forEach(query::setParameter);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        return rows.stream().map(this::mapRow).toList();
+    }
+
+    private void applyDelta(Payment payment, long count, BigDecimal amount) {
+        em.createNativeQuery(APPLY_DELTA_SQL)
+                .setParameter("organizationId", payment.getOrganizationId())
+                .setParameter("headquartersId", payment.getHeadquartersId())
+                .setParameter("method", payment.getMethod().name())
+                .setParameter("day", payment.getPaidAt())
+                .setParameter("count", count)
+                .setParameter("amount", amount)
+                .executeUpdate();
+    }
+
+    private RevenueSummaryRow mapRow(Object[] row) {
+        return new RevenueSummaryRow(
+                toLocalDate(row[0]),
+                ((Number) row[1]).longValue(),
+                ((Number) row[2]).longValue(),
+                PaymentMethod.valueOf(row[3].toString()),
+                ((Number) row[4]).longValue(),
+                row[5] instanceof BigDecimal amount ? amount : new BigDecimal(row[5].toString())
+        );
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return LocalDate.parse(value.toString());
+    }
+}
@@ -13,22 +13,35 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.athlium.auth.infrastructure.security.Authenticated;
 import org.athlium.payments.application.usecase.CreatePaymentUseCase;
 import org.athlium.payments.application.usecase.DeletePaymentUseCase;
+import org.athlium.payments.application.usecase.ExportPaymentsUseCase;
 import org.athlium.payments.application.usecase.GetPaymentByIdUseCase;
 import org.athlium.payments.application.usecase.GetPaymentsUseCase;
+import org.athlium.payments.application.usecase.GetRevenueSummaryUseCase;
+import org.athlium.payments.application.usecase.RebuildPaymentRollupUseCase;
 import org.athlium.payments.application.usecase.UpdatePaymentUseCase;
+import org.athlium.payments.domain.model.PaymentSearchCriteria;
 import org.athlium.payments.presentation.dto.CreatePaymentRequest;
 import org.athlium.payments.presentation.dto.PaymentListItemResponse;
 import org.athlium.payments.presentation.dto.UpdatePaymentRequest;
+import org.athlium.payments.presentation.export.PaymentExportFormat;
+import org.athlium.payments.presentation.export.PaymentExportWriter;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
 import org.athlium.shared.dto.ApiResponse;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 import org.athlium.payments.presentation.mapper.PaymentDtoMapper;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.List;
@@ -57,6 +70,18 @@ public class PaymentResource {
     @Inject
     PaymentDtoMapper paymentDtoMapper;
 
+    @Inject
+    ExportPaymentsUseCase exportPaymentsUseCase;
+
+    @Inject
+    PaymentExportWriter paymentExportWriter;
+
+    @Inject
+    GetRevenueSummaryUseCase getRevenueSummaryUseCase;
+
+    @Inject
+    RebuildPaymentRollupUseCase rebuildPaymentRollupUseCase;
+
     @POST
     public Response createPayment(CreatePaymentRequest request) {
         try {
@@ -92,7 +117,10 @@ public class PaymentResource {
             @QueryParam("organizationId") Long organizationId,
             @DefaultValue("1") @QueryParam("page") int page,
             @DefaultValue("20") @QueryParam("size") int size,
-            @DefaultValue("paidAt:desc") @QueryParam("sort") String sort) {
+            @DefaultValue("paidAt:desc") @QueryParam("sort") String sort,
+            @QueryParam("cursor") String cursor,
+            @QueryParam("includeTotal") boolean includeTotal,
+            @DefaultValue("exact") @QueryParam("totalMode") String totalMode) {
         try {
             if (headquartersId != null && headquarterId != null && !headquartersId.equals(headquarterId)) {
                 return Response.status(Response.Status.BAD_REQUEST)
@@ -102,6 +130,31 @@ public class PaymentResource {
 
             Long effectiveHeadquartersId = headquartersId != null ? headquartersId : headquarterId;
 
+            if (cursor != null) {
+                var cursorPage = getPaymentsUseCase.executeAfter(
+                        player,
+                        parseLocalDate(paidAtFrom, "paidAtFrom"),
+                        parseLocalDate(paidAtTo, "paidAtTo"),
+                        clientId,
+                        paymentMethod,
+                        amountMin,
+                        amountMax,
+                        effectiveHeadquartersId,
+                        organizationId,
+                        cursor,
+                        size,
+                        sort,
+                        includeTotal
+                );
+                CursorPageResponse<PaymentListItemResponse> mappedCursorPage = new CursorPageResponse<>(
+                        paymentDtoMapper.toListItemResponseList(cursorPage.getContent()),
+                        cursorPage.getSize(),
+                        cursorPage.getNextCursor(),
+                        cursorPage.getTotalElements());
+
+                return Response.ok(ApiResponse.success("Payments retrieved", mappedCursorPage)).build();
+            }
+
             var paymentsPage = getPaymentsUseCase.execute(
                     player,
                     parseLocalDate(paidAtFrom, "paidAtFrom"),
@@ -114,14 +167,16 @@ public class PaymentResource {
                     organizationId,
                     page,
                     size,
-                    sort
+                    sort,
+                    totalMode
             );
             List<PaymentListItemResponse> content = paymentDtoMapper.toListItemResponseList(paymentsPage.getContent());
             PageResponse<PaymentListItemResponse> mappedPage = new PageResponse<>(
                     content,
                     paymentsPage.getPage() + 1,
                     paymentsPage.getSize(),
-                    paymentsPage.getTotalElements());
+                    paymentsPage.getTotalElements(),
+                    paymentsPage.isTotalExact());
 
             return Response.ok(ApiResponse.success("Payments retrieved", mappedPage)).build();
         } catch (BadRequestException e) {
@@ -131,6 +186,102 @@ public class PaymentResource {
         }
     }
 
+    @GET
+    @Path("/export")
+    @Produces({"text/csv", "application/x-ndjson", MediaType.APPLICATION_JSON})
+    public Response exportPayments(
+            @QueryParam("player") String player,
+            @QueryParam("paidAtFrom") String paidAtFrom,
+            @QueryParam("paidAtTo") String paidAtTo,
+            @QueryParam("clientId") Long clientId,
+            @QueryParam("paymentMethod") String paymentMethod,
+            @QueryParam("amountMin") BigDecimal amountMin,
+            @QueryParam("amountMax") BigDecimal amountMax,
+            @QueryParam("headquartersId") Long headquartersId,
+            @QueryParam("headquarterId") Long headquarterId,
+            @QueryParam("organizationId") Long organizationId,
+            @DefaultValue("paidAt:desc") @QueryParam("sort") String sort,
+            @DefaultValue("csv") @QueryParam("format") String format) {
+        try {
+            if (headquartersId != null && headquarterId != null && !headquartersId.equals(headquarterId)) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .type(MediaType.APPLICATION_JSON)
+                        .entity(ApiResponse.error("Query params headquartersId and headquarterId must match when both are provided"))
+                        .build();
+            }
+
+            PaymentExportFormat exportFormat = PaymentExportFormat.fromString(format);
+            PaymentSearchCriteria criteria = exportPaymentsUseCase.prepare(
+                    player,
+                    parseLocalDate(paidAtFrom, "paidAtFrom"),
+                    parseLocalDate(paidAtTo, "paidAtTo"),
+                    clientId,
+                    paymentMethod,
+                    amountMin,
+                    amountMax,
+                    headquartersId != null ? headquartersId : headquarterId,
+                    organizationId,
+                    sort
+            );
+
+            StreamingOutput body = output -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+                paymentExportWriter.writeHeader(exportFormat, writer);
+                try {
+                    exportPaymentsUseCase.execute(criteria,
+                            payment -> paymentExportWriter.writeRow(exportFormat, writer, payment));
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                writer.flush();
+            };
+
+            return Response.ok(body, exportFormat.getMediaType())
+                    .header("Content-Disposition", "attachment; filename=\"payments." + exportFormat.getExtension() + "\"")
+                    .build();
+        } catch (BadRequestException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(ApiResponse.error(e.getMessage()))
+                    .build();
+        }
+    }
+
+    @GET
+    @Path("/revenue")
+    public Response getRevenueSummary(
+            @QueryParam("from") String from,
+            @QueryParam("to") String to,
+            @DefaultValue("day") @QueryParam("granularity") String granularity,
+            @QueryParam("organizationId") Long organizationId,
+            @QueryParam("headquartersId") Long headquartersId,
+            @QueryParam("paymentMethod") String paymentMethod) {
+        try {
+            var rows = getRevenueSummaryUseCase.execute(
+                    parseLocalDate(from, "from"),
+                    parseLocalDate(to, "to"),
+                    granularity,
+                    organizationId,
+                    headquartersId,
+                    paymentMethod
+            );
+            return Response.ok(ApiResponse.success("Revenue summary retrieved",
+                    paymentDtoMapper.toRevenueSummaryResponseList(rows))).build();
+        } catch (BadRequestException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(ApiResponse.error(e.getMessage()))
+                    .build();
+        }
+    }
+
+    @POST
+    @Path("/revenue/rebuild")
+    @Authenticated(roles = {"SUPERADMIN"})
+    public Response rebuildRevenueRollup() {
+        int buckets = rebuildPaymentRollupUseCase.execute();
+        return Response.ok(ApiResponse.success("Revenue rollup rebuilt", buckets)).build();
+    }
+
     @GET
     @Path("/{id}")
     public Response getPaymentById(@PathParam("id") Long id) {
@@ -0,0 +1,62 @@
+package org.athlium.payments.presentation.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class RevenueSummaryResponse {
+
+    private LocalDate periodStart;
+    private Long organizationId;
+    private Long headquartersId;
+    private String paymentMethod;
+    private long paymentCount;
+    private BigDecimal totalAmount;
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public Long getOrganizationId() {
+        return organizationId;
+    }
+
+    public void setOrganizationId(Long organizationId) {
+        this.organizationId = organizationId;
+    }
+
+    public Long getHeadquartersId() {
+        return headquartersId;
+    }
+
+    public void setHeadquartersId(Long headquartersId) {
+        this.headquartersId = headquartersId;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(String paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public long getPaymentCount() {
+        return paymentCount;
+    }
+
+    public void setPaymentCount(long paymentCount) {
+        this.paymentCount = paymentCount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+}
@@ -0,0 +1,35 @@
+package org.athlium.payments.presentation.export;
+
+import org.athlium.shared.exception.BadRequestException;
+
+public enum PaymentExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String extension;
+
+    PaymentExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static PaymentExportFormat fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        try {
+            return PaymentExportFormat.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("format must be one of: csv, ndjson");
+        }
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
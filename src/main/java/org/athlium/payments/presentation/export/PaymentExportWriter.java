@@ -0,0 +1,92 @@
+package org.athlium.payments.presentation.export;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.gym.domain.model.Activity;
+import org.athlium.payments.domain.model.PaymentListItem;
+import org.athlium.payments.presentation.mapper.PaymentDtoMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Renders exported payments one line at a time. NDJSON lines carry the same shape as the list endpoint items;
+ * CSV flattens the paid package to its id and the activity names.
+ */
+@ApplicationScoped
+public class PaymentExportWriter {
+
+    static final String CSV_HEADER = "id,paidAt,amount,paymentMethod,clientId,userName,userLastName,"
+            + "headquartersId,organizationId,paidPackageId,activities";
+
+    @Inject
+    PaymentDtoMapper paymentDtoMapper;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    public void writeHeader(PaymentExportFormat format, Writer writer) throws IOException {
+        if (format == PaymentExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Writes one payment. Throws {@link UncheckedIOException} so it can be used as a row consumer.
+     */
+    public void writeRow(PaymentExportFormat format, Writer writer, PaymentListItem payment) {
+        try {
+            writer.write(format == PaymentExportFormat.CSV ? toCsv(payment) : toJson(payment));
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private String toJson(PaymentListItem payment) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(paymentDtoMapper.toListItemResponse(payment));
+    }
+
+    private String toCsv(PaymentListItem payment) {
+        return String.join(",",
+                csv(payment.getId()),
+                csv(payment.getPaidAt()),
+                csv(payment.getAmount() != null ? payment.getAmount().toPlainString() : null),
+                csv(payment.getPaymentMethod()),
+                csv(payment.getClientId()),
+                csv(payment.getUserName()),
+                csv(payment.getUserLastName()),
+                csv(payment.getHeadquartersId()),
+                csv(payment.getOrganizationId()),
+                csv(payment.getPaidPackage() != null ? payment.getPaidPackage().getId() : null),
+                csv(activityNames(payment.getActivities())));
+    }
+
+    private String activityNames(List<Activity> activities) {
+        if (activities == null || activities.isEmpty()) {
+            return null;
+        }
+        return activities.stream()
+                .map(Activity::getName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("; "));
+    }
+
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -7,10 +7,12 @@ import org.athlium.payments.domain.model.Payment;
 import org.athlium.payments.domain.model.PaymentListItem;
 import org.athlium.payments.domain.model.PaymentPackageActivity;
 import org.athlium.payments.domain.model.PaymentPackageInfo;
+import org.athlium.payments.domain.model.RevenueSummaryRow;
 import org.athlium.payments.presentation.dto.PaymentListItemResponse;
 import org.athlium.payments.presentation.dto.PaymentPackageActivityResponse;
 import org.athlium.payments.presentation.dto.PaymentPackageResponse;
 import org.athlium.payments.presentation.dto.PaymentResponse;
+import org.athlium.payments.presentation.dto.RevenueSummaryResponse;
 
 import java.util.List;
 
@@ -33,6 +35,21 @@ public class PaymentDtoMapper {
         return payments.stream().map(this::toListItemResponse).toList();
     }
 
+    public List<RevenueSummaryResponse> toRevenueSummaryResponseList(List<RevenueSummaryRow> rows) {
+        return rows.stream().map(this::toRevenueSummaryResponse).toList();
+    }
+
+    public RevenueSummaryResponse toRevenueSummaryResponse(RevenueSummaryRow row) {
+        RevenueSummaryResponse response = new RevenueSummaryResponse();
+        response.setPeriodStart(row.getPeriodStart());
+        response.setOrganizationId(row.getOrganizationId());
+        response.setHeadquartersId(row.getHeadquartersId());
+        response.setPaymentMethod(row.getPaymentMethod() != null ? row.getPaymentMethod().name() : null);
+        response.setPaymentCount(row.getPaymentCount());
+        response.setTotalAmount(row.getTotalAmount());
+        return response;
+    }
+
     public PaymentListItemResponse toListItemResponse(PaymentListItem payment) {
         PaymentListItemResponse response = new PaymentListItemResponse();
         response.setId(payment.getId());
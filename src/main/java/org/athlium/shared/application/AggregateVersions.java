@@ -0,0 +1,113 @@
+package org.athlium.shared.application;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.athlium.shared.domain.repository.AggregateVersionRepository;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-aggregate version counters used to answer conditional GETs. Writers bump the counter in Postgres as part
+ * of their own transaction; the in-memory copy read by request filters only advances once that transaction has
+ * committed, and {@link #sync()} pulls in bumps made by other instances. Writers whose data lives outside
+ * Postgres use {@link #bumpAfterWrite(String)} instead.
+ */
+@ApplicationScoped
+public class AggregateVersions {
+
+    private static final Logger LOG = Logger.getLogger(AggregateVersions.class);
+
+    static final int BUMP_ATTEMPTS = 3;
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    // Aggregates written without a successful bump; see bumpAfterWrite.
+    private final Set<String> pendingBumps = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean loaded;
+
+    @Inject
+    AggregateVersionRepository aggregateVersionRepository;
+
+    @Inject
+    Event<VersionCommitted> versionCommitted;
+
+    /**
+     * Marks every cached representation of the aggregate as stale. Joins the caller's transaction when there is
+     * one, so the new version is never visible before the change it describes.
+     */
+    @Transactional
+    public void bump(String aggregate) {
+        long version = aggregateVersionRepository.increment(aggregate);
+        versionCommitted.fire(new VersionCommitted(aggregate, version));
+    }
+
+    /**
+     * Bumps after a write that could not join a Postgres transaction, e.g. a Mongo document save that is already
+     * visible. The bump is retried; if it still fails, it is left pending and this instance stops answering 304
+     * for the aggregate until a later {@link #sync()} has bumped it. The write itself succeeded, so the caller is
+     * not failed.
+     */
+    public void bumpAfterWrite(String aggregate) {
+        RuntimeException failure = null;
+        for (int attempt = 0; attempt < BUMP_ATTEMPTS; attempt++) {
+            try {
+                bump(aggregate);
+                return;
+            } catch (RuntimeException ex) {
+                failure = ex;
+            }
+        }
+        pendingBumps.add(aggregate);
+        LOG.warnf(failure, "Version bump left pending until the next sync: aggregate=%s", aggregate);
+    }
+
+    @Transactional
+    public void sync() {
+        Map<String, Long> current;
+        try {
+            for (String aggregate : List.copyOf(pendingBumps)) {
+                bump(aggregate);
+            }
+            current = aggregateVersionRepository.findAll();
+        } catch (RuntimeException ex) {
+            // Writes on other instances would go unnoticed; stop answering 304 until the next sync succeeds.
+            loaded = false;
+            throw ex;
+        }
+        current.forEach(this::advance);
+        loaded = true;
+    }
+
+    /**
+     * Current version of the aggregate, 0 if it was never written, or null while this instance cannot tell:
+     * before it loaded the counters, or while a bump for the aggregate is pending.
+     */
+    public Long versionOf(String aggregate) {
+        if (!loaded || pendingBumps.contains(aggregate)) {
+            return null;
+        }
+        return versions.getOrDefault(aggregate, 0L);
+    }
+
+    void onVersionCommitted(@Observes(during = TransactionPhase.AFTER_SUCCESS) VersionCommitted event) {
+        advance(event.aggregate(), event.version());
+        pendingBumps.remove(event.aggregate());
+    }
+
+    private void advance(String aggregate, long version) {
+        // Sync and commit notifications may arrive out of order; a counter never moves backwards.
+        versions.merge(aggregate, version, Math::max);
+    }
+
+    record VersionCommitted(String aggregate, long version) {
+    }
+}
@@ -0,0 +1,35 @@
+package org.athlium.shared.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.athlium.shared.domain.repository.OutboxRepository;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Records domain events in the outbox as part of the caller's transaction, so an event exists if and only if
+ * the change it describes was committed. {@link OutboxRelay} delivers them afterwards.
+ */
+@ApplicationScoped
+public class EventOutbox {
+
+    @Inject
+    OutboxRepository outboxRepository;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException("Could not serialize " + eventType + " event", ex);
+        }
+        outboxRepository.append(aggregateType, aggregateId, eventType, json);
+    }
+}
@@ -0,0 +1,73 @@
+package org.athlium.shared.application;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.athlium.shared.domain.OutboxEvent;
+import org.athlium.shared.domain.repository.OutboxRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves committed outbox events to the configured sinks. Each batch is locked with SKIP LOCKED, published and
+ * deleted in one transaction, so several instances can relay side by side and a failed publish leaves the
+ * batch in place for the next run.
+ */
+@ApplicationScoped
+public class OutboxRelay {
+
+    @Inject
+    OutboxRepository outboxRepository;
+
+    // Every OutboxSink bean; tests assign a plain list.
+    Iterable<OutboxSink> sinks;
+
+    @ConfigProperty(name = "athlium.outbox.sinks", defaultValue = "event-bus")
+    List<String> sinkNames = List.of("event-bus");
+
+    @ConfigProperty(name = "athlium.outbox.relay.batch-size", defaultValue = "200")
+    int batchSize = 200;
+
+    @Inject
+    void setSinks(@Any Instance<OutboxSink> sinks) {
+        this.sinks = sinks;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Transactional
+    public int relayBatch() {
+        List<OutboxEvent> events = outboxRepository.lockNextBatch(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        for (OutboxSink sink : activeSinks()) {
+            sink.publish(events);
+        }
+        outboxRepository.delete(events.stream().map(OutboxEvent::id).toList());
+        return events.size();
+    }
+
+    private List<OutboxSink> activeSinks() {
+        List<OutboxSink> active = new ArrayList<>();
+        for (String name : sinkNames) {
+            OutboxSink match = null;
+            for (OutboxSink sink : sinks) {
+                if (sink.name().equals(name.trim())) {
+                    match = sink;
+                }
+            }
+            if (match == null) {
+                throw new IllegalArgumentException("No outbox sink named " + name.trim());
+            }
+            active.add(match);
+        }
+        return active;
+    }
+}
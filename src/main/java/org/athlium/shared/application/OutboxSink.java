@@ -0,0 +1,17 @@
+package org.athlium.shared.application;
+
+import org.athlium.shared.domain.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination for relayed outbox events. Implementations are CDI beans picked by {@link #name()} from
+ * {@code athlium.outbox.sinks}. Delivery is at least once: a batch is published again if the relay fails
+ * before deleting it, so consumers should de-duplicate on the event id.
+ */
+public interface OutboxSink {
+
+    String name();
+
+    void publish(List<OutboxEvent> events);
+}
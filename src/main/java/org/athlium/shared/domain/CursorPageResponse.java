@@ -0,0 +1,56 @@
+package org.athlium.shared.domain;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset sibling of {@link PageResponse}: instead of a page number it carries the cursor of the next page.
+ * The total is only present when the caller asked for it, since counting is what keyset paging avoids.
+ */
+public class CursorPageResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final Long totalElements;
+
+    public CursorPageResponse(List<T> content, int size, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    /**
+     * Builds a page from a query that read one row past {@code size}; that extra row only tells whether
+     * a next page exists and is dropped. {@link PageResponse#fromLookahead} expects the same read.
+     */
+    public static <T> CursorPageResponse<T> fromLookahead(List<T> rows, int size, Function<T, SeekCursor> cursorOf,
+                                                          Long totalElements) {
+        if (rows.size() <= size) {
+            return new CursorPageResponse<>(rows, size, null, totalElements);
+        }
+        List<T> content = rows.subList(0, size);
+        return new CursorPageResponse<>(content, size, cursorOf.apply(content.get(size - 1)).encode(), totalElements);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+}
@@ -0,0 +1,16 @@
+package org.athlium.shared.domain;
+
+import java.time.Instant;
+
+/**
+ * A domain event as stored in the outbox. {@code payload} is the event body serialized as JSON.
+ */
+public record OutboxEvent(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        String payload,
+        Instant occurredAt
+) {
+}
@@ -9,13 +9,31 @@ public class PageResponse<T> {
     private final int size;
     private final long totalElements;
     private final int totalPages;
+    private final boolean totalExact;
 
     public PageResponse(List<T> content, int page, int size, long totalElements) {
+        this(content, page, size, totalElements, true);
+    }
+
+    public PageResponse(List<T> content, int page, int size, long totalElements, boolean totalExact) {
         this.content = content;
         this.page = page;
         this.size = size;
         this.totalElements = totalElements;
         this.totalPages = (int) Math.ceil((double) totalElements / size);
+        this.totalExact = totalExact;
+    }
+
+    /**
+     * Builds an uncounted page from a query that read one row past {@code size}. While the lookahead row is
+     * there the total is only a lower bound that still tells a next page exists; a short page pins it exactly.
+     */
+    public static <T> PageResponse<T> fromLookahead(List<T> rows, int page, int size) {
+        long seen = (long) page * size + rows.size();
+        if (rows.size() > size) {
+            return new PageResponse<>(rows.subList(0, size), page, size, seen, false);
+        }
+        return new PageResponse<>(rows, page, size, seen, page == 0 || !rows.isEmpty());
     }
 
     public List<T> getContent() {
@@ -37,4 +55,8 @@ public class PageResponse<T> {
     public int getTotalPages() {
         return totalPages;
     }
+
+    public boolean isTotalExact() {
+        return totalExact;
+    }
 }
@@ -0,0 +1,55 @@
+package org.athlium.shared.domain;
+
+import org.athlium.shared.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Position of a keyset page: the sort key and id of the last row served. Clients only echo the encoded
+ * form back, so the layout can change without breaking them.
+ */
+public record SeekCursor(String sortKey, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static SeekCursor of(Object sortKey, Long id) {
+        return new SeekCursor(String.valueOf(sortKey), id);
+    }
+
+    /**
+     * Decodes a cursor received from a client. A blank value means "start from the first row".
+     */
+    public static SeekCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("cursor is invalid");
+            }
+            return new SeekCursor(decoded.substring(0, separator), Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("cursor is invalid");
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses the sort key into the type of the column it was read from.
+     */
+    public <T> T sortKey(Function<String, T> parser) {
+        try {
+            return parser.apply(sortKey);
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("cursor is invalid");
+        }
+    }
+}
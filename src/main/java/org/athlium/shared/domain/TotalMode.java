@@ -0,0 +1,24 @@
+package org.athlium.shared.domain;
+
+import org.athlium.shared.exception.BadRequestException;
+
+/**
+ * How a paged list reports its total. {@code ESTIMATE} trades exactness for skipping the count on large
+ * results; {@code NONE} skips it entirely and only tells whether another page follows.
+ */
+public enum TotalMode {
+    EXACT,
+    ESTIMATE,
+    NONE;
+
+    public static TotalMode fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return TotalMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("totalMode must be one of: exact, estimate, none");
+        }
+    }
+}
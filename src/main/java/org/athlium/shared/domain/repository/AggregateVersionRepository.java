@@ -0,0 +1,13 @@
+package org.athlium.shared.domain.repository;
+
+import java.util.Map;
+
+public interface AggregateVersionRepository {
+
+    /**
+     * Increments the counter of the aggregate, creating it on first use, and returns the new version.
+     */
+    long increment(String aggregate);
+
+    Map<String, Long> findAll();
+}
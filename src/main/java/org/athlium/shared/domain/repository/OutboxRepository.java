@@ -0,0 +1,17 @@
+package org.athlium.shared.domain.repository;
+
+import org.athlium.shared.domain.OutboxEvent;
+
+import java.util.List;
+
+public interface OutboxRepository {
+
+    void append(String aggregateType, Long aggregateId, String eventType, String payload);
+
+    /**
+     * Locks the oldest pending events for the current transaction, skipping rows another relay already holds.
+     */
+    List<OutboxEvent> lockNextBatch(int limit);
+
+    void delete(List<Long> ids);
+}
@@ -0,0 +1,71 @@
+package org.athlium.shared.infrastructure;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cheap totals for {@code totalMode=estimate}: PostgreSQL planner row estimates instead of {@code COUNT(*)}.
+ * Small estimates are counted exactly anyway, since the count is cheap there and the planner is least
+ * reliable on selective filters.
+ */
+@ApplicationScoped
+public class PlannerRowEstimator {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    @Inject
+    EntityManager em;
+
+    @ConfigProperty(name = "athlium.pagination.estimate.exact-below", defaultValue = "1000")
+    long exactBelow = 1000;
+
+    public record Total(long value, boolean exact) {
+    }
+
+    /**
+     * Estimates the rows a native SELECT would return from the top node of its plan.
+     */
+    public Total estimateQuery(String selectSql, Map<String, Object> params, LongSupplier exactCount) {
+        Query query = em.createNativeQuery("EXPLAIN " + selectSql);
+        params.forEach(query::setParameter);
+
+        @SuppressWarnings("unchecked")
+        List<Object> plan = query.getResultList();
+        long estimate = -1;
+        if (!plan.isEmpty()) {
+            Matcher matcher = PLAN_ROWS.matcher(String.valueOf(plan.getFirst()));
+            if (matcher.find()) {
+                estimate = Long.parseLong(matcher.group(1));
+            }
+        }
+        return resolve(estimate, exactCount);
+    }
+
+    /**
+     * Estimates an unfiltered table from its {@code reltuples} statistic, maintained by VACUUM and ANALYZE.
+     */
+    public Total estimateTable(String tableName, LongSupplier exactCount) {
+        Number reltuples = (Number) em.createNativeQuery(
+                        "SELECT reltuples FROM pg_class WHERE oid = CAST(:tableName AS regclass)")
+                .setParameter("tableName", tableName)
+                .getSingleResult();
+        return resolve(reltuples != null ? reltuples.longValue() : -1, exactCount);
+    }
+
+    // A negative estimate means the table was never analyzed.
+    private Total resolve(long estimate, LongSupplier exactCount) {
+        if (estimate < exactBelow) {
+            return new Total(exactCount.getAsLong(), true);
+        }
+        return new Total(estimate, false);
+    }
+}
@@ -0,0 +1,134 @@
+package org.athlium.shared.infrastructure.http;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import org.athlium.shared.application.AggregateVersions;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Tags responses of {@link VersionedBy} endpoints with an ETag built from the versions of their aggregates and
+ * answers {@code If-None-Match} revalidations with 304 before the resource method runs. Runs after
+ * authentication, so only callers allowed to read the resource learn that it is unchanged.
+ *
+ * <p>Revalidations are answered from this instance's in-memory versions and never touch the database. Writes
+ * served by this instance show up as soon as they commit; writes served by another instance only once the next
+ * periodic sync ({@code athlium.http.etag.sync-every}) has pulled them in, so a 304 can be that stale at most.
+ */
+@Provider
+@Priority(Priorities.USER)
+public class ConditionalGetFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    static final String ETAG_PROPERTY = ConditionalGetFilter.class.getName() + ".etag";
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Inject
+    AggregateVersions aggregateVersions;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (!HttpMethod.GET.equals(requestContext.getMethod()) && !HttpMethod.HEAD.equals(requestContext.getMethod())) {
+            return;
+        }
+        VersionedBy versionedBy = resolveAnnotation();
+        if (versionedBy == null) {
+            return;
+        }
+        String etag = etag(versionedBy.value());
+        if (etag == null) {
+            return;
+        }
+        requestContext.setProperty(ETAG_PROPERTY, etag);
+        if (matches(requestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH), etag)) {
+            requestContext.abortWith(Response.notModified(new EntityTag(etag)).build());
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Object etag = requestContext.getProperty(ETAG_PROPERTY);
+        if (etag == null || responseContext.getStatus() != Response.Status.OK.getStatusCode()) {
+            return;
+        }
+        if (!responseContext.getHeaders().containsKey(HttpHeaders.ETAG)) {
+            responseContext.getHeaders().putSingle(HttpHeaders.ETAG, new EntityTag((String) etag));
+        }
+        if (!responseContext.getHeaders().containsKey(HttpHeaders.CACHE_CONTROL)) {
+            // Responses depend on the caller's roles; only the caller's own cache may keep them, and must revalidate.
+            responseContext.getHeaders().putSingle(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+    }
+
+    /**
+     * Null when any of the versions is unknown, e.g. before this instance loaded them, so the request is served
+     * in full rather than risking a stale 304.
+     */
+    private String etag(String[] aggregates) {
+        StringBuilder etag = new StringBuilder();
+        for (String aggregate : Arrays.stream(aggregates).sorted().toList()) {
+            Long version = aggregateVersions.versionOf(aggregate);
+            if (version == null) {
+                return null;
+            }
+            if (!etag.isEmpty()) {
+                etag.append('.');
+            }
+            etag.append(aggregate).append('-').append(version);
+        }
+        return etag.toString();
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("\"" + etag + "\"")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private VersionedBy resolveAnnotation() {
+        if (resourceInfo == null || resourceInfo.getResourceMethod() == null) {
+            return null;
+        }
+        Method method = resourceInfo.getResourceMethod();
+        VersionedBy methodAnnotation = method.getAnnotation(VersionedBy.class);
+        if (methodAnnotation != null) {
+            return methodAnnotation;
+        }
+        Class<?> type = resourceInfo.getResourceClass();
+        while (type != null && type != Object.class) {
+            VersionedBy classAnnotation = type.getAnnotation(VersionedBy.class);
+            if (classAnnotation != null) {
+                return classAnnotation;
+            }
+            type = type.getSuperclass();
+        }
+        return null;
+    }
+}
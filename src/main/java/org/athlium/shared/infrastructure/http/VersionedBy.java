@@ -0,0 +1,18 @@
+package org.athlium.shared.infrastructure.http;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks GET endpoints whose response only changes when one of the named aggregates is written, so
+ * {@link ConditionalGetFilter} can answer revalidations from the aggregate versions alone. Writes that change
+ * the response must bump every named aggregate; other instances see the bump within one version sync period.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface VersionedBy {
+
+    String[] value();
+}
@@ -0,0 +1,44 @@
+package org.athlium.shared.infrastructure.repository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.athlium.shared.domain.repository.AggregateVersionRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ApplicationScoped
+public class AggregateVersionRepositoryImpl implements AggregateVersionRepository {
+
+    @Inject
+    EntityManager em;
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public long increment(String aggregate) {
+        Object version = em.createNativeQuery("""
+                        INSERT INTO aggregate_versions (aggregate, version)
+                        VALUES (:aggregate, 1)
+                        ON CONFLICT (aggregate) DO UPDATE SET version = aggregate_versions.version + 1
+                        RETURNING version
+                        """)
+                .setParameter("aggregate", aggregate)
+                .getSingleResult();
+        return ((Number) version).longValue();
+    }
+
+    @Override
+    public Map<String, Long> findAll() {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery("SELECT aggregate, version FROM aggregate_versions")
+                .getResultList();
+        Map<String, Long> versions = new HashMap<>();
+        for (Object[] row : rows) {
+            versions.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,85 @@
+package org.athlium.shared.infrastructure.repository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.athlium.shared.domain.OutboxEvent;
+import org.athlium.shared.domain.repository.OutboxRepository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@ApplicationScoped
+public class OutboxRepositoryImpl implements OutboxRepository {
+
+    @Inject
+    EntityManager em;
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void append(String aggregateType, Long aggregateId, String eventType, String payload) {
+        em.createNativeQuery("""
+                        INSERT INTO outbox (aggregate_type, aggregate_id, event_type, payload)
+                        VALUES (:aggregateType, :aggregateId, :eventType, CAST(:payload AS JSONB))
+                        """)
+                .setParameter("aggregateType", aggregateType)
+                .setParameter("aggregateId", aggregateId)
+                .setParameter("eventType", eventType)
+                .setParameter("payload", payload)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public List<OutboxEvent> lockNextBatch(int limit) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery("""
+                        SELECT o.id, o.aggregate_type, o.aggregate_id, o.event_type, CAST(o.payload AS TEXT), o.occurred_at
+                        FROM outbox o
+                        ORDER BY o.id
+                        LIMIT :limit
+                        FOR UPDATE SKIP LOCKED
+                        """)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream().map(this::mapRow).toList();
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        em.createNativeQuery("DELETE FROM outbox WHERE id IN (:ids)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    private OutboxEvent mapRow(Object[] row) {
+        return new OutboxEvent(
+                ((Number) row[0]).longValue(),
+                (String) row[1],
+                ((Number) row[2]).longValue(),
+                (String) row[3],
+                (String) row[4],
+                toInstant(row[5])
+        );
+    }
+
+    private Instant toInstant(Object value) {
+        if (value instanceof Instant instant) {
+            return instant;
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toInstant();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        }
+        return Instant.parse(value.toString());
+    }
+}
@@ -0,0 +1,28 @@
+package org.athlium.shared.infrastructure.scheduler;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.shared.application.AggregateVersions;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class AggregateVersionSyncScheduler {
+
+    private static final Logger LOG = Logger.getLogger(AggregateVersionSyncScheduler.class);
+
+    @Inject
+    AggregateVersions aggregateVersions;
+
+    @Scheduled(
+            every = "{athlium.http.etag.sync-every}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP
+    )
+    void sync() {
+        try {
+            aggregateVersions.sync();
+        } catch (RuntimeException ex) {
+            LOG.warnf(ex, "Aggregate version sync failed; conditional GETs are answered in full until it recovers");
+        }
+    }
+}
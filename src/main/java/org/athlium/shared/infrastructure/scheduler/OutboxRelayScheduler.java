@@ -0,0 +1,42 @@
+package org.athlium.shared.infrastructure.scheduler;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.shared.application.OutboxRelay;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class OutboxRelayScheduler {
+
+    private static final Logger LOG = Logger.getLogger(OutboxRelayScheduler.class);
+
+    // Bounds one run so a large backlog cannot keep the scheduler thread busy indefinitely.
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    @Inject
+    OutboxRelay outboxRelay;
+
+    @Scheduled(
+            every = "{athlium.outbox.relay.every}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP
+    )
+    void relay() {
+        int relayed = 0;
+        try {
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+                int count = outboxRelay.relayBatch();
+                relayed += count;
+                if (count < outboxRelay.getBatchSize()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            LOG.warnf(ex, "Outbox relay failed after relaying %d events; the rest stay queued", relayed);
+            return;
+        }
+        if (relayed > 0) {
+            LOG.debugf("Outbox relay completed: events=%d", relayed);
+        }
+    }
+}
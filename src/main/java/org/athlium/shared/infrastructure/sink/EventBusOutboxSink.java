@@ -0,0 +1,39 @@
+package org.athlium.shared.infrastructure.sink;
+
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.shared.application.OutboxSink;
+import org.athlium.shared.domain.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Publishes each event on the in-process Vert.x event bus, addressed by its event type (e.g.
+ * {@code booking.created}), with the JSON payload as body and the envelope fields as headers.
+ * Listen with {@code @ConsumeEvent("booking.created")}.
+ */
+@ApplicationScoped
+public class EventBusOutboxSink implements OutboxSink {
+
+    @Inject
+    EventBus eventBus;
+
+    @Override
+    public String name() {
+        return "event-bus";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            DeliveryOptions options = new DeliveryOptions()
+                    .addHeader("eventId", String.valueOf(event.id()))
+                    .addHeader("aggregateType", event.aggregateType())
+                    .addHeader("aggregateId", String.valueOf(event.aggregateId()))
+                    .addHeader("occurredAt", String.valueOf(event.occurredAt()));
+            eventBus.publish(event.eventType(), event.payload(), options);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.athlium.shared.infrastructure.sink;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.shared.application.OutboxSink;
+import org.athlium.shared.domain.OutboxEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Local sink for development and tests: appends one JSON line per event to
+ * {@code athlium.outbox.sink.file.path}, or logs the events when no path is set.
+ */
+@ApplicationScoped
+public class FileOutboxSink implements OutboxSink {
+
+    private static final Logger LOG = Logger.getLogger(FileOutboxSink.class);
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "athlium.outbox.sink.file.path")
+    Optional<String> path = Optional.empty();
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        StringBuilder lines = new StringBuilder();
+        for (OutboxEvent event : events) {
+            lines.append(toJson(event)).append('\n');
+        }
+        if (path.isEmpty() || path.get().isBlank()) {
+            LOG.infof("Outbox events:%n%s", lines);
+            return;
+        }
+        try {
+            Path target = Path.of(path.get());
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            Files.writeString(target, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private String toJson(OutboxEvent event) {
+        try {
+            // Embed the payload as JSON rather than as an escaped string.
+            var line = objectMapper.createObjectNode()
+                    .put("id", event.id())
+                    .put("aggregateType", event.aggregateType())
+                    .put("aggregateId", event.aggregateId())
+                    .put("eventType", event.eventType())
+                    .put("occurredAt", String.valueOf(event.occurredAt()));
+            line.set("payload", objectMapper.readTree(event.payload()));
+            return objectMapper.writeValueAsString(line);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -3,7 +3,10 @@ package org.athlium.users.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.users.domain.model.PackageStatus;
 import org.athlium.users.domain.model.UserWithPackageStatus;
@@ -16,7 +19,7 @@ public class GetAllUsersUseCase {
     UserQueryRepository userQueryRepository;
 
     public PageResponse<UserWithPackageStatus> execute(String status, String search,
-            int page, int size, String sort) {
+            int page, int size, String sort, String totalMode) {
 
         if (page < 1) {
             throw new BadRequestException("Page must be >= 1");
@@ -31,6 +34,21 @@ public class GetAllUsersUseCase {
             sort = "name:asc";
         }
 
-        return userQueryRepository.findAllUsers(status, search, page - 1, size, sort);
+        return userQueryRepository.findAllUsers(status, search, page - 1, size, sort,
+                TotalMode.fromString(totalMode));
+    }
+
+    public CursorPageResponse<UserWithPackageStatus> executeAfter(String status, String search,
+            String cursor, int size, String sort, boolean includeTotal) {
+
+        if (size < 1 || size > 100) {
+            throw new BadRequestException("Size must be between 1 and 100");
+        }
+        if (status != null && !status.isBlank()) {
+            PackageStatus.fromString(status);
+        }
+
+        return userQueryRepository.findMembersAfter(null, null, status, search, SeekCursor.decode(cursor),
+                size, sort, includeTotal);
     }
 }
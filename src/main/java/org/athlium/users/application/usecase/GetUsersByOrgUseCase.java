@@ -3,7 +3,10 @@ package org.athlium.users.application.usecase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.users.domain.model.PackageStatus;
 import org.athlium.users.domain.model.UserWithPackageStatus;
@@ -16,7 +19,7 @@ public class GetUsersByOrgUseCase {
     UserQueryRepository userQueryRepository;
 
     public PageResponse<UserWithPackageStatus> execute(Long organizationId, String status,
-            String search, int page, int size, String sort) {
+            String search, int page, int size, String sort, String totalMode) {
 
         if (organizationId == null) {
             throw new BadRequestException("Organization ID must not be null");
@@ -34,6 +37,24 @@ public class GetUsersByOrgUseCase {
             sort = "name:asc";
         }
 
-        return userQueryRepository.findUsersByOrganization(organizationId, status, search, page - 1, size, sort);
+        return userQueryRepository.findUsersByOrganization(organizationId, status, search, page - 1, size, sort,
+                TotalMode.fromString(totalMode));
+    }
+
+    public CursorPageResponse<UserWithPackageStatus> executeAfter(Long organizationId, String status, String search,
+            String cursor, int size, String sort, boolean includeTotal) {
+
+        if (organizationId == null) {
+            throw new BadRequestException("Organization ID must not be null");
+        }
+        if (size < 1 || size > 100) {
+            throw new BadRequestException("Size must be between 1 and 100");
+        }
+        if (status != null && !status.isBlank()) {
+            PackageStatus.fromString(status);
+        }
+
+        return userQueryRepository.findMembersAfter(null, organizationId, status, search, SeekCursor.decode(cursor),
+                size, sort, includeTotal);
     }
 }
@@ -0,0 +1,18 @@
+package org.athlium.users.application.usecase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.athlium.users.domain.repository.MemberPackageStatusRepository;
+
+@ApplicationScoped
+public class RankMemberPackageStatusUseCase {
+
+    @Inject
+    MemberPackageStatusRepository memberPackageStatusRepository;
+
+    @Transactional
+    public int execute() {
+        return memberPackageStatusRepository.refreshAll();
+    }
+}
@@ -2,6 +2,7 @@ package org.athlium.users.application.usecase;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.athlium.auth.application.service.AuthenticatedUserCache;
 import org.athlium.shared.exception.DomainException;
 import org.athlium.users.application.service.HeadquartersMembershipAuthorizationService;
 import org.athlium.users.domain.model.Role;
@@ -16,6 +17,9 @@ public class RemoveUserFromHeadquartersUseCase {
     @Inject
     UserRepository userRepository;
 
+    @Inject
+    AuthenticatedUserCache authenticatedUserCache;
+
     @Inject
     HeadquartersMembershipAuthorizationService authorizationService;
 
@@ -49,6 +53,8 @@ public class RemoveUserFromHeadquartersUseCase {
                 .active(user.getActive())
                 .build();
 
-        return userRepository.save(updatedUser);
+        User saved = userRepository.save(updatedUser);
+        authenticatedUserCache.invalidate(user.getFirebaseUid());
+        return saved;
     }
 }
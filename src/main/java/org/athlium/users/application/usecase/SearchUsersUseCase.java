@@ -0,0 +1,33 @@
+package org.athlium.users.application.usecase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.athlium.shared.exception.BadRequestException;
+import org.athlium.users.domain.model.UserWithPackageStatus;
+import org.athlium.users.domain.repository.UserQueryRepository;
+
+import java.util.List;
+
+@ApplicationScoped
+public class SearchUsersUseCase {
+
+    static final int MAX_LIMIT = 20;
+
+    @Inject
+    UserQueryRepository userQueryRepository;
+
+    public List<UserWithPackageStatus> execute(Long headquartersId, Long organizationId, String query, int limit) {
+        if (headquartersId != null && organizationId != null) {
+            throw new BadRequestException("Cannot filter by both headquartersId and organizationId");
+        }
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be empty");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        return userQueryRepository.searchMembers(headquartersId, organizationId, query.trim(), limit);
+    }
+}
@@ -2,6 +2,7 @@ package org.athlium.users.application.usecase;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.athlium.auth.application.service.AuthenticatedUserCache;
 import org.athlium.shared.exception.DomainException;
 import org.athlium.users.domain.model.Role;
 import org.athlium.users.domain.model.User;
@@ -26,6 +27,9 @@ public class UpdateUserRolesUseCase {
     @Inject
     UserRepository userRepository;
 
+    @Inject
+    AuthenticatedUserCache authenticatedUserCache;
+
     public User execute(Long userId, Set<Role> newRoles, User currentUser) {
         var user = userRepository.findById(userId)
                 .orElseThrow(() -> new DomainException("User not found"));
@@ -83,6 +87,8 @@ public class UpdateUserRolesUseCase {
                 .active(user.getActive())
                 .build();
 
-        return userRepository.save(updatedUser);
+        User saved = userRepository.save(updatedUser);
+        authenticatedUserCache.invalidate(user.getFirebaseUid());
+        return saved;
     }
 }
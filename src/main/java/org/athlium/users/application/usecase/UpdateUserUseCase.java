@@ -2,6 +2,7 @@ package org.athlium.users.application.usecase;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.athlium.auth.application.service.AuthenticatedUserCache;
 import org.athlium.shared.exception.DomainException;
 import org.athlium.users.domain.model.Role;
 import org.athlium.users.domain.model.User;
@@ -13,6 +14,9 @@ public class UpdateUserUseCase {
     @Inject
     UserRepository userRepository;
 
+    @Inject
+    AuthenticatedUserCache authenticatedUserCache;
+
     public User execute(Long userId, String email, String name, String lastName, Boolean active, User currentUser) {
         validateAdminPrivileges(currentUser);
 
@@ -36,7 +40,9 @@ public class UpdateUserUseCase {
                 .active(active)
                 .build();
 
-        return userRepository.save(updatedUser);
+        User saved = userRepository.save(updatedUser);
+        authenticatedUserCache.invalidate(user.getFirebaseUid());
+        return saved;
     }
 
     private void validateAdminPrivileges(User currentUser) {
@@ -0,0 +1,11 @@
+package org.athlium.users.domain.repository;
+
+/**
+ * Maintains the per-member best package status read by the member listings.
+ */
+public interface MemberPackageStatusRepository {
+
+    void refreshForUser(Long userId);
+
+    int refreshAll();
+}
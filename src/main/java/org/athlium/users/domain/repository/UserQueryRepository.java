@@ -1,6 +1,9 @@
 package org.athlium.users.domain.repository;
 
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.users.domain.model.UserHqMembership;
 import org.athlium.users.domain.model.UserWithPackageStatus;
 
@@ -8,16 +11,29 @@ import java.util.List;
 
 public interface UserQueryRepository {
 
+    /**
+     * Pages the members of a headquarters; {@code totalMode} decides whether the total is counted, estimated or
+     * skipped. The same holds for the organization and all-users listings below.
+     */
     PageResponse<UserWithPackageStatus> findUsersByHeadquarters(Long headquartersId, String status,
-            String search, int page, int size, String sort);
+            String search, int page, int size, String sort, TotalMode totalMode);
 
     PageResponse<UserWithPackageStatus> findUsersByOrganization(Long organizationId, String status,
-            String search, int page, int size, String sort);
+            String search, int page, int size, String sort, TotalMode totalMode);
 
     List<UserHqMembership> findHqMembershipsByUserIds(List<Long> userIds);
 
     PageResponse<UserWithPackageStatus> findAllUsers(String status, String search,
-            int page, int size, String sort);
+            int page, int size, String sort, TotalMode totalMode);
 
     UserWithPackageStatus findUserById(Long userId);
+
+    List<UserWithPackageStatus> searchMembers(Long headquartersId, Long organizationId, String search, int limit);
+
+    /**
+     * Keyset listing of the members of a headquarters, an organization or (both null) every user. Seeks past
+     * {@code after} on (sort column, id) and only counts the matching rows when {@code includeTotal} is set.
+     */
+    CursorPageResponse<UserWithPackageStatus> findMembersAfter(Long headquartersId, Long organizationId,
+            String status, String search, SeekCursor after, int size, String sort, boolean includeTotal);
 }
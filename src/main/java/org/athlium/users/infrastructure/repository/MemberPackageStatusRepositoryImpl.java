@@ -0,0 +1,61 @@
+package org.athlium.users.infrastructure.repository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.athlium.users.domain.repository.MemberPackageStatusRepository;
+
+@ApplicationScoped
+public class MemberPackageStatusRepositoryImpl implements MemberPackageStatusRepository {
+
+    private static final String RANK_EXPRESSION = """
+            CASE
+                WHEN cp.active = false OR cp.period_end < CURRENT_DATE THEN 3
+                WHEN cp.period_end <= CURRENT_DATE + 3 THEN 2
+                ELSE 1
+            END""";
+
+    private static final String STATUS_EXPRESSION = """
+            CASE
+                WHEN cp.active = false OR cp.period_end < CURRENT_DATE THEN 'INACTIVE'
+                WHEN cp.period_end <= CURRENT_DATE + 3 THEN 'EXPIRING'
+                ELSE 'ACTIVE'
+            END""";
+
+    private static final String UPSERT_TEMPLATE = """
+            INSERT INTO member_package_status (user_id, package_status, status_rank, period_end, ranked_on)
+            SELECT DISTINCT ON (cp.user_id)
+                   cp.user_id, %1$s, %2$s, cp.period_end, CURRENT_DATE
+            FROM client_packages cp
+            %3$s
+            ORDER BY cp.user_id, %2$s, cp.period_end DESC
+            ON CONFLICT (user_id) DO UPDATE
+            SET package_status = EXCLUDED.package_status,
+                status_rank = EXCLUDED.status_rank,
+                period_end = EXCLUDED.period_end,
+                ranked_on = EXCLUDED.ranked_on
+            """;
+
+    @Inject
+    EntityManager em;
+
+    @Override
+    @Transactional
+    public void refreshForUser(Long userId) {
+        em.createNativeQuery(UPSERT_TEMPLATE.formatted(STATUS_EXPRESSION, RANK_EXPRESSION, "WHERE cp.user_id = :userId"))
+                .setParameter("userId", userId)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int refreshAll() {
+        em.createNativeQuery("""
+                DELETE FROM member_package_status mps
+                WHERE NOT EXISTS (SELECT 1 FROM client_packages cp WHERE cp.user_id = mps.user_id)
+                """).executeUpdate();
+        return em.createNativeQuery(UPSERT_TEMPLATE.formatted(STATUS_EXPRESSION, RANK_EXPRESSION, ""))
+                .executeUpdate();
+    }
+}
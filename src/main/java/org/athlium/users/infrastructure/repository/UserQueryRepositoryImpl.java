@@ -5,7 +5,11 @@ import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
+import org.athlium.shared.infrastructure.PlannerRowEstimator;
 import org.athlium.users.domain.model.PackageStatus;
 import org.athlium.users.domain.model.Role;
 import org.athlium.users.domain.model.UserHqMembership;
@@ -32,283 +36,56 @@ public class UserQueryRepositoryImpl implements UserQueryRepository {
             "email", "email"
     );
 
+    private static final String MEMBER_SELECT = """
+            SELECT u.id AS user_id, u.name, u.last_name, u.email, u.active,
+                   COALESCE(mps.package_status, 'NO_PACKAGE') AS package_status,
+                   mps.period_end,
+                   (mps.period_end - CURRENT_DATE) AS days_remaining
+            FROM users u
+            LEFT JOIN member_package_status mps ON mps.user_id = u.id
+            """;
+
+    private static final String HEADQUARTERS_SCOPE = """
+            u.id IN (SELECT uh.user_id FROM user_headquarters uh WHERE uh.headquarters_id = :hqId)
+            """;
+
+    private static final String ORGANIZATION_SCOPE = """
+            u.id IN (
+                SELECT uh.user_id
+                FROM user_headquarters uh
+                JOIN headquarters h ON h.id = uh.headquarters_id
+                WHERE h.organization_id = :orgId
+            )
+            """;
+
+    private static final String PREFIX_RANK = """
+            CASE
+                WHEN LOWER(name) LIKE :prefix OR LOWER(last_name) LIKE :prefix OR LOWER(email) LIKE :prefix THEN 0
+                ELSE 1
+            END""";
+
     @Inject
     EntityManager em;
 
+    @Inject
+    PlannerRowEstimator plannerRowEstimator;
+
     @Override
     public PageResponse<UserWithPackageStatus> findUsersByHeadquarters(Long headquartersId, String status,
-            String search, int page, int size, String sort) {
-
-        StringBuilder countSql = new StringBuilder();
-        countSql.append("""
-                WITH user_packages AS (
-                    SELECT DISTINCT u.id AS user_id, u.name, u.last_name, u.email, u.active,
-                           cp.period_end,
-                           CASE
-                               WHEN cp.id IS NULL THEN 4
-                               WHEN cp.active = false THEN 3
-                               WHEN cp.period_end < CURRENT_DATE THEN 3
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 2
-                               ELSE 1
-                           END AS status_rank,
-                           CASE
-                               WHEN cp.id IS NULL THEN 'NO_PACKAGE'
-                               WHEN cp.active = false THEN 'INACTIVE'
-                               WHEN cp.period_end < CURRENT_DATE THEN 'INACTIVE'
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 'EXPIRING'
-                               ELSE 'ACTIVE'
-                           END AS package_status
-                    FROM users u
-                    JOIN user_headquarters uh ON uh.user_id = u.id AND uh.headquarters_id = :hqId
-                    LEFT JOIN client_packages cp ON cp.user_id = u.id
-                    LEFT JOIN client_package_credits cpc ON cpc.package_id = cp.id
-                    LEFT JOIN activity a ON a.id = cpc.activity_id
-                ),
-                best_status AS (
-                    SELECT user_id, name, last_name, email, active,
-                           package_status, period_end,
-                           (period_end - CURRENT_DATE) AS days_remaining,
-                           ROW_NUMBER() OVER (
-                               PARTITION BY user_id
-                               ORDER BY status_rank ASC, period_end DESC
-                           ) AS rn
-                    FROM user_packages
-                )
-                SELECT COUNT(*) FROM best_status WHERE rn = 1
-                """);
+            String search, int page, int size, String sort, TotalMode totalMode) {
 
         Map<String, Object> params = new HashMap<>();
         params.put("hqId", headquartersId);
-
-        addStatusFilterToCount(countSql, params, status);
-        addSearchFilterToCount(countSql, params, search);
-
-        Query countQuery = em.createNativeQuery(countSql.toString());
-        setParameters(countQuery, params);
-        long total = ((Number) countQuery.getSingleResult()).longValue();
-
-        if (total == 0) {
-            return new PageResponse<>(Collections.emptyList(), page, size, 0);
-        }
-
-        StringBuilder dataSql = new StringBuilder();
-        dataSql.append("""
-                WITH user_packages AS (
-                    SELECT DISTINCT u.id AS user_id, u.name, u.last_name, u.email, u.active,
-                           cp.period_end,
-                           CASE
-                               WHEN cp.id IS NULL THEN 4
-                               WHEN cp.active = false THEN 3
-                               WHEN cp.period_end < CURRENT_DATE THEN 3
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 2
-                               ELSE 1
-                           END AS status_rank,
-                           CASE
-                               WHEN cp.id IS NULL THEN 'NO_PACKAGE'
-                               WHEN cp.active = false THEN 'INACTIVE'
-                               WHEN cp.period_end < CURRENT_DATE THEN 'INACTIVE'
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 'EXPIRING'
-                               ELSE 'ACTIVE'
-                           END AS package_status
-                    FROM users u
-                    JOIN user_headquarters uh ON uh.user_id = u.id AND uh.headquarters_id = :hqId
-                    LEFT JOIN client_packages cp ON cp.user_id = u.id
-                    LEFT JOIN client_package_credits cpc ON cpc.package_id = cp.id
-                    LEFT JOIN activity a ON a.id = cpc.activity_id
-                ),
-                best_status AS (
-                    SELECT user_id, name, last_name, email, active,
-                           package_status, period_end,
-                           (period_end - CURRENT_DATE) AS days_remaining,
-                           ROW_NUMBER() OVER (
-                               PARTITION BY user_id
-                               ORDER BY status_rank ASC, period_end DESC
-                           ) AS rn
-                    FROM user_packages
-                )
-                SELECT user_id, name, last_name, email, active,
-                       package_status, period_end, days_remaining
-                FROM best_status
-                WHERE rn = 1
-                """);
-
-        Map<String, Object> dataParams = new HashMap<>();
-        dataParams.put("hqId", headquartersId);
-
-        addStatusFilter(dataSql, dataParams, status);
-        addSearchFilter(dataSql, dataParams, search);
-
-        dataSql.append(" ORDER BY ").append(buildSortClause(sort));
-        dataSql.append(" LIMIT :size OFFSET :offset");
-        dataParams.put("size", size);
-        dataParams.put("offset", page * size);
-
-        Query dataQuery = em.createNativeQuery(dataSql.toString());
-        setParameters(dataQuery, dataParams);
-
-        @SuppressWarnings("unchecked")
-        List<Object[]> rows = dataQuery.getResultList();
-        List<UserWithPackageStatus> users = new ArrayList<>();
-        List<Long> userIds = new ArrayList<>();
-
-        for (Object[] row : rows) {
-            UserWithPackageStatus user = mapRow(row);
-            users.add(user);
-            userIds.add(user.getId());
-        }
-
-        if (!userIds.isEmpty()) {
-            Map<Long, Set<Role>> rolesMap = fetchRolesForUsers(userIds);
-            List<UserHqMembership> memberships = findHqMembershipsByUserIds(userIds);
-            Map<Long, List<UserHqMembership>> membershipsMap = groupMembershipsByUserId(memberships);
-            for (UserWithPackageStatus user : users) {
-                user.setRoles(rolesMap.getOrDefault(user.getId(), Collections.emptySet()));
-                List<UserHqMembership> userMemberships = membershipsMap.getOrDefault(user.getId(), List.of());
-                user.setHqMemberships(userMemberships);
-                user.setHeadquartersIds(extractHeadquartersIds(userMemberships));
-            }
-        }
-
-        return new PageResponse<>(users, page, size, total);
+        return findMembers(HEADQUARTERS_SCOPE, params, status, search, page, size, sort, totalMode);
     }
 
     @Override
     public PageResponse<UserWithPackageStatus> findUsersByOrganization(Long organizationId, String status,
-            String search, int page, int size, String sort) {
-
-        StringBuilder countSql = new StringBuilder();
-        countSql.append("""
-                WITH user_packages AS (
-                    SELECT DISTINCT u.id AS user_id, u.name, u.last_name, u.email, u.active,
-                           cp.period_end,
-                           CASE
-                               WHEN cp.id IS NULL THEN 4
-                               WHEN cp.active = false THEN 3
-                               WHEN cp.period_end < CURRENT_DATE THEN 3
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 2
-                               ELSE 1
-                           END AS status_rank,
-                           CASE
-                               WHEN cp.id IS NULL THEN 'NO_PACKAGE'
-                               WHEN cp.active = false THEN 'INACTIVE'
-                               WHEN cp.period_end < CURRENT_DATE THEN 'INACTIVE'
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 'EXPIRING'
-                               ELSE 'ACTIVE'
-                           END AS package_status
-                    FROM users u
-                    JOIN user_headquarters uh ON uh.user_id = u.id
-                    JOIN headquarters h ON h.id = uh.headquarters_id AND h.organization_id = :orgId
-                    LEFT JOIN client_packages cp ON cp.user_id = u.id
-                    LEFT JOIN client_package_credits cpc ON cpc.package_id = cp.id
-                    LEFT JOIN activity a ON a.id = cpc.activity_id
-                ),
-                best_status AS (
-                    SELECT user_id, name, last_name, email, active,
-                           package_status, period_end,
-                           (period_end - CURRENT_DATE) AS days_remaining,
-                           ROW_NUMBER() OVER (
-                               PARTITION BY user_id
-                               ORDER BY status_rank ASC, period_end DESC
-                           ) AS rn
-                    FROM user_packages
-                )
-                SELECT COUNT(*) FROM best_status WHERE rn = 1
-                """);
+            String search, int page, int size, String sort, TotalMode totalMode) {
 
         Map<String, Object> params = new HashMap<>();
         params.put("orgId", organizationId);
-
-        addStatusFilterToCount(countSql, params, status);
-        addSearchFilterToCount(countSql, params, search);
-
-        Query countQuery = em.createNativeQuery(countSql.toString());
-        setParameters(countQuery, params);
-        long total = ((Number) countQuery.getSingleResult()).longValue();
-
-        if (total == 0) {
-            return new PageResponse<>(Collections.emptyList(), page, size, 0);
-        }
-
-        StringBuilder dataSql = new StringBuilder();
-        dataSql.append("""
-                WITH user_packages AS (
-                    SELECT DISTINCT u.id AS user_id, u.name, u.last_name, u.email, u.active,
-                           cp.period_end,
-                           CASE
-                               WHEN cp.id IS NULL THEN 4
-                               WHEN cp.active = false THEN 3
-                               WHEN cp.period_end < CURRENT_DATE THEN 3
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 2
-                               ELSE 1
-                           END AS status_rank,
-                           CASE
-                               WHEN cp.id IS NULL THEN 'NO_PACKAGE'
-                               WHEN cp.active = false THEN 'INACTIVE'
-                               WHEN cp.period_end < CURRENT_DATE THEN 'INACTIVE'
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 'EXPIRING'
-                               ELSE 'ACTIVE'
-                           END AS package_status
-                    FROM users u
-                    JOIN user_headquarters uh ON uh.user_id = u.id
-                    JOIN headquarters h ON h.id = uh.headquarters_id AND h.organization_id = :orgId
-                    LEFT JOIN client_packages cp ON cp.user_id = u.id
-                    LEFT JOIN client_package_credits cpc ON cpc.package_id = cp.id
-                    LEFT JOIN activity a ON a.id = cpc.activity_id
-                ),
-                best_status AS (
-                    SELECT user_id, name, last_name, email, active,
-                           package_status, period_end,
-                           (period_end - CURRENT_DATE) AS days_remaining,
-                           ROW_NUMBER() OVER (
-                               PARTITION BY user_id
-                               ORDER BY status_rank ASC, period_end DESC
-                           ) AS rn
-                    FROM user_packages
-                )
-                SELECT user_id, name, last_name, email, active,
-                       package_status, period_end, days_remaining
-                FROM best_status
-                WHERE rn = 1
-                """);
-
-        Map<String, Object> dataParams = new HashMap<>();
-        dataParams.put("orgId", organizationId);
-
-        addStatusFilter(dataSql, dataParams, status);
-        addSearchFilter(dataSql, dataParams, search);
-
-        dataSql.append(" ORDER BY ").append(buildSortClause(sort));
-        dataSql.append(" LIMIT :size OFFSET :offset");
-        dataParams.put("size", size);
-        dataParams.put("offset", page * size);
-
-        Query dataQuery = em.createNativeQuery(dataSql.toString());
-        setParameters(dataQuery, dataParams);
-
-        @SuppressWarnings("unchecked")
-        List<Object[]> rows = dataQuery.getResultList();
-        List<UserWithPackageStatus> users = new ArrayList<>();
-        List<Long> userIds = new ArrayList<>();
-
-        for (Object[] row : rows) {
-            UserWithPackageStatus user = mapRow(row);
-            users.add(user);
-            userIds.add(user.getId());
-        }
-
-        if (!userIds.isEmpty()) {
-            Map<Long, Set<Role>> rolesMap = fetchRolesForUsers(userIds);
-            List<UserHqMembership> memberships = findHqMembershipsByUserIds(userIds);
-            Map<Long, List<UserHqMembership>> membershipsMap = groupMembershipsByUserId(memberships);
-            for (UserWithPackageStatus user : users) {
-                user.setRoles(rolesMap.getOrDefault(user.getId(), Collections.emptySet()));
-                List<UserHqMembership> userMemberships = membershipsMap.getOrDefault(user.getId(), List.of());
-                user.setHqMemberships(userMemberships);
-                user.setHeadquartersIds(extractHeadquartersIds(userMemberships));
-            }
-        }
-
-        return new PageResponse<>(users, page, size, total);
+        return findMembers(ORGANIZATION_SCOPE, params, status, search, page, size, sort, totalMode);
     }
 
     @Override
@@ -343,107 +120,103 @@ public class UserQueryRepositoryImpl implements UserQueryRepository {
 
     @Override
     public PageResponse<UserWithPackageStatus> findAllUsers(String status, String search,
-            int page, int size, String sort) {
-
-        boolean filterNoPackage = status != null && status.equalsIgnoreCase("NO_PACKAGE");
-
-        StringBuilder countSql = new StringBuilder();
-        countSql.append("""
-                WITH user_packages AS (
-                    SELECT DISTINCT u.id AS user_id, u.name, u.last_name, u.email, u.active,
-                           cp.period_end,
-                           CASE
-                               WHEN cp.active = false THEN 3
-                               WHEN cp.period_end < CURRENT_DATE THEN 3
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 2
-                               ELSE 1
-                           END AS status_rank,
-                           CASE
-                               WHEN cp.active = false THEN 'INACTIVE'
-                               WHEN cp.period_end < CURRENT_DATE THEN 'INACTIVE'
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 'EXPIRING'
-                               ELSE 'ACTIVE'
-                           END AS package_status
-                    FROM users u
-                    LEFT JOIN client_packages cp ON cp.user_id = u.id
-                    LEFT JOIN client_package_credits cpc ON cpc.package_id = cp.id
-                    LEFT JOIN activity a ON a.id = cpc.activity_id
-                ),
-                best_status AS (
-                    SELECT user_id, name, last_name, email, active,
-                           COALESCE(package_status, 'NO_PACKAGE') AS package_status,
-                           period_end,
-                           (period_end - CURRENT_DATE) AS days_remaining,
-                           ROW_NUMBER() OVER (
-                               PARTITION BY user_id
-                               ORDER BY status_rank ASC NULLS LAST, period_end DESC NULLS LAST
-                           ) AS rn
-                    FROM user_packages
-                )
-                SELECT COUNT(*) FROM best_status WHERE rn = 1
-                """);
+            int page, int size, String sort, TotalMode totalMode) {
 
-        Map<String, Object> params = new HashMap<>();
+        return findMembers("TRUE", new HashMap<>(), status, search, page, size, sort, totalMode);
+    }
 
-        addStatusFilterToCount(countSql, params, status);
-        addSearchFilterToCount(countSql, params, search);
+    @Override
+    public UserWithPackageStatus findUserById(Long userId) {
+        Query query = em.createNativeQuery(MEMBER_SELECT + " WHERE u.id = :userId");
+        query.setParameter("userId", userId);
 
-        Query countQuery = em.createNativeQuery(countSql.toString());
-        setParameters(countQuery, params);
-        long total = ((Number) countQuery.getSingleResult()).longValue();
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
 
-        if (total == 0) {
-            return new PageResponse<>(Collections.emptyList(), page, size, 0);
+        if (rows.isEmpty()) {
+            return null;
         }
 
-        StringBuilder dataSql = new StringBuilder();
-        dataSql.append("""
-                WITH user_packages AS (
-                    SELECT DISTINCT u.id AS user_id, u.name, u.last_name, u.email, u.active,
-                           cp.period_end,
-                           CASE
-                               WHEN cp.active = false THEN 3
-                               WHEN cp.period_end < CURRENT_DATE THEN 3
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 2
-                               ELSE 1
-                           END AS status_rank,
-                           CASE
-                               WHEN cp.active = false THEN 'INACTIVE'
-                               WHEN cp.period_end < CURRENT_DATE THEN 'INACTIVE'
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 'EXPIRING'
-                               ELSE 'ACTIVE'
-                           END AS package_status
-                    FROM users u
-                    LEFT JOIN client_packages cp ON cp.user_id = u.id
-                    LEFT JOIN client_package_credits cpc ON cpc.package_id = cp.id
-                    LEFT JOIN activity a ON a.id = cpc.activity_id
-                ),
-                best_status AS (
-                    SELECT user_id, name, last_name, email, active,
-                           COALESCE(package_status, 'NO_PACKAGE') AS package_status,
-                           period_end,
-                           (period_end - CURRENT_DATE) AS days_remaining,
-                           ROW_NUMBER() OVER (
-                               PARTITION BY user_id
-                               ORDER BY status_rank ASC NULLS LAST, period_end DESC NULLS LAST
-                           ) AS rn
-                    FROM user_packages
-                )
-                SELECT user_id, name, last_name, email, active,
-                       package_status, period_end, days_remaining
-                FROM best_status
-                WHERE rn = 1
+        UserWithPackageStatus user = mapRow(rows.get(0));
+
+        Map<Long, Set<Role>> rolesMap = fetchRolesForUsers(List.of(userId));
+        user.setRoles(rolesMap.getOrDefault(userId, Collections.emptySet()));
+        List<UserHqMembership> memberships = findHqMembershipsByUserIds(List.of(userId));
+        user.setHqMemberships(memberships);
+        user.setHeadquartersIds(extractHeadquartersIds(memberships));
+
+        return user;
+    }
+
+    @Override
+    public List<UserWithPackageStatus> searchMembers(Long headquartersId, Long organizationId,
+            String search, int limit) {
+
+        Map<String, Object> params = new HashMap<>();
+        String scope = scopeFor(headquartersId, organizationId, params);
+
+        StringBuilder sql = new StringBuilder(membersCte(scope, params, search)).append("""
+                 SELECT user_id, name, last_name, email, active,
+                        package_status, period_end, days_remaining
+                 FROM members
                 """);
+        sql.append(" ORDER BY ").append(PREFIX_RANK).append(", name ASC, last_name ASC, user_id ASC");
+        sql.append(" LIMIT :limit");
+        params.put("prefix", escapeLike(search.toLowerCase()) + "%");
+        params.put("limit", limit);
 
-        Map<String, Object> dataParams = new HashMap<>();
+        Query query = em.createNativeQuery(sql.toString());
+        setParameters(query, params);
 
-        addStatusFilter(dataSql, dataParams, status);
-        addSearchFilter(dataSql, dataParams, search);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        List<UserWithPackageStatus> users = new ArrayList<>();
+        for (Object[] row : rows) {
+            users.add(mapRow(row));
+        }
+        enrichWithRolesAndMemberships(users);
+        return users;
+    }
 
-        dataSql.append(" ORDER BY ").append(buildSortClause(sort));
-        dataSql.append(" LIMIT :size OFFSET :offset");
-        dataParams.put("size", size);
-        dataParams.put("offset", page * size);
+    @Override
+    public CursorPageResponse<UserWithPackageStatus> findMembersAfter(Long headquartersId, Long organizationId,
+            String status, String search, SeekCursor after, int size, String sort, boolean includeTotal) {
+
+        Map<String, Object> params = new HashMap<>();
+        String members = membersCte(scopeFor(headquartersId, organizationId, params), params, search);
+
+        Long total = null;
+        if (includeTotal) {
+            StringBuilder countSql = new StringBuilder(members).append(" SELECT COUNT(*) FROM members WHERE TRUE");
+            Map<String, Object> countParams = new HashMap<>(params);
+            addStatusFilter(countSql, countParams, status);
+
+            Query countQuery = em.createNativeQuery(countSql.toString());
+            setParameters(countQuery, countParams);
+            total = ((Number) countQuery.getSingleResult()).longValue();
+        }
+
+        MemberSort memberSort = parseSort(sort);
+        StringBuilder dataSql = new StringBuilder(members).append("""
+                 SELECT user_id, name, last_name, email, active,
+                        package_status, period_end, days_remaining
+                 FROM members
+                 WHERE TRUE
+                """);
+        Map<String, Object> dataParams = new HashMap<>(params);
+        addStatusFilter(dataSql, dataParams, status);
+        if (after != null) {
+            dataSql.append(" AND (").append(memberSort.column()).append(", user_id) ")
+                    .append("ASC".equals(memberSort.direction()) ? ">" : "<")
+                    .append(" (:afterKey, :afterId)");
+            dataParams.put("afterKey", after.sortKey());
+            dataParams.put("afterId", after.id());
+        }
+        // Keyset order is the sort column plus the id tie-breaker; the search prefix rank is not part of it.
+        dataSql.append(" ORDER BY ").append(memberSort.column()).append(" ").append(memberSort.direction())
+                .append(", user_id ").append(memberSort.direction());
+        dataSql.append(" LIMIT :size");
+        dataParams.put("size", size + 1);
 
         Query dataQuery = em.createNativeQuery(dataSql.toString());
         setParameters(dataQuery, dataParams);
@@ -451,92 +224,154 @@ public class UserQueryRepositoryImpl implements UserQueryRepository {
         @SuppressWarnings("unchecked")
         List<Object[]> rows = dataQuery.getResultList();
         List<UserWithPackageStatus> users = new ArrayList<>();
-        List<Long> userIds = new ArrayList<>();
-
         for (Object[] row : rows) {
-            UserWithPackageStatus user = mapRow(row);
-            users.add(user);
-            userIds.add(user.getId());
+            users.add(mapRow(row));
         }
 
-        if (!userIds.isEmpty()) {
-            Map<Long, Set<Role>> rolesMap = fetchRolesForUsers(userIds);
-            List<UserHqMembership> memberships = findHqMembershipsByUserIds(userIds);
-            Map<Long, List<UserHqMembership>> membershipsMap = groupMembershipsByUserId(memberships);
-            for (UserWithPackageStatus user : users) {
-                user.setRoles(rolesMap.getOrDefault(user.getId(), Collections.emptySet()));
-                List<UserHqMembership> userMemberships = membershipsMap.getOrDefault(user.getId(), List.of());
-                user.setHqMemberships(userMemberships);
-                user.setHeadquartersIds(extractHeadquartersIds(userMemberships));
-            }
+        CursorPageResponse<UserWithPackageStatus> page = CursorPageResponse.fromLookahead(
+                users, size, user -> SeekCursor.of(sortKeyOf(memberSort.column(), user), user.getId()), total);
+        enrichWithRolesAndMemberships(page.getContent());
+        return page;
+    }
+
+    // --- Private helper methods ---
+
+    /**
+     * Pages the members matching the given scope predicate over {@code users u}. Package status comes from
+     * the member_package_status projection, so both the count and the page are plain indexed reads.
+     */
+    private PageResponse<UserWithPackageStatus> findMembers(String scope, Map<String, Object> params,
+            String status, String search, int page, int size, String sort, TotalMode totalMode) {
+
+        Map<String, Object> baseParams = new HashMap<>(params);
+        String members = membersCte(scope, baseParams, search);
+
+        if (totalMode == TotalMode.NONE) {
+            // One row past the page tells whether another one follows.
+            List<UserWithPackageStatus> users = findMemberPage(members, baseParams, status, search, sort,
+                    size + 1, page * size);
+            PageResponse<UserWithPackageStatus> result = PageResponse.fromLookahead(users, page, size);
+            enrichWithRolesAndMemberships(result.getContent());
+            return result;
+        }
+
+        StringBuilder filterSql = new StringBuilder(" FROM members WHERE TRUE");
+        Map<String, Object> filterParams = new HashMap<>(baseParams);
+        addStatusFilter(filterSql, filterParams, status);
+
+        long total;
+        boolean totalExact = true;
+        if (totalMode == TotalMode.ESTIMATE) {
+            PlannerRowEstimator.Total estimated = plannerRowEstimator.estimateQuery(
+                    members + " SELECT 1" + filterSql, filterParams,
+                    () -> countMembers(members + " SELECT COUNT(*)" + filterSql, filterParams));
+            total = estimated.value();
+            totalExact = estimated.exact();
+        } else {
+            total = countMembers(members + " SELECT COUNT(*)" + filterSql, filterParams);
         }
 
-        return new PageResponse<>(users, page, size, total);
+        if (total == 0) {
+            return new PageResponse<>(Collections.emptyList(), page, size, 0);
+        }
+
+        List<UserWithPackageStatus> users = findMemberPage(members, baseParams, status, search, sort,
+                size, page * size);
+        enrichWithRolesAndMemberships(users);
+
+        return new PageResponse<>(users, page, size, total, totalExact);
     }
 
-    @Override
-    public UserWithPackageStatus findUserById(Long userId) {
-        String sql = """
-                WITH user_packages AS (
-                    SELECT DISTINCT u.id AS user_id, u.name, u.last_name, u.email, u.active,
-                           cp.period_end,
-                           CASE
-                               WHEN cp.active = false THEN 3
-                               WHEN cp.period_end < CURRENT_DATE THEN 3
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 2
-                               ELSE 1
-                           END AS status_rank,
-                           CASE
-                               WHEN cp.active = false THEN 'INACTIVE'
-                               WHEN cp.period_end < CURRENT_DATE THEN 'INACTIVE'
-                               WHEN cp.period_end <= CURRENT_DATE + 3 THEN 'EXPIRING'
-                               ELSE 'ACTIVE'
-                           END AS package_status
-                    FROM users u
-                    LEFT JOIN client_packages cp ON cp.user_id = u.id
-                    LEFT JOIN client_package_credits cpc ON cpc.package_id = cp.id
-                    LEFT JOIN activity a ON a.id = cpc.activity_id
-                    WHERE u.id = :userId
-                ),
-                best_status AS (
-                    SELECT user_id, name, last_name, email, active,
-                           COALESCE(package_status, 'NO_PACKAGE') AS package_status,
-                           period_end,
-                           (period_end - CURRENT_DATE) AS days_remaining,
-                           ROW_NUMBER() OVER (
-                               PARTITION BY user_id
-                               ORDER BY status_rank ASC NULLS LAST, period_end DESC NULLS LAST
-                           ) AS rn
-                    FROM user_packages
-                )
-                SELECT user_id, name, last_name, email, active,
-                       package_status, period_end, days_remaining
-                FROM best_status
-                WHERE rn = 1
-                """;
+    private long countMembers(String countSql, Map<String, Object> params) {
+        Query countQuery = em.createNativeQuery(countSql);
+        setParameters(countQuery, params);
+        return ((Number) countQuery.getSingleResult()).longValue();
+    }
 
-        Query query = em.createNativeQuery(sql);
-        query.setParameter("userId", userId);
+    private List<UserWithPackageStatus> findMemberPage(String members, Map<String, Object> baseParams,
+            String status, String search, String sort, int limit, int offset) {
 
-        @SuppressWarnings("unchecked")
-        List<Object[]> rows = query.getResultList();
+        StringBuilder dataSql = new StringBuilder(members).append("""
+                 SELECT user_id, name, last_name, email, active,
+                        package_status, period_end, days_remaining
+                 FROM members
+                 WHERE TRUE
+                """);
+        Map<String, Object> dataParams = new HashMap<>(baseParams);
+        addStatusFilter(dataSql, dataParams, status);
 
-        if (rows.isEmpty()) {
-            return null;
+        dataSql.append(" ORDER BY ");
+        if (search != null && !search.isBlank()) {
+            // Members whose name, last name or email start with the term come first.
+            dataSql.append(PREFIX_RANK).append(", ");
+            dataParams.put("prefix", escapeLike(search.toLowerCase()) + "%");
         }
+        dataSql.append(buildSortClause(sort));
+        dataSql.append(" LIMIT :size OFFSET :offset");
+        dataParams.put("size", limit);
+        dataParams.put("offset", offset);
 
-        UserWithPackageStatus user = mapRow(rows.get(0));
+        Query dataQuery = em.createNativeQuery(dataSql.toString());
+        setParameters(dataQuery, dataParams);
 
-        Map<Long, Set<Role>> rolesMap = fetchRolesForUsers(List.of(userId));
-        user.setRoles(rolesMap.getOrDefault(userId, Collections.emptySet()));
-        List<UserHqMembership> memberships = findHqMembershipsByUserIds(List.of(userId));
-        user.setHqMemberships(memberships);
-        user.setHeadquartersIds(extractHeadquartersIds(memberships));
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = dataQuery.getResultList();
+        List<UserWithPackageStatus> users = new ArrayList<>();
+        for (Object[] row : rows) {
+            users.add(mapRow(row));
+        }
+        return users;
+    }
 
-        return user;
+    /**
+     * Builds the scoped member set. The search predicate is applied to the base {@code users} scan so the
+     * trigram indexes on name, last_name and email narrow the rows before the projection join.
+     */
+    private String membersCte(String scope, Map<String, Object> params, String search) {
+        StringBuilder sql = new StringBuilder("WITH members AS (")
+                .append(MEMBER_SELECT)
+                .append(" WHERE ")
+                .append(scope);
+        addSearchFilter(sql, params, search);
+        return sql.append(")").toString();
     }
 
-    // --- Private helper methods ---
+    private String scopeFor(Long headquartersId, Long organizationId, Map<String, Object> params) {
+        if (headquartersId != null) {
+            params.put("hqId", headquartersId);
+            return HEADQUARTERS_SCOPE;
+        }
+        if (organizationId != null) {
+            params.put("orgId", organizationId);
+            return ORGANIZATION_SCOPE;
+        }
+        return "TRUE";
+    }
+
+    private String sortKeyOf(String column, UserWithPackageStatus user) {
+        return switch (column) {
+            case "last_name" -> user.getLastName();
+            case "email" -> user.getEmail();
+            default -> user.getName();
+        };
+    }
+
+    private void enrichWithRolesAndMemberships(List<UserWithPackageStatus> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+
+        List<Long> userIds = users.stream().map(UserWithPackageStatus::getId).toList();
+        Map<Long, Set<Role>> rolesMap = fetchRolesForUsers(userIds);
+        List<UserHqMembership> memberships = findHqMembershipsByUserIds(userIds);
+        Map<Long, List<UserHqMembership>> membershipsMap = groupMembershipsByUserId(memberships);
+        for (UserWithPackageStatus user : users) {
+            user.setRoles(rolesMap.getOrDefault(user.getId(), Collections.emptySet()));
+            List<UserHqMembership> userMemberships = membershipsMap.getOrDefault(user.getId(), List.of());
+            user.setHqMemberships(userMemberships);
+            user.setHeadquartersIds(extractHeadquartersIds(userMemberships));
+        }
+    }
 
     private UserWithPackageStatus mapRow(Object[] row) {
         UserWithPackageStatus user = new UserWithPackageStatus();
@@ -611,8 +446,13 @@ public class UserQueryRepositoryImpl implements UserQueryRepository {
     }
 
     private String buildSortClause(String sort) {
+        MemberSort memberSort = parseSort(sort);
+        return memberSort.column() + " " + memberSort.direction();
+    }
+
+    private MemberSort parseSort(String sort) {
         if (sort == null || sort.isBlank()) {
-            return "name ASC";
+            return new MemberSort("name", "ASC");
         }
 
         String[] parts = sort.split(":");
@@ -621,14 +461,14 @@ public class UserQueryRepositoryImpl implements UserQueryRepository {
 
         String sqlColumn = SORT_FIELD_MAP.get(field);
         if (sqlColumn == null) {
-            return "name ASC";
+            return new MemberSort("name", "ASC");
         }
 
         if (!"ASC".equals(direction) && !"DESC".equals(direction)) {
             direction = "ASC";
         }
 
-        return sqlColumn + " " + direction;
+        return new MemberSort(sqlColumn, direction);
     }
 
     private void addStatusFilter(StringBuilder sql, Map<String, Object> params, String status) {
@@ -640,23 +480,13 @@ public class UserQueryRepositoryImpl implements UserQueryRepository {
 
     private void addSearchFilter(StringBuilder sql, Map<String, Object> params, String search) {
         if (search != null && !search.isBlank()) {
-            sql.append(" AND (LOWER(name) LIKE :search OR LOWER(last_name) LIKE :search OR LOWER(email) LIKE :search)");
-            params.put("search", "%" + search.toLowerCase() + "%");
+            sql.append(" AND (LOWER(u.name) LIKE :search OR LOWER(u.last_name) LIKE :search OR LOWER(u.email) LIKE :search)");
+            params.put("search", "%" + escapeLike(search.toLowerCase()) + "%");
         }
     }
 
-    private void addStatusFilterToCount(StringBuilder sql, Map<String, Object> params, String status) {
-        if (status != null && !status.isBlank()) {
-            sql.append(" AND package_status = :status");
-            params.put("status", status.toUpperCase());
-        }
-    }
-
-    private void addSearchFilterToCount(StringBuilder sql, Map<String, Object> params, String search) {
-        if (search != null && !search.isBlank()) {
-            sql.append(" AND (LOWER(name) LIKE :search OR LOWER(last_name) LIKE :search OR LOWER(email) LIKE :search)");
-            params.put("search", "%" + search.toLowerCase() + "%");
-        }
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 
     private void setParameters(Query query, Map<String, Object> params) {
@@ -664,4 +494,7 @@ public class UserQueryRepositoryImpl implements UserQueryRepository {
             query.setParameter(entry.getKey(), entry.getValue());
         }
     }
+
+    private record MemberSort(String column, String direction) {
+    }
 }
@@ -0,0 +1,23 @@
+package org.athlium.users.infrastructure.scheduler;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.athlium.users.application.usecase.RankMemberPackageStatusUseCase;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class MemberPackageStatusScheduler {
+
+    private static final Logger LOG = Logger.getLogger(MemberPackageStatusScheduler.class);
+
+    @Inject
+    RankMemberPackageStatusUseCase rankMemberPackageStatusUseCase;
+
+    // EXPIRING/INACTIVE are relative to CURRENT_DATE, so re-rank right after the date changes.
+    @Scheduled(cron = "0 5 0 * * ?", timeZone = "UTC")
+    void rankMembers() {
+        int ranked = rankMemberPackageStatusUseCase.execute();
+        LOG.infof("Member package status ranking completed: members=%d", ranked);
+    }
+}
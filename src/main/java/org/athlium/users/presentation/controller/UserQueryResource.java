@@ -12,6 +12,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 import org.athlium.auth.infrastructure.security.Authenticated;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
 import org.athlium.shared.dto.ApiResponse;
 import org.athlium.shared.exception.BadRequestException;
@@ -20,6 +21,7 @@ import org.athlium.users.application.usecase.GetAllUsersUseCase;
 import org.athlium.users.application.usecase.GetUserByIdUseCase;
 import org.athlium.users.application.usecase.GetUsersByHqUseCase;
 import org.athlium.users.application.usecase.GetUsersByOrgUseCase;
+import org.athlium.users.application.usecase.SearchUsersUseCase;
 import org.athlium.users.domain.model.UserWithPackageStatus;
 import org.athlium.users.infrastructure.dto.UserResponseDto;
 import org.athlium.users.presentation.mapper.UserQueryDtoMapper;
@@ -44,6 +46,9 @@ public class UserQueryResource {
     @Inject
     GetUserByIdUseCase getUserByIdUseCase;
 
+    @Inject
+    SearchUsersUseCase searchUsersUseCase;
+
     @Inject
     UserQueryDtoMapper userQueryDtoMapper;
 
@@ -57,7 +62,10 @@ public class UserQueryResource {
             @QueryParam("search") String search,
             @DefaultValue("1") @QueryParam("page") int page,
             @DefaultValue("20") @QueryParam("size") int size,
-            @DefaultValue("name:asc") @QueryParam("sort") String sort) {
+            @DefaultValue("name:asc") @QueryParam("sort") String sort,
+            @QueryParam("cursor") String cursor,
+            @QueryParam("includeTotal") boolean includeTotal,
+            @DefaultValue("exact") @QueryParam("totalMode") String totalMode) {
 
         try {
             if (headquartersId != null && headquarterId != null && !headquartersId.equals(headquarterId)) {
@@ -87,19 +95,40 @@ public class UserQueryResource {
                         .build();
             }
 
+            if (cursor != null) {
+                CursorPageResponse<UserWithPackageStatus> cursorPage;
+                if (effectiveHeadquartersId != null) {
+                    cursorPage = getUsersByHqUseCase.executeAfter(effectiveHeadquartersId, status, search, cursor, size,
+                            sort, includeTotal);
+                } else if (organizationId != null) {
+                    cursorPage = getUsersByOrgUseCase.executeAfter(organizationId, status, search, cursor, size, sort,
+                            includeTotal);
+                } else {
+                    cursorPage = getAllUsersUseCase.executeAfter(status, search, cursor, size, sort, includeTotal);
+                }
+
+                CursorPageResponse<UserResponseDto> mappedCursorPage = new CursorPageResponse<>(
+                        userQueryDtoMapper.toResponseList(cursorPage.getContent()), cursorPage.getSize(),
+                        cursorPage.getNextCursor(), cursorPage.getTotalElements());
+
+                return Response.ok(ApiResponse.success("Users retrieved", mappedCursorPage)).build();
+            }
+
             PageResponse<UserWithPackageStatus> usersPage;
 
             if (effectiveHeadquartersId != null) {
-                usersPage = getUsersByHqUseCase.execute(effectiveHeadquartersId, status, search, page, size, sort);
+                usersPage = getUsersByHqUseCase.execute(effectiveHeadquartersId, status, search, page, size, sort,
+                        totalMode);
             } else if (organizationId != null) {
-                usersPage = getUsersByOrgUseCase.execute(organizationId, status, search, page, size, sort);
+                usersPage = getUsersByOrgUseCase.execute(organizationId, status, search, page, size, sort, totalMode);
             } else {
-                usersPage = getAllUsersUseCase.execute(status, search, page, size, sort);
+                usersPage = getAllUsersUseCase.execute(status, search, page, size, sort, totalMode);
             }
 
             List<UserResponseDto> mappedContent = userQueryDtoMapper.toResponseList(usersPage.getContent());
             PageResponse<UserResponseDto> mappedPage = new PageResponse<>(
-                    mappedContent, usersPage.getPage(), usersPage.getSize(), usersPage.getTotalElements());
+                    mappedContent, usersPage.getPage(), usersPage.getSize(), usersPage.getTotalElements(),
+                    usersPage.isTotalExact());
 
             return Response.ok(ApiResponse.success("Users retrieved", mappedPage)).build();
 
@@ -118,6 +147,20 @@ public class UserQueryResource {
         }
     }
 
+    Response getUsers(
+            Long headquartersId,
+            Long headquarterId,
+            Long headquartetsId,
+            Long organizationId,
+            String status,
+            String search,
+            int page,
+            int size,
+            String sort) {
+        return getUsers(headquartersId, headquarterId, headquartetsId, organizationId, status, search, page, size, sort,
+                null, false, null);
+    }
+
     Response getUsers(
             Long headquartersId,
             Long headquarterId,
@@ -141,6 +184,27 @@ public class UserQueryResource {
         return getUsers(headquartersId, null, null, organizationId, status, search, page, size, sort);
     }
 
+    @GET
+    @Path("/search")
+    public Response searchUsers(
+            @QueryParam("q") String query,
+            @QueryParam("headquartersId") Long headquartersId,
+            @QueryParam("organizationId") Long organizationId,
+            @DefaultValue("10") @QueryParam("limit") int limit) {
+        try {
+            List<UserWithPackageStatus> users = searchUsersUseCase.execute(headquartersId, organizationId, query, limit);
+            return Response.ok(ApiResponse.success("Users retrieved", userQueryDtoMapper.toResponseList(users))).build();
+        } catch (BadRequestException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(ApiResponse.error(e.getMessage()))
+                    .build();
+        } catch (Exception e) {
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(ApiResponse.error("Unexpected error"))
+                    .build();
+        }
+    }
+
     @GET
     @Path("/{id}")
     public Response getUserById(@PathParam("id") Long id) {
@@ -0,0 +1,5 @@
+-- Composite (sort key, id) indexes so cursor pages seek straight to the last row served.
+CREATE INDEX IF NOT EXISTS idx_session_instances_starts_at_id ON session_instances(starts_at, id);
+CREATE INDEX IF NOT EXISTS idx_bookings_created_at_id ON bookings(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_payments_paid_at_id ON payments(paid_at, id);
+CREATE INDEX IF NOT EXISTS idx_users_name_id ON users(name, id);
@@ -0,0 +1,18 @@
+-- Payment count and revenue per organization, headquarters, method and day. Kept current by the payment
+-- create/update/delete flows; the revenue rebuild endpoint regenerates it from payments.
+CREATE TABLE payment_daily_rollup (
+    organization_id BIGINT NOT NULL,
+    headquarters_id BIGINT NOT NULL,
+    method VARCHAR(24) NOT NULL,
+    day DATE NOT NULL,
+    payment_count BIGINT NOT NULL,
+    total_amount NUMERIC(14, 2) NOT NULL,
+    PRIMARY KEY (organization_id, headquarters_id, method, day)
+);
+
+CREATE INDEX idx_payment_daily_rollup_day ON payment_daily_rollup(day);
+
+INSERT INTO payment_daily_rollup (organization_id, headquarters_id, method, day, payment_count, total_amount)
+SELECT p.organization_id, p.headquarters_id, p.method, p.paid_at, COUNT(*), SUM(p.amount)
+FROM payments p
+GROUP BY p.organization_id, p.headquarters_id, p.method, p.paid_at;
@@ -0,0 +1,4 @@
+-- Lets the payment list pick each payment's latest package with a single index probe.
+-- It also covers lookups by payment_id alone, so the old single-column index is dropped.
+CREATE INDEX IF NOT EXISTS idx_client_packages_payment_id_id ON client_packages(payment_id, id DESC);
+DROP INDEX IF EXISTS idx_client_packages_payment_id;
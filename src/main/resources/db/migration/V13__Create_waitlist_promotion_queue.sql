@@ -0,0 +1,12 @@
+-- Sessions with a freed seat waiting for the promotion worker. One row per session: further cancellations
+-- before the worker runs reuse it. Sessions whose waitlist could not be promoted for lack of credits stay
+-- queued with a later next_attempt_at.
+CREATE TABLE waitlist_promotion_queue (
+    session_id BIGINT PRIMARY KEY,
+    enqueued_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    attempts INT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_waitlist_promotion_queue_session FOREIGN KEY (session_id) REFERENCES session_instances(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_waitlist_promotion_queue_next_attempt ON waitlist_promotion_queue(next_attempt_at);
@@ -0,0 +1,10 @@
+-- Domain events written in the same transaction as the change they describe and deleted once the relay
+-- has handed them to every sink.
+CREATE TABLE outbox (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(40) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(80) NOT NULL,
+    payload JSONB NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
@@ -0,0 +1,30 @@
+-- Member-facing weekly timetable: one row per session, already joined to its activity name and carrying
+-- the booking counters, so a headquarters' week is a single index range scan. Kept current by session
+-- generation, the booking flows and activity updates; the nightly occupancy repair reconciles any drift.
+-- Weeks start on Monday, UTC, the same weeks session generation works in.
+CREATE TABLE session_timetable (
+    session_id BIGINT PRIMARY KEY,
+    headquarters_id BIGINT NOT NULL,
+    week_start DATE NOT NULL,
+    activity_id BIGINT NOT NULL,
+    activity_name VARCHAR(255),
+    starts_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    ends_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    max_participants INTEGER,
+    confirmed_count INTEGER NOT NULL,
+    waitlisted_count INTEGER NOT NULL,
+    CONSTRAINT fk_session_timetable_session FOREIGN KEY (session_id) REFERENCES session_instances(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_session_timetable_hq_week ON session_timetable(headquarters_id, week_start, starts_at, session_id);
+CREATE INDEX idx_session_timetable_activity ON session_timetable(activity_id);
+
+INSERT INTO session_timetable (
+    session_id, headquarters_id, week_start, activity_id, activity_name, starts_at, ends_at, status,
+    max_participants, confirmed_count, waitlisted_count
+)
+SELECT s.id, s.headquarters_id, CAST(date_trunc('week', s.starts_at AT TIME ZONE 'UTC') AS DATE), s.activity_id,
+       a.name, s.starts_at, s.ends_at, s.status, s.max_participants, s.confirmed_count, s.waitlisted_count
+FROM session_instances s
+LEFT JOIN activity a ON a.id = s.activity_id;
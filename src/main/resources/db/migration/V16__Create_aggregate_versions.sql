@@ -0,0 +1,6 @@
+-- One counter per cacheable aggregate, bumped in the same transaction as every write to it. Instances keep an
+-- in-memory copy to answer conditional GETs without querying the aggregate itself.
+CREATE TABLE aggregate_versions (
+    aggregate VARCHAR(60) PRIMARY KEY,
+    version BIGINT NOT NULL
+);
@@ -0,0 +1,15 @@
+ALTER TABLE session_instances
+    ADD COLUMN IF NOT EXISTS confirmed_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS waitlisted_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE session_instances s
+SET confirmed_count  = c.confirmed,
+    waitlisted_count = c.waitlisted
+FROM (
+    SELECT session_id,
+           COUNT(*) FILTER (WHERE status = 'CONFIRMED')  AS confirmed,
+           COUNT(*) FILTER (WHERE status = 'WAITLISTED') AS waitlisted
+    FROM bookings
+    GROUP BY session_id
+) c
+WHERE s.id = c.session_id;
@@ -0,0 +1,36 @@
+-- Best package status per member, maintained by the package flows and re-ranked nightly.
+-- Members without any package have no row and read as NO_PACKAGE.
+CREATE TABLE member_package_status (
+    user_id BIGINT PRIMARY KEY,
+    package_status VARCHAR(20) NOT NULL,
+    status_rank SMALLINT NOT NULL,
+    period_end DATE,
+    ranked_on DATE NOT NULL,
+    CONSTRAINT fk_member_package_status_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_member_package_status_status ON member_package_status(package_status, user_id);
+
+INSERT INTO member_package_status (user_id, package_status, status_rank, period_end, ranked_on)
+SELECT DISTINCT ON (cp.user_id)
+       cp.user_id,
+       CASE
+           WHEN cp.active = false OR cp.period_end < CURRENT_DATE THEN 'INACTIVE'
+           WHEN cp.period_end <= CURRENT_DATE + 3 THEN 'EXPIRING'
+           ELSE 'ACTIVE'
+       END,
+       CASE
+           WHEN cp.active = false OR cp.period_end < CURRENT_DATE THEN 3
+           WHEN cp.period_end <= CURRENT_DATE + 3 THEN 2
+           ELSE 1
+       END,
+       cp.period_end,
+       CURRENT_DATE
+FROM client_packages cp
+ORDER BY cp.user_id,
+         CASE
+             WHEN cp.active = false OR cp.period_end < CURRENT_DATE THEN 3
+             WHEN cp.period_end <= CURRENT_DATE + 3 THEN 2
+             ELSE 1
+         END,
+         cp.period_end DESC;
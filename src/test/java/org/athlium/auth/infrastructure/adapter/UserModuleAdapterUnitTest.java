@@ -77,6 +77,37 @@ class UserModuleAdapterUnitTest {
         assertEquals("HQ A", authenticatedUser.getHeadquarters().get(0).getName());
     }
 
+    @Test
+    void shouldResolveMembershipGraphWithOneBatchPerRepository() {
+        User professor = User.builder()
+                .id(8L)
+                .firebaseUid("professor")
+                .email("professor@test.com")
+                .roles(Set.of(Role.PROFESSOR))
+                .headquartersIds(Set.of(20L, 21L, 22L, 30L))
+                .active(true)
+                .build();
+
+        userRepository.userByUid = professor;
+        headquartersRepository.headquartersById.put(20L, Headquarters.builder().id(20L).organizationId(2L).name("HQ A").build());
+        headquartersRepository.headquartersById.put(21L, Headquarters.builder().id(21L).organizationId(2L).name("HQ B").build());
+        headquartersRepository.headquartersById.put(22L, Headquarters.builder().id(22L).organizationId(2L).name("HQ C").build());
+        headquartersRepository.headquartersById.put(30L, Headquarters.builder().id(30L).organizationId(3L).name("HQ D").build());
+        organizationRepository.organizationsById.put(2L, Organization.builder().id(2L).name("Org Two").build());
+        organizationRepository.organizationsById.put(3L, Organization.builder().id(3L).name("Org Three").build());
+
+        AuthenticatedUser authenticatedUser = adapter.enrichWithUserData(
+                "professor",
+                AuthenticatedUser.builder().firebaseUid("professor")
+        ).build();
+
+        assertEquals("Org Two", authenticatedUser.getOrganizationName());
+        assertEquals(3, authenticatedUser.getHeadquarters().size());
+        assertEquals(1, headquartersRepository.batchCalls);
+        assertEquals(1, organizationRepository.batchCalls);
+        assertEquals(0, headquartersRepository.singleLookups + organizationRepository.singleLookups);
+    }
+
     @Test
     void shouldResolveMockPrefixedUidToPersistedUserUid() {
         User superadmin = User.builder()
@@ -142,6 +173,8 @@ class UserModuleAdapterUnitTest {
 
     private static class StubHeadquartersRepository implements HeadquartersRepository {
         private final java.util.Map<Long, Headquarters> headquartersById = new java.util.HashMap<>();
+        private int singleLookups;
+        private int batchCalls;
 
         @Override
         public Headquarters save(Headquarters headquarters) {
@@ -150,9 +183,16 @@ class UserModuleAdapterUnitTest {
 
         @Override
         public Optional<Headquarters> findById(Long id) {
+            singleLookups++;
             return Optional.ofNullable(headquartersById.get(id));
         }
 
+        @Override
+        public List<Headquarters> findByIds(java.util.Collection<Long> ids) {
+            batchCalls++;
+            return ids.stream().map(headquartersById::get).filter(java.util.Objects::nonNull).toList();
+        }
+
         @Override
         public List<Headquarters> findAll() {
             return List.of();
@@ -175,6 +215,8 @@ class UserModuleAdapterUnitTest {
 
     private static class StubOrganizationRepository implements OrganizationRepository {
         private final java.util.Map<Long, Organization> organizationsById = new java.util.HashMap<>();
+        private int singleLookups;
+        private int batchCalls;
 
         @Override
         public Organization save(Organization organization) {
@@ -183,9 +225,16 @@ class UserModuleAdapterUnitTest {
 
         @Override
         public Optional<Organization> findById(Long id) {
+            singleLookups++;
             return Optional.ofNullable(organizationsById.get(id));
         }
 
+        @Override
+        public List<Organization> findByIds(java.util.Collection<Long> ids) {
+            batchCalls++;
+            return ids.stream().map(organizationsById::get).filter(java.util.Objects::nonNull).toList();
+        }
+
         @Override
         public List<Organization> findAll() {
             return List.of();
@@ -6,6 +6,7 @@ import jakarta.ws.rs.container.ResourceInfo;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import org.athlium.auth.application.ports.TokenValidator;
+import org.athlium.auth.application.service.AuthenticatedUserCache;
 import org.athlium.auth.application.ports.UserProvider;
 import org.athlium.auth.domain.exception.InvalidTokenException;
 import org.athlium.auth.domain.model.AuthenticatedUser;
@@ -32,6 +33,7 @@ class FirebaseAuthFilterUnitTest {
         filter.tokenValidator = new NotReadyTokenValidator();
         filter.userProvider = new PassthroughUserProvider();
         filter.securityContext = new SecurityContext();
+        filter.authenticatedUserCache = new AuthenticatedUserCache();
         filter.authBypassEnabled = false;
 
         ResponseHolder responseHolder = new ResponseHolder();
@@ -52,6 +54,7 @@ class FirebaseAuthFilterUnitTest {
         filter.tokenValidator = new AlwaysValidTokenValidator();
         filter.userProvider = new PassthroughUserProvider();
         filter.securityContext = new SecurityContext();
+        filter.authenticatedUserCache = new AuthenticatedUserCache();
         filter.authBypassEnabled = false;
 
         ResponseHolder responseHolder = new ResponseHolder();
@@ -70,6 +73,7 @@ class FirebaseAuthFilterUnitTest {
         filter.tokenValidator = new InvalidTokenValidator();
         filter.userProvider = new PassthroughUserProvider();
         filter.securityContext = new SecurityContext();
+        filter.authenticatedUserCache = new AuthenticatedUserCache();
         filter.authBypassEnabled = false;
 
         ResponseHolder responseHolder = new ResponseHolder();
@@ -83,6 +87,43 @@ class FirebaseAuthFilterUnitTest {
         assertEquals("Invalid token", body.getMessage());
     }
 
+    @Test
+    void shouldReuseCachedLocalUserDataForSameFirebaseUid() throws IOException, NoSuchMethodException {
+        CountingUserProvider userProvider = new CountingUserProvider();
+        FirebaseAuthFilter filter = new FirebaseAuthFilter();
+        filter.resourceInfo = securedResourceInfo();
+        filter.tokenValidator = new AlwaysValidTokenValidator();
+        filter.userProvider = userProvider;
+        filter.securityContext = new SecurityContext();
+        filter.authenticatedUserCache = new AuthenticatedUserCache();
+        filter.authBypassEnabled = false;
+
+        filter.filter(requestContext(HttpMethod.GET, "Bearer token-1", new ResponseHolder()));
+        filter.filter(requestContext(HttpMethod.GET, "Bearer token-2", new ResponseHolder()));
+
+        assertEquals(1, userProvider.enrichCalls);
+        assertEquals(7L, filter.securityContext.getCurrentUser().getUserId());
+        assertEquals("valid@test.com", filter.securityContext.getCurrentUser().getEmail());
+    }
+
+    @Test
+    void shouldReloadLocalUserDataAfterInvalidation() throws IOException, NoSuchMethodException {
+        CountingUserProvider userProvider = new CountingUserProvider();
+        FirebaseAuthFilter filter = new FirebaseAuthFilter();
+        filter.resourceInfo = securedResourceInfo();
+        filter.tokenValidator = new AlwaysValidTokenValidator();
+        filter.userProvider = userProvider;
+        filter.securityContext = new SecurityContext();
+        filter.authenticatedUserCache = new AuthenticatedUserCache();
+        filter.authBypassEnabled = false;
+
+        filter.filter(requestContext(HttpMethod.GET, "Bearer token-1", new ResponseHolder()));
+        filter.authenticatedUserCache.invalidate("uid-100");
+        filter.filter(requestContext(HttpMethod.GET, "Bearer token-2", new ResponseHolder()));
+
+        assertEquals(2, userProvider.enrichCalls);
+    }
+
     private ResourceInfo securedResourceInfo() throws NoSuchMethodException {
         Method method = SecuredEndpoint.class.getMethod("me");
         return (ResourceInfo) Proxy.newProxyInstance(
@@ -215,6 +256,19 @@ class FirebaseAuthFilterUnitTest {
         }
     }
 
+    private static class CountingUserProvider extends PassthroughUserProvider {
+        int enrichCalls;
+
+        @Override
+        public AuthenticatedUser.AuthenticatedUserBuilder enrichWithUserData(String firebaseUid, AuthenticatedUser.AuthenticatedUserBuilder builder) {
+            enrichCalls++;
+            return builder
+                    .userId(7L)
+                    .roles(java.util.Set.of())
+                    .active(true);
+        }
+    }
+
     private static class SecuredEndpoint {
         @Authenticated
         public void me() {
@@ -0,0 +1,102 @@
+package org.athlium.auth.infrastructure.security;
+
+import org.athlium.auth.domain.exception.InvalidTokenException;
+import org.athlium.auth.domain.model.AuthProvider;
+import org.athlium.auth.domain.model.DecodedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VerifiedTokenCacheUnitTest {
+
+    private VerifiedTokenCache cache;
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedTokenCache();
+        verifications = new AtomicInteger();
+    }
+
+    @Test
+    void shouldVerifySameTokenOnlyOnce() {
+        Function<String, DecodedToken> verifier = counting(Instant.now().plusSeconds(3600));
+
+        cache.get("token-a", verifier);
+        DecodedToken second = cache.get("token-a", verifier);
+
+        assertEquals(1, verifications.get());
+        assertEquals("uid-token-a", second.getUid());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void shouldVerifyAgainOnceTokenExpired() {
+        Function<String, DecodedToken> verifier = counting(Instant.now().minusSeconds(1));
+
+        cache.get("token-a", verifier);
+        cache.get("token-a", verifier);
+
+        assertEquals(2, verifications.get());
+        assertEquals(0, cache.entryCount());
+    }
+
+    @Test
+    void shouldNotCacheFailedVerifications() {
+        Function<String, DecodedToken> failing = token -> {
+            verifications.incrementAndGet();
+            throw InvalidTokenException.malformed();
+        };
+
+        assertThrows(InvalidTokenException.class, () -> cache.get("token-a", failing));
+        assertThrows(InvalidTokenException.class, () -> cache.get("token-a", failing));
+
+        assertEquals(2, verifications.get());
+        assertEquals(0, cache.entryCount());
+    }
+
+    @Test
+    void shouldEvictTokenClosestToExpiryWhenFull() {
+        cache.maxEntries = 2;
+        cache.get("token-a", counting(Instant.now().plusSeconds(60)));
+        cache.get("token-b", counting(Instant.now().plusSeconds(3600)));
+
+        cache.get("token-c", counting(Instant.now().plusSeconds(3600)));
+        cache.get("token-b", counting(Instant.now().plusSeconds(3600)));
+        cache.get("token-a", counting(Instant.now().plusSeconds(60)));
+
+        assertEquals(4, verifications.get());
+        assertEquals(2, cache.entryCount());
+    }
+
+    @Test
+    void shouldBypassCacheWhenDisabled() {
+        cache.enabled = false;
+        Function<String, DecodedToken> verifier = counting(Instant.now().plusSeconds(3600));
+
+        cache.get("token-a", verifier);
+        cache.get("token-a", verifier);
+
+        assertEquals(2, verifications.get());
+    }
+
+    private Function<String, DecodedToken> counting(Instant expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return DecodedToken.builder()
+                    .uid("uid-" + token)
+                    .email(token + "@test.com")
+                    .provider(AuthProvider.EMAIL)
+                    .issuedAt(Instant.now())
+                    .expiresAt(expiresAt)
+                    .build();
+        };
+    }
+}
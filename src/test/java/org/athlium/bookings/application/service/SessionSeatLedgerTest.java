@@ -0,0 +1,384 @@
+package org.athlium.bookings.application.service;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.athlium.bookings.domain.model.BookingStatus;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.shared.domain.CursorPageResponse;
+import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
+import org.athlium.shared.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionSeatLedgerTest {
+
+    private static final Long SESSION_ID = 10L;
+
+    private SessionSeatLedger ledger;
+    private InMemorySessionRepository sessionRepository;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository = new InMemorySessionRepository();
+        ledger = new SessionSeatLedger();
+        ledger.sessionInstanceRepository = sessionRepository;
+        ledger.ttlSeconds = 60;
+    }
+
+    @Test
+    void shouldWarmFromSessionCountersAndAdmitRemainingSeats() {
+        sessionRepository.configure(2, false, 0);
+        sessionRepository.session.setConfirmedCount(1);
+
+        var reservation = ledger.reserve(SESSION_ID);
+        ledger.confirm(reservation, BookingStatus.CONFIRMED);
+
+        assertEquals(BookingStatus.CONFIRMED, reservation.status());
+        BadRequestException ex = assertThrows(BadRequestException.class, () -> ledger.reserve(SESSION_ID));
+        assertEquals("Session is full", ex.getMessage());
+    }
+
+    @Test
+    void shouldAdmitToWaitlistAndRejectWhenWaitlistIsFull() {
+        sessionRepository.configure(1, true, 1);
+        sessionRepository.session.setConfirmedCount(1);
+
+        var reservation = ledger.reserve(SESSION_ID);
+
+        assertEquals(BookingStatus.WAITLISTED, reservation.status());
+        BadRequestException ex = assertThrows(BadRequestException.class, () -> ledger.reserve(SESSION_ID));
+        assertEquals("Waitlist is full for this session", ex.getMessage());
+    }
+
+    @Test
+    void shouldFreeSeatWhenReservationIsReleased() {
+        sessionRepository.configure(1, false, 0);
+
+        var reservation = ledger.reserve(SESSION_ID);
+        ledger.release(reservation);
+
+        assertEquals(BookingStatus.CONFIRMED, ledger.reserve(SESSION_ID).status());
+    }
+
+    @Test
+    void shouldFreeSeatWhenConfirmedBookingIsCancelled() {
+        sessionRepository.configure(1, false, 0);
+        ledger.confirm(ledger.reserve(SESSION_ID), BookingStatus.CONFIRMED);
+
+        ledger.recordCancellation(SESSION_ID, BookingStatus.CONFIRMED, false);
+
+        assertEquals(BookingStatus.CONFIRMED, ledger.reserve(SESSION_ID).status());
+    }
+
+    @Test
+    void shouldNotAdmitAheadOfWaitlistedUsers() {
+        sessionRepository.configure(2, true, 3);
+        sessionRepository.session.setConfirmedCount(1);
+        sessionRepository.session.setWaitlistedCount(1);
+
+        assertEquals(BookingStatus.WAITLISTED, ledger.reserve(SESSION_ID).status());
+    }
+
+    @Test
+    void shouldKeepFreedSeatForPendingPromotion() {
+        sessionRepository.configure(1, true, 3);
+        ledger.confirm(ledger.reserve(SESSION_ID), BookingStatus.CONFIRMED);
+
+        ledger.recordCancellation(SESSION_ID, BookingStatus.CONFIRMED, true);
+
+        assertEquals(BookingStatus.WAITLISTED, ledger.reserve(SESSION_ID).status());
+    }
+
+    @Test
+    void shouldReconcileWithAuthoritativeCounts() {
+        sessionRepository.configure(2, false, 0);
+        ledger.confirm(ledger.reserve(SESSION_ID), BookingStatus.CONFIRMED);
+        ledger.confirm(ledger.reserve(SESSION_ID), BookingStatus.CONFIRMED);
+
+        sessionRepository.session.setConfirmedCount(1);
+        ledger.reconcile(sessionRepository.session);
+
+        assertEquals(BookingStatus.CONFIRMED, ledger.reserve(SESSION_ID).status());
+    }
+
+    @Test
+    void shouldNotGateSessionsThatAreNotOpen() {
+        sessionRepository.configure(0, false, 0);
+        sessionRepository.session.setStatus(SessionStatus.CLOSED);
+
+        var reservation = ledger.reserve(SESSION_ID);
+
+        assertFalse(reservation.isTracked());
+    }
+
+    @Test
+    void shouldOnlyCountBookingOnceTransactionCommits() {
+        sessionRepository.configure(1, false, 0);
+        StubTransactionSynchronizationRegistry transaction = new StubTransactionSynchronizationRegistry();
+        ledger.transactionSynchronizationRegistry = transaction;
+
+        ledger.confirm(ledger.reserve(SESSION_ID), BookingStatus.CONFIRMED);
+        transaction.complete(Status.STATUS_ROLLEDBACK);
+
+        assertEquals(BookingStatus.CONFIRMED, ledger.reserve(SESSION_ID).status());
+    }
+
+    @Test
+    void shouldNotCountBookingTwiceWhenCountersAreRefreshedBeforeCommitCallback() {
+        sessionRepository.configure(2, false, 0);
+        StubTransactionSynchronizationRegistry transaction = new StubTransactionSynchronizationRegistry();
+        ledger.transactionSynchronizationRegistry = transaction;
+
+        ledger.confirm(ledger.reserve(SESSION_ID), BookingStatus.CONFIRMED);
+        // The next request locks the row after the commit and reads the booking before the callback runs.
+        sessionRepository.session.setConfirmedCount(1);
+        ledger.reconcile(sessionRepository.session);
+        transaction.complete(Status.STATUS_COMMITTED);
+
+        assertEquals(BookingStatus.CONFIRMED, ledger.reserve(SESSION_ID).status());
+    }
+
+    @Test
+    void shouldKeepSeatTakenWhenCancellationRollsBack() {
+        sessionRepository.configure(1, false, 0);
+        ledger.confirm(ledger.reserve(SESSION_ID), BookingStatus.CONFIRMED);
+        StubTransactionSynchronizationRegistry transaction = new StubTransactionSynchronizationRegistry();
+        ledger.transactionSynchronizationRegistry = transaction;
+
+        ledger.recordCancellation(SESSION_ID, BookingStatus.CONFIRMED, false);
+        transaction.complete(Status.STATUS_ROLLEDBACK);
+
+        assertThrows(BadRequestException.class, () -> ledger.reserve(SESSION_ID));
+    }
+
+    @Test
+    void shouldNeverOverbookUnderConcurrentReservations() throws Exception {
+        int maxParticipants = 20;
+        int waitlistMaxSize = 5;
+        int requests = 5_000;
+        sessionRepository.configure(maxParticipants, true, waitlistMaxSize);
+
+        AtomicInteger confirmed = new AtomicInteger();
+        AtomicInteger waitlisted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    SessionSeatLedger.SeatReservation reservation;
+                    try {
+                        reservation = ledger.reserve(SESSION_ID);
+                    } catch (BadRequestException ex) {
+                        rejected.incrementAndGet();
+                        return null;
+                    }
+                    ledger.confirm(reservation, reservation.status());
+                    if (reservation.status() == BookingStatus.CONFIRMED) {
+                        confirmed.incrementAndGet();
+                    } else {
+                        waitlisted.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(maxParticipants, confirmed.get());
+        assertEquals(waitlistMaxSize, waitlisted.get());
+        assertEquals(requests - maxParticipants - waitlistMaxSize, rejected.get());
+    }
+
+    @Test
+    void shouldNeverOverbookWhenSomeReservationsAreRolledBack() throws Exception {
+        int maxParticipants = 30;
+        int requests = 3_000;
+        sessionRepository.configure(maxParticipants, false, 0);
+
+        Map<Integer, BookingStatus> persisted = new ConcurrentHashMap<>();
+        AtomicInteger released = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                int requestNumber = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    SessionSeatLedger.SeatReservation reservation;
+                    try {
+                        reservation = ledger.reserve(SESSION_ID);
+                    } catch (BadRequestException ex) {
+                        return null;
+                    }
+                    // Every third admitted request fails later (e.g. no credits) and gives its seat back.
+                    if (requestNumber % 3 == 0) {
+                        ledger.release(reservation);
+                        released.incrementAndGet();
+                    } else {
+                        persisted.put(requestNumber, reservation.status());
+                        ledger.confirm(reservation, reservation.status());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(persisted.size() <= maxParticipants);
+        assertTrue(persisted.values().stream().allMatch(status -> status == BookingStatus.CONFIRMED));
+        assertThrows(BadRequestException.class, () -> ledger.reserve(SESSION_ID));
+        assertTrue(released.get() > 0);
+    }
+
+    private static class InMemorySessionRepository implements SessionInstanceRepository {
+        private final SessionInstance session = new SessionInstance();
+
+        private void configure(int maxParticipants, boolean waitlistEnabled, int waitlistMaxSize) {
+            session.setId(SESSION_ID);
+            session.setStatus(SessionStatus.OPEN);
+            session.setMaxParticipants(maxParticipants);
+            session.setWaitlistEnabled(waitlistEnabled);
+            session.setWaitlistMaxSize(waitlistMaxSize);
+        }
+
+        @Override
+        public SessionInstance save(SessionInstance sessionInstance) {
+            return sessionInstance;
+        }
+
+        @Override
+        public boolean existsByOrganizationAndHeadquartersAndActivityAndStartsAt(Long organizationId,
+                                                                                  Long headquartersId,
+                                                                                  Long activityId,
+                                                                                  Instant startsAt) {
+            return false;
+        }
+
+        @Override
+        public Optional<SessionInstance> findById(Long id) {
+            return Optional.of(session);
+        }
+
+        @Override
+        public Optional<SessionInstance> findByIdForUpdate(Long id) {
+            return findById(id);
+        }
+
+        @Override
+        public int[] insertIgnoringConflicts(List<SessionInstance> sessions) {
+            return new int[sessions.size()];
+        }
+
+        @Override
+        public void adjustOccupancy(Long sessionId, int confirmedDelta, int waitlistedDelta) {
+        }
+
+        @Override
+        public List<Long> findIdsStartingFrom(Instant from, long afterId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<Long> rebuildOccupancyCounters(List<Long> sessionIds) {
+            return List.of();
+        }
+
+        @Override
+        public PageResponse<SessionInstance> findSessions(Long organizationId, Long headquartersId,
+                                                          Long activityId, SessionStatus status,
+                                                          Instant from, Instant to, int page, int size,
+                                                          boolean sortAscending, TotalMode totalMode) {
+            return new PageResponse<>(List.of(), page, size, 0);
+        }
+
+        @Override
+        public CursorPageResponse<SessionInstance> findSessionsAfter(Long organizationId, Long headquartersId,
+                                                                     Long activityId, SessionStatus status,
+                                                                     Instant from, Instant to, SeekCursor after,
+                                                                     int size, boolean sortAscending,
+                                                                     boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
+    }
+
+    private static class StubTransactionSynchronizationRegistry implements TransactionSynchronizationRegistry {
+        private final List<Synchronization> synchronizations = new ArrayList<>();
+
+        void complete(int status) {
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+            synchronizations.clear();
+        }
+
+        @Override
+        public Object getTransactionKey() {
+            return this;
+        }
+
+        @Override
+        public void putResource(Object key, Object value) {
+        }
+
+        @Override
+        public Object getResource(Object key) {
+            return null;
+        }
+
+        @Override
+        public void registerInterposedSynchronization(Synchronization sync) {
+            synchronizations.add(sync);
+        }
+
+        @Override
+        public int getTransactionStatus() {
+            return Status.STATUS_ACTIVE;
+        }
+
+        @Override
+        public void setRollbackOnly() {
+        }
+
+        @Override
+        public boolean getRollbackOnly() {
+            return false;
+        }
+    }
+}
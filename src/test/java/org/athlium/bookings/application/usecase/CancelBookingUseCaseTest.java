@@ -1,22 +1,35 @@
 package org.athlium.bookings.application.usecase;
 
+import org.athlium.bookings.application.service.SessionSeatLedger;
 import org.athlium.bookings.domain.model.Booking;
+import org.athlium.bookings.domain.model.BookingEvent;
 import org.athlium.bookings.domain.model.BookingStatus;
 import org.athlium.bookings.domain.repository.BookingRepository;
+import org.athlium.bookings.domain.repository.WaitlistPromotionQueueRepository;
 import org.athlium.clients.application.service.ClientPackageCreditService;
 import org.athlium.gym.domain.model.SessionInstance;
 import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.model.TimetableEntry;
 import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.application.EventOutbox;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -29,6 +42,9 @@ class CancelBookingUseCaseTest {
     private InMemoryBookingRepository bookingRepository;
     private InMemorySessionRepository sessionRepository;
     private StubClientPackageCreditService creditService;
+    private StubWaitlistPromotionQueueRepository promotionQueue;
+    private RecordingEventOutbox eventOutbox;
+    private RecordingSessionTimetableRepository timetableRepository;
 
     @BeforeEach
     void setUp() {
@@ -39,64 +55,103 @@ class CancelBookingUseCaseTest {
         useCase.bookingRepository = bookingRepository;
         useCase.sessionInstanceRepository = sessionRepository;
         useCase.clientPackageCreditService = creditService;
+        useCase.sessionSeatLedger = new SessionSeatLedger();
+        promotionQueue = new StubWaitlistPromotionQueueRepository();
+        useCase.waitlistPromotionQueueRepository = promotionQueue;
+        eventOutbox = new RecordingEventOutbox();
+        useCase.eventOutbox = eventOutbox;
+        timetableRepository = new RecordingSessionTimetableRepository();
+        useCase.sessionTimetableRepository = timetableRepository;
     }
 
     @Test
-    void shouldPromoteFirstWaitlistedBookingAfterConfirmedCancellation() {
+    void shouldQueuePromotionInsteadOfPromotingAfterConfirmedCancellation() {
         Booking confirmed = booking(1L, 10L, 100L, BookingStatus.CONFIRMED, Instant.parse("2026-01-01T10:00:00Z"));
         Booking waitlist1 = booking(2L, 10L, 101L, BookingStatus.WAITLISTED, Instant.parse("2026-01-01T10:01:00Z"));
-        Booking waitlist2 = booking(3L, 10L, 102L, BookingStatus.WAITLISTED, Instant.parse("2026-01-01T10:02:00Z"));
-        bookingRepository.bookings.addAll(List.of(confirmed, waitlist1, waitlist2));
+        bookingRepository.bookings.addAll(List.of(confirmed, waitlist1));
+        sessionRepository.waitlistedCount = 1;
 
         var result = useCase.execute(1L, "cancel-1");
 
         assertEquals(BookingStatus.CANCELLED, result.cancelledBooking().getStatus());
-        assertNotNull(result.promotedBooking());
-        assertEquals(2L, result.promotedBooking().getId());
-        assertEquals(BookingStatus.CONFIRMED, result.promotedBooking().getStatus());
-        assertEquals(88L, result.promotedBooking().getConsumedPackageId());
+        assertNull(result.promotedBooking());
+        assertEquals(BookingStatus.WAITLISTED, waitlist1.getStatus());
+        assertEquals(List.of(10L), promotionQueue.enqueued);
         assertEquals(1, creditService.refundCalls);
-        assertEquals(1, creditService.consumeCalls);
+        assertEquals(0, creditService.consumeCalls);
+        assertEquals(-1, sessionRepository.confirmedDelta);
+        assertEquals(0, sessionRepository.waitlistedDelta);
+        assertEquals(List.of(BookingEvent.CANCELLED), eventOutbox.eventTypes);
+        assertEquals(BookingStatus.CONFIRMED, ((BookingEvent) eventOutbox.payloads.get(0)).previousStatus());
+        assertEquals(List.of(10L), timetableRepository.refreshedSessionIds);
     }
 
     @Test
     void shouldNotPromoteWhenCancellingWaitlistedBooking() {
         Booking waitlisted = booking(4L, 10L, 100L, BookingStatus.WAITLISTED, Instant.parse("2026-01-01T10:00:00Z"));
         bookingRepository.bookings.add(waitlisted);
+        sessionRepository.waitlistedCount = 1;
 
         var result = useCase.execute(4L, "cancel-2");
 
         assertEquals(BookingStatus.CANCELLED, result.cancelledBooking().getStatus());
         assertNull(result.promotedBooking());
         assertEquals(0, creditService.refundCalls);
+        assertEquals(List.of(), promotionQueue.enqueued);
+        assertEquals(0, sessionRepository.confirmedDelta);
+        assertEquals(-1, sessionRepository.waitlistedDelta);
+    }
+
+    @Test
+    void shouldNotQueuePromotionWhenSessionHasNoWaitlist() {
+        Booking confirmed = booking(1L, 10L, 100L, BookingStatus.CONFIRMED, Instant.parse("2026-01-01T10:00:00Z"));
+        bookingRepository.bookings.add(confirmed);
+
+        useCase.execute(1L, "cancel-no-waitlist");
+
+        assertEquals(List.of(), promotionQueue.enqueued);
     }
 
     @Test
-    void shouldFailPromotionWhenWaitlistedUserHasNoCredits() {
+    void shouldCancelEvenWhenWaitlistedUserHasNoCredits() {
         Booking confirmed = booking(1L, 10L, 100L, BookingStatus.CONFIRMED, Instant.parse("2026-01-01T10:00:00Z"));
         confirmed.setConsumedPackageId(70L);
         Booking waitlist = booking(2L, 10L, 101L, BookingStatus.WAITLISTED, Instant.parse("2026-01-01T10:01:00Z"));
         bookingRepository.bookings.addAll(List.of(confirmed, waitlist));
-
+        sessionRepository.waitlistedCount = 1;
         creditService.hasCredit = false;
 
-        BadRequestException ex = assertThrows(BadRequestException.class, () -> useCase.execute(1L, "cancel-no-credit"));
+        var result = useCase.execute(1L, "cancel-no-credit");
 
-        assertEquals("Waitlisted user has no available credits for this activity", ex.getMessage());
+        assertEquals(BookingStatus.CANCELLED, result.cancelledBooking().getStatus());
+        assertEquals(List.of(10L), promotionQueue.enqueued);
     }
 
     @Test
-    void shouldReturnSamePromotedBookingOnCancelRetryWithSameKey() {
-        Booking confirmed = booking(10L, 20L, 200L, BookingStatus.CONFIRMED, Instant.parse("2026-01-01T10:00:00Z"));
-        Booking waitlist = booking(11L, 20L, 201L, BookingStatus.WAITLISTED, Instant.parse("2026-01-01T10:01:00Z"));
-        bookingRepository.bookings.addAll(List.of(confirmed, waitlist));
+    void shouldReturnPromotedBookingRecordedOnOriginalCancelWhenRetried() {
+        Booking cancelled = booking(10L, 20L, 200L, BookingStatus.CANCELLED, Instant.parse("2026-01-01T10:00:00Z"));
+        cancelled.setCancelRequestId("same-cancel-key");
+        cancelled.setPromotedBookingId(11L);
+        Booking promoted = booking(11L, 20L, 201L, BookingStatus.CONFIRMED, Instant.parse("2026-01-01T10:01:00Z"));
+        bookingRepository.bookings.addAll(List.of(cancelled, promoted));
+
+        var retried = useCase.execute(10L, "same-cancel-key");
+
+        assertEquals(10L, retried.cancelledBooking().getId());
+        assertNotNull(retried.promotedBooking());
+        assertEquals(11L, retried.promotedBooking().getId());
+    }
 
-        var first = useCase.execute(10L, "same-cancel-key");
-        var second = useCase.execute(10L, "same-cancel-key");
+    @Test
+    void shouldReturnSameCancelledBookingOnRetryWithSameKey() {
+        Booking confirmed = booking(12L, 20L, 200L, BookingStatus.CONFIRMED, Instant.parse("2026-01-01T10:00:00Z"));
+        bookingRepository.bookings.add(confirmed);
+
+        var first = useCase.execute(12L, "retry-cancel-key");
+        var second = useCase.execute(12L, "retry-cancel-key");
 
-        assertNotNull(first.promotedBooking());
-        assertNotNull(second.promotedBooking());
-        assertEquals(first.promotedBooking().getId(), second.promotedBooking().getId());
+        assertEquals(first.cancelledBooking().getId(), second.cancelledBooking().getId());
+        assertEquals(1, creditService.refundCalls);
     }
 
     @Test
@@ -153,6 +208,11 @@ class CancelBookingUseCaseTest {
             return booking;
         }
 
+        @Override
+        public List<Booking> saveAll(List<Booking> bookings) {
+            return bookings;
+        }
+
         @Override
         public Optional<Booking> findById(Long id) {
             return bookings.stream().filter(b -> b.getId().equals(id)).findFirst();
@@ -163,6 +223,11 @@ class CancelBookingUseCaseTest {
             return findById(id);
         }
 
+        @Override
+        public Optional<Long> findSessionIdById(Long id) {
+            return findById(id).map(Booking::getSessionId);
+        }
+
         @Override
         public Optional<Booking> findByCreateRequestId(String requestId) {
             return Optional.empty();
@@ -173,11 +238,21 @@ class CancelBookingUseCaseTest {
             return bookings.stream().filter(b -> requestId.equals(b.getCancelRequestId())).findFirst();
         }
 
+        @Override
+        public List<Booking> findByCreateRequestIds(List<String> requestIds) {
+            return List.of();
+        }
+
         @Override
         public boolean existsActiveBooking(Long sessionId, Long userId) {
             return false;
         }
 
+        @Override
+        public Set<Long> findActiveBookingSessionIds(Long userId, List<Long> sessionIds) {
+            return Set.of();
+        }
+
         @Override
         public long countBySessionAndStatus(Long sessionId, BookingStatus status) {
             return 0;
@@ -191,19 +266,33 @@ class CancelBookingUseCaseTest {
         }
 
         @Override
-        public Optional<Booking> findFirstWaitlistedBySessionIdForUpdate(Long sessionId) {
-            return findFirstWaitlistedBySessionId(sessionId);
+        public List<Booking> findWaitlistedBySessionIdForUpdate(Long sessionId) {
+            return bookings.stream()
+                    .filter(b -> b.getSessionId().equals(sessionId) && b.getStatus() == BookingStatus.WAITLISTED)
+                    .sorted(Comparator.comparing(Booking::getCreatedAt))
+                    .toList();
         }
 
         @Override
         public PageResponse<Booking> findBookings(Long sessionId, Long userId, BookingStatus status, Long branchId,
                                                   Long activityId, Instant from, Instant to, int page,
-                                                  int size, boolean sortAscending) {
+                                                  int size, boolean sortAscending, TotalMode totalMode) {
             return new PageResponse<>(List.of(), page, size, 0);
         }
+
+        @Override
+        public CursorPageResponse<Booking> findBookingsAfter(Long sessionId, Long userId, BookingStatus status,
+                                                             Long branchId, Long activityId, Instant from, Instant to,
+                                                             SeekCursor after, int size, boolean sortAscending,
+                                                             boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
     }
 
     private static class InMemorySessionRepository implements SessionInstanceRepository {
+        private int confirmedDelta;
+        private int waitlistedDelta;
+        private int waitlistedCount;
 
         @Override
         public SessionInstance save(SessionInstance sessionInstance) {
@@ -224,6 +313,7 @@ class CancelBookingUseCaseTest {
             session.setId(id);
             session.setStatus(SessionStatus.OPEN);
             session.setActivityId(500L);
+            session.setWaitlistedCount(waitlistedCount);
             return Optional.of(session);
         }
 
@@ -232,6 +322,27 @@ class CancelBookingUseCaseTest {
             return findById(id);
         }
 
+        @Override
+        public int[] insertIgnoringConflicts(List<SessionInstance> sessions) {
+            return new int[sessions.size()];
+        }
+
+        @Override
+        public void adjustOccupancy(Long sessionId, int confirmedDelta, int waitlistedDelta) {
+            this.confirmedDelta += confirmedDelta;
+            this.waitlistedDelta += waitlistedDelta;
+        }
+
+        @Override
+        public List<Long> findIdsStartingFrom(Instant from, long afterId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<Long> rebuildOccupancyCounters(List<Long> sessionIds) {
+            return List.of();
+        }
+
         @Override
         public PageResponse<SessionInstance> findSessions(Long organizationId,
                                                           Long headquartersId,
@@ -241,9 +352,18 @@ class CancelBookingUseCaseTest {
                                                           Instant to,
                                                           int page,
                                                           int size,
-                                                          boolean sortAscending) {
+                                                          boolean sortAscending, TotalMode totalMode) {
             return new PageResponse<>(List.of(), page, size, 0);
         }
+
+        @Override
+        public CursorPageResponse<SessionInstance> findSessionsAfter(Long organizationId, Long headquartersId,
+                                                                     Long activityId, SessionStatus status,
+                                                                     Instant from, Instant to, SeekCursor after,
+                                                                     int size, boolean sortAscending,
+                                                                     boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
     }
 
     private static Booking booking(Long id, Long sessionId, Long userId, BookingStatus status, Instant createdAt) {
@@ -280,4 +400,76 @@ class CancelBookingUseCaseTest {
             refundCalls++;
         }
     }
+
+    private static class StubWaitlistPromotionQueueRepository implements WaitlistPromotionQueueRepository {
+        private final List<Long> enqueued = new ArrayList<>();
+
+        @Override
+        public void enqueue(Long sessionId) {
+            enqueued.add(sessionId);
+        }
+
+        @Override
+        public List<Long> findDueSessionIds(int limit) {
+            return List.of();
+        }
+
+        @Override
+        public boolean claim(Long sessionId) {
+            return false;
+        }
+
+        @Override
+        public void complete(Long sessionId) {
+        }
+
+        @Override
+        public void retryLater(Long sessionId, Duration delay) {
+        }
+
+        @Override
+        public boolean retryAfterFailure(Long sessionId, Duration initialDelay, Duration maxDelay, int maxAttempts) {
+            return false;
+        }
+    }
+
+    private static class RecordingEventOutbox extends EventOutbox {
+        private final List<String> eventTypes = new ArrayList<>();
+        private final List<Object> payloads = new ArrayList<>();
+
+        @Override
+        public void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+            eventTypes.add(eventType);
+            payloads.add(payload);
+        }
+    }
+
+    private static class RecordingSessionTimetableRepository implements SessionTimetableRepository {
+        final List<Long> refreshedSessionIds = new ArrayList<>();
+        final List<Long> refreshedHeadquartersIds = new ArrayList<>();
+
+        @Override
+        public List<TimetableEntry> findWeek(Long headquartersId, LocalDate weekStart) {
+            return List.of();
+        }
+
+        @Override
+        public void refreshSessions(Collection<Long> sessionIds) {
+            refreshedSessionIds.addAll(sessionIds);
+        }
+
+        @Override
+        public void refreshHeadquartersBetween(Collection<Long> headquartersIds, Instant from, Instant to) {
+            refreshedHeadquartersIds.addAll(headquartersIds);
+        }
+
+        @Override
+        public void refreshActivity(Long activityId) {
+        }
+
+        @Override
+        public int refreshAll() {
+            return 0;
+        }
+    }
 }
@@ -0,0 +1,524 @@
+package org.athlium.bookings.application.usecase;
+
+import org.athlium.bookings.application.service.SessionSeatLedger;
+import org.athlium.bookings.domain.model.Booking;
+import org.athlium.bookings.domain.model.BookingEvent;
+import org.athlium.bookings.domain.model.BookingOutcome;
+import org.athlium.bookings.domain.model.BookingStatus;
+import org.athlium.bookings.domain.model.SessionBookingOutcome;
+import org.athlium.bookings.domain.repository.BookingRepository;
+import org.athlium.bookings.domain.repository.WaitlistPromotionQueueRepository;
+import org.athlium.clients.application.service.ClientPackageCreditService;
+import org.athlium.clients.domain.model.ClientPackage;
+import org.athlium.clients.domain.model.ClientPackageCredit;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.model.TimetableEntry;
+import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.application.EventOutbox;
+import org.athlium.shared.domain.CursorPageResponse;
+import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
+import org.athlium.shared.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CreateBookingBatchUseCaseTest {
+
+    private CreateBookingBatchUseCase useCase;
+    private InMemoryBookingRepository bookingRepository;
+    private InMemorySessionRepository sessionRepository;
+    private StubClientPackageCreditService creditService;
+    private StubSessionSeatLedger seatLedger;
+    private RecordingEventOutbox eventOutbox;
+    private RecordingSessionTimetableRepository timetableRepository;
+    private StubWaitlistPromotionQueueRepository promotionQueue;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CreateBookingBatchUseCase();
+        bookingRepository = new InMemoryBookingRepository();
+        sessionRepository = new InMemorySessionRepository();
+        creditService = new StubClientPackageCreditService();
+        seatLedger = new StubSessionSeatLedger();
+        useCase.bookingRepository = bookingRepository;
+        useCase.sessionInstanceRepository = sessionRepository;
+        useCase.clientPackageCreditService = creditService;
+        useCase.sessionSeatLedger = seatLedger;
+        eventOutbox = new RecordingEventOutbox();
+        useCase.eventOutbox = eventOutbox;
+        timetableRepository = new RecordingSessionTimetableRepository();
+        useCase.sessionTimetableRepository = timetableRepository;
+        promotionQueue = new StubWaitlistPromotionQueueRepository();
+        useCase.waitlistPromotionQueueRepository = promotionQueue;
+    }
+
+    @Test
+    void shouldBookEverySessionWithOneInsertAndOnePackageLock() {
+        sessionRepository.open(11L, 2, false, 0);
+        sessionRepository.open(12L, 2, false, 0);
+        sessionRepository.open(13L, 2, false, 0);
+        creditService.packages.add(clientPackage(77L, LocalDate.of(2026, 12, 31), 5));
+
+        List<SessionBookingOutcome> outcomes = useCase.execute(List.of(13L, 11L, 12L), 100L, "recurring-1");
+
+        assertEquals(List.of(13L, 11L, 12L), outcomes.stream().map(SessionBookingOutcome::sessionId).toList());
+        outcomes.forEach(outcome -> assertEquals(BookingOutcome.CONFIRMED, outcome.outcome()));
+        assertEquals(1, bookingRepository.saveAllCalls);
+        assertEquals(1, creditService.lockCalls);
+        assertEquals(List.of(11L, 12L, 13L), sessionRepository.lockOrder);
+        assertEquals(2, creditService.packages.getFirst().getCredits().getFirst().getTokens());
+        assertEquals(1, creditService.savedPackages);
+        assertEquals("recurring-1:11", outcomes.get(1).booking().getCreateRequestId());
+        assertEquals(3, seatLedger.confirmCalls);
+    }
+
+    @Test
+    void shouldRejectOnlyTheSessionsThatCannotBeBooked() {
+        sessionRepository.open(11L, 1, false, 0);
+        sessionRepository.open(12L, 0, false, 0);
+        sessionRepository.open(13L, 0, true, 2);
+        sessionRepository.sessions.get(14L).setStatus(SessionStatus.CANCELLED);
+        creditService.packages.add(clientPackage(77L, LocalDate.of(2026, 12, 31), 3));
+
+        List<SessionBookingOutcome> outcomes = useCase.execute(List.of(11L, 12L, 13L, 14L), 100L, null);
+
+        assertEquals(BookingOutcome.CONFIRMED, outcomes.get(0).outcome());
+        assertEquals(BookingOutcome.REJECTED, outcomes.get(1).outcome());
+        assertEquals("Session is full", outcomes.get(1).reason());
+        assertNull(outcomes.get(1).booking());
+        assertEquals(BookingOutcome.WAITLISTED, outcomes.get(2).outcome());
+        assertEquals("Session is not open for bookings", outcomes.get(3).reason());
+        assertEquals(1, sessionRepository.sessions.get(13L).getWaitlistedCount());
+        assertEquals(2, creditService.packages.getFirst().getCredits().getFirst().getTokens());
+        assertEquals(2, seatLedger.releaseCalls);
+        assertEquals(List.of(BookingEvent.CREATED, BookingEvent.CREATED), eventOutbox.eventTypes);
+        assertEquals(List.of(11L, 13L), timetableRepository.refreshedSessionIds);
+    }
+
+    @Test
+    void shouldWaitlistBehindUsersAlreadyQueuedForFreedSeats() {
+        sessionRepository.open(11L, 2, true, 3);
+        sessionRepository.open(12L, 2, true, 3);
+        sessionRepository.sessions.get(11L).setWaitlistedCount(1);
+        creditService.packages.add(clientPackage(77L, LocalDate.of(2026, 12, 31), 5));
+
+        List<SessionBookingOutcome> outcomes = useCase.execute(List.of(11L, 12L), 100L, null);
+
+        assertEquals(BookingOutcome.WAITLISTED, outcomes.get(0).outcome());
+        assertEquals(BookingOutcome.CONFIRMED, outcomes.get(1).outcome());
+        assertEquals(List.of(11L), promotionQueue.enqueued);
+    }
+
+    @Test
+    void shouldRejectSessionsOnceCreditsRunOut() {
+        sessionRepository.open(11L, 5, false, 0);
+        sessionRepository.open(12L, 5, false, 0);
+        sessionRepository.open(13L, 5, false, 0);
+        creditService.packages.add(clientPackage(78L, null, 1));
+        creditService.packages.add(clientPackage(77L, LocalDate.of(2026, 12, 31), 1));
+
+        List<SessionBookingOutcome> outcomes = useCase.execute(List.of(11L, 12L, 13L), 100L, null);
+
+        assertEquals(77L, outcomes.get(0).booking().getConsumedPackageId());
+        assertEquals(78L, outcomes.get(1).booking().getConsumedPackageId());
+        assertEquals(BookingOutcome.REJECTED, outcomes.get(2).outcome());
+        assertEquals("User has no available credits for this activity", outcomes.get(2).reason());
+        assertEquals(0, sessionRepository.sessions.get(13L).getConfirmedCount());
+    }
+
+    @Test
+    void shouldRejectLedgerFullSessionsBeforeLockingAndDuplicatesUnderTheLock() {
+        sessionRepository.open(11L, 5, false, 0);
+        sessionRepository.open(12L, 5, false, 0);
+        sessionRepository.open(13L, 5, false, 0);
+        creditService.packages.add(clientPackage(77L, LocalDate.of(2026, 12, 31), 5));
+        seatLedger.fullSessions.add(12L);
+        Booking existing = new Booking();
+        existing.setSessionId(13L);
+        existing.setUserId(100L);
+        existing.setStatus(BookingStatus.WAITLISTED);
+        bookingRepository.save(existing);
+
+        List<SessionBookingOutcome> outcomes = useCase.execute(List.of(11L, 12L, 13L), 100L, null);
+
+        assertEquals(BookingOutcome.CONFIRMED, outcomes.get(0).outcome());
+        assertEquals("Session is full", outcomes.get(1).reason());
+        assertEquals("User already has an active booking for this session", outcomes.get(2).reason());
+        assertEquals(List.of(11L, 13L), sessionRepository.lockOrder);
+        assertEquals(1, seatLedger.releaseCalls);
+    }
+
+    @Test
+    void shouldReplayBookedSessionsAndRetryRejectedOnes() {
+        sessionRepository.open(11L, 5, false, 0);
+        sessionRepository.open(12L, 0, false, 0);
+        creditService.packages.add(clientPackage(77L, LocalDate.of(2026, 12, 31), 5));
+        List<SessionBookingOutcome> first = useCase.execute(List.of(11L, 12L), 100L, "recurring-2");
+        sessionRepository.sessions.get(12L).setMaxParticipants(1);
+
+        List<SessionBookingOutcome> second = useCase.execute(List.of(11L, 12L), 100L, "recurring-2");
+
+        assertEquals(first.get(0).booking().getId(), second.get(0).booking().getId());
+        assertEquals(BookingOutcome.CONFIRMED, second.get(1).outcome());
+        assertEquals(2, bookingRepository.bookings.size());
+        assertEquals(3, creditService.packages.getFirst().getCredits().getFirst().getTokens());
+    }
+
+    @Test
+    void shouldRejectReusedKeyFromAnotherUser() {
+        sessionRepository.open(11L, 5, false, 0);
+        creditService.packages.add(clientPackage(77L, LocalDate.of(2026, 12, 31), 5));
+        useCase.execute(List.of(11L), 100L, "recurring-3");
+
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> useCase.execute(List.of(11L), 101L, "recurring-3"));
+
+        assertEquals("Idempotency key already used for a different booking request", ex.getMessage());
+    }
+
+    @Test
+    void shouldValidateBatchSizeAndKeyLength() {
+        List<Long> tooMany = LongStream.rangeClosed(1, 51).boxed().toList();
+
+        BadRequestException empty = assertThrows(BadRequestException.class,
+                () -> useCase.execute(List.of(), 100L, null));
+        BadRequestException oversized = assertThrows(BadRequestException.class,
+                () -> useCase.execute(tooMany, 100L, null));
+        BadRequestException longKey = assertThrows(BadRequestException.class,
+                () -> useCase.execute(List.of(11L), 100L, "k".repeat(97)));
+
+        assertEquals("sessionIds must contain between 1 and 50 sessions", empty.getMessage());
+        assertEquals("sessionIds must contain between 1 and 50 sessions", oversized.getMessage());
+        assertEquals("Idempotency key length must be less than or equal to 96", longKey.getMessage());
+    }
+
+    private ClientPackage clientPackage(Long id, LocalDate periodEnd, int tokens) {
+        ClientPackageCredit credit = new ClientPackageCredit();
+        credit.setActivityId(500L);
+        credit.setTokens(tokens);
+        ClientPackage clientPackage = new ClientPackage();
+        clientPackage.setId(id);
+        clientPackage.setUserId(100L);
+        clientPackage.setPeriodEnd(periodEnd);
+        clientPackage.setCredits(new ArrayList<>(List.of(credit)));
+        return clientPackage;
+    }
+
+    private static class InMemoryBookingRepository implements BookingRepository {
+        private final List<Booking> bookings = new ArrayList<>();
+        private int saveAllCalls;
+
+        @Override
+        public Booking save(Booking booking) {
+            booking.setId((long) (bookings.size() + 1));
+            bookings.add(booking);
+            return booking;
+        }
+
+        @Override
+        public List<Booking> saveAll(List<Booking> newBookings) {
+            saveAllCalls++;
+            newBookings.forEach(this::save);
+            return newBookings;
+        }
+
+        @Override
+        public Optional<Booking> findById(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Booking> findByIdForUpdate(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Long> findSessionIdById(Long id) {
+            return findById(id).map(Booking::getSessionId);
+        }
+
+        @Override
+        public Optional<Booking> findByCreateRequestId(String requestId) {
+            return bookings.stream().filter(b -> requestId.equals(b.getCreateRequestId())).findFirst();
+        }
+
+        @Override
+        public Optional<Booking> findByCancelRequestId(String requestId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Booking> findByCreateRequestIds(List<String> requestIds) {
+            return bookings.stream().filter(b -> requestIds.contains(b.getCreateRequestId())).toList();
+        }
+
+        @Override
+        public boolean existsActiveBooking(Long sessionId, Long userId) {
+            return findActiveBookingSessionIds(userId, List.of(sessionId)).contains(sessionId);
+        }
+
+        @Override
+        public Set<Long> findActiveBookingSessionIds(Long userId, List<Long> sessionIds) {
+            return bookings.stream()
+                    .filter(b -> b.getUserId().equals(userId) && sessionIds.contains(b.getSessionId()))
+                    .filter(b -> b.getStatus() == BookingStatus.CONFIRMED || b.getStatus() == BookingStatus.WAITLISTED)
+                    .map(Booking::getSessionId)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public long countBySessionAndStatus(Long sessionId, BookingStatus status) {
+            return 0;
+        }
+
+        @Override
+        public Optional<Booking> findFirstWaitlistedBySessionId(Long sessionId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Booking> findWaitlistedBySessionIdForUpdate(Long sessionId) {
+            return List.of();
+        }
+
+        @Override
+        public PageResponse<Booking> findBookings(Long sessionId, Long userId, BookingStatus status, Long branchId,
+                                                  Long activityId, Instant from, Instant to, int page,
+                                                  int size, boolean sortAscending, TotalMode totalMode) {
+            return new PageResponse<>(List.of(), page, size, 0);
+        }
+
+        @Override
+        public CursorPageResponse<Booking> findBookingsAfter(Long sessionId, Long userId, BookingStatus status,
+                                                             Long branchId, Long activityId, Instant from, Instant to,
+                                                             SeekCursor after, int size, boolean sortAscending,
+                                                             boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
+    }
+
+    private static class InMemorySessionRepository implements SessionInstanceRepository {
+        private final Map<Long, SessionInstance> sessions = new HashMap<>();
+        private final List<Long> lockOrder = new ArrayList<>();
+
+        InMemorySessionRepository() {
+            open(14L, 5, false, 0);
+        }
+
+        void open(Long id, int maxParticipants, boolean waitlistEnabled, int waitlistMaxSize) {
+            SessionInstance session = new SessionInstance();
+            session.setId(id);
+            session.setActivityId(500L);
+            session.setStatus(SessionStatus.OPEN);
+            session.setMaxParticipants(maxParticipants);
+            session.setWaitlistEnabled(waitlistEnabled);
+            session.setWaitlistMaxSize(waitlistMaxSize);
+            session.setConfirmedCount(0);
+            session.setWaitlistedCount(0);
+            sessions.put(id, session);
+        }
+
+        @Override
+        public SessionInstance save(SessionInstance sessionInstance) {
+            return sessionInstance;
+        }
+
+        @Override
+        public boolean existsByOrganizationAndHeadquartersAndActivityAndStartsAt(Long organizationId,
+                                                                                  Long headquartersId,
+                                                                                  Long activityId,
+                                                                                  Instant startsAt) {
+            return false;
+        }
+
+        @Override
+        public Optional<SessionInstance> findById(Long id) {
+            return Optional.ofNullable(sessions.get(id));
+        }
+
+        @Override
+        public Optional<SessionInstance> findByIdForUpdate(Long id) {
+            lockOrder.add(id);
+            return findById(id);
+        }
+
+        @Override
+        public int[] insertIgnoringConflicts(List<SessionInstance> sessionInstances) {
+            return new int[sessionInstances.size()];
+        }
+
+        @Override
+        public void adjustOccupancy(Long sessionId, int confirmedDelta, int waitlistedDelta) {
+            SessionInstance session = sessions.get(sessionId);
+            session.setConfirmedCount(session.getConfirmedCount() + confirmedDelta);
+            session.setWaitlistedCount(session.getWaitlistedCount() + waitlistedDelta);
+        }
+
+        @Override
+        public List<Long> findIdsStartingFrom(Instant from, long afterId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<Long> rebuildOccupancyCounters(List<Long> sessionIds) {
+            return List.of();
+        }
+
+        @Override
+        public PageResponse<SessionInstance> findSessions(Long organizationId, Long headquartersId,
+                                                          Long activityId, SessionStatus status,
+                                                          Instant from, Instant to, int page, int size,
+                                                          boolean sortAscending, TotalMode totalMode) {
+            return new PageResponse<>(List.of(), page, size, 0);
+        }
+
+        @Override
+        public CursorPageResponse<SessionInstance> findSessionsAfter(Long organizationId, Long headquartersId,
+                                                                     Long activityId, SessionStatus status,
+                                                                     Instant from, Instant to, SeekCursor after,
+                                                                     int size, boolean sortAscending,
+                                                                     boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
+    }
+
+    private static class StubClientPackageCreditService extends ClientPackageCreditService {
+        private final List<ClientPackage> packages = new ArrayList<>();
+        private int lockCalls;
+        private int savedPackages;
+
+        @Override
+        public CreditBatch lockCredits(Long userId) {
+            lockCalls++;
+            List<ClientPackage> ordered = new ArrayList<>(packages);
+            ordered.sort((left, right) -> left.getPeriodEnd() == null ? 1
+                    : right.getPeriodEnd() == null ? -1 : left.getPeriodEnd().compareTo(right.getPeriodEnd()));
+            return new CreditBatch(ordered);
+        }
+
+        @Override
+        public void saveCredits(CreditBatch batch) {
+            savedPackages++;
+        }
+    }
+
+    private static class StubSessionSeatLedger extends SessionSeatLedger {
+        private final List<Long> fullSessions = new ArrayList<>();
+        private int confirmCalls;
+        private int releaseCalls;
+
+        @Override
+        public SeatReservation reserve(Long sessionId) {
+            if (fullSessions.contains(sessionId)) {
+                throw new BadRequestException("Session is full");
+            }
+            return new SeatReservation(sessionId, BookingStatus.CONFIRMED);
+        }
+
+        @Override
+        public void reconcile(SessionInstance session) {
+        }
+
+        @Override
+        public void confirm(SeatReservation reservation, BookingStatus persistedStatus) {
+            confirmCalls++;
+        }
+
+        @Override
+        public void release(SeatReservation reservation) {
+            releaseCalls++;
+        }
+    }
+
+    private static class StubWaitlistPromotionQueueRepository implements WaitlistPromotionQueueRepository {
+        private final List<Long> enqueued = new ArrayList<>();
+
+        @Override
+        public void enqueue(Long sessionId) {
+            enqueued.add(sessionId);
+        }
+
+        @Override
+        public List<Long> findDueSessionIds(int limit) {
+            return List.of();
+        }
+
+        @Override
+        public boolean claim(Long sessionId) {
+            return false;
+        }
+
+        @Override
+        public void complete(Long sessionId) {
+        }
+
+        @Override
+        public void retryLater(Long sessionId, Duration delay) {
+        }
+
+        @Override
+        public boolean retryAfterFailure(Long sessionId, Duration initialDelay, Duration maxDelay, int maxAttempts) {
+            return false;
+        }
+    }
+
+    private static class RecordingEventOutbox extends EventOutbox {
+        private final List<String> eventTypes = new ArrayList<>();
+        private final List<Object> payloads = new ArrayList<>();
+
+        @Override
+        public void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+            eventTypes.add(eventType);
+            payloads.add(payload);
+        }
+    }
+
+    private static class RecordingSessionTimetableRepository implements SessionTimetableRepository {
+        final List<Long> refreshedSessionIds = new ArrayList<>();
+        final List<Long> refreshedHeadquartersIds = new ArrayList<>();
+
+        @Override
+        public List<TimetableEntry> findWeek(Long headquartersId, LocalDate weekStart) {
+            return List.of();
+        }
+
+        @Override
+        public void refreshSessions(Collection<Long> sessionIds) {
+            refreshedSessionIds.addAll(sessionIds);
+        }
+
+        @Override
+        public void refreshHeadquartersBetween(Collection<Long> headquartersIds, Instant from, Instant to) {
+            refreshedHeadquartersIds.addAll(headquartersIds);
+        }
+
+        @Override
+        public void refreshActivity(Long activityId) {
+        }
+
+        @Override
+        public int refreshAll() {
+            return 0;
+        }
+    }
+}
@@ -1,21 +1,42 @@
 package org.athlium.bookings.application.usecase;
 
+import org.athlium.bookings.application.service.SessionSeatLedger;
 import org.athlium.bookings.domain.model.Booking;
+import org.athlium.bookings.domain.model.BookingEvent;
 import org.athlium.bookings.domain.model.BookingStatus;
 import org.athlium.bookings.domain.repository.BookingRepository;
+import org.athlium.bookings.domain.repository.WaitlistPromotionQueueRepository;
 import org.athlium.clients.application.service.ClientPackageCreditService;
 import org.athlium.gym.domain.model.SessionInstance;
 import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.model.TimetableEntry;
 import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.application.EventOutbox;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,6 +47,10 @@ class CreateBookingUseCaseTest {
     private InMemoryBookingRepository bookingRepository;
     private InMemorySessionRepository sessionRepository;
     private StubClientPackageCreditService creditService;
+    private StubSessionSeatLedger seatLedger;
+    private RecordingEventOutbox eventOutbox;
+    private RecordingSessionTimetableRepository timetableRepository;
+    private StubWaitlistPromotionQueueRepository promotionQueue;
 
     @BeforeEach
     void setUp() {
@@ -36,6 +61,14 @@ class CreateBookingUseCaseTest {
         useCase.bookingRepository = bookingRepository;
         useCase.sessionInstanceRepository = sessionRepository;
         useCase.clientPackageCreditService = creditService;
+        seatLedger = new StubSessionSeatLedger();
+        useCase.sessionSeatLedger = seatLedger;
+        eventOutbox = new RecordingEventOutbox();
+        useCase.eventOutbox = eventOutbox;
+        timetableRepository = new RecordingSessionTimetableRepository();
+        useCase.sessionTimetableRepository = timetableRepository;
+        promotionQueue = new StubWaitlistPromotionQueueRepository();
+        useCase.waitlistPromotionQueueRepository = promotionQueue;
         sessionRepository.session.setActivityId(500L);
     }
 
@@ -43,13 +76,15 @@ class CreateBookingUseCaseTest {
     void shouldCreateConfirmedBookingWhenSlotAvailable() {
         sessionRepository.session.setStatus(SessionStatus.OPEN);
         sessionRepository.session.setMaxParticipants(2);
-        bookingRepository.bookings.add(existingBooking(10L, 50L, BookingStatus.CONFIRMED));
+        addExistingBooking(50L, BookingStatus.CONFIRMED);
 
         Booking created = useCase.execute(10L, 100L, "req-1");
 
         assertEquals(BookingStatus.CONFIRMED, created.getStatus());
         assertEquals(77L, created.getConsumedPackageId());
         assertEquals(1, creditService.consumeCalls);
+        assertEquals(List.of(BookingEvent.CREATED), eventOutbox.eventTypes);
+        assertEquals(List.of(10L), timetableRepository.refreshedSessionIds);
     }
 
     @Test
@@ -58,7 +93,7 @@ class CreateBookingUseCaseTest {
         sessionRepository.session.setMaxParticipants(1);
         sessionRepository.session.setWaitlistEnabled(true);
         sessionRepository.session.setWaitlistMaxSize(3);
-        bookingRepository.bookings.add(existingBooking(10L, 50L, BookingStatus.CONFIRMED));
+        addExistingBooking(50L, BookingStatus.CONFIRMED);
 
         Booking created = useCase.execute(10L, 101L, "req-2");
 
@@ -75,6 +110,7 @@ class CreateBookingUseCaseTest {
         BadRequestException ex = assertThrows(BadRequestException.class, () -> useCase.execute(10L, 100L, "req-no-credit"));
 
         assertEquals("User has no available credits for this activity", ex.getMessage());
+        assertEquals(List.of(), eventOutbox.eventTypes);
     }
 
     @Test
@@ -83,7 +119,7 @@ class CreateBookingUseCaseTest {
         sessionRepository.session.setMaxParticipants(1);
         sessionRepository.session.setWaitlistEnabled(true);
         sessionRepository.session.setWaitlistMaxSize(3);
-        bookingRepository.bookings.add(existingBooking(10L, 50L, BookingStatus.CONFIRMED));
+        addExistingBooking(50L, BookingStatus.CONFIRMED);
         creditService.hasCredit = false;
 
         BadRequestException ex = assertThrows(BadRequestException.class, () -> useCase.execute(10L, 100L, "req-no-credit-wait"));
@@ -96,7 +132,7 @@ class CreateBookingUseCaseTest {
         sessionRepository.session.setStatus(SessionStatus.OPEN);
         sessionRepository.session.setMaxParticipants(1);
         sessionRepository.session.setWaitlistEnabled(false);
-        bookingRepository.bookings.add(existingBooking(10L, 50L, BookingStatus.CONFIRMED));
+        addExistingBooking(50L, BookingStatus.CONFIRMED);
 
         BadRequestException ex = assertThrows(BadRequestException.class, () -> useCase.execute(10L, 102L, "req-3"));
         assertEquals("Session is full", ex.getMessage());
@@ -135,14 +171,30 @@ class CreateBookingUseCaseTest {
         sessionRepository.session.setWaitlistEnabled(true);
         sessionRepository.session.setWaitlistMaxSize(1);
 
-        bookingRepository.bookings.add(existingBooking(10L, 50L, BookingStatus.CONFIRMED));
-        bookingRepository.bookings.add(existingBooking(10L, 51L, BookingStatus.WAITLISTED));
+        addExistingBooking(50L, BookingStatus.CONFIRMED);
+        addExistingBooking(51L, BookingStatus.WAITLISTED);
 
         BadRequestException ex = assertThrows(BadRequestException.class, () -> useCase.execute(10L, 102L, "req-full"));
 
         assertEquals("Waitlist is full for this session", ex.getMessage());
     }
 
+    @Test
+    void shouldWaitlistNewBookerWhileOthersWaitForFreedSeat() {
+        sessionRepository.session.setStatus(SessionStatus.OPEN);
+        sessionRepository.session.setMaxParticipants(2);
+        sessionRepository.session.setWaitlistEnabled(true);
+        sessionRepository.session.setWaitlistMaxSize(3);
+        addExistingBooking(50L, BookingStatus.CONFIRMED);
+        addExistingBooking(51L, BookingStatus.WAITLISTED);
+
+        Booking created = useCase.execute(10L, 102L, "req-behind-queue");
+
+        assertEquals(BookingStatus.WAITLISTED, created.getStatus());
+        assertEquals(0, creditService.consumeCalls);
+        assertEquals(List.of(10L), promotionQueue.enqueued);
+    }
+
     @Test
     void shouldRejectWhenIdempotencyKeyIsTooLong() {
         sessionRepository.session.setStatus(SessionStatus.OPEN);
@@ -155,8 +207,162 @@ class CreateBookingUseCaseTest {
         assertEquals("Idempotency key length must be less than or equal to 128", ex.getMessage());
     }
 
+    @Test
+    void shouldIncrementConfirmedCounterWhenBookingIsConfirmed() {
+        sessionRepository.session.setStatus(SessionStatus.OPEN);
+        sessionRepository.session.setMaxParticipants(2);
+        addExistingBooking(50L, BookingStatus.CONFIRMED);
+
+        useCase.execute(10L, 100L, "req-counter");
+
+        assertEquals(2, sessionRepository.session.getConfirmedCount());
+        assertEquals(0, sessionRepository.session.getWaitlistedCount());
+    }
+
+    @Test
+    void shouldIncrementWaitlistedCounterWhenBookingIsWaitlisted() {
+        sessionRepository.session.setStatus(SessionStatus.OPEN);
+        sessionRepository.session.setMaxParticipants(1);
+        sessionRepository.session.setWaitlistEnabled(true);
+        sessionRepository.session.setWaitlistMaxSize(3);
+        addExistingBooking(50L, BookingStatus.CONFIRMED);
+
+        useCase.execute(10L, 101L, "req-counter-wait");
+
+        assertEquals(1, sessionRepository.session.getConfirmedCount());
+        assertEquals(1, sessionRepository.session.getWaitlistedCount());
+    }
+
+    @Test
+    void shouldAdmitFromSessionCountersWithoutCountingBookings() {
+        sessionRepository.session.setStatus(SessionStatus.OPEN);
+        sessionRepository.session.setMaxParticipants(1);
+
+        useCase.execute(10L, 100L, "req-no-count");
+
+        assertEquals(0, bookingRepository.countCalls);
+    }
+
+    @Test
+    void shouldRejectWithoutLockingSessionWhenLedgerHasNoSeats() {
+        sessionRepository.session.setStatus(SessionStatus.OPEN);
+        sessionRepository.session.setMaxParticipants(1);
+        seatLedger.full = true;
+
+        BadRequestException ex = assertThrows(BadRequestException.class, () -> useCase.execute(10L, 100L, "req-ledger-full"));
+
+        assertEquals("Session is full", ex.getMessage());
+        assertEquals(0, sessionRepository.lockCalls);
+        assertEquals(0, creditService.consumeCalls);
+    }
+
+    @Test
+    void shouldBookSeatFreedElsewhereOnceLedgerEntryExpires() {
+        SessionSeatLedger ledger = useRealSeatLedger();
+        sessionRepository.session.setStatus(SessionStatus.OPEN);
+        sessionRepository.session.setMaxParticipants(1);
+        Booking first = useCase.execute(10L, 100L, "req-stale-1");
+
+        // Another instance cancels the booking; this instance's ledger entry still counts the seat as taken.
+        first.setStatus(BookingStatus.CANCELLED);
+        sessionRepository.adjustOccupancy(10L, -1, 0);
+        assertThrows(BadRequestException.class, () -> useCase.execute(10L, 101L, "req-stale-2"));
+
+        setField(ledger, "ttlSeconds", -1L);
+        Booking second = useCase.execute(10L, 101L, "req-stale-3");
+
+        assertEquals(BookingStatus.CONFIRMED, second.getStatus());
+        assertEquals(1, sessionRepository.session.getConfirmedCount());
+    }
+
+    @Test
+    void shouldNeverOverbookUnderConcurrentRequestsThroughUseCase() throws Exception {
+        useRealSeatLedger();
+        int maxParticipants = 5;
+        int waitlistMaxSize = 3;
+        int requests = 200;
+        sessionRepository.session.setStatus(SessionStatus.OPEN);
+        sessionRepository.session.setMaxParticipants(maxParticipants);
+        sessionRepository.session.setWaitlistEnabled(true);
+        sessionRepository.session.setWaitlistMaxSize(waitlistMaxSize);
+        sessionRepository.rowLock = new ReentrantLock();
+
+        AtomicInteger confirmed = new AtomicInteger();
+        AtomicInteger waitlisted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                long userId = 1_000L + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        Booking created = useCase.execute(10L, userId, null);
+                        if (created.getStatus() == BookingStatus.CONFIRMED) {
+                            confirmed.incrementAndGet();
+                        } else {
+                            waitlisted.incrementAndGet();
+                        }
+                    } catch (BadRequestException ex) {
+                        rejected.incrementAndGet();
+                    } finally {
+                        // The row lock is held until commit; the use case call is the whole transaction here.
+                        if (sessionRepository.rowLock.isHeldByCurrentThread()) {
+                            sessionRepository.rowLock.unlock();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(maxParticipants, confirmed.get());
+        assertEquals(waitlistMaxSize, waitlisted.get());
+        assertEquals(requests - maxParticipants - waitlistMaxSize, rejected.get());
+        assertEquals(maxParticipants, sessionRepository.session.getConfirmedCount());
+        assertEquals(waitlistMaxSize, sessionRepository.session.getWaitlistedCount());
+        // Only requests the ledger admitted queued on the row lock.
+        assertEquals(maxParticipants + waitlistMaxSize, sessionRepository.lockCalls);
+    }
+
+    @Test
+    void shouldReleaseLedgerReservationWhenBookingFails() {
+        sessionRepository.session.setStatus(SessionStatus.OPEN);
+        sessionRepository.session.setMaxParticipants(1);
+        creditService.hasCredit = false;
+
+        assertThrows(BadRequestException.class, () -> useCase.execute(10L, 100L, "req-release"));
+
+        assertEquals(1, seatLedger.releaseCalls);
+        assertEquals(0, seatLedger.confirmCalls);
+    }
+
+    @Test
+    void shouldConfirmLedgerReservationWithPersistedStatus() {
+        sessionRepository.session.setStatus(SessionStatus.OPEN);
+        sessionRepository.session.setMaxParticipants(1);
+        sessionRepository.session.setWaitlistEnabled(true);
+        sessionRepository.session.setWaitlistMaxSize(3);
+        addExistingBooking(50L, BookingStatus.CONFIRMED);
+
+        useCase.execute(10L, 101L, "req-confirm");
+
+        assertEquals(1, seatLedger.confirmCalls);
+        assertEquals(BookingStatus.WAITLISTED, seatLedger.lastConfirmedStatus);
+    }
+
     private static class InMemoryBookingRepository implements BookingRepository {
         private final List<Booking> bookings = new ArrayList<>();
+        private int countCalls;
 
         @Override
         public Booking save(Booking booking) {
@@ -165,6 +371,11 @@ class CreateBookingUseCaseTest {
             return booking;
         }
 
+        @Override
+        public List<Booking> saveAll(List<Booking> bookings) {
+            return bookings;
+        }
+
         @Override
         public Optional<Booking> findById(Long id) {
             return Optional.empty();
@@ -175,6 +386,11 @@ class CreateBookingUseCaseTest {
             return Optional.empty();
         }
 
+        @Override
+        public Optional<Long> findSessionIdById(Long id) {
+            return findById(id).map(Booking::getSessionId);
+        }
+
         @Override
         public Optional<Booking> findByCreateRequestId(String requestId) {
             return bookings.stream().filter(b -> requestId.equals(b.getCreateRequestId())).findFirst();
@@ -185,6 +401,11 @@ class CreateBookingUseCaseTest {
             return Optional.empty();
         }
 
+        @Override
+        public List<Booking> findByCreateRequestIds(List<String> requestIds) {
+            return List.of();
+        }
+
         @Override
         public boolean existsActiveBooking(Long sessionId, Long userId) {
             return bookings.stream().anyMatch(b -> b.getSessionId().equals(sessionId)
@@ -192,8 +413,14 @@ class CreateBookingUseCaseTest {
                     && (b.getStatus() == BookingStatus.CONFIRMED || b.getStatus() == BookingStatus.WAITLISTED));
         }
 
+        @Override
+        public Set<Long> findActiveBookingSessionIds(Long userId, List<Long> sessionIds) {
+            return Set.of();
+        }
+
         @Override
         public long countBySessionAndStatus(Long sessionId, BookingStatus status) {
+            countCalls++;
             return bookings.stream().filter(b -> b.getSessionId().equals(sessionId) && b.getStatus() == status).count();
         }
 
@@ -203,20 +430,30 @@ class CreateBookingUseCaseTest {
         }
 
         @Override
-        public Optional<Booking> findFirstWaitlistedBySessionIdForUpdate(Long sessionId) {
-            return Optional.empty();
+        public List<Booking> findWaitlistedBySessionIdForUpdate(Long sessionId) {
+            return List.of();
         }
 
         @Override
         public PageResponse<Booking> findBookings(Long sessionId, Long userId, BookingStatus status, Long branchId,
                                                   Long activityId, Instant from, Instant to, int page,
-                                                  int size, boolean sortAscending) {
+                                                  int size, boolean sortAscending, TotalMode totalMode) {
             return new PageResponse<>(List.of(), page, size, 0);
         }
+
+        @Override
+        public CursorPageResponse<Booking> findBookingsAfter(Long sessionId, Long userId, BookingStatus status,
+                                                             Long branchId, Long activityId, Instant from, Instant to,
+                                                             SeekCursor after, int size, boolean sortAscending,
+                                                             boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
     }
 
     private static class InMemorySessionRepository implements SessionInstanceRepository {
         private final SessionInstance session = new SessionInstance();
+        private int lockCalls;
+        private ReentrantLock rowLock;
 
         @Override
         public SessionInstance save(SessionInstance sessionInstance) {
@@ -239,16 +476,50 @@ class CreateBookingUseCaseTest {
 
         @Override
         public Optional<SessionInstance> findByIdForUpdate(Long id) {
+            if (rowLock != null) {
+                rowLock.lock();
+            }
+            lockCalls++;
             return findById(id);
         }
 
+        @Override
+        public int[] insertIgnoringConflicts(List<SessionInstance> sessions) {
+            return new int[sessions.size()];
+        }
+
+        @Override
+        public void adjustOccupancy(Long sessionId, int confirmedDelta, int waitlistedDelta) {
+            session.setConfirmedCount(count(session.getConfirmedCount()) + confirmedDelta);
+            session.setWaitlistedCount(count(session.getWaitlistedCount()) + waitlistedDelta);
+        }
+
+        @Override
+        public List<Long> findIdsStartingFrom(Instant from, long afterId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<Long> rebuildOccupancyCounters(List<Long> sessionIds) {
+            return List.of();
+        }
+
         @Override
         public PageResponse<SessionInstance> findSessions(Long organizationId, Long headquartersId,
                                                           Long activityId, SessionStatus status,
                                                           Instant from, Instant to, int page, int size,
-                                                          boolean sortAscending) {
+                                                          boolean sortAscending, TotalMode totalMode) {
             return new PageResponse<>(List.of(), page, size, 0);
         }
+
+        @Override
+        public CursorPageResponse<SessionInstance> findSessionsAfter(Long organizationId, Long headquartersId,
+                                                                     Long activityId, SessionStatus status,
+                                                                     Instant from, Instant to, SeekCursor after,
+                                                                     int size, boolean sortAscending,
+                                                                     boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
     }
 
     private static class StubClientPackageCreditService extends ClientPackageCreditService {
@@ -272,11 +543,139 @@ class CreateBookingUseCaseTest {
         }
     }
 
-    private static Booking existingBooking(Long sessionId, Long userId, BookingStatus status) {
+    private static class StubSessionSeatLedger extends SessionSeatLedger {
+        private boolean full;
+        private int confirmCalls;
+        private int releaseCalls;
+        private BookingStatus lastConfirmedStatus;
+
+        @Override
+        public SeatReservation reserve(Long sessionId) {
+            if (full) {
+                throw new BadRequestException("Session is full");
+            }
+            return new SeatReservation(sessionId, BookingStatus.CONFIRMED);
+        }
+
+        @Override
+        public void reconcile(SessionInstance session) {
+        }
+
+        @Override
+        public void confirm(SeatReservation reservation, BookingStatus persistedStatus) {
+            confirmCalls++;
+            lastConfirmedStatus = persistedStatus;
+        }
+
+        @Override
+        public void release(SeatReservation reservation) {
+            releaseCalls++;
+        }
+    }
+
+    private SessionSeatLedger useRealSeatLedger() {
+        SessionSeatLedger ledger = new SessionSeatLedger();
+        setField(ledger, "sessionInstanceRepository", sessionRepository);
+        useCase.sessionSeatLedger = ledger;
+        return ledger;
+    }
+
+    private static void setField(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed setting field " + fieldName, e);
+        }
+    }
+
+    private void addExistingBooking(Long userId, BookingStatus status) {
         Booking booking = new Booking();
-        booking.setSessionId(sessionId);
+        booking.setSessionId(10L);
         booking.setUserId(userId);
         booking.setStatus(status);
-        return booking;
+        bookingRepository.bookings.add(booking);
+        if (status == BookingStatus.CONFIRMED) {
+            sessionRepository.adjustOccupancy(10L, 1, 0);
+        } else if (status == BookingStatus.WAITLISTED) {
+            sessionRepository.adjustOccupancy(10L, 0, 1);
+        }
+    }
+
+    private static int count(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private static class StubWaitlistPromotionQueueRepository implements WaitlistPromotionQueueRepository {
+        private final List<Long> enqueued = new ArrayList<>();
+
+        @Override
+        public void enqueue(Long sessionId) {
+            enqueued.add(sessionId);
+        }
+
+        @Override
+        public List<Long> findDueSessionIds(int limit) {
+            return List.of();
+        }
+
+        @Override
+        public boolean claim(Long sessionId) {
+            return false;
+        }
+
+        @Override
+        public void complete(Long sessionId) {
+        }
+
+        @Override
+        public void retryLater(Long sessionId, Duration delay) {
+        }
+
+        @Override
+        public boolean retryAfterFailure(Long sessionId, Duration initialDelay, Duration maxDelay, int maxAttempts) {
+            return false;
+        }
+    }
+
+    private static class RecordingEventOutbox extends EventOutbox {
+        private final List<String> eventTypes = new ArrayList<>();
+        private final List<Object> payloads = new ArrayList<>();
+
+        @Override
+        public void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+            eventTypes.add(eventType);
+            payloads.add(payload);
+        }
+    }
+
+    private static class RecordingSessionTimetableRepository implements SessionTimetableRepository {
+        final List<Long> refreshedSessionIds = new ArrayList<>();
+        final List<Long> refreshedHeadquartersIds = new ArrayList<>();
+
+        @Override
+        public List<TimetableEntry> findWeek(Long headquartersId, LocalDate weekStart) {
+            return List.of();
+        }
+
+        @Override
+        public void refreshSessions(Collection<Long> sessionIds) {
+            refreshedSessionIds.addAll(sessionIds);
+        }
+
+        @Override
+        public void refreshHeadquartersBetween(Collection<Long> headquartersIds, Instant from, Instant to) {
+            refreshedHeadquartersIds.addAll(headquartersIds);
+        }
+
+        @Override
+        public void refreshActivity(Long activityId) {
+        }
+
+        @Override
+        public int refreshAll() {
+            return 0;
+        }
     }
 }
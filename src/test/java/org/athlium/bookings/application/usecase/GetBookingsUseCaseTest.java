@@ -3,7 +3,10 @@ package org.athlium.bookings.application.usecase;
 import org.athlium.bookings.domain.model.Booking;
 import org.athlium.bookings.domain.model.BookingStatus;
 import org.athlium.bookings.domain.repository.BookingRepository;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,10 +14,13 @@ import org.junit.jupiter.api.Test;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GetBookingsUseCaseTest {
 
@@ -31,7 +37,7 @@ class GetBookingsUseCaseTest {
     @Test
     void shouldRejectInvalidSort() {
         BadRequestException ex = assertThrows(BadRequestException.class, () ->
-                useCase.execute(null, null, null, null, null, null, null, 1, 20, "id:asc"));
+                useCase.execute(null, null, null, null, null, null, null, 1, 20, "id:asc", null));
 
         assertEquals("sort must be createdAt:asc or createdAt:desc", ex.getMessage());
     }
@@ -48,23 +54,65 @@ class GetBookingsUseCaseTest {
                 null,
                 2,
                 10,
-                "createdAt:desc"
+                "createdAt:desc",
+                "none"
         );
 
         assertEquals(1, repository.capturedPage);
         assertFalse(repository.capturedSortAscending);
+        assertEquals(TotalMode.NONE, repository.capturedTotalMode);
         assertEquals(1, response.getPage());
     }
 
+    @Test
+    void shouldSeekPastDecodedCursorInRequestedDirection() {
+        Instant createdAt = Instant.parse("2026-02-10T10:00:00Z");
+
+        CursorPageResponse<Booking> response = useCase.executeAfter(
+                null,
+                10L,
+                null,
+                null,
+                null,
+                null,
+                null,
+                SeekCursor.of(createdAt, 7L).encode(),
+                10,
+                "createdAt:asc",
+                false
+        );
+
+        assertEquals(new SeekCursor(createdAt.toString(), 7L), repository.capturedCursor);
+        assertTrue(repository.capturedSortAscending);
+        assertFalse(repository.capturedIncludeTotal);
+        assertNull(response.getTotalElements());
+    }
+
+    @Test
+    void shouldRejectCursorPageAboveLimit() {
+        BadRequestException ex = assertThrows(BadRequestException.class, () ->
+                useCase.executeAfter(null, null, null, null, null, null, null, "", 101, "createdAt:desc", false));
+
+        assertEquals("Limit must be between 1 and 100", ex.getMessage());
+    }
+
     private static class StubBookingRepository implements BookingRepository {
         int capturedPage;
         boolean capturedSortAscending;
+        TotalMode capturedTotalMode;
+        SeekCursor capturedCursor;
+        boolean capturedIncludeTotal;
 
         @Override
         public Booking save(Booking booking) {
             return booking;
         }
 
+        @Override
+        public List<Booking> saveAll(List<Booking> bookings) {
+            return bookings;
+        }
+
         @Override
         public Optional<Booking> findById(Long id) {
             return Optional.empty();
@@ -75,6 +123,11 @@ class GetBookingsUseCaseTest {
             return Optional.empty();
         }
 
+        @Override
+        public Optional<Long> findSessionIdById(Long id) {
+            return Optional.empty();
+        }
+
         @Override
         public Optional<Booking> findByCreateRequestId(String requestId) {
             return Optional.empty();
@@ -85,11 +138,21 @@ class GetBookingsUseCaseTest {
             return Optional.empty();
         }
 
+        @Override
+        public List<Booking> findByCreateRequestIds(List<String> requestIds) {
+            return List.of();
+        }
+
         @Override
         public boolean existsActiveBooking(Long sessionId, Long userId) {
             return false;
         }
 
+        @Override
+        public Set<Long> findActiveBookingSessionIds(Long userId, List<Long> sessionIds) {
+            return Set.of();
+        }
+
         @Override
         public long countBySessionAndStatus(Long sessionId, BookingStatus status) {
             return 0;
@@ -101,17 +164,29 @@ class GetBookingsUseCaseTest {
         }
 
         @Override
-        public Optional<Booking> findFirstWaitlistedBySessionIdForUpdate(Long sessionId) {
-            return Optional.empty();
+        public List<Booking> findWaitlistedBySessionIdForUpdate(Long sessionId) {
+            return List.of();
         }
 
         @Override
         public PageResponse<Booking> findBookings(Long sessionId, Long userId, BookingStatus status, Long branchId,
                                                   Long activityId, Instant from, Instant to, int page,
-                                                  int size, boolean sortAscending) {
+                                                  int size, boolean sortAscending, TotalMode totalMode) {
             this.capturedPage = page;
             this.capturedSortAscending = sortAscending;
+            this.capturedTotalMode = totalMode;
             return new PageResponse<>(List.of(), page, size, 0);
         }
+
+        @Override
+        public CursorPageResponse<Booking> findBookingsAfter(Long sessionId, Long userId, BookingStatus status,
+                                                             Long branchId, Long activityId, Instant from, Instant to,
+                                                             SeekCursor after, int size, boolean sortAscending,
+                                                             boolean includeTotal) {
+            this.capturedCursor = after;
+            this.capturedSortAscending = sortAscending;
+            this.capturedIncludeTotal = includeTotal;
+            return new CursorPageResponse<>(List.of(), size, null, includeTotal ? 0L : null);
+        }
     }
 }
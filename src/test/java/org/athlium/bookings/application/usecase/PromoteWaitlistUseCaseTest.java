@@ -0,0 +1,422 @@
+package org.athlium.bookings.application.usecase;
+
+import org.athlium.bookings.application.service.SessionSeatLedger;
+import org.athlium.bookings.domain.model.Booking;
+import org.athlium.bookings.domain.model.BookingEvent;
+import org.athlium.bookings.domain.model.BookingStatus;
+import org.athlium.bookings.domain.repository.BookingRepository;
+import org.athlium.bookings.domain.repository.WaitlistPromotionQueueRepository;
+import org.athlium.clients.application.service.ClientPackageCreditService;
+import org.athlium.clients.domain.model.ClientPackage;
+import org.athlium.clients.domain.model.ClientPackageCredit;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.model.TimetableEntry;
+import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.application.EventOutbox;
+import org.athlium.shared.domain.CursorPageResponse;
+import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PromoteWaitlistUseCaseTest {
+
+    private PromoteWaitlistUseCase useCase;
+    private InMemoryBookingRepository bookingRepository;
+    private InMemorySessionRepository sessionRepository;
+    private StubClientPackageCreditService creditService;
+    private InMemoryPromotionQueue promotionQueue;
+    private RecordingEventOutbox eventOutbox;
+    private RecordingSessionTimetableRepository timetableRepository;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new PromoteWaitlistUseCase();
+        bookingRepository = new InMemoryBookingRepository();
+        sessionRepository = new InMemorySessionRepository();
+        creditService = new StubClientPackageCreditService();
+        promotionQueue = new InMemoryPromotionQueue();
+        useCase.bookingRepository = bookingRepository;
+        useCase.sessionInstanceRepository = sessionRepository;
+        useCase.clientPackageCreditService = creditService;
+        useCase.sessionSeatLedger = new SessionSeatLedger();
+        useCase.waitlistPromotionQueueRepository = promotionQueue;
+        eventOutbox = new RecordingEventOutbox();
+        useCase.eventOutbox = eventOutbox;
+        timetableRepository = new RecordingSessionTimetableRepository();
+        useCase.sessionTimetableRepository = timetableRepository;
+        promotionQueue.enqueue(10L);
+    }
+
+    @Test
+    void shouldPromoteOldestCandidatesUpToTheFreeSeats() {
+        sessionRepository.session.setConfirmedCount(1);
+        sessionRepository.session.setWaitlistedCount(3);
+        Booking first = waitlisted(2L, 101L, "2026-01-01T10:01:00Z");
+        Booking second = waitlisted(3L, 102L, "2026-01-01T10:02:00Z");
+        Booking third = waitlisted(4L, 103L, "2026-01-01T10:03:00Z");
+        bookingRepository.bookings.addAll(List.of(third, first, second));
+        creditService.give(101L, 71L);
+        creditService.give(102L, 72L);
+        creditService.give(103L, 73L);
+
+        var result = useCase.execute(10L);
+
+        assertEquals(2, result.promoted());
+        assertEquals(BookingStatus.CONFIRMED, first.getStatus());
+        assertEquals(71L, first.getConsumedPackageId());
+        assertEquals(BookingStatus.CONFIRMED, second.getStatus());
+        assertEquals(BookingStatus.WAITLISTED, third.getStatus());
+        assertEquals(3, sessionRepository.session.getConfirmedCount());
+        assertEquals(1, sessionRepository.session.getWaitlistedCount());
+        assertEquals(List.of(10L), promotionQueue.completed);
+        assertEquals(List.of(BookingEvent.PROMOTED, BookingEvent.PROMOTED), eventOutbox.eventTypes);
+        assertEquals(List.of(10L), timetableRepository.refreshedSessionIds);
+        assertEquals(BookingStatus.WAITLISTED, ((BookingEvent) eventOutbox.payloads.get(0)).previousStatus());
+    }
+
+    @Test
+    void shouldSkipCandidatesWithoutCreditsAndRetryWhileSeatsRemainFree() {
+        sessionRepository.session.setConfirmedCount(1);
+        sessionRepository.session.setWaitlistedCount(2);
+        Booking noCredits = waitlisted(2L, 101L, "2026-01-01T10:01:00Z");
+        Booking withCredits = waitlisted(3L, 102L, "2026-01-01T10:02:00Z");
+        bookingRepository.bookings.addAll(List.of(noCredits, withCredits));
+        creditService.give(102L, 72L);
+
+        var result = useCase.execute(10L);
+
+        assertEquals(1, result.promoted());
+        assertEquals(1, result.skipped());
+        assertEquals(BookingStatus.WAITLISTED, noCredits.getStatus());
+        assertNull(noCredits.getConsumedPackageId());
+        assertEquals(BookingStatus.CONFIRMED, withCredits.getStatus());
+        assertEquals(List.of(10L), promotionQueue.retried);
+        assertEquals(List.of(), promotionQueue.completed);
+    }
+
+    @Test
+    void shouldLeaveSessionAloneWhenAnotherWorkerHoldsIt() {
+        sessionRepository.session.setConfirmedCount(0);
+        bookingRepository.bookings.add(waitlisted(2L, 101L, "2026-01-01T10:01:00Z"));
+        creditService.give(101L, 71L);
+        promotionQueue.claimable = false;
+
+        var result = useCase.execute(10L);
+
+        assertEquals(0, result.promoted());
+        assertEquals(0, creditService.lockCalls);
+        assertEquals(List.of(), promotionQueue.completed);
+    }
+
+    @Test
+    void shouldDropQueuedSessionThatAlreadyStarted() {
+        sessionRepository.session.setConfirmedCount(0);
+        sessionRepository.session.setStartsAt(Instant.now().minus(1, ChronoUnit.HOURS));
+        Booking candidate = waitlisted(2L, 101L, "2026-01-01T10:01:00Z");
+        bookingRepository.bookings.add(candidate);
+        creditService.give(101L, 71L);
+
+        var result = useCase.execute(10L);
+
+        assertEquals(0, result.promoted());
+        assertEquals(BookingStatus.WAITLISTED, candidate.getStatus());
+        assertEquals(List.of(10L), promotionQueue.completed);
+    }
+
+    private static Booking waitlisted(Long id, Long userId, String createdAt) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setSessionId(10L);
+        booking.setUserId(userId);
+        booking.setStatus(BookingStatus.WAITLISTED);
+        booking.setCreatedAt(Instant.parse(createdAt));
+        return booking;
+    }
+
+    private static class InMemoryBookingRepository implements BookingRepository {
+        private final List<Booking> bookings = new ArrayList<>();
+
+        @Override
+        public Booking save(Booking booking) {
+            return booking;
+        }
+
+        @Override
+        public List<Booking> saveAll(List<Booking> bookings) {
+            return bookings;
+        }
+
+        @Override
+        public Optional<Booking> findById(Long id) {
+            return bookings.stream().filter(b -> b.getId().equals(id)).findFirst();
+        }
+
+        @Override
+        public Optional<Booking> findByIdForUpdate(Long id) {
+            return findById(id);
+        }
+
+        @Override
+        public Optional<Long> findSessionIdById(Long id) {
+            return findById(id).map(Booking::getSessionId);
+        }
+
+        @Override
+        public Optional<Booking> findByCreateRequestId(String requestId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Booking> findByCancelRequestId(String requestId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Booking> findByCreateRequestIds(List<String> requestIds) {
+            return List.of();
+        }
+
+        @Override
+        public boolean existsActiveBooking(Long sessionId, Long userId) {
+            return false;
+        }
+
+        @Override
+        public Set<Long> findActiveBookingSessionIds(Long userId, List<Long> sessionIds) {
+            return Set.of();
+        }
+
+        @Override
+        public long countBySessionAndStatus(Long sessionId, BookingStatus status) {
+            return 0;
+        }
+
+        @Override
+        public Optional<Booking> findFirstWaitlistedBySessionId(Long sessionId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Booking> findWaitlistedBySessionIdForUpdate(Long sessionId) {
+            return bookings.stream()
+                    .filter(b -> b.getSessionId().equals(sessionId) && b.getStatus() == BookingStatus.WAITLISTED)
+                    .sorted(Comparator.comparing(Booking::getCreatedAt))
+                    .toList();
+        }
+
+        @Override
+        public PageResponse<Booking> findBookings(Long sessionId, Long userId, BookingStatus status, Long branchId,
+                                                  Long activityId, Instant from, Instant to, int page,
+                                                  int size, boolean sortAscending, TotalMode totalMode) {
+            return new PageResponse<>(List.of(), page, size, 0);
+        }
+
+        @Override
+        public CursorPageResponse<Booking> findBookingsAfter(Long sessionId, Long userId, BookingStatus status,
+                                                             Long branchId, Long activityId, Instant from, Instant to,
+                                                             SeekCursor after, int size, boolean sortAscending,
+                                                             boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
+    }
+
+    private static class InMemorySessionRepository implements SessionInstanceRepository {
+        private final SessionInstance session = new SessionInstance();
+
+        InMemorySessionRepository() {
+            session.setId(10L);
+            session.setActivityId(500L);
+            session.setStatus(SessionStatus.OPEN);
+            session.setMaxParticipants(3);
+            session.setWaitlistEnabled(true);
+            session.setWaitlistMaxSize(5);
+            session.setConfirmedCount(0);
+            session.setWaitlistedCount(0);
+        }
+
+        @Override
+        public SessionInstance save(SessionInstance sessionInstance) {
+            return sessionInstance;
+        }
+
+        @Override
+        public boolean existsByOrganizationAndHeadquartersAndActivityAndStartsAt(Long organizationId,
+                                                                                  Long headquartersId,
+                                                                                  Long activityId,
+                                                                                  Instant startsAt) {
+            return false;
+        }
+
+        @Override
+        public Optional<SessionInstance> findById(Long id) {
+            return Optional.of(session);
+        }
+
+        @Override
+        public Optional<SessionInstance> findByIdForUpdate(Long id) {
+            return findById(id);
+        }
+
+        @Override
+        public int[] insertIgnoringConflicts(List<SessionInstance> sessions) {
+            return new int[sessions.size()];
+        }
+
+        @Override
+        public void adjustOccupancy(Long sessionId, int confirmedDelta, int waitlistedDelta) {
+            session.setConfirmedCount(session.getConfirmedCount() + confirmedDelta);
+            session.setWaitlistedCount(session.getWaitlistedCount() + waitlistedDelta);
+        }
+
+        @Override
+        public List<Long> findIdsStartingFrom(Instant from, long afterId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<Long> rebuildOccupancyCounters(List<Long> sessionIds) {
+            return List.of();
+        }
+
+        @Override
+        public PageResponse<SessionInstance> findSessions(Long organizationId, Long headquartersId,
+                                                          Long activityId, SessionStatus status,
+                                                          Instant from, Instant to, int page, int size,
+                                                          boolean sortAscending, TotalMode totalMode) {
+            return new PageResponse<>(List.of(), page, size, 0);
+        }
+
+        @Override
+        public CursorPageResponse<SessionInstance> findSessionsAfter(Long organizationId, Long headquartersId,
+                                                                     Long activityId, SessionStatus status,
+                                                                     Instant from, Instant to, SeekCursor after,
+                                                                     int size, boolean sortAscending,
+                                                                     boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
+    }
+
+    private static class StubClientPackageCreditService extends ClientPackageCreditService {
+        private final Map<Long, List<ClientPackage>> packagesByUser = new HashMap<>();
+        private int lockCalls;
+
+        void give(Long userId, Long packageId) {
+            ClientPackageCredit credit = new ClientPackageCredit();
+            credit.setActivityId(500L);
+            credit.setTokens(1);
+            ClientPackage clientPackage = new ClientPackage();
+            clientPackage.setId(packageId);
+            clientPackage.setUserId(userId);
+            clientPackage.setCredits(new ArrayList<>(List.of(credit)));
+            packagesByUser.computeIfAbsent(userId, ignored -> new ArrayList<>()).add(clientPackage);
+        }
+
+        @Override
+        public CreditBatch lockCredits(Long userId) {
+            lockCalls++;
+            return new CreditBatch(packagesByUser.getOrDefault(userId, List.of()));
+        }
+
+        @Override
+        public void saveCredits(CreditBatch batch) {
+        }
+    }
+
+    private static class InMemoryPromotionQueue implements WaitlistPromotionQueueRepository {
+        private final List<Long> queued = new ArrayList<>();
+        private final List<Long> completed = new ArrayList<>();
+        private final List<Long> retried = new ArrayList<>();
+        private boolean claimable = true;
+
+        @Override
+        public void enqueue(Long sessionId) {
+            queued.add(sessionId);
+        }
+
+        @Override
+        public List<Long> findDueSessionIds(int limit) {
+            return queued.stream().limit(limit).toList();
+        }
+
+        @Override
+        public boolean claim(Long sessionId) {
+            return claimable && queued.contains(sessionId);
+        }
+
+        @Override
+        public void complete(Long sessionId) {
+            queued.remove(sessionId);
+            completed.add(sessionId);
+        }
+
+        @Override
+        public void retryLater(Long sessionId, Duration delay) {
+            retried.add(sessionId);
+        }
+
+        @Override
+        public boolean retryAfterFailure(Long sessionId, Duration initialDelay, Duration maxDelay, int maxAttempts) {
+            return false;
+        }
+    }
+
+    private static class RecordingEventOutbox extends EventOutbox {
+        private final List<String> eventTypes = new ArrayList<>();
+        private final List<Object> payloads = new ArrayList<>();
+
+        @Override
+        public void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+            eventTypes.add(eventType);
+            payloads.add(payload);
+        }
+    }
+
+    private static class RecordingSessionTimetableRepository implements SessionTimetableRepository {
+        final List<Long> refreshedSessionIds = new ArrayList<>();
+        final List<Long> refreshedHeadquartersIds = new ArrayList<>();
+
+        @Override
+        public List<TimetableEntry> findWeek(Long headquartersId, LocalDate weekStart) {
+            return List.of();
+        }
+
+        @Override
+        public void refreshSessions(Collection<Long> sessionIds) {
+            refreshedSessionIds.addAll(sessionIds);
+        }
+
+        @Override
+        public void refreshHeadquartersBetween(Collection<Long> headquartersIds, Instant from, Instant to) {
+            refreshedHeadquartersIds.addAll(headquartersIds);
+        }
+
+        @Override
+        public void refreshActivity(Long activityId) {
+        }
+
+        @Override
+        public int refreshAll() {
+            return 0;
+        }
+    }
+}
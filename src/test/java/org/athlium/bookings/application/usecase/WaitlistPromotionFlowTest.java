@@ -0,0 +1,422 @@
+package org.athlium.bookings.application.usecase;
+
+import org.athlium.bookings.application.service.SessionSeatLedger;
+import org.athlium.bookings.domain.model.Booking;
+import org.athlium.bookings.domain.model.BookingStatus;
+import org.athlium.bookings.domain.repository.BookingRepository;
+import org.athlium.bookings.domain.repository.WaitlistPromotionQueueRepository;
+import org.athlium.clients.application.service.ClientPackageCreditService;
+import org.athlium.clients.domain.model.ClientPackage;
+import org.athlium.clients.domain.model.ClientPackageCredit;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.model.TimetableEntry;
+import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.application.EventOutbox;
+import org.athlium.shared.domain.CursorPageResponse;
+import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives cancel, create and promote together, with one shared ledger and queue, to check that a seat freed
+ * while users are waitlisted goes to the head of the waitlist rather than to whoever books next.
+ */
+class WaitlistPromotionFlowTest {
+
+    private static final Long SESSION_ID = 10L;
+
+    private CreateBookingUseCase createBooking;
+    private CancelBookingUseCase cancelBooking;
+    private PromoteWaitlistUseCase promoteWaitlist;
+    private InMemoryBookingRepository bookingRepository;
+    private InMemorySessionRepository sessionRepository;
+    private StubClientPackageCreditService creditService;
+    private InMemoryPromotionQueue promotionQueue;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository = new InMemoryBookingRepository();
+        sessionRepository = new InMemorySessionRepository();
+        creditService = new StubClientPackageCreditService();
+        promotionQueue = new InMemoryPromotionQueue();
+        SessionSeatLedger ledger = new SessionSeatLedger();
+        setField(ledger, "sessionInstanceRepository", sessionRepository);
+        EventOutbox eventOutbox = new NoOpEventOutbox();
+        SessionTimetableRepository timetableRepository = new NoOpSessionTimetableRepository();
+
+        createBooking = new CreateBookingUseCase();
+        createBooking.bookingRepository = bookingRepository;
+        createBooking.sessionInstanceRepository = sessionRepository;
+        createBooking.clientPackageCreditService = creditService;
+        createBooking.sessionSeatLedger = ledger;
+        createBooking.sessionTimetableRepository = timetableRepository;
+        createBooking.waitlistPromotionQueueRepository = promotionQueue;
+        createBooking.eventOutbox = eventOutbox;
+
+        cancelBooking = new CancelBookingUseCase();
+        cancelBooking.bookingRepository = bookingRepository;
+        cancelBooking.sessionInstanceRepository = sessionRepository;
+        cancelBooking.clientPackageCreditService = creditService;
+        cancelBooking.sessionSeatLedger = ledger;
+        cancelBooking.sessionTimetableRepository = timetableRepository;
+        cancelBooking.waitlistPromotionQueueRepository = promotionQueue;
+        cancelBooking.eventOutbox = eventOutbox;
+
+        promoteWaitlist = new PromoteWaitlistUseCase();
+        promoteWaitlist.bookingRepository = bookingRepository;
+        promoteWaitlist.sessionInstanceRepository = sessionRepository;
+        promoteWaitlist.clientPackageCreditService = creditService;
+        promoteWaitlist.sessionSeatLedger = ledger;
+        promoteWaitlist.sessionTimetableRepository = timetableRepository;
+        promoteWaitlist.waitlistPromotionQueueRepository = promotionQueue;
+        promoteWaitlist.eventOutbox = eventOutbox;
+    }
+
+    @Test
+    void shouldGiveFreedSeatToWaitlistBeforeNewBooker() {
+        Booking confirmed = createBooking.execute(SESSION_ID, 100L, null);
+        Booking waitlisted = createBooking.execute(SESSION_ID, 101L, null);
+        assertEquals(BookingStatus.CONFIRMED, confirmed.getStatus());
+        assertEquals(BookingStatus.WAITLISTED, waitlisted.getStatus());
+
+        cancelBooking.execute(confirmed.getId(), null);
+        Booking newcomer = createBooking.execute(SESSION_ID, 102L, null);
+        var result = promoteWaitlist.execute(SESSION_ID);
+
+        assertEquals(BookingStatus.WAITLISTED, newcomer.getStatus());
+        assertEquals(1, result.promoted());
+        assertEquals(BookingStatus.CONFIRMED, waitlisted.getStatus());
+        assertEquals(1, sessionRepository.session.getConfirmedCount());
+        assertEquals(1, sessionRepository.session.getWaitlistedCount());
+        assertEquals(Set.of(), promotionQueue.queued);
+    }
+
+    @Test
+    void shouldPromoteNewBookerWhenEarlierCandidatesHaveNoCredits() {
+        Booking confirmed = createBooking.execute(SESSION_ID, 100L, null);
+        Booking waitlisted = createBooking.execute(SESSION_ID, 101L, null);
+        cancelBooking.execute(confirmed.getId(), null);
+        creditService.usersWithoutCredits.add(101L);
+        Booking newcomer = createBooking.execute(SESSION_ID, 102L, null);
+
+        var result = promoteWaitlist.execute(SESSION_ID);
+
+        assertEquals(1, result.promoted());
+        assertEquals(1, result.skipped());
+        assertEquals(BookingStatus.WAITLISTED, waitlisted.getStatus());
+        assertEquals(BookingStatus.CONFIRMED, newcomer.getStatus());
+        assertEquals(Set.of(), promotionQueue.queued);
+    }
+
+    private static void setField(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed setting field " + fieldName, e);
+        }
+    }
+
+    private static class InMemoryBookingRepository implements BookingRepository {
+        private final List<Booking> bookings = new ArrayList<>();
+        private Instant clock = Instant.parse("2026-01-01T10:00:00Z");
+
+        @Override
+        public Booking save(Booking booking) {
+            if (booking.getId() == null) {
+                booking.setId((long) (bookings.size() + 1));
+                clock = clock.plusSeconds(1);
+                booking.setCreatedAt(clock);
+                bookings.add(booking);
+            }
+            return booking;
+        }
+
+        @Override
+        public List<Booking> saveAll(List<Booking> bookings) {
+            bookings.forEach(this::save);
+            return bookings;
+        }
+
+        @Override
+        public Optional<Booking> findById(Long id) {
+            return bookings.stream().filter(b -> b.getId().equals(id)).findFirst();
+        }
+
+        @Override
+        public Optional<Booking> findByIdForUpdate(Long id) {
+            return findById(id);
+        }
+
+        @Override
+        public Optional<Long> findSessionIdById(Long id) {
+            return findById(id).map(Booking::getSessionId);
+        }
+
+        @Override
+        public Optional<Booking> findByCreateRequestId(String requestId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Booking> findByCancelRequestId(String requestId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Booking> findByCreateRequestIds(List<String> requestIds) {
+            return List.of();
+        }
+
+        @Override
+        public boolean existsActiveBooking(Long sessionId, Long userId) {
+            return bookings.stream().anyMatch(b -> b.getSessionId().equals(sessionId)
+                    && b.getUserId().equals(userId)
+                    && (b.getStatus() == BookingStatus.CONFIRMED || b.getStatus() == BookingStatus.WAITLISTED));
+        }
+
+        @Override
+        public Set<Long> findActiveBookingSessionIds(Long userId, List<Long> sessionIds) {
+            return Set.of();
+        }
+
+        @Override
+        public long countBySessionAndStatus(Long sessionId, BookingStatus status) {
+            return bookings.stream().filter(b -> b.getSessionId().equals(sessionId) && b.getStatus() == status).count();
+        }
+
+        @Override
+        public Optional<Booking> findFirstWaitlistedBySessionId(Long sessionId) {
+            return findWaitlistedBySessionIdForUpdate(sessionId).stream().findFirst();
+        }
+
+        @Override
+        public List<Booking> findWaitlistedBySessionIdForUpdate(Long sessionId) {
+            return bookings.stream()
+                    .filter(b -> b.getSessionId().equals(sessionId) && b.getStatus() == BookingStatus.WAITLISTED)
+                    .sorted(Comparator.comparing(Booking::getCreatedAt))
+                    .toList();
+        }
+
+        @Override
+        public PageResponse<Booking> findBookings(Long sessionId, Long userId, BookingStatus status, Long branchId,
+                                                  Long activityId, Instant from, Instant to, int page,
+                                                  int size, boolean sortAscending, TotalMode totalMode) {
+            return new PageResponse<>(List.of(), page, size, 0);
+        }
+
+        @Override
+        public CursorPageResponse<Booking> findBookingsAfter(Long sessionId, Long userId, BookingStatus status,
+                                                             Long branchId, Long activityId, Instant from, Instant to,
+                                                             SeekCursor after, int size, boolean sortAscending,
+                                                             boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
+    }
+
+    private static class InMemorySessionRepository implements SessionInstanceRepository {
+        private final SessionInstance session = new SessionInstance();
+
+        InMemorySessionRepository() {
+            session.setId(SESSION_ID);
+            session.setActivityId(500L);
+            session.setStatus(SessionStatus.OPEN);
+            session.setMaxParticipants(1);
+            session.setWaitlistEnabled(true);
+            session.setWaitlistMaxSize(5);
+            session.setConfirmedCount(0);
+            session.setWaitlistedCount(0);
+        }
+
+        @Override
+        public SessionInstance save(SessionInstance sessionInstance) {
+            return sessionInstance;
+        }
+
+        @Override
+        public boolean existsByOrganizationAndHeadquartersAndActivityAndStartsAt(Long organizationId,
+                                                                                  Long headquartersId,
+                                                                                  Long activityId,
+                                                                                  Instant startsAt) {
+            return false;
+        }
+
+        @Override
+        public Optional<SessionInstance> findById(Long id) {
+            return Optional.of(session);
+        }
+
+        @Override
+        public Optional<SessionInstance> findByIdForUpdate(Long id) {
+            return findById(id);
+        }
+
+        @Override
+        public int[] insertIgnoringConflicts(List<SessionInstance> sessions) {
+            return new int[sessions.size()];
+        }
+
+        @Override
+        public void adjustOccupancy(Long sessionId, int confirmedDelta, int waitlistedDelta) {
+            session.setConfirmedCount(session.getConfirmedCount() + confirmedDelta);
+            session.setWaitlistedCount(session.getWaitlistedCount() + waitlistedDelta);
+        }
+
+        @Override
+        public List<Long> findIdsStartingFrom(Instant from, long afterId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<Long> rebuildOccupancyCounters(List<Long> sessionIds) {
+            return List.of();
+        }
+
+        @Override
+        public PageResponse<SessionInstance> findSessions(Long organizationId, Long headquartersId,
+                                                          Long activityId, SessionStatus status,
+                                                          Instant from, Instant to, int page, int size,
+                                                          boolean sortAscending, TotalMode totalMode) {
+            return new PageResponse<>(List.of(), page, size, 0);
+        }
+
+        @Override
+        public CursorPageResponse<SessionInstance> findSessionsAfter(Long organizationId, Long headquartersId,
+                                                                     Long activityId, SessionStatus status,
+                                                                     Instant from, Instant to, SeekCursor after,
+                                                                     int size, boolean sortAscending,
+                                                                     boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
+    }
+
+    /**
+     * Every user has credits unless listed; package ids are derived from the user id.
+     */
+    private static class StubClientPackageCreditService extends ClientPackageCreditService {
+        private final Set<Long> usersWithoutCredits = new LinkedHashSet<>();
+        private final Map<Long, Integer> tokensByUser = new HashMap<>();
+
+        @Override
+        public boolean hasAvailableCredit(Long userId, Long activityId) {
+            return !usersWithoutCredits.contains(userId);
+        }
+
+        @Override
+        public Long consumeCredit(Long userId, Long activityId) {
+            tokensByUser.merge(userId, -1, Integer::sum);
+            return userId;
+        }
+
+        @Override
+        public void refundCredit(Long userId, Long activityId, Long consumedPackageId) {
+            tokensByUser.merge(userId, 1, Integer::sum);
+        }
+
+        @Override
+        public CreditBatch lockCredits(Long userId) {
+            if (usersWithoutCredits.contains(userId)) {
+                return new CreditBatch(List.of());
+            }
+            ClientPackageCredit credit = new ClientPackageCredit();
+            credit.setActivityId(500L);
+            credit.setTokens(1);
+            ClientPackage clientPackage = new ClientPackage();
+            clientPackage.setId(userId);
+            clientPackage.setUserId(userId);
+            clientPackage.setCredits(new ArrayList<>(List.of(credit)));
+            return new CreditBatch(List.of(clientPackage));
+        }
+
+        @Override
+        public void saveCredits(CreditBatch batch) {
+        }
+    }
+
+    private static class InMemoryPromotionQueue implements WaitlistPromotionQueueRepository {
+        private final Set<Long> queued = new LinkedHashSet<>();
+
+        @Override
+        public void enqueue(Long sessionId) {
+            queued.add(sessionId);
+        }
+
+        @Override
+        public List<Long> findDueSessionIds(int limit) {
+            return queued.stream().limit(limit).collect(Collectors.toList());
+        }
+
+        @Override
+        public boolean claim(Long sessionId) {
+            return queued.contains(sessionId);
+        }
+
+        @Override
+        public void complete(Long sessionId) {
+            queued.remove(sessionId);
+        }
+
+        @Override
+        public void retryLater(Long sessionId, Duration delay) {
+        }
+
+        @Override
+        public boolean retryAfterFailure(Long sessionId, Duration initialDelay, Duration maxDelay, int maxAttempts) {
+            return false;
+        }
+    }
+
+    private static class NoOpEventOutbox extends EventOutbox {
+
+        @Override
+        public void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        }
+    }
+
+    private static class NoOpSessionTimetableRepository implements SessionTimetableRepository {
+
+        @Override
+        public List<TimetableEntry> findWeek(Long headquartersId, LocalDate weekStart) {
+            return List.of();
+        }
+
+        @Override
+        public void refreshSessions(Collection<Long> sessionIds) {
+        }
+
+        @Override
+        public void refreshHeadquartersBetween(Collection<Long> headquartersIds, Instant from, Instant to) {
+        }
+
+        @Override
+        public void refreshActivity(Long activityId) {
+        }
+
+        @Override
+        public int refreshAll() {
+            return 0;
+        }
+    }
+}
@@ -10,7 +10,10 @@ import org.athlium.bookings.domain.model.Booking;
 import org.athlium.bookings.domain.model.BookingStatus;
 import org.athlium.bookings.domain.repository.BookingRepository;
 import org.athlium.bookings.presentation.mapper.BookingDtoMapper;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.dto.ApiResponse;
 import org.athlium.users.domain.model.Role;
 import org.junit.jupiter.api.BeforeEach;
@@ -69,7 +72,7 @@ class BookingResourceUnitTest {
         authenticateAs(100L, Role.CLIENT);
         getUseCase.response = new PageResponse<>(List.of(booking(1L, 10L, 100L, BookingStatus.CONFIRMED)), 0, 20, 1);
 
-        Response response = resource.getBookings(null, null, null, null, null, null, null, 1, 20, "createdAt:desc");
+        Response response = resource.getBookings(null, null, null, null, null, null, null, 1, 20, "createdAt:desc", null, false, "exact");
 
         assertEquals(200, response.getStatus());
         ApiResponse<?> body = (ApiResponse<?>) response.getEntity();
@@ -83,7 +86,7 @@ class BookingResourceUnitTest {
         authenticateAs(100L, Role.CLIENT);
         getUseCase.response = new PageResponse<>(List.of(), 0, 20, 0);
 
-        Response response = resource.getBookings(null, 999L, null, null, null, null, null, 1, 20, "createdAt:desc");
+        Response response = resource.getBookings(null, 999L, null, null, null, null, null, 1, 20, "createdAt:desc", null, false, "exact");
 
         assertEquals(403, response.getStatus());
     }
@@ -93,7 +96,7 @@ class BookingResourceUnitTest {
         authenticateAs(200L, Role.PROFESSOR);
         getUseCase.response = new PageResponse<>(List.of(), 0, 20, 0);
 
-        Response response = resource.getBookings(null, 999L, null, null, null, null, null, 1, 20, "createdAt:desc");
+        Response response = resource.getBookings(null, 999L, null, null, null, null, null, 1, 20, "createdAt:desc", null, false, "exact");
 
         assertEquals(200, response.getStatus());
         assertEquals(999L, getUseCase.lastUserId);
@@ -153,7 +156,7 @@ class BookingResourceUnitTest {
         @Override
         public PageResponse<Booking> execute(Long sessionId, Long userId, BookingStatus status, Long branchId,
                                              Long activityId, Instant from, Instant to, int page, int limit,
-                                             String sort) {
+                                             String sort, String totalMode) {
             this.lastUserId = userId;
             return response;
         }
@@ -167,6 +170,11 @@ class BookingResourceUnitTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public List<Booking> saveAll(List<Booking> bookings) {
+            return bookings;
+        }
+
         @Override
         public Optional<Booking> findById(Long id) {
             return Optional.ofNullable(bookingToReturn);
@@ -177,6 +185,11 @@ class BookingResourceUnitTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public Optional<Long> findSessionIdById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public Optional<Booking> findByCreateRequestId(String requestId) {
             throw new UnsupportedOperationException();
@@ -187,11 +200,21 @@ class BookingResourceUnitTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public List<Booking> findByCreateRequestIds(List<String> requestIds) {
+            return List.of();
+        }
+
         @Override
         public boolean existsActiveBooking(Long sessionId, Long userId) {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public Set<Long> findActiveBookingSessionIds(Long userId, List<Long> sessionIds) {
+            return Set.of();
+        }
+
         @Override
         public long countBySessionAndStatus(Long sessionId, BookingStatus status) {
             throw new UnsupportedOperationException();
@@ -203,14 +226,22 @@ class BookingResourceUnitTest {
         }
 
         @Override
-        public Optional<Booking> findFirstWaitlistedBySessionIdForUpdate(Long sessionId) {
+        public List<Booking> findWaitlistedBySessionIdForUpdate(Long sessionId) {
             throw new UnsupportedOperationException();
         }
 
         @Override
         public PageResponse<Booking> findBookings(Long sessionId, Long userId, BookingStatus status, Long branchId,
                                                   Long activityId, Instant from, Instant to, int page, int size,
-                                                  boolean sortAscending) {
+                                                  boolean sortAscending, TotalMode totalMode) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CursorPageResponse<Booking> findBookingsAfter(Long sessionId, Long userId, BookingStatus status,
+                                                             Long branchId, Long activityId, Instant from, Instant to,
+                                                             SeekCursor after, int size, boolean sortAscending,
+                                                             boolean includeTotal) {
             throw new UnsupportedOperationException();
         }
     }
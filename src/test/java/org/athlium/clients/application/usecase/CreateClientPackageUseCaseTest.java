@@ -2,12 +2,18 @@ package org.athlium.clients.application.usecase;
 
 import org.athlium.clients.domain.model.ClientPackage;
 import org.athlium.clients.domain.model.ClientPackageCredit;
+import org.athlium.clients.domain.model.ClientPackageEvent;
 import org.athlium.clients.domain.repository.ClientPackageRepository;
 import org.athlium.payments.domain.model.Payment;
 import org.athlium.payments.domain.model.PaymentListItem;
 import org.athlium.payments.domain.model.PaymentSearchCriteria;
 import org.athlium.payments.domain.repository.PaymentRepository;
+import org.athlium.shared.application.EventOutbox;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
+import org.athlium.users.domain.repository.MemberPackageStatusRepository;
 import org.athlium.users.domain.model.User;
 import org.athlium.users.domain.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +23,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -27,6 +34,8 @@ class CreateClientPackageUseCaseTest {
     private InMemoryClientPackageRepository clientPackageRepository;
     private InMemoryUserRepository userRepository;
     private InMemoryPaymentRepository paymentRepository;
+    private RecordingMemberPackageStatusRepository memberPackageStatusRepository;
+    private RecordingEventOutbox eventOutbox;
 
     @BeforeEach
     void setUp() {
@@ -38,6 +47,10 @@ class CreateClientPackageUseCaseTest {
         useCase.clientPackageRepository = clientPackageRepository;
         useCase.userRepository = userRepository;
         useCase.paymentRepository = paymentRepository;
+        memberPackageStatusRepository = new RecordingMemberPackageStatusRepository();
+        useCase.memberPackageStatusRepository = memberPackageStatusRepository;
+        eventOutbox = new RecordingEventOutbox();
+        useCase.eventOutbox = eventOutbox;
 
         User user = User.builder().id(10L).name("Client").lastName("A").email("c@a.com").firebaseUid("uid").active(true).build();
         userRepository.users.add(user);
@@ -60,6 +73,10 @@ class CreateClientPackageUseCaseTest {
         assertEquals(today.plusMonths(1), created.getPeriodEnd());
         assertEquals(1, created.getCredits().size());
         assertEquals(1, clientPackageRepository.saved.size());
+        assertEquals(List.of(10L), memberPackageStatusRepository.refreshedUserIds);
+        assertEquals(List.of(ClientPackageEvent.CREATED), eventOutbox.eventTypes);
+        ClientPackageEvent event = (ClientPackageEvent) eventOutbox.payloads.get(0);
+        assertEquals(List.of(new ClientPackageEvent.Credit(101L, 8)), event.credits());
     }
 
     @Test
@@ -202,8 +219,43 @@ class CreateClientPackageUseCaseTest {
         }
 
         @Override
-        public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria) {
+        public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria, TotalMode totalMode) {
             return new PageResponse<>(List.of(), criteria.page(), criteria.size(), 0);
         }
+
+        @Override
+        public CursorPageResponse<PaymentListItem> findPaymentsAfter(PaymentSearchCriteria criteria, SeekCursor after,
+                boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), criteria.size(), null, null);
+        }
+
+        @Override
+        public void streamPayments(PaymentSearchCriteria criteria, Consumer<PaymentListItem> consumer) {
+        }
+    }
+
+    private static class RecordingMemberPackageStatusRepository implements MemberPackageStatusRepository {
+        private final List<Long> refreshedUserIds = new ArrayList<>();
+
+        @Override
+        public void refreshForUser(Long userId) {
+            refreshedUserIds.add(userId);
+        }
+
+        @Override
+        public int refreshAll() {
+            return 0;
+        }
+    }
+
+    private static class RecordingEventOutbox extends EventOutbox {
+        private final List<String> eventTypes = new ArrayList<>();
+        private final List<Object> payloads = new ArrayList<>();
+
+        @Override
+        public void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+            eventTypes.add(eventType);
+            payloads.add(payload);
+        }
     }
 }
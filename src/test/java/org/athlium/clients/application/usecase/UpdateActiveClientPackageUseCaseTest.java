@@ -5,6 +5,7 @@ import org.athlium.clients.domain.model.ClientPackageCredit;
 import org.athlium.clients.domain.repository.ClientPackageRepository;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
+import org.athlium.users.domain.repository.MemberPackageStatusRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -20,12 +21,15 @@ class UpdateActiveClientPackageUseCaseTest {
 
     private UpdateActiveClientPackageUseCase useCase;
     private InMemoryClientPackageRepository repository;
+    private RecordingMemberPackageStatusRepository memberPackageStatusRepository;
 
     @BeforeEach
     void setUp() {
         useCase = new UpdateActiveClientPackageUseCase();
         repository = new InMemoryClientPackageRepository();
         useCase.clientPackageRepository = repository;
+        memberPackageStatusRepository = new RecordingMemberPackageStatusRepository();
+        useCase.memberPackageStatusRepository = memberPackageStatusRepository;
     }
 
     @Test
@@ -48,6 +52,7 @@ class UpdateActiveClientPackageUseCaseTest {
 
         assertEquals(1L, updated.getId());
         assertEquals(3, updated.getCredits().size());
+        assertEquals(List.of(20L), memberPackageStatusRepository.refreshedUserIds);
         assertEquals(100L, updated.getCredits().get(0).getActivityId());
         assertEquals(5, updated.getCredits().get(0).getTokens());
         assertEquals(200L, updated.getCredits().get(1).getActivityId());
@@ -151,4 +156,18 @@ class UpdateActiveClientPackageUseCaseTest {
             return 0;
         }
     }
+
+    private static class RecordingMemberPackageStatusRepository implements MemberPackageStatusRepository {
+        private final List<Long> refreshedUserIds = new ArrayList<>();
+
+        @Override
+        public void refreshForUser(Long userId) {
+            refreshedUserIds.add(userId);
+        }
+
+        @Override
+        public int refreshAll() {
+            return 0;
+        }
+    }
 }
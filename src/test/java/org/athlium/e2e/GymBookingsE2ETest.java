@@ -5,6 +5,7 @@ import io.restassured.path.json.JsonPath;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import org.athlium.bookings.application.usecase.PromoteWaitlistUseCase;
 import org.athlium.bookings.infrastructure.repository.BookingPanacheRepository;
 import org.athlium.gym.infrastructure.repository.ActivityConfigPanacheRepository;
 import org.athlium.gym.infrastructure.repository.ActivityPanacheRepository;
@@ -29,6 +30,7 @@ import java.util.concurrent.TimeUnit;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -44,6 +46,9 @@ class GymBookingsE2ETest {
     @Inject
     BookingPanacheRepository bookingRepository;
 
+    @Inject
+    PromoteWaitlistUseCase promoteWaitlistUseCase;
+
     @Inject
     SessionInstancePanacheRepository sessionInstanceRepository;
 
@@ -215,12 +220,14 @@ class GymBookingsE2ETest {
                 .statusCode(200)
                 .body("success", equalTo(true))
                 .body("data.cancelledBooking.status", equalTo("CANCELLED"))
-                .body("data.promotedBooking.status", equalTo("CONFIRMED"))
+                .body("data.promotedBooking", nullValue())
                 .extract()
                 .jsonPath();
+        assertEquals(booking1, cancelResult.getLong("data.cancelledBooking.id"));
 
-        Long promotedId = cancelResult.getLong("data.promotedBooking.id");
-        assertEquals(booking3, promotedId);
+        // The worker is switched off in tests; run the queued promotion directly.
+        var promotion = promoteWaitlistUseCase.execute(sessionId);
+        assertEquals(1, promotion.promoted());
 
         given()
                 .header("Authorization", bearer(CLIENT_101_TOKEN))
@@ -232,8 +239,7 @@ class GymBookingsE2ETest {
                 .then()
                 .statusCode(200)
                 .body("success", equalTo(true))
-                .body("data.cancelledBooking.id", equalTo(booking1.intValue()))
-                .body("data.promotedBooking.id", equalTo(promotedId.intValue()));
+                .body("data.cancelledBooking.id", equalTo(booking1.intValue()));
 
         JsonPath listAfterCancel = given()
                 .header("Authorization", bearer(ADMIN_TOKEN))
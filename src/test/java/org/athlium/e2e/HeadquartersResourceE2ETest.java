@@ -16,7 +16,9 @@ import org.athlium.gym.infrastructure.repository.SessionInstancePanacheRepositor
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.Set;
 
@@ -63,7 +65,8 @@ class HeadquartersResourceE2ETest {
         Long organizationId = createOrganization("Org For HQ List");
         Long headquartersId = createHeadquarters(organizationId, "HQ Visible To Client");
         Long activityId = createActivity(headquartersId, "Crossfit", "Intense class");
-        createSession(organizationId, headquartersId, activityId, Instant.parse("2026-03-20T10:00:00Z"));
+        createSession(organizationId, headquartersId, activityId, tomorrowAt(10));
+        createSession(organizationId, headquartersId, activityId, tomorrowAt(10).minus(Duration.ofDays(60)));
 
         JsonPath response = given()
                 .header("Authorization", bearer(CLIENT_TOKEN))
@@ -74,7 +77,8 @@ class HeadquartersResourceE2ETest {
                 .body("success", equalTo(true))
                 .body("data.size()", greaterThanOrEqualTo(1))
                 .body("data[0].activities.size()", greaterThanOrEqualTo(1))
-                .body("data[0].activities[0].sessions.size()", greaterThanOrEqualTo(1))
+                .body("data[0].activities[0].sessions.size()", equalTo(1))
+                .body("data[0].activities[0].sessionSummary.sessionCount", equalTo(1))
                 .extract()
                 .jsonPath();
 
@@ -90,7 +94,7 @@ class HeadquartersResourceE2ETest {
         Long organizationId = createOrganization("Org For HQ Detail");
         Long headquartersId = createHeadquarters(organizationId, "HQ Detail For Client");
         Long activityId = createActivity(headquartersId, "Pilates", "Core");
-        createSession(organizationId, headquartersId, activityId, Instant.parse("2026-03-20T11:00:00Z"));
+        createSession(organizationId, headquartersId, activityId, tomorrowAt(11));
 
         JsonPath response = given()
                 .header("Authorization", bearer(CLIENT_TOKEN))
@@ -138,6 +142,10 @@ class HeadquartersResourceE2ETest {
         return entity.id;
     }
 
+    private Instant tomorrowAt(int hour) {
+        return Instant.now().truncatedTo(ChronoUnit.DAYS).plus(Duration.ofDays(1)).plus(Duration.ofHours(hour));
+    }
+
     private Long createOrganization(String name) {
         JsonPath response = given()
                 .header("Authorization", bearer(ADMIN_TOKEN))
@@ -1,10 +1,12 @@
 package org.athlium.gym.application.usecase;
 
 import org.athlium.gym.domain.model.ActivitySchedule;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.model.SchedulerType;
 import org.athlium.gym.domain.model.SessionTemplateType;
 import org.athlium.gym.domain.model.WeekDay;
 import org.athlium.gym.domain.repository.ActivityScheduleRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.BadRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,12 +23,15 @@ class CreateActivityScheduleUseCaseTest {
 
     private CreateActivityScheduleUseCase useCase;
     private InMemoryActivityScheduleRepository repository;
+    private RecordingAggregateVersions aggregateVersions;
 
     @BeforeEach
     void setUp() {
         useCase = new CreateActivityScheduleUseCase();
         repository = new InMemoryActivityScheduleRepository();
         useCase.activityScheduleRepository = repository;
+        aggregateVersions = new RecordingAggregateVersions();
+        useCase.aggregateVersions = aggregateVersions;
     }
 
     @Test
@@ -40,6 +45,7 @@ class CreateActivityScheduleUseCaseTest {
         assertEquals(SchedulerType.WEEKLY_RANGE, created.getSchedulerType());
         assertEquals(List.of(WeekDay.TUESDAY), created.getWeekDays());
         assertEquals(1, repository.saved.size());
+        assertEquals(List.of(CatalogAggregates.ACTIVITY_SCHEDULE), aggregateVersions.bumped);
     }
 
     @Test
@@ -115,5 +121,19 @@ class CreateActivityScheduleUseCaseTest {
         public List<ActivitySchedule> findByHeadquartersId(Long headquartersId) {
             return saved.stream().filter(s -> headquartersId.equals(s.getHeadquartersId())).toList();
         }
+
+        @Override
+        public boolean updateGeneratedUntil(Long scheduleId, Long expectedRevision, LocalDate generatedUntil) {
+            throw new UnsupportedOperationException("Not used in this test");
+        }
+    }
+
+    private static class RecordingAggregateVersions extends AggregateVersions {
+        final List<String> bumped = new ArrayList<>();
+
+        @Override
+        public void bump(String aggregate) {
+            bumped.add(aggregate);
+        }
     }
 }
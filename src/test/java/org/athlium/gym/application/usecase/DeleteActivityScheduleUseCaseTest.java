@@ -1,13 +1,17 @@
 package org.athlium.gym.application.usecase;
 
 import org.athlium.gym.domain.model.ActivitySchedule;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.repository.ActivityScheduleRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,12 +24,15 @@ class DeleteActivityScheduleUseCaseTest {
 
     private DeleteActivityScheduleUseCase useCase;
     private InMemoryActivityScheduleRepository repository;
+    private RecordingAggregateVersions aggregateVersions;
 
     @BeforeEach
     void setUp() {
         useCase = new DeleteActivityScheduleUseCase();
         repository = new InMemoryActivityScheduleRepository();
         useCase.activityScheduleRepository = repository;
+        aggregateVersions = new RecordingAggregateVersions();
+        useCase.aggregateVersions = aggregateVersions;
     }
 
     @Test
@@ -39,6 +46,7 @@ class DeleteActivityScheduleUseCaseTest {
 
         assertFalse(result.getActive());
         assertFalse(repository.findById(1L).getActive());
+        assertEquals(List.of(CatalogAggregates.ACTIVITY_SCHEDULE), aggregateVersions.bumped);
     }
 
     @Test
@@ -90,5 +98,19 @@ class DeleteActivityScheduleUseCaseTest {
         public List<ActivitySchedule> findByHeadquartersId(Long headquartersId) {
             throw new UnsupportedOperationException("Not used in this test");
         }
+
+        @Override
+        public boolean updateGeneratedUntil(Long scheduleId, Long expectedRevision, LocalDate generatedUntil) {
+            throw new UnsupportedOperationException("Not used in this test");
+        }
+    }
+
+    private static class RecordingAggregateVersions extends AggregateVersions {
+        final List<String> bumped = new ArrayList<>();
+
+        @Override
+        public void bump(String aggregate) {
+            bumped.add(aggregate);
+        }
     }
 }
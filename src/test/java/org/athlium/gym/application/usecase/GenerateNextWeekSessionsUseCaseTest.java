@@ -6,19 +6,27 @@ import org.athlium.gym.application.usecase.template.SessionTemplateBuilder;
 import org.athlium.gym.application.usecase.template.SessionTemplateDirector;
 import org.athlium.gym.application.usecase.template.WeeklyRangeSessionTemplateBuilder;
 import org.athlium.gym.domain.model.ActivitySchedule;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.model.SchedulerType;
 import org.athlium.gym.domain.model.SessionConfiguration;
 import org.athlium.gym.domain.model.SessionInstance;
 import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.model.TimetableEntry;
 import org.athlium.gym.domain.model.WeekDay;
 import org.athlium.gym.domain.repository.ActivityScheduleRepository;
 import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.application.AggregateVersions;
+import org.athlium.shared.domain.CursorPageResponse;
+import org.athlium.shared.domain.SeekCursor;
 import org.hibernate.exception.ConstraintViolationException;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.TotalMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Instant;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -26,6 +34,8 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,7 +50,10 @@ class GenerateNextWeekSessionsUseCaseTest {
     private StubResolveConfigUseCase resolveConfigUseCase;
     private GenerateSessionForScheduleUseCase generateSessionForScheduleUseCase;
     private PersistGeneratedSessionUseCase persistGeneratedSessionUseCase;
+    private RecordingSessionTimetableRepository timetableRepository;
     private SessionTemplateDirector sessionTemplateDirector;
+    private GenerateSessionsInBulkUseCase generateSessionsInBulkUseCase;
+    private RecordingAggregateVersions aggregateVersions;
 
     @BeforeEach
     void setUp() {
@@ -54,6 +67,8 @@ class GenerateNextWeekSessionsUseCaseTest {
 
         useCase.activityScheduleRepository = scheduleRepository;
         useCase.generateSessionForScheduleUseCase = generateSessionForScheduleUseCase;
+        aggregateVersions = new RecordingAggregateVersions();
+        useCase.aggregateVersions = aggregateVersions;
 
         generateSessionForScheduleUseCase.persistGeneratedSessionUseCase = persistGeneratedSessionUseCase;
         generateSessionForScheduleUseCase.resolveSessionConfigurationUseCase = resolveConfigUseCase;
@@ -62,6 +77,21 @@ class GenerateNextWeekSessionsUseCaseTest {
         generateSessionForScheduleUseCase.scheduleTimezoneResolver = new StubScheduleTimezoneResolver();
 
         persistGeneratedSessionUseCase.sessionInstanceRepository = sessionRepository;
+        timetableRepository = new RecordingSessionTimetableRepository();
+        persistGeneratedSessionUseCase.sessionTimetableRepository = timetableRepository;
+
+        PersistGeneratedSessionsBatchUseCase persistGeneratedSessionsBatchUseCase = new PersistGeneratedSessionsBatchUseCase();
+        persistGeneratedSessionsBatchUseCase.sessionInstanceRepository = sessionRepository;
+        persistGeneratedSessionsBatchUseCase.sessionTimetableRepository = timetableRepository;
+        generateSessionsInBulkUseCase = new GenerateSessionsInBulkUseCase();
+        generateSessionsInBulkUseCase.resolveSessionConfigurationUseCase = resolveConfigUseCase;
+        generateSessionsInBulkUseCase.sessionTemplateDirector = sessionTemplateDirector;
+        generateSessionsInBulkUseCase.scheduleTimezoneResolver = new StubScheduleTimezoneResolver();
+        generateSessionsInBulkUseCase.activityScheduleRepository = scheduleRepository;
+        generateSessionsInBulkUseCase.persistGeneratedSessionsBatchUseCase = persistGeneratedSessionsBatchUseCase;
+        useCase.generateSessionsInBulkUseCase = generateSessionsInBulkUseCase;
+        // Partitions run one after another unless a test opts in, so saved sessions keep a predictable order.
+        useCase.maxConcurrentHeadquarters = 1;
 
         List<SessionTemplateBuilder> builders = List.of(
                 new WeeklyRangeSessionTemplateBuilder(),
@@ -93,9 +123,36 @@ class GenerateNextWeekSessionsUseCaseTest {
         assertEquals(0, result.failed());
         assertEquals(0, result.deactivated());
         assertEquals(1, sessionRepository.saved.size());
+        assertEquals(List.of(sessionRepository.saved.get(0).getId()), timetableRepository.refreshedSessionIds);
+        assertTrue(aggregateVersions.bumped.isEmpty());
         assertEquals(SessionStatus.OPEN, sessionRepository.saved.get(0).getStatus());
     }
 
+    @Test
+    void shouldNotCountInsertsWithoutRowCountsAsCreated() {
+        ActivitySchedule schedule = new ActivitySchedule();
+        schedule.setOrganizationId(1L);
+        schedule.setHeadquartersId(10L);
+        schedule.setActivityId(200L);
+        schedule.setWeekDays(List.of(WeekDay.TUESDAY));
+        schedule.setStartTime(LocalTime.of(10, 0));
+        schedule.setDurationMinutes(45);
+        schedule.setActive(true);
+        schedule.setSchedulerType(SchedulerType.WEEKLY_RANGE);
+        LocalDate today = LocalDate.now();
+        schedule.setActiveFrom(today.minusDays(1));
+        schedule.setActiveUntil(today.plusMonths(1));
+        scheduleRepository.schedules.add(schedule);
+
+        sessionRepository.reportNoInfo = true;
+
+        var result = useCase.execute();
+
+        assertEquals(0, result.created());
+        assertEquals(1, result.skipped());
+        assertEquals(0, result.failed());
+    }
+
     @Test
     void shouldSkipExistingSessionSlots() {
         ActivitySchedule schedule = new ActivitySchedule();
@@ -215,6 +272,7 @@ class GenerateNextWeekSessionsUseCaseTest {
         assertEquals(1, result.deactivated());
         assertEquals(false, schedule.getActive());
         assertEquals(1, sessionRepository.saved.size());
+        assertEquals(List.of(CatalogAggregates.ACTIVITY_SCHEDULE), aggregateVersions.bumped);
     }
 
     @Test
@@ -313,6 +371,144 @@ class GenerateNextWeekSessionsUseCaseTest {
         assertEquals(0, sessionRepository.saved.size());
     }
 
+    @Test
+    void shouldCreateSessionsInBulkResolvingConfigOncePerActivity() {
+        useCase.bulkEnabled = true;
+        scheduleRepository.schedules.add(weeklySchedule(1L, 200L, WeekDay.MONDAY, LocalTime.of(8, 0)));
+        scheduleRepository.schedules.add(weeklySchedule(2L, 200L, WeekDay.TUESDAY, LocalTime.of(9, 0)));
+
+        var result = useCase.execute();
+
+        assertEquals(2, result.created());
+        assertEquals(0, result.skipped());
+        assertEquals(0, result.failed());
+        assertEquals(2, sessionRepository.saved.size());
+        assertEquals(1, resolveConfigUseCase.calls);
+        assertEquals(1, sessionRepository.batchCalls);
+        assertEquals(12, sessionRepository.saved.get(0).getMaxParticipants());
+    }
+
+    @Test
+    void shouldSkipExistingSlotsInBulk() {
+        useCase.bulkEnabled = true;
+        scheduleRepository.schedules.add(weeklySchedule(1L, 200L, WeekDay.MONDAY, LocalTime.of(8, 0)));
+        sessionRepository.alwaysExists = true;
+
+        var result = useCase.execute();
+
+        assertEquals(0, result.created());
+        assertEquals(1, result.skipped());
+        assertEquals(0, result.failed());
+        assertTrue(sessionRepository.saved.isEmpty());
+    }
+
+    @Test
+    void shouldReportFailedSchedulesInBulk() {
+        useCase.bulkEnabled = true;
+        scheduleRepository.schedules.add(weeklySchedule(1L, 100L, WeekDay.MONDAY, LocalTime.of(8, 0)));
+        scheduleRepository.schedules.add(weeklySchedule(2L, 101L, WeekDay.TUESDAY, LocalTime.of(9, 0)));
+
+        var result = useCase.execute();
+
+        assertEquals(1, result.created());
+        assertEquals(1, result.failed());
+        assertEquals(List.of(1L), result.failedScheduleIds());
+    }
+
+    @Test
+    void shouldIsolateFailingScheduleWhenBatchInsertFails() {
+        useCase.bulkEnabled = true;
+        scheduleRepository.schedules.add(weeklySchedule(1L, 200L, WeekDay.MONDAY, LocalTime.of(8, 0)));
+        scheduleRepository.schedules.add(weeklySchedule(2L, 666L, WeekDay.TUESDAY, LocalTime.of(9, 0)));
+        sessionRepository.failingActivityId = 666L;
+
+        var result = useCase.execute();
+
+        assertEquals(1, result.created());
+        assertEquals(1, result.failed());
+        assertEquals(List.of(2L), result.failedScheduleIds());
+        assertEquals(3, sessionRepository.batchCalls);
+    }
+
+    @Test
+    void shouldDeactivateOneTimeDisposableAndExpiredSchedulesInBulk() {
+        useCase.bulkEnabled = true;
+        LocalDate nextMonday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        ActivitySchedule oneTime = new ActivitySchedule();
+        oneTime.setId(1L);
+        oneTime.setOrganizationId(1L);
+        oneTime.setHeadquartersId(10L);
+        oneTime.setActivityId(300L);
+        oneTime.setStartTime(LocalTime.of(14, 0));
+        oneTime.setDurationMinutes(30);
+        oneTime.setActive(true);
+        oneTime.setSchedulerType(SchedulerType.ONE_TIME_DISPOSABLE);
+        oneTime.setScheduledDate(nextMonday.plusDays(2));
+        ActivitySchedule expired = weeklySchedule(2L, 301L, WeekDay.MONDAY, LocalTime.of(8, 0));
+        expired.setActiveUntil(LocalDate.now().minusDays(1));
+        scheduleRepository.schedules.add(oneTime);
+        scheduleRepository.schedules.add(expired);
+
+        var result = useCase.execute();
+
+        assertEquals(1, result.created());
+        assertEquals(2, result.deactivated());
+        assertEquals(false, oneTime.getActive());
+        assertEquals(false, expired.getActive());
+        assertEquals(List.of(CatalogAggregates.ACTIVITY_SCHEDULE), aggregateVersions.bumped);
+    }
+
+    @Test
+    void shouldGenerateHeadquartersPartitionsConcurrently() {
+        useCase.bulkEnabled = true;
+        useCase.maxConcurrentHeadquarters = 2;
+        ActivitySchedule first = weeklySchedule(1L, 200L, WeekDay.MONDAY, LocalTime.of(8, 0));
+        ActivitySchedule second = weeklySchedule(2L, 201L, WeekDay.MONDAY, LocalTime.of(8, 0));
+        second.setHeadquartersId(20L);
+        ActivitySchedule third = weeklySchedule(3L, 202L, WeekDay.MONDAY, LocalTime.of(8, 0));
+        third.setHeadquartersId(30L);
+        scheduleRepository.schedules.addAll(List.of(first, second, third));
+
+        var result = useCase.execute();
+
+        assertEquals(3, result.created());
+        assertEquals(0, result.failed());
+        assertEquals(3, sessionRepository.saved.size());
+    }
+
+    @Test
+    void shouldKeepOtherHeadquartersWhenOnePartitionFails() {
+        useCase.bulkEnabled = true;
+        useCase.maxConcurrentHeadquarters = 2;
+        ActivitySchedule healthy = weeklySchedule(1L, 200L, WeekDay.MONDAY, LocalTime.of(8, 0));
+        ActivitySchedule failing = weeklySchedule(2L, 666L, WeekDay.MONDAY, LocalTime.of(8, 0));
+        failing.setHeadquartersId(20L);
+        scheduleRepository.schedules.addAll(List.of(healthy, failing));
+        sessionRepository.failingActivityId = 666L;
+
+        var result = useCase.execute();
+
+        assertEquals(1, result.created());
+        assertEquals(1, result.failed());
+        assertEquals(List.of(2L), result.failedScheduleIds());
+    }
+
+    private static ActivitySchedule weeklySchedule(Long id, Long activityId, WeekDay weekDay, LocalTime startTime) {
+        ActivitySchedule schedule = new ActivitySchedule();
+        schedule.setId(id);
+        schedule.setOrganizationId(1L);
+        schedule.setHeadquartersId(10L);
+        schedule.setActivityId(activityId);
+        schedule.setWeekDays(List.of(weekDay));
+        schedule.setStartTime(startTime);
+        schedule.setDurationMinutes(60);
+        schedule.setActive(true);
+        schedule.setSchedulerType(SchedulerType.WEEKLY_RANGE);
+        schedule.setActiveFrom(LocalDate.now().minusDays(1));
+        schedule.setActiveUntil(LocalDate.now().plusMonths(1));
+        return schedule;
+    }
+
     private static class InMemoryActivityScheduleRepository implements ActivityScheduleRepository {
         private final List<ActivitySchedule> schedules = new ArrayList<>();
 
@@ -336,18 +532,30 @@ class GenerateNextWeekSessionsUseCaseTest {
         public List<ActivitySchedule> findByHeadquartersId(Long headquartersId) {
             return schedules.stream().filter(s -> headquartersId.equals(s.getHeadquartersId())).toList();
         }
+
+        @Override
+        public boolean updateGeneratedUntil(Long scheduleId, Long expectedRevision, LocalDate generatedUntil) {
+            findById(scheduleId).setGeneratedUntil(generatedUntil);
+            return true;
+        }
     }
 
     private static class InMemorySessionRepository implements SessionInstanceRepository {
-        private final List<SessionInstance> saved = new ArrayList<>();
+        private final List<SessionInstance> saved = Collections.synchronizedList(new ArrayList<>());
         private boolean alwaysExists;
+        private boolean reportNoInfo;
         private boolean throwUniqueViolationOnSave;
+        private Long failingActivityId;
+        private int batchCalls;
 
         @Override
         public SessionInstance save(SessionInstance sessionInstance) {
             if (throwUniqueViolationOnSave) {
                 throw new ConstraintViolationException("duplicate", new SQLException("duplicate key"), "uq_session_instances_slot");
             }
+            if (sessionInstance.getId() == null) {
+                sessionInstance.setId(saved.size() + 1L);
+            }
             saved.add(sessionInstance);
             return sessionInstance;
         }
@@ -362,6 +570,22 @@ class GenerateNextWeekSessionsUseCaseTest {
             return alwaysExists;
         }
 
+        @Override
+        public int[] insertIgnoringConflicts(List<SessionInstance> sessions) {
+            batchCalls++;
+            if (sessions.stream().anyMatch(session -> session.getActivityId().equals(failingActivityId))) {
+                throw new IllegalStateException("Batch insert failed");
+            }
+            int[] inserted = new int[sessions.size()];
+            for (int i = 0; i < sessions.size(); i++) {
+                if (!alwaysExists) {
+                    saved.add(sessions.get(i));
+                    inserted[i] = reportNoInfo ? Statement.SUCCESS_NO_INFO : 1;
+                }
+            }
+            return inserted;
+        }
+
         @Override
         public Optional<SessionInstance> findById(Long id) {
             return Optional.empty();
@@ -372,6 +596,20 @@ class GenerateNextWeekSessionsUseCaseTest {
             return Optional.empty();
         }
 
+        @Override
+        public void adjustOccupancy(Long sessionId, int confirmedDelta, int waitlistedDelta) {
+        }
+
+        @Override
+        public List<Long> findIdsStartingFrom(Instant from, long afterId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<Long> rebuildOccupancyCounters(List<Long> sessionIds) {
+            return List.of();
+        }
+
         @Override
         public PageResponse<SessionInstance> findSessions(
                 Long organizationId,
@@ -382,14 +620,25 @@ class GenerateNextWeekSessionsUseCaseTest {
                 Instant to,
                 int page,
                 int size,
-                boolean sortAscending
+                boolean sortAscending,
+                TotalMode totalMode
         ) {
             return new PageResponse<>(List.of(), page, size, 0);
         }
+
+        @Override
+        public CursorPageResponse<SessionInstance> findSessionsAfter(Long organizationId, Long headquartersId,
+                                                                     Long activityId, SessionStatus status,
+                                                                     Instant from, Instant to, SeekCursor after,
+                                                                     int size, boolean sortAscending,
+                                                                     boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
     }
 
     private static class StubResolveConfigUseCase extends ResolveSessionConfigurationUseCase {
         private boolean called;
+        private int calls;
 
         @Override
         public SessionConfiguration execute(Long organizationId, Long headquartersId, Long activityId, Long sessionId) {
@@ -397,6 +646,7 @@ class GenerateNextWeekSessionsUseCaseTest {
                 throw new IllegalStateException("Cannot resolve config");
             }
             called = true;
+            calls++;
             SessionConfiguration config = new SessionConfiguration();
             config.setMaxParticipants(12);
             config.setWaitlistEnabled(true);
@@ -413,4 +663,42 @@ class GenerateNextWeekSessionsUseCaseTest {
             return ZoneId.of("America/Argentina/Buenos_Aires");
         }
     }
+
+    private static class RecordingSessionTimetableRepository implements SessionTimetableRepository {
+        final List<Long> refreshedSessionIds = new ArrayList<>();
+        final List<Long> refreshedHeadquartersIds = new ArrayList<>();
+
+        @Override
+        public List<TimetableEntry> findWeek(Long headquartersId, LocalDate weekStart) {
+            return List.of();
+        }
+
+        @Override
+        public void refreshSessions(Collection<Long> sessionIds) {
+            refreshedSessionIds.addAll(sessionIds);
+        }
+
+        @Override
+        public void refreshHeadquartersBetween(Collection<Long> headquartersIds, Instant from, Instant to) {
+            refreshedHeadquartersIds.addAll(headquartersIds);
+        }
+
+        @Override
+        public void refreshActivity(Long activityId) {
+        }
+
+        @Override
+        public int refreshAll() {
+            return 0;
+        }
+    }
+
+    private static class RecordingAggregateVersions extends AggregateVersions {
+        final List<String> bumped = new ArrayList<>();
+
+        @Override
+        public void bump(String aggregate) {
+            bumped.add(aggregate);
+        }
+    }
 }
@@ -0,0 +1,352 @@
+package org.athlium.gym.application.usecase;
+
+import org.athlium.gym.application.service.ScheduleTimezoneResolver;
+import org.athlium.gym.application.usecase.template.OneTimeSessionTemplateBuilder;
+import org.athlium.gym.application.usecase.template.SessionTemplateDirector;
+import org.athlium.gym.application.usecase.template.WeeklyRangeSessionTemplateBuilder;
+import org.athlium.gym.domain.model.ActivitySchedule;
+import org.athlium.gym.domain.model.CatalogAggregates;
+import org.athlium.gym.domain.model.SchedulerType;
+import org.athlium.gym.domain.model.SessionConfiguration;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.model.TimetableEntry;
+import org.athlium.gym.domain.model.WeekDay;
+import org.athlium.gym.domain.repository.ActivityScheduleRepository;
+import org.athlium.gym.domain.repository.SessionInstanceRepository;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.application.AggregateVersions;
+import org.athlium.shared.domain.CursorPageResponse;
+import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GenerateRollingHorizonSessionsUseCaseTest {
+
+    // A Wednesday, so the first generated week starts on 2026-03-09.
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 4);
+    private static final LocalDate FIRST_WEEK = LocalDate.of(2026, 3, 9);
+
+    private GenerateRollingHorizonSessionsUseCase useCase;
+    private InMemoryActivityScheduleRepository scheduleRepository;
+    private InMemorySessionRepository sessionRepository;
+    private RecordingSessionTimetableRepository timetableRepository;
+    private RecordingAggregateVersions aggregateVersions;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = new InMemoryActivityScheduleRepository();
+        sessionRepository = new InMemorySessionRepository();
+
+        SessionTemplateDirector director = new SessionTemplateDirector();
+        director.setBuildersForTesting(List.of(new WeeklyRangeSessionTemplateBuilder(), new OneTimeSessionTemplateBuilder()));
+
+        PersistGeneratedSessionsBatchUseCase persistBatch = new PersistGeneratedSessionsBatchUseCase();
+        persistBatch.sessionInstanceRepository = sessionRepository;
+        timetableRepository = new RecordingSessionTimetableRepository();
+        persistBatch.sessionTimetableRepository = timetableRepository;
+
+        GenerateSessionsInBulkUseCase bulk = new GenerateSessionsInBulkUseCase();
+        bulk.resolveSessionConfigurationUseCase = new StubResolveConfigUseCase();
+        bulk.sessionTemplateDirector = director;
+        bulk.scheduleTimezoneResolver = new StubScheduleTimezoneResolver();
+        bulk.activityScheduleRepository = scheduleRepository;
+        bulk.persistGeneratedSessionsBatchUseCase = persistBatch;
+
+        useCase = new GenerateRollingHorizonSessionsUseCase();
+        useCase.activityScheduleRepository = scheduleRepository;
+        useCase.generateSessionsInBulkUseCase = bulk;
+        aggregateVersions = new RecordingAggregateVersions();
+        useCase.aggregateVersions = aggregateVersions;
+        useCase.horizonWeeks = 3;
+    }
+
+    @Test
+    void shouldGenerateWholeHorizonAndAdvanceWatermark() {
+        ActivitySchedule schedule = weeklySchedule(1L, 200L);
+        scheduleRepository.schedules.add(schedule);
+
+        var result = useCase.execute(TODAY);
+
+        assertEquals(3, result.created());
+        assertEquals(3, sessionRepository.saved.size());
+        assertEquals(FIRST_WEEK.plusWeeks(3), schedule.getGeneratedUntil());
+        assertEquals(List.of(10L), timetableRepository.refreshedHeadquartersIds.stream().distinct().toList());
+    }
+
+    @Test
+    void shouldNotTouchSchedulesAlreadyGeneratedUpToHorizon() {
+        scheduleRepository.schedules.add(weeklySchedule(1L, 200L));
+        useCase.execute(TODAY);
+        int batchCallsAfterFirstTick = sessionRepository.batchCalls;
+
+        var result = useCase.execute(TODAY);
+
+        assertEquals(0, result.created());
+        assertEquals(0, result.skipped());
+        assertEquals(batchCallsAfterFirstTick, sessionRepository.batchCalls);
+    }
+
+    @Test
+    void shouldOnlyGenerateMissingIncrementWhenHorizonMoves() {
+        ActivitySchedule schedule = weeklySchedule(1L, 200L);
+        scheduleRepository.schedules.add(schedule);
+        useCase.execute(TODAY);
+
+        var result = useCase.execute(TODAY.plusWeeks(1));
+
+        assertEquals(1, result.created());
+        assertEquals(0, result.skipped());
+        assertEquals(4, sessionRepository.saved.size());
+        assertEquals(FIRST_WEEK.plusWeeks(4), schedule.getGeneratedUntil());
+    }
+
+    @Test
+    void shouldKeepWatermarkOfFailedSchedules() {
+        ActivitySchedule failing = weeklySchedule(1L, 100L);
+        ActivitySchedule healthy = weeklySchedule(2L, 200L);
+        scheduleRepository.schedules.addAll(List.of(failing, healthy));
+
+        var result = useCase.execute(TODAY);
+
+        assertEquals(3, result.created());
+        assertEquals(List.of(1L), result.failedScheduleIds());
+        assertNull(failing.getGeneratedUntil());
+        assertEquals(FIRST_WEEK.plusWeeks(3), healthy.getGeneratedUntil());
+    }
+
+    @Test
+    void shouldNotAdvanceWatermarkOfScheduleEditedDuringTick() {
+        ActivitySchedule edited = weeklySchedule(1L, 300L);
+        ActivitySchedule untouched = weeklySchedule(2L, 200L);
+        scheduleRepository.schedules.addAll(List.of(edited, untouched));
+        scheduleRepository.editedScheduleIds.add(1L);
+
+        var result = useCase.execute(TODAY);
+
+        assertEquals(6, result.created());
+        assertNull(edited.getGeneratedUntil());
+        assertEquals(FIRST_WEEK.plusWeeks(3), untouched.getGeneratedUntil());
+    }
+
+    @Test
+    void shouldBumpScheduleVersionOnlyWhenSchedulesAreDeactivated() {
+        ActivitySchedule expired = weeklySchedule(1L, 200L);
+        expired.setActiveUntil(TODAY.minusDays(1));
+        scheduleRepository.schedules.add(expired);
+
+        var result = useCase.execute(TODAY);
+
+        assertEquals(1, result.deactivated());
+        assertEquals(false, expired.getActive());
+        assertEquals(List.of(CatalogAggregates.ACTIVITY_SCHEDULE), aggregateVersions.bumped);
+
+        aggregateVersions.bumped.clear();
+        scheduleRepository.schedules.clear();
+        scheduleRepository.schedules.add(weeklySchedule(2L, 200L));
+
+        useCase.execute(TODAY);
+
+        assertEquals(List.of(), aggregateVersions.bumped);
+    }
+
+    private static ActivitySchedule weeklySchedule(Long id, Long activityId) {
+        ActivitySchedule schedule = new ActivitySchedule();
+        schedule.setId(id);
+        schedule.setOrganizationId(1L);
+        schedule.setHeadquartersId(10L);
+        schedule.setActivityId(activityId);
+        schedule.setWeekDays(List.of(WeekDay.MONDAY));
+        schedule.setStartTime(LocalTime.of(8, 0));
+        schedule.setDurationMinutes(60);
+        schedule.setActive(true);
+        schedule.setSchedulerType(SchedulerType.WEEKLY_RANGE);
+        schedule.setActiveFrom(TODAY.minusDays(1));
+        schedule.setActiveUntil(TODAY.plusMonths(3));
+        return schedule;
+    }
+
+    private static class InMemoryActivityScheduleRepository implements ActivityScheduleRepository {
+        private final List<ActivitySchedule> schedules = new ArrayList<>();
+        // Saved by someone else after the tick loaded them, so their stored revision no longer matches.
+        private final Set<Long> editedScheduleIds = new HashSet<>();
+
+        @Override
+        public ActivitySchedule save(ActivitySchedule schedule) {
+            return schedule;
+        }
+
+        @Override
+        public ActivitySchedule findById(Long id) {
+            return schedules.stream().filter(s -> id.equals(s.getId())).findFirst().orElse(null);
+        }
+
+        @Override
+        public List<ActivitySchedule> findAllActive() {
+            return schedules.stream().filter(s -> Boolean.TRUE.equals(s.getActive())).toList();
+        }
+
+        @Override
+        public List<ActivitySchedule> findByHeadquartersId(Long headquartersId) {
+            return schedules.stream().filter(s -> headquartersId.equals(s.getHeadquartersId())).toList();
+        }
+
+        @Override
+        public boolean updateGeneratedUntil(Long scheduleId, Long expectedRevision, LocalDate generatedUntil) {
+            if (editedScheduleIds.contains(scheduleId)) {
+                return false;
+            }
+            findById(scheduleId).setGeneratedUntil(generatedUntil);
+            return true;
+        }
+    }
+
+    private static class InMemorySessionRepository implements SessionInstanceRepository {
+        private final List<SessionInstance> saved = new ArrayList<>();
+        private final Set<String> slots = new HashSet<>();
+        private int batchCalls;
+
+        @Override
+        public SessionInstance save(SessionInstance sessionInstance) {
+            saved.add(sessionInstance);
+            return sessionInstance;
+        }
+
+        @Override
+        public boolean existsByOrganizationAndHeadquartersAndActivityAndStartsAt(Long organizationId,
+                                                                                  Long headquartersId,
+                                                                                  Long activityId,
+                                                                                  Instant startsAt) {
+            return false;
+        }
+
+        @Override
+        public int[] insertIgnoringConflicts(List<SessionInstance> sessions) {
+            batchCalls++;
+            int[] inserted = new int[sessions.size()];
+            for (int i = 0; i < sessions.size(); i++) {
+                SessionInstance session = sessions.get(i);
+                if (slots.add(session.getActivityId() + "@" + session.getStartsAt())) {
+                    saved.add(session);
+                    inserted[i] = 1;
+                }
+            }
+            return inserted;
+        }
+
+        @Override
+        public Optional<SessionInstance> findById(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<SessionInstance> findByIdForUpdate(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void adjustOccupancy(Long sessionId, int confirmedDelta, int waitlistedDelta) {
+        }
+
+        @Override
+        public List<Long> findIdsStartingFrom(Instant from, long afterId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<Long> rebuildOccupancyCounters(List<Long> sessionIds) {
+            return List.of();
+        }
+
+        @Override
+        public PageResponse<SessionInstance> findSessions(Long organizationId, Long headquartersId,
+                                                          Long activityId, SessionStatus status,
+                                                          Instant from, Instant to, int page, int size,
+                                                          boolean sortAscending, TotalMode totalMode) {
+            return new PageResponse<>(List.of(), page, size, 0);
+        }
+
+        @Override
+        public CursorPageResponse<SessionInstance> findSessionsAfter(Long organizationId, Long headquartersId,
+                                                                     Long activityId, SessionStatus status,
+                                                                     Instant from, Instant to, SeekCursor after,
+                                                                     int size, boolean sortAscending,
+                                                                     boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
+    }
+
+    private static class StubResolveConfigUseCase extends ResolveSessionConfigurationUseCase {
+        @Override
+        public SessionConfiguration execute(Long organizationId, Long headquartersId, Long activityId, Long sessionId) {
+            if (Long.valueOf(100L).equals(activityId)) {
+                throw new IllegalStateException("Cannot resolve config");
+            }
+            SessionConfiguration config = new SessionConfiguration();
+            config.setMaxParticipants(12);
+            config.setWaitlistEnabled(false);
+            return config;
+        }
+    }
+
+    private static class StubScheduleTimezoneResolver extends ScheduleTimezoneResolver {
+        @Override
+        public ZoneId resolveForHeadquarters(Long headquartersId) {
+            return ZoneId.of("America/Argentina/Buenos_Aires");
+        }
+    }
+
+    private static class RecordingSessionTimetableRepository implements SessionTimetableRepository {
+        final List<Long> refreshedSessionIds = new ArrayList<>();
+        final List<Long> refreshedHeadquartersIds = new ArrayList<>();
+
+        @Override
+        public List<TimetableEntry> findWeek(Long headquartersId, LocalDate weekStart) {
+            return List.of();
+        }
+
+        @Override
+        public void refreshSessions(Collection<Long> sessionIds) {
+            refreshedSessionIds.addAll(sessionIds);
+        }
+
+        @Override
+        public void refreshHeadquartersBetween(Collection<Long> headquartersIds, Instant from, Instant to) {
+            refreshedHeadquartersIds.addAll(headquartersIds);
+        }
+
+        @Override
+        public void refreshActivity(Long activityId) {
+        }
+
+        @Override
+        public int refreshAll() {
+            return 0;
+        }
+    }
+
+    private static class RecordingAggregateVersions extends AggregateVersions {
+        final List<String> bumped = new ArrayList<>();
+
+        @Override
+        public void bump(String aggregate) {
+            bumped.add(aggregate);
+        }
+    }
+}
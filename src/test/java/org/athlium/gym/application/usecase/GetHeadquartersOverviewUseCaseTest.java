@@ -0,0 +1,230 @@
+package org.athlium.gym.application.usecase;
+
+import org.athlium.gym.domain.model.Activity;
+import org.athlium.gym.domain.model.ActivitySessionSummary;
+import org.athlium.gym.domain.model.Headquarters;
+import org.athlium.gym.domain.model.HeadquartersOverview;
+import org.athlium.gym.domain.model.HeadquartersOverviewCriteria;
+import org.athlium.gym.domain.model.Organization;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.athlium.gym.domain.model.SessionParticipant;
+import org.athlium.gym.domain.repository.HeadquartersOverviewRepository;
+import org.athlium.gym.domain.repository.SessionParticipantRepository;
+import org.athlium.shared.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GetHeadquartersOverviewUseCaseTest {
+
+    private GetHeadquartersOverviewUseCase useCase;
+    private StubOverviewRepository overviewRepository;
+    private StubSessionParticipantRepository participantRepository;
+    private StubGetOrganizationsUseCase organizationsUseCase;
+    private StubGetActivitiesUseCase activitiesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetHeadquartersOverviewUseCase();
+        overviewRepository = new StubOverviewRepository();
+        participantRepository = new StubSessionParticipantRepository();
+        useCase.headquartersOverviewRepository = overviewRepository;
+        useCase.sessionParticipantRepository = participantRepository;
+        organizationsUseCase = new StubGetOrganizationsUseCase();
+        activitiesUseCase = new StubGetActivitiesUseCase();
+        useCase.getOrganizationsUseCase = organizationsUseCase;
+        useCase.getActivitiesUseCase = activitiesUseCase;
+        // No transaction manager here to give each parallel load its own transaction.
+        useCase.maxConcurrentQueries = 1;
+    }
+
+    @Test
+    void shouldDefaultToConfiguredWindowFromStartOfToday() {
+        useCase.windowDays = 7;
+
+        HeadquartersOverviewCriteria criteria = useCase.resolveCriteria(null, null, null, false);
+
+        assertEquals(Instant.now().truncatedTo(ChronoUnit.DAYS), criteria.from());
+        assertEquals(criteria.from().plus(Duration.ofDays(7)), criteria.to());
+        assertEquals(5, criteria.upcomingLimit());
+    }
+
+    @Test
+    void shouldRejectWindowsOutsideBounds() {
+        Instant from = Instant.parse("2026-03-01T00:00:00Z");
+
+        BadRequestException reversed = assertThrows(BadRequestException.class,
+                () -> useCase.resolveCriteria(from, from, null, false));
+        BadRequestException tooWide = assertThrows(BadRequestException.class,
+                () -> useCase.resolveCriteria(from, from.plus(Duration.ofDays(93)), null, false));
+        BadRequestException tooMany = assertThrows(BadRequestException.class,
+                () -> useCase.resolveCriteria(from, null, 51, false));
+
+        assertEquals("from must be before to", reversed.getMessage());
+        assertEquals("The overview window cannot exceed 92 days", tooWide.getMessage());
+        assertEquals("upcoming must be between 0 and 50", tooMany.getMessage());
+    }
+
+    @Test
+    void shouldQueryWindowAndSkipParticipantsUnlessRequested() {
+        overviewRepository.response = Map.of(100L, summary(100L, session(1L)));
+        HeadquartersOverviewCriteria criteria = new HeadquartersOverviewCriteria(
+                Instant.parse("2026-03-01T00:00:00Z"), Instant.parse("2026-03-15T00:00:00Z"), 3, false);
+
+        List<HeadquartersOverview> result = useCase.execute(List.of(headquarters(10L, 1L)), criteria);
+
+        assertEquals(1, result.size());
+        assertEquals(List.of(List.of(10L)), overviewRepository.headquartersIds);
+        assertEquals(3, overviewRepository.upcomingLimit);
+        assertEquals(0, participantRepository.calls);
+        assertNull(result.get(0).summaryFor(100L).upcomingSessions().get(0).getParticipants());
+    }
+
+    @Test
+    void shouldLoadParticipantsForListedSessionsInOneCall() {
+        overviewRepository.response = Map.of(
+                100L, summary(100L, session(1L), session(2L)),
+                200L, summary(200L, session(3L))
+        );
+        SessionParticipant participant = new SessionParticipant();
+        participant.setId(7L);
+        participantRepository.response = Map.of(2L, List.of(participant));
+        HeadquartersOverviewCriteria criteria = new HeadquartersOverviewCriteria(
+                Instant.parse("2026-03-01T00:00:00Z"), Instant.parse("2026-03-15T00:00:00Z"), 5, true);
+
+        HeadquartersOverview result = useCase.execute(List.of(headquarters(10L, 1L)), criteria).get(0);
+
+        assertEquals(1, participantRepository.calls);
+        assertEquals(3, participantRepository.requestedIds.size());
+        assertEquals(List.of(participant), result.summaryFor(100L).upcomingSessions().get(1).getParticipants());
+        assertEquals(List.of(), result.summaryFor(200L).upcomingSessions().get(0).getParticipants());
+    }
+
+    @Test
+    void shouldLoadAllHeadquartersConcurrentlyWithOneQueryEach() {
+        AtomicInteger transactions = new AtomicInteger();
+        GetHeadquartersOverviewUseCase parallel = new GetHeadquartersOverviewUseCase() {
+            @Override
+            <T> T inNewTransaction(Callable<T> task) {
+                transactions.incrementAndGet();
+                try {
+                    return task.call();
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        };
+        parallel.maxConcurrentQueries = 4;
+        parallel.headquartersOverviewRepository = overviewRepository;
+        parallel.sessionParticipantRepository = participantRepository;
+        parallel.getOrganizationsUseCase = organizationsUseCase;
+        parallel.getActivitiesUseCase = activitiesUseCase;
+
+        Organization organization = Organization.builder().id(1L).name("Org").build();
+        organizationsUseCase.response = Map.of(1L, organization);
+        activitiesUseCase.response = Map.of(10L, List.of(Activity.builder().id(100L).hqId(10L).build()));
+        overviewRepository.response = Map.of(100L, summary(100L, session(1L)));
+        HeadquartersOverviewCriteria criteria = new HeadquartersOverviewCriteria(
+                Instant.parse("2026-03-01T00:00:00Z"), Instant.parse("2026-03-15T00:00:00Z"), 5, false);
+
+        List<HeadquartersOverview> result = parallel.execute(
+                List.of(headquarters(10L, 1L), headquarters(11L, 1L), headquarters(12L, 2L)), criteria);
+
+        assertEquals(3, transactions.get());
+        assertEquals(List.of(List.of(1L, 2L)), organizationsUseCase.requestedIds);
+        assertEquals(List.of(List.of(10L, 11L, 12L)), activitiesUseCase.requestedIds);
+        assertEquals(List.of(List.of(10L, 11L, 12L)), overviewRepository.headquartersIds);
+        assertSame(organization, result.get(0).organization());
+        assertEquals(1, result.get(0).activities().size());
+        assertEquals(1, result.get(0).summaryFor(100L).sessionCount());
+        assertEquals(List.of(), result.get(1).activities());
+        assertNull(result.get(2).organization());
+    }
+
+    @Test
+    void shouldReportOccupancyOfOfferedSeats() {
+        assertEquals(0.75, new ActivitySessionSummary(1L, 2, 15, 0, 20, null, List.of()).occupancyRate());
+        assertNull(ActivitySessionSummary.empty(1L).occupancyRate());
+    }
+
+    private ActivitySessionSummary summary(Long activityId, SessionInstance... sessions) {
+        return new ActivitySessionSummary(activityId, sessions.length, 0, 0, 10, null, List.of(sessions));
+    }
+
+    private Headquarters headquarters(Long id, Long organizationId) {
+        return Headquarters.builder().id(id).organizationId(organizationId).build();
+    }
+
+    private SessionInstance session(Long id) {
+        SessionInstance session = new SessionInstance();
+        session.setId(id);
+        return session;
+    }
+
+    private static class StubOverviewRepository implements HeadquartersOverviewRepository {
+        Map<Long, ActivitySessionSummary> response = Map.of();
+        final List<List<Long>> headquartersIds = new ArrayList<>();
+        int upcomingLimit;
+
+        @Override
+        public synchronized Map<Long, ActivitySessionSummary> summarizeByActivity(
+                Collection<Long> headquartersIds,
+                Instant from,
+                Instant to,
+                int upcomingLimit
+        ) {
+            this.headquartersIds.add(List.copyOf(headquartersIds));
+            this.upcomingLimit = upcomingLimit;
+            return response;
+        }
+    }
+
+    private static class StubSessionParticipantRepository implements SessionParticipantRepository {
+        Map<Long, List<SessionParticipant>> response = Map.of();
+        List<Long> requestedIds = List.of();
+        int calls;
+
+        @Override
+        public Map<Long, List<SessionParticipant>> findBySessionIds(List<Long> sessionIds) {
+            calls++;
+            requestedIds = sessionIds;
+            return response;
+        }
+    }
+
+    private static class StubGetOrganizationsUseCase extends GetOrganizationsUseCase {
+        Map<Long, Organization> response = Map.of();
+        final List<List<Long>> requestedIds = new ArrayList<>();
+
+        @Override
+        public synchronized Map<Long, Organization> executeByIds(Collection<Long> ids) {
+            requestedIds.add(List.copyOf(ids));
+            return response;
+        }
+    }
+
+    private static class StubGetActivitiesUseCase extends GetActivitiesUseCase {
+        Map<Long, List<Activity>> response = Map.of();
+        final List<List<Long>> requestedIds = new ArrayList<>();
+
+        @Override
+        public synchronized Map<Long, List<Activity>> executeAllByHeadquarters(Collection<Long> hqIds, Boolean isActive) {
+            requestedIds.add(List.copyOf(hqIds));
+            return response;
+        }
+    }
+}
@@ -7,13 +7,17 @@ import org.athlium.gym.domain.model.SessionStatus;
 import org.athlium.gym.domain.repository.ActivityRepository;
 import org.athlium.gym.domain.repository.SessionInstanceRepository;
 import org.athlium.gym.domain.repository.SessionParticipantRepository;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -93,6 +97,25 @@ class GetSessionByIdUseCaseTest {
             return findById(id);
         }
 
+        @Override
+        public int[] insertIgnoringConflicts(List<SessionInstance> sessions) {
+            return new int[sessions.size()];
+        }
+
+        @Override
+        public void adjustOccupancy(Long sessionId, int confirmedDelta, int waitlistedDelta) {
+        }
+
+        @Override
+        public List<Long> findIdsStartingFrom(Instant from, long afterId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<Long> rebuildOccupancyCounters(List<Long> sessionIds) {
+            return List.of();
+        }
+
         @Override
         public PageResponse<SessionInstance> findSessions(
                 Long organizationId,
@@ -103,10 +126,20 @@ class GetSessionByIdUseCaseTest {
                 Instant to,
                 int page,
                 int size,
-                boolean sortAscending
+                boolean sortAscending,
+                TotalMode totalMode
         ) {
             return new PageResponse<>(List.of(), page, size, 0);
         }
+
+        @Override
+        public CursorPageResponse<SessionInstance> findSessionsAfter(Long organizationId, Long headquartersId,
+                                                                     Long activityId, SessionStatus status,
+                                                                     Instant from, Instant to, SeekCursor after,
+                                                                     int size, boolean sortAscending,
+                                                                     boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
     }
 
     private static class StubActivityRepository implements ActivityRepository {
@@ -152,6 +185,11 @@ class GetSessionByIdUseCaseTest {
             return List.of();
         }
 
+        @Override
+        public List<Activity> findAllByHqIds(Collection<Long> hqIds, Boolean isActive) {
+            return List.of();
+        }
+
         @Override
         public org.athlium.shared.domain.PageResponse<Activity> findByNameAndHqId(
                 String name,
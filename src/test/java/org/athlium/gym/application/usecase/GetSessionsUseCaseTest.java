@@ -7,19 +7,25 @@ import org.athlium.gym.domain.model.SessionStatus;
 import org.athlium.gym.domain.repository.ActivityRepository;
 import org.athlium.gym.domain.repository.SessionInstanceRepository;
 import org.athlium.gym.domain.repository.SessionParticipantRepository;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GetSessionsUseCaseTest {
 
@@ -38,7 +44,7 @@ class GetSessionsUseCaseTest {
     @Test
     void shouldRejectInvalidSort() {
         BadRequestException ex = assertThrows(BadRequestException.class, () ->
-                useCase.execute(null, null, null, null, null, null, 1, 20, "id:asc")
+                useCase.execute(null, null, null, null, null, null, 1, 20, "id:asc", null)
         );
 
         assertEquals("sort must be startsAt:asc or startsAt:desc", ex.getMessage());
@@ -50,7 +56,7 @@ class GetSessionsUseCaseTest {
         Instant to = Instant.parse("2026-02-09T10:00:00Z");
 
         BadRequestException ex = assertThrows(BadRequestException.class, () ->
-                useCase.execute(null, null, null, null, from, to, 1, 20, "startsAt:asc")
+                useCase.execute(null, null, null, null, from, to, 1, 20, "startsAt:asc", null)
         );
 
         assertEquals("from must be less than or equal to to", ex.getMessage());
@@ -67,7 +73,8 @@ class GetSessionsUseCaseTest {
                 null,
                 2,
                 20,
-                "startsAt:desc"
+                "startsAt:desc",
+                null
         );
 
         assertEquals(1, repository.capturedPage);
@@ -92,7 +99,8 @@ class GetSessionsUseCaseTest {
                 null,
                 1,
                 20,
-                "startsAt:asc"
+                "startsAt:asc",
+                null
         );
 
         assertEquals("Yoga", response.getContent().getFirst().getActivity().getName());
@@ -100,9 +108,71 @@ class GetSessionsUseCaseTest {
         assertEquals("john@test.com", response.getContent().getFirst().getParticipants().getFirst().getEmail());
     }
 
+    @Test
+    void shouldDecodeCursorAndSkipTotalByDefault() {
+        Instant startsAt = Instant.parse("2026-02-10T10:00:00Z");
+        SessionInstance session = new SessionInstance();
+        session.setId(1L);
+        session.setActivityId(3L);
+        repository.responseContent = List.of(session);
+
+        CursorPageResponse<SessionInstance> response = useCase.executeAfter(
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                SeekCursor.of(startsAt, 41L).encode(),
+                20,
+                "startsAt:desc",
+                false
+        );
+
+        assertEquals(new SeekCursor(startsAt.toString(), 41L), repository.capturedCursor);
+        assertFalse(repository.capturedSortAscending);
+        assertFalse(repository.capturedIncludeTotal);
+        assertNull(response.getTotalElements());
+        assertEquals("Yoga", response.getContent().getFirst().getActivity().getName());
+    }
+
+    @Test
+    void shouldStartFromFirstRowWhenCursorIsBlank() {
+        useCase.executeAfter(null, null, null, null, null, null, "", 20, "startsAt:asc", true);
+
+        assertNull(repository.capturedCursor);
+        assertTrue(repository.capturedIncludeTotal);
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        BadRequestException ex = assertThrows(BadRequestException.class, () ->
+                useCase.executeAfter(null, null, null, null, null, null, "not a cursor", 20, "startsAt:asc", false)
+        );
+
+        assertEquals("cursor is invalid", ex.getMessage());
+    }
+
+    @Test
+    void shouldDefaultToExactTotalAndParseRequestedTotalMode() {
+        useCase.execute(null, null, null, null, null, null, 1, 20, "startsAt:asc", null);
+        assertEquals(TotalMode.EXACT, repository.capturedTotalMode);
+
+        useCase.execute(null, null, null, null, null, null, 1, 20, "startsAt:asc", "Estimate");
+        assertEquals(TotalMode.ESTIMATE, repository.capturedTotalMode);
+
+        BadRequestException ex = assertThrows(BadRequestException.class, () ->
+                useCase.execute(null, null, null, null, null, null, 1, 20, "startsAt:asc", "approximate")
+        );
+        assertEquals("totalMode must be one of: exact, estimate, none", ex.getMessage());
+    }
+
     private static class InMemorySessionRepository implements SessionInstanceRepository {
         int capturedPage;
         boolean capturedSortAscending;
+        SeekCursor capturedCursor;
+        boolean capturedIncludeTotal;
+        TotalMode capturedTotalMode;
         List<SessionInstance> responseContent = List.of();
 
         @Override
@@ -130,6 +200,25 @@ class GetSessionsUseCaseTest {
             return Optional.empty();
         }
 
+        @Override
+        public int[] insertIgnoringConflicts(List<SessionInstance> sessions) {
+            return new int[sessions.size()];
+        }
+
+        @Override
+        public void adjustOccupancy(Long sessionId, int confirmedDelta, int waitlistedDelta) {
+        }
+
+        @Override
+        public List<Long> findIdsStartingFrom(Instant from, long afterId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<Long> rebuildOccupancyCounters(List<Long> sessionIds) {
+            return List.of();
+        }
+
         @Override
         public PageResponse<SessionInstance> findSessions(
                 Long organizationId,
@@ -140,12 +229,33 @@ class GetSessionsUseCaseTest {
                 Instant to,
                 int page,
                 int size,
-                boolean sortAscending
+                boolean sortAscending,
+                TotalMode totalMode
         ) {
             this.capturedPage = page;
             this.capturedSortAscending = sortAscending;
+            this.capturedTotalMode = totalMode;
             return new PageResponse<>(responseContent, page, size, responseContent.size());
         }
+
+        @Override
+        public CursorPageResponse<SessionInstance> findSessionsAfter(
+                Long organizationId,
+                Long headquartersId,
+                Long activityId,
+                SessionStatus status,
+                Instant from,
+                Instant to,
+                SeekCursor after,
+                int size,
+                boolean sortAscending,
+                boolean includeTotal
+        ) {
+            this.capturedCursor = after;
+            this.capturedSortAscending = sortAscending;
+            this.capturedIncludeTotal = includeTotal;
+            return new CursorPageResponse<>(responseContent, size, null, includeTotal ? (long) responseContent.size() : null);
+        }
     }
 
     private static class StubActivityRepository implements ActivityRepository {
@@ -191,6 +301,11 @@ class GetSessionsUseCaseTest {
             return List.of();
         }
 
+        @Override
+        public List<Activity> findAllByHqIds(Collection<Long> hqIds, Boolean isActive) {
+            return List.of();
+        }
+
         @Override
         public org.athlium.shared.domain.PageResponse<Activity> findByNameAndHqId(
                 String name,
@@ -0,0 +1,119 @@
+package org.athlium.gym.application.usecase;
+
+import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.model.TimetableEntry;
+import org.athlium.gym.domain.model.WeeklyTimetable;
+import org.athlium.gym.domain.repository.SessionTimetableRepository;
+import org.athlium.shared.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GetWeeklyTimetableUseCaseTest {
+
+    private GetWeeklyTimetableUseCase useCase;
+    private StubSessionTimetableRepository timetableRepository;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetWeeklyTimetableUseCase();
+        timetableRepository = new StubSessionTimetableRepository();
+        useCase.sessionTimetableRepository = timetableRepository;
+    }
+
+    @Test
+    void shouldReadTheWeekContainingTheRequestedDay() {
+        timetableRepository.entries = List.of(entry(1L, 4));
+
+        WeeklyTimetable timetable = useCase.execute(10L, LocalDate.of(2026, 3, 12));
+
+        assertEquals(LocalDate.of(2026, 3, 9), timetable.weekStart());
+        assertEquals(10L, timetableRepository.headquartersId);
+        assertEquals(LocalDate.of(2026, 3, 9), timetableRepository.weekStart);
+        assertEquals(1, timetable.entries().size());
+    }
+
+    @Test
+    void shouldDefaultToTheCurrentUtcWeek() {
+        WeeklyTimetable timetable = useCase.execute(10L, null);
+
+        assertEquals(DayOfWeek.MONDAY, timetable.weekStart().getDayOfWeek());
+        assertEquals(LocalDate.now(ZoneOffset.UTC).minusDays(LocalDate.now(ZoneOffset.UTC).getDayOfWeek().getValue() - 1),
+                timetable.weekStart());
+    }
+
+    @Test
+    void shouldKeepTheEtagUntilTheTimetableChanges() {
+        timetableRepository.entries = List.of(entry(1L, 4));
+        String first = useCase.execute(10L, LocalDate.of(2026, 3, 9)).etag();
+        String sameDayOfWeek = useCase.execute(10L, LocalDate.of(2026, 3, 15)).etag();
+
+        timetableRepository.entries = List.of(entry(1L, 5));
+        String afterBooking = useCase.execute(10L, LocalDate.of(2026, 3, 9)).etag();
+
+        assertEquals(first, sameDayOfWeek);
+        assertNotEquals(first, afterBooking);
+        assertNotEquals(first, useCase.execute(11L, LocalDate.of(2026, 3, 9)).etag());
+    }
+
+    @Test
+    void shouldRejectMissingHeadquarters() {
+        BadRequestException ex = assertThrows(BadRequestException.class, () -> useCase.execute(null, null));
+
+        assertEquals("headquartersId must be a positive number", ex.getMessage());
+    }
+
+    private TimetableEntry entry(Long sessionId, int confirmedCount) {
+        return new TimetableEntry(
+                sessionId,
+                100L,
+                "Yoga",
+                Instant.parse("2026-03-10T09:00:00Z"),
+                Instant.parse("2026-03-10T10:00:00Z"),
+                SessionStatus.OPEN,
+                20,
+                confirmedCount,
+                0
+        );
+    }
+
+    private static class StubSessionTimetableRepository implements SessionTimetableRepository {
+        List<TimetableEntry> entries = List.of();
+        Long headquartersId;
+        LocalDate weekStart;
+
+        @Override
+        public List<TimetableEntry> findWeek(Long headquartersId, LocalDate weekStart) {
+            this.headquartersId = headquartersId;
+            this.weekStart = weekStart;
+            return entries;
+        }
+
+        @Override
+        public void refreshSessions(Collection<Long> sessionIds) {
+        }
+
+        @Override
+        public void refreshHeadquartersBetween(Collection<Long> headquartersIds, Instant from, Instant to) {
+        }
+
+        @Override
+        public void refreshActivity(Long activityId) {
+        }
+
+        @Override
+        public int refreshAll() {
+            return 0;
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package org.athlium.gym.application.usecase;
 
+import org.athlium.gym.application.service.SessionConfigurationCache;
 import org.athlium.gym.domain.model.SessionConfiguration;
 import org.athlium.gym.domain.model.WaitlistStrategy;
 import org.athlium.gym.domain.repository.SessionConfigurationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -16,12 +19,15 @@ class ResolveSessionConfigurationUseCaseTest {
 
     private ResolveSessionConfigurationUseCase useCase;
     private InMemoryConfigRepository repository;
+    private SessionConfigurationCache cache;
 
     @BeforeEach
     void setUp() {
         useCase = new ResolveSessionConfigurationUseCase();
         repository = new InMemoryConfigRepository();
+        cache = new SessionConfigurationCache();
         useCase.sessionConfigurationRepository = repository;
+        useCase.sessionConfigurationCache = cache;
     }
 
     @Test
@@ -55,11 +61,83 @@ class ResolveSessionConfigurationUseCaseTest {
         assertEquals(WaitlistStrategy.FIFO, effective.getWaitlistStrategy());
     }
 
+    @Test
+    void shouldLoadSharedLayersInSingleRepositoryCall() {
+        SessionConfiguration hqConfig = new SessionConfiguration();
+        hqConfig.setMaxParticipants(15);
+        repository.upsertHeadquartersConfig(10L, hqConfig);
+
+        SessionConfiguration effective = useCase.execute(1L, 10L, 100L, null);
+
+        assertEquals(15, effective.getMaxParticipants());
+        assertEquals(1, repository.reads);
+    }
+
+    @Test
+    void shouldServeRepeatedResolutionsFromCache() {
+        SessionConfiguration orgConfig = new SessionConfiguration();
+        orgConfig.setMaxParticipants(20);
+        repository.upsertOrganizationConfig(1L, orgConfig);
+
+        useCase.execute(1L, 10L, 100L, null);
+        int readsAfterFirstResolve = repository.reads;
+        SessionConfiguration second = useCase.execute(1L, 10L, 100L, null);
+
+        assertEquals(20, second.getMaxParticipants());
+        assertEquals(readsAfterFirstResolve, repository.reads);
+        assertEquals(1, cache.entryCount());
+        assertEquals(0.5, cache.hitRatio());
+    }
+
+    @Test
+    void shouldNotLeakCallerMutationsIntoCache() {
+        SessionConfiguration first = useCase.execute(1L, 10L, 100L, null);
+        first.setMaxParticipants(99);
+
+        SessionConfiguration second = useCase.execute(1L, 10L, 100L, null);
+
+        assertEquals(1, second.getMaxParticipants());
+    }
+
+    @Test
+    void shouldEvictEveryKeyUnderUpsertedOrganization() {
+        UpsertOrganizationConfigUseCase upsertOrganization = new UpsertOrganizationConfigUseCase();
+        upsertOrganization.sessionConfigurationRepository = repository;
+        upsertOrganization.sessionConfigurationCache = cache;
+        useCase.execute(1L, 10L, 100L, null);
+        useCase.execute(1L, 11L, 101L, null);
+        useCase.execute(2L, 20L, 200L, null);
+
+        SessionConfiguration orgConfig = new SessionConfiguration();
+        orgConfig.setMaxParticipants(30);
+        upsertOrganization.execute(1L, orgConfig);
+
+        assertEquals(1, cache.entryCount());
+        assertEquals(30, useCase.execute(1L, 10L, 100L, null).getMaxParticipants());
+    }
+
+    @Test
+    void shouldEvictOnlyKeysOfUpsertedActivity() {
+        UpsertActivityConfigUseCase upsertActivity = new UpsertActivityConfigUseCase();
+        upsertActivity.sessionConfigurationRepository = repository;
+        upsertActivity.sessionConfigurationCache = cache;
+        useCase.execute(1L, 10L, 100L, null);
+        useCase.execute(1L, 10L, 101L, null);
+
+        SessionConfiguration activityConfig = new SessionConfiguration();
+        activityConfig.setMaxParticipants(7);
+        upsertActivity.execute(100L, activityConfig);
+
+        assertEquals(1, cache.entryCount());
+        assertEquals(7, useCase.execute(1L, 10L, 100L, null).getMaxParticipants());
+    }
+
     private static class InMemoryConfigRepository implements SessionConfigurationRepository {
         private final Map<Long, SessionConfiguration> org = new HashMap<>();
         private final Map<Long, SessionConfiguration> hq = new HashMap<>();
         private final Map<Long, SessionConfiguration> activity = new HashMap<>();
         private final Map<Long, SessionConfiguration> session = new HashMap<>();
+        private int reads;
 
         @Override
         public SessionConfiguration upsertOrganizationConfig(Long organizationId, SessionConfiguration configuration) {
@@ -87,19 +165,36 @@ class ResolveSessionConfigurationUseCaseTest {
 
         @Override
         public Optional<SessionConfiguration> getOrganizationConfig(Long organizationId) {
+            reads++;
             return Optional.ofNullable(org.get(organizationId));
         }
 
         @Override
         public Optional<SessionConfiguration> getHeadquartersConfig(Long headquartersId) {
+            reads++;
             return Optional.ofNullable(hq.get(headquartersId));
         }
 
         @Override
         public Optional<SessionConfiguration> getActivityConfig(Long activityId) {
+            reads++;
             return Optional.ofNullable(activity.get(activityId));
         }
 
+        @Override
+        public List<SessionConfiguration> findConfigLayers(Long organizationId, Long headquartersId,
+                                                           Long activityId, Long sessionId) {
+            reads++;
+            List<SessionConfiguration> layers = new ArrayList<>();
+            Optional.ofNullable(org.get(organizationId)).ifPresent(layers::add);
+            Optional.ofNullable(hq.get(headquartersId)).ifPresent(layers::add);
+            Optional.ofNullable(activity.get(activityId)).ifPresent(layers::add);
+            if (sessionId != null) {
+                Optional.ofNullable(session.get(sessionId)).ifPresent(layers::add);
+            }
+            return layers;
+        }
+
         @Override
         public Optional<SessionConfiguration> getSessionConfig(Long sessionId) {
             return Optional.ofNullable(session.get(sessionId));
@@ -1,13 +1,17 @@
 package org.athlium.gym.application.usecase;
 
 import org.athlium.gym.domain.model.ActivitySchedule;
+import org.athlium.gym.domain.model.CatalogAggregates;
 import org.athlium.gym.domain.repository.ActivityScheduleRepository;
+import org.athlium.shared.application.AggregateVersions;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,12 +23,15 @@ class UpdateActivityScheduleUseCaseTest {
 
     private UpdateActivityScheduleUseCase useCase;
     private InMemoryActivityScheduleRepository repository;
+    private RecordingAggregateVersions aggregateVersions;
 
     @BeforeEach
     void setUp() {
         useCase = new UpdateActivityScheduleUseCase();
         repository = new InMemoryActivityScheduleRepository();
         useCase.activityScheduleRepository = repository;
+        aggregateVersions = new RecordingAggregateVersions();
+        useCase.aggregateVersions = aggregateVersions;
     }
 
     @Test
@@ -46,6 +53,7 @@ class UpdateActivityScheduleUseCaseTest {
         assertEquals(LocalTime.of(20, 0), result.getStartTime());
         assertEquals(90, result.getDurationMinutes());
         assertEquals(3, result.getDayOfWeek());
+        assertEquals(List.of(CatalogAggregates.ACTIVITY_SCHEDULE), aggregateVersions.bumped);
     }
 
     @Test
@@ -177,5 +185,19 @@ class UpdateActivityScheduleUseCaseTest {
         public List<ActivitySchedule> findByHeadquartersId(Long headquartersId) {
             throw new UnsupportedOperationException("Not used in this test");
         }
+
+        @Override
+        public boolean updateGeneratedUntil(Long scheduleId, Long expectedRevision, LocalDate generatedUntil) {
+            throw new UnsupportedOperationException("Not used in this test");
+        }
+    }
+
+    private static class RecordingAggregateVersions extends AggregateVersions {
+        final List<String> bumped = new ArrayList<>();
+
+        @Override
+        public void bump(String aggregate) {
+            bumped.add(aggregate);
+        }
     }
 }
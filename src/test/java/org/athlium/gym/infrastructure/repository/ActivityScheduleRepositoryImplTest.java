@@ -0,0 +1,86 @@
+package org.athlium.gym.infrastructure.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ActivityScheduleRepositoryImplTest {
+
+    @Test
+    void shouldReserveOneBlockPerBlockSizeIds() {
+        SharedCounter counter = new SharedCounter(7);
+        var repository = new CountingScheduleRepository(counter, 3);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(repository.nextScheduleId());
+        }
+
+        assertEquals(List.of(8L, 9L, 10L, 11L, 12L, 13L, 14L), ids);
+        assertEquals(3L, counter.reservations.get());
+    }
+
+    @Test
+    void shouldNeverHandOutTheSameIdAcrossInstancesAndThreads() throws Exception {
+        SharedCounter counter = new SharedCounter(0);
+        var first = new CountingScheduleRepository(counter, 10);
+        var second = new CountingScheduleRepository(counter, 10);
+
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int task = 0; task < 8; task++) {
+                var repository = task % 2 == 0 ? first : second;
+                futures.add(executor.submit(() -> {
+                    List<Long> ids = new ArrayList<>();
+                    for (int i = 0; i < 250; i++) {
+                        ids.add(repository.nextScheduleId());
+                    }
+                    return ids;
+                }));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            ids.addAll(future.get());
+        }
+        assertEquals(2000, ids.size());
+        assertEquals(200L, counter.reservations.get());
+    }
+
+    private static class SharedCounter {
+        final AtomicLong sequence;
+        final AtomicLong reservations = new AtomicLong();
+
+        SharedCounter(long initial) {
+            sequence = new AtomicLong(initial);
+        }
+    }
+
+    private static class CountingScheduleRepository extends ActivityScheduleRepositoryImpl {
+        private final SharedCounter counter;
+
+        CountingScheduleRepository(SharedCounter counter, int blockSize) {
+            this.counter = counter;
+            this.idBlockSize = blockSize;
+        }
+
+        @Override
+        long reserveIdBlock(int size) {
+            counter.reservations.incrementAndGet();
+            return counter.sequence.addAndGet(size);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.athlium.gym.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.athlium.gym.domain.model.ActivitySessionSummary;
+import org.athlium.gym.domain.model.SessionInstance;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeadquartersOverviewRepositoryImplTest {
+
+    private static final Instant FROM = Instant.parse("2026-03-02T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-03-16T00:00:00Z");
+
+    @Test
+    void shouldKeepTotalsWhenNoUpcomingSessionsAreRequested() {
+        FakeEntityManager fakeEntityManager = new FakeEntityManager(Collections.singletonList(
+                row(1L, 100L, "2026-03-02T10:00:00Z", 3, 12, 1, 40, "2026-03-02T10:00:00Z")
+        ));
+        HeadquartersOverviewRepositoryImpl repository = new HeadquartersOverviewRepositoryImpl();
+        repository.em = fakeEntityManager.proxy();
+
+        Map<Long, ActivitySessionSummary> summaries = repository.summarizeByActivity(List.of(7L), FROM, TO, 0);
+
+        ActivitySessionSummary summary = summaries.get(100L);
+        assertEquals(3, summary.sessionCount());
+        assertEquals(12, summary.confirmedCount());
+        assertEquals(1, summary.waitlistedCount());
+        assertEquals(40, summary.capacity());
+        assertEquals(Instant.parse("2026-03-02T10:00:00Z"), summary.firstSessionAt());
+        assertEquals(List.of(), summary.upcomingSessions());
+        assertTrue(fakeEntityManager.sqlStatements.getFirst().contains("GREATEST(:upcomingLimit, 1)"));
+        assertEquals(0, fakeEntityManager.params.get("upcomingLimit"));
+    }
+
+    @Test
+    void shouldListUpcomingSessionsPerActivityInStartOrder() {
+        FakeEntityManager fakeEntityManager = new FakeEntityManager(List.of(
+                row(1L, 100L, "2026-03-02T10:00:00Z", 2, 5, 0, 20, "2026-03-02T10:00:00Z"),
+                row(2L, 100L, "2026-03-03T10:00:00Z", 2, 5, 0, 20, "2026-03-02T10:00:00Z"),
+                row(3L, 200L, "2026-03-02T18:00:00Z", 1, 4, 2, 10, "2026-03-02T18:00:00Z")
+        ));
+        HeadquartersOverviewRepositoryImpl repository = new HeadquartersOverviewRepositoryImpl();
+        repository.em = fakeEntityManager.proxy();
+
+        Map<Long, ActivitySessionSummary> summaries = repository.summarizeByActivity(List.of(7L), FROM, TO, 2);
+
+        assertEquals(List.of(1L, 2L), summaries.get(100L).upcomingSessions().stream().map(SessionInstance::getId).toList());
+        assertEquals(List.of(3L), summaries.get(200L).upcomingSessions().stream().map(SessionInstance::getId).toList());
+        assertEquals(2, summaries.get(200L).waitlistedCount());
+    }
+
+    @Test
+    void shouldLeaveFirstSessionUnsetWhenEverySessionIsCancelled() {
+        FakeEntityManager fakeEntityManager = new FakeEntityManager(Collections.singletonList(
+                row(1L, 100L, "2026-03-02T10:00:00Z", 0, 0, 0, 0, null)
+        ));
+        HeadquartersOverviewRepositoryImpl repository = new HeadquartersOverviewRepositoryImpl();
+        repository.em = fakeEntityManager.proxy();
+
+        ActivitySessionSummary summary = repository.summarizeByActivity(List.of(7L), FROM, TO, 1).get(100L);
+
+        assertEquals(0, summary.sessionCount());
+        assertNull(summary.firstSessionAt());
+        assertEquals(1, summary.upcomingSessions().size());
+    }
+
+    private static Object[] row(Long id, Long activityId, String startsAt, int sessionCount, int totalConfirmed,
+                                int totalWaitlisted, int totalCapacity, String firstSessionAt) {
+        Instant start = Instant.parse(startsAt);
+        return new Object[] {
+                id, 1L, 7L, activityId, start, start.plusSeconds(3600), "OPEN", "SCHEDULER",
+                10, true, 5, "FIFO", 2, false, 4, 0,
+                sessionCount, totalConfirmed, totalWaitlisted, totalCapacity,
+                firstSessionAt == null ? null : Instant.parse(firstSessionAt)
+        };
+    }
+
+    private static class FakeEntityManager implements InvocationHandler {
+        private final List<Object[]> rows;
+        private final List<String> sqlStatements = new ArrayList<>();
+        private final Map<String, Object> params = new HashMap<>();
+
+        private FakeEntityManager(List<Object[]> rows) {
+            this.rows = rows;
+        }
+
+        EntityManager proxy() {
+            return (EntityManager) Proxy.newProxyInstance(
+                    EntityManager.class.getClassLoader(),
+                    new Class<?>[] { EntityManager.class },
+                    this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if ("createNativeQuery".equals(method.getName())) {
+                sqlStatements.add((String) args[0]);
+                return createQueryProxy();
+            }
+            throw new UnsupportedOperationException("Unsupported EntityManager method: " + method.getName());
+        }
+
+        private Query createQueryProxy() {
+            InvocationHandler handler = (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "setParameter" -> {
+                        params.put((String) args[0], args[1]);
+                        return proxy;
+                    }
+                    case "getResultList" -> {
+                        return rows;
+                    }
+                    default -> throw new UnsupportedOperationException("Unsupported Query method: " + method.getName());
+                }
+            };
+
+            return (Query) Proxy.newProxyInstance(
+                    Query.class.getClassLoader(),
+                    new Class<?>[] { Query.class },
+                    handler);
+        }
+    }
+}
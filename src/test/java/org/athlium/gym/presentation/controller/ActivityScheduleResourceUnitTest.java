@@ -172,7 +172,7 @@ class ActivityScheduleResourceUnitTest {
     private static class StubGenerateNextWeekSessionsUseCase extends GenerateNextWeekSessionsUseCase {
         @Override
         public GenerationResult execute() {
-            return new GenerationResult(0, 0, 0, 0);
+            return new GenerationResult(0, 0, 0, 0, List.of());
         }
     }
 
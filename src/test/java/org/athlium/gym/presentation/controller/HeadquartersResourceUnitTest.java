@@ -1,13 +1,14 @@
 package org.athlium.gym.presentation.controller;
 
 import jakarta.ws.rs.core.Response;
-import org.athlium.gym.application.usecase.GetActivitiesUseCase;
 import org.athlium.gym.application.usecase.GetAllHeadquartersUseCase;
+import org.athlium.gym.application.usecase.GetHeadquartersOverviewUseCase;
 import org.athlium.gym.application.usecase.GetHeadquartersUseCase;
-import org.athlium.gym.application.usecase.GetOrganizationUseCase;
-import org.athlium.gym.application.usecase.GetSessionsUseCase;
 import org.athlium.gym.domain.model.Activity;
+import org.athlium.gym.domain.model.ActivitySessionSummary;
 import org.athlium.gym.domain.model.Headquarters;
+import org.athlium.gym.domain.model.HeadquartersOverview;
+import org.athlium.gym.domain.model.HeadquartersOverviewCriteria;
 import org.athlium.gym.domain.model.Organization;
 import org.athlium.gym.domain.model.SessionInstance;
 import org.athlium.gym.presentation.dto.ActivityResponse;
@@ -18,16 +19,20 @@ import org.athlium.gym.presentation.dto.SessionResponse;
 import org.athlium.gym.presentation.mapper.ActivityDtoMapper;
 import org.athlium.gym.presentation.mapper.HeadquartersDtoMapper;
 import org.athlium.gym.presentation.mapper.SessionDtoMapper;
-import org.athlium.shared.domain.PageResponse;
 import org.athlium.shared.dto.ApiResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class HeadquartersResourceUnitTest {
@@ -35,9 +40,7 @@ class HeadquartersResourceUnitTest {
     private HeadquartersResource resource;
     private StubGetAllHeadquartersUseCase getAllHeadquartersUseCase;
     private StubGetHeadquartersUseCase getHeadquartersUseCase;
-    private StubGetOrganizationUseCase getOrganizationUseCase;
-    private StubGetActivitiesUseCase getActivitiesUseCase;
-    private StubGetSessionsUseCase getSessionsUseCase;
+    private StubGetHeadquartersOverviewUseCase overviewUseCase;
 
     @BeforeEach
     void setUp() {
@@ -45,15 +48,11 @@ class HeadquartersResourceUnitTest {
 
         getAllHeadquartersUseCase = new StubGetAllHeadquartersUseCase();
         getHeadquartersUseCase = new StubGetHeadquartersUseCase();
-        getOrganizationUseCase = new StubGetOrganizationUseCase();
-        getActivitiesUseCase = new StubGetActivitiesUseCase();
-        getSessionsUseCase = new StubGetSessionsUseCase();
+        overviewUseCase = new StubGetHeadquartersOverviewUseCase();
 
         resource.getAllHeadquartersUseCase = getAllHeadquartersUseCase;
         resource.getHeadquartersUseCase = getHeadquartersUseCase;
-        resource.getOrganizationUseCase = getOrganizationUseCase;
-        resource.getActivitiesUseCase = getActivitiesUseCase;
-        resource.getSessionsUseCase = getSessionsUseCase;
+        resource.getHeadquartersOverviewUseCase = overviewUseCase;
         resource.mapper = new StubHeadquartersDtoMapper();
         resource.activityDtoMapper = new StubActivityDtoMapper();
         resource.sessionDtoMapper = new StubSessionDtoMapper();
@@ -64,19 +63,19 @@ class HeadquartersResourceUnitTest {
         Headquarters headquarters = Headquarters.builder().id(10L).organizationId(1L).name("HQ A").build();
         getAllHeadquartersUseCase.response = List.of(headquarters);
 
-        Organization organization = Organization.builder().id(1L).name("Test Organization").build();
-        getOrganizationUseCase.response = organization;
+        overviewUseCase.organizations = List.of(Organization.builder().id(1L).name("Test Organization").build());
 
         Activity activity = Activity.builder().id(100L).name("Yoga").description("Morning").hqId(10L).build();
-        getActivitiesUseCase.response = List.of(activity);
+        overviewUseCase.activities = List.of(activity);
 
         SessionInstance session = new SessionInstance();
         session.setId(1000L);
         session.setActivityId(100L);
         session.setStartsAt(Instant.parse("2026-03-10T09:00:00Z"));
-        getSessionsUseCase.response = new PageResponse<>(List.of(session), 0, 100, 1);
+        overviewUseCase.summaries = Map.of(100L, new ActivitySessionSummary(100L, 3, 12, 1, 20,
+                Instant.parse("2026-03-10T09:00:00Z"), List.of(session)));
 
-        Response response = resource.getHeadquarters(null);
+        Response response = resource.getHeadquarters(null, null, null, null, null);
 
         assertEquals(200, response.getStatus());
         ApiResponse<?> body = (ApiResponse<?>) response.getEntity();
@@ -87,6 +86,15 @@ class HeadquartersResourceUnitTest {
         assertEquals("Yoga", item.getActivities().get(0).getName());
         assertEquals(1, item.getActivities().get(0).getSessions().size());
         assertEquals(1000L, item.getActivities().get(0).getSessions().get(0).getId());
+        assertEquals(3, item.getActivities().get(0).getSessionSummary().getSessionCount());
+        assertEquals(0.6, item.getActivities().get(0).getSessionSummary().getOccupancyRate());
+        assertEquals(Instant.parse("2026-03-10T09:00:00Z"),
+                item.getActivities().get(0).getSessionSummary().getFirstSessionAt());
+        assertEquals(List.of(List.of(10L)), overviewUseCase.headquartersIds);
+        assertEquals(5, overviewUseCase.criteria.get(0).upcomingLimit());
+        assertNotNull(item.getSessionsFrom());
+        assertEquals(item.getSessionsFrom().plus(Duration.ofDays(14)), item.getSessionsTo());
+        assertFalse(overviewUseCase.criteria.get(0).includeParticipants());
         assertNotNull(item.getOrganization());
         assertEquals(1L, item.getOrganization().getId());
         assertEquals("Test Organization", item.getOrganization().getName());
@@ -97,18 +105,18 @@ class HeadquartersResourceUnitTest {
         Headquarters headquarters = Headquarters.builder().id(11L).organizationId(1L).name("HQ B").build();
         getHeadquartersUseCase.response = headquarters;
 
-        Organization organization = Organization.builder().id(1L).name("Test Organization").build();
-        getOrganizationUseCase.response = organization;
+        overviewUseCase.organizations = List.of(Organization.builder().id(1L).name("Test Organization").build());
 
         Activity activity = Activity.builder().id(200L).name("Pilates").description("Core").hqId(11L).build();
-        getActivitiesUseCase.response = List.of(activity);
+        overviewUseCase.activities = List.of(activity);
 
         SessionInstance session = new SessionInstance();
         session.setId(2000L);
         session.setActivityId(200L);
-        getSessionsUseCase.response = new PageResponse<>(List.of(session), 0, 100, 1);
+        overviewUseCase.summaries = Map.of(200L, new ActivitySessionSummary(200L, 1, 0, 0, 10, null, List.of(session)));
 
-        Response response = resource.getHeadquarter(11L);
+        Response response = resource.getHeadquarter(
+                11L, "2026-03-01T00:00:00Z", "2026-03-08T00:00:00Z", 3, "participants");
 
         assertEquals(200, response.getStatus());
         ApiResponse<?> body = (ApiResponse<?>) response.getEntity();
@@ -117,11 +125,70 @@ class HeadquartersResourceUnitTest {
         assertEquals(1, item.getActivities().size());
         assertEquals(1, item.getActivities().get(0).getSessions().size());
         assertEquals(2000L, item.getActivities().get(0).getSessions().get(0).getId());
+        HeadquartersOverviewCriteria criteria = overviewUseCase.criteria.get(0);
+        assertEquals(Instant.parse("2026-03-01T00:00:00Z"), criteria.from());
+        assertEquals(Instant.parse("2026-03-08T00:00:00Z"), criteria.to());
+        assertEquals(3, criteria.upcomingLimit());
+        assertTrue(criteria.includeParticipants());
         assertNotNull(item.getOrganization());
         assertEquals(1L, item.getOrganization().getId());
         assertEquals("Test Organization", item.getOrganization().getName());
     }
 
+    @Test
+    void shouldAssembleAllListedHeadquartersInOneOverviewCall() {
+        getAllHeadquartersUseCase.response = List.of(
+                Headquarters.builder().id(10L).organizationId(1L).name("HQ A").build(),
+                Headquarters.builder().id(11L).organizationId(1L).name("HQ B").build(),
+                Headquarters.builder().id(12L).organizationId(2L).name("HQ C").build()
+        );
+        overviewUseCase.organizations = List.of(Organization.builder().id(1L).name("Org").build());
+        overviewUseCase.activities = List.of(
+                Activity.builder().id(100L).name("Yoga").hqId(10L).build(),
+                Activity.builder().id(110L).name("Boxing").hqId(11L).build()
+        );
+
+        Response response = resource.getHeadquarters(null, null, null, null, null);
+
+        List<?> list = (List<?>) ((ApiResponse<?>) response.getEntity()).getData();
+        assertEquals(3, list.size());
+        assertEquals(List.of(List.of(10L, 11L, 12L)), overviewUseCase.headquartersIds);
+        assertEquals("Boxing", ((HeadquartersResponse) list.get(1)).getActivities().get(0).getName());
+        assertEquals(List.of(), ((HeadquartersResponse) list.get(2)).getActivities());
+        assertNull(((HeadquartersResponse) list.get(2)).getOrganization());
+    }
+
+    @Test
+    void shouldReturnEmptySummaryForActivitiesWithoutSessionsInWindow() {
+        Headquarters headquarters = Headquarters.builder().id(12L).organizationId(1L).name("HQ C").build();
+        getAllHeadquartersUseCase.response = List.of(headquarters);
+        overviewUseCase.activities = List.of(Activity.builder().id(300L).name("Spinning").hqId(12L).build());
+
+        Response response = resource.getHeadquarters(null, null, null, null, null);
+
+        HeadquartersResponse item = (HeadquartersResponse) ((List<?>) ((ApiResponse<?>) response.getEntity()).getData()).get(0);
+        ActivityResponse activity = item.getActivities().get(0);
+        assertEquals(List.of(), activity.getSessions());
+        assertEquals(0, activity.getSessionSummary().getSessionCount());
+        assertNull(activity.getSessionSummary().getOccupancyRate());
+    }
+
+    @Test
+    void shouldRejectInvalidOverviewWindow() {
+        getAllHeadquartersUseCase.response = List.of(Headquarters.builder().id(12L).organizationId(1L).build());
+
+        Response invalidInstant = resource.getHeadquarters(null, "yesterday", null, null, null);
+        Response reversed = resource.getHeadquarters(null, "2026-03-08T00:00:00Z", "2026-03-01T00:00:00Z", null, null);
+        Response tooWide = resource.getHeadquarters(null, "2026-01-01T00:00:00Z", "2026-12-31T00:00:00Z", null, null);
+        Response unknownExpand = resource.getHeadquarters(null, null, null, null, "bookings");
+
+        assertEquals(400, invalidInstant.getStatus());
+        assertEquals(400, reversed.getStatus());
+        assertEquals(400, tooWide.getStatus());
+        assertEquals(400, unknownExpand.getStatus());
+        assertTrue(overviewUseCase.headquartersIds.isEmpty());
+    }
+
     private static class StubGetAllHeadquartersUseCase extends GetAllHeadquartersUseCase {
         List<Headquarters> response = List.of();
 
@@ -140,40 +207,28 @@ class HeadquartersResourceUnitTest {
         }
     }
 
-    private static class StubGetOrganizationUseCase extends GetOrganizationUseCase {
-        Organization response;
-
-        @Override
-        public Organization execute(Long id) {
-            return response;
-        }
-    }
-
-    private static class StubGetActivitiesUseCase extends GetActivitiesUseCase {
-        List<Activity> response = List.of();
+    private static class StubGetHeadquartersOverviewUseCase extends GetHeadquartersOverviewUseCase {
+        List<Organization> organizations = List.of();
+        List<Activity> activities = List.of();
+        Map<Long, ActivitySessionSummary> summaries = Map.of();
+        final List<List<Long>> headquartersIds = new ArrayList<>();
+        final List<HeadquartersOverviewCriteria> criteria = new ArrayList<>();
 
         @Override
-        public List<Activity> executeAllByHeadquarter(Long hqId, Boolean isActive) {
-            return response;
-        }
-    }
-
-    private static class StubGetSessionsUseCase extends GetSessionsUseCase {
-        PageResponse<SessionInstance> response = new PageResponse<>(List.of(), 0, 100, 0);
-
-        @Override
-        public PageResponse<SessionInstance> execute(
-                Long organizationId,
-                Long headquartersId,
-                Long activityId,
-                org.athlium.gym.domain.model.SessionStatus status,
-                Instant from,
-                Instant to,
-                int page,
-                int limit,
-                String sort
-        ) {
-            return response;
+        public List<HeadquartersOverview> execute(List<Headquarters> headquarters, HeadquartersOverviewCriteria criteria) {
+            headquartersIds.add(headquarters.stream().map(Headquarters::getId).toList());
+            this.criteria.add(criteria);
+            return headquarters.stream()
+                    .map(item -> new HeadquartersOverview(
+                            item,
+                            organizations.stream()
+                                    .filter(organization -> organization.getId().equals(item.getOrganizationId()))
+                                    .findFirst()
+                                    .orElse(null),
+                            activities.stream().filter(activity -> activity.getHqId().equals(item.getId())).toList(),
+                            summaries
+                    ))
+                    .toList();
         }
     }
 
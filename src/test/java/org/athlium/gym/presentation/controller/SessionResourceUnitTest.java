@@ -3,13 +3,17 @@ package org.athlium.gym.presentation.controller;
 import jakarta.ws.rs.core.Response;
 import org.athlium.gym.application.usecase.GetSessionByIdUseCase;
 import org.athlium.gym.application.usecase.GetSessionsUseCase;
+import org.athlium.gym.application.usecase.GetWeeklyTimetableUseCase;
 import org.athlium.gym.domain.model.SessionInstance;
 import org.athlium.gym.domain.model.SessionParticipant;
 import org.athlium.gym.domain.model.SessionSource;
 import org.athlium.gym.domain.model.SessionStatus;
+import org.athlium.gym.domain.model.TimetableEntry;
+import org.athlium.gym.domain.model.WeeklyTimetable;
 import org.athlium.gym.presentation.dto.SessionPageResponse;
 import org.athlium.gym.presentation.dto.SessionParticipantResponse;
 import org.athlium.gym.presentation.dto.SessionResponse;
+import org.athlium.gym.presentation.dto.WeeklyTimetableResponse;
 import org.athlium.gym.presentation.mapper.SessionDtoMapper;
 import org.athlium.shared.domain.PageResponse;
 import org.athlium.shared.dto.ApiResponse;
@@ -19,11 +23,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SessionResourceUnitTest {
@@ -31,6 +37,7 @@ class SessionResourceUnitTest {
     private SessionResource resource;
     private StubGetSessionsUseCase getSessionsUseCase;
     private StubGetSessionByIdUseCase getSessionByIdUseCase;
+    private StubGetWeeklyTimetableUseCase getWeeklyTimetableUseCase;
 
     @BeforeEach
     void setUp() {
@@ -38,9 +45,11 @@ class SessionResourceUnitTest {
 
         getSessionsUseCase = new StubGetSessionsUseCase();
         getSessionByIdUseCase = new StubGetSessionByIdUseCase();
+        getWeeklyTimetableUseCase = new StubGetWeeklyTimetableUseCase();
 
         resource.getSessionsUseCase = getSessionsUseCase;
         resource.getSessionByIdUseCase = getSessionByIdUseCase;
+        resource.getWeeklyTimetableUseCase = getWeeklyTimetableUseCase;
         resource.sessionDtoMapper = new StubSessionDtoMapper();
     }
 
@@ -64,7 +73,7 @@ class SessionResourceUnitTest {
 
         getSessionsUseCase.response = new PageResponse<>(List.of(session), 0, 20, 1);
 
-        Response response = resource.getSessions(null, null, null, null, null, null, null, null, 1, 20, "startsAt:asc");
+        Response response = resource.getSessions(null, null, null, null, null, null, null, null, 1, 20, "startsAt:asc", null, false, "exact");
 
         assertEquals(200, response.getStatus());
         ApiResponse<?> body = (ApiResponse<?>) response.getEntity();
@@ -77,7 +86,7 @@ class SessionResourceUnitTest {
 
     @Test
     void shouldReturnBadRequestWhenFromIsInvalid() {
-        Response response = resource.getSessions(null, null, null, null, null, null, "bad-date", null, 1, 20, "startsAt:asc");
+        Response response = resource.getSessions(null, null, null, null, null, null, "bad-date", null, 1, 20, "startsAt:asc", null, false, "exact");
 
         assertEquals(400, response.getStatus());
         ApiResponse<?> body = (ApiResponse<?>) response.getEntity();
@@ -125,6 +134,46 @@ class SessionResourceUnitTest {
         assertEquals("jane@test.com", responseData.getParticipants().getFirst().getEmail());
     }
 
+    @Test
+    void shouldReturnWeeklyTimetableWithEtag() {
+        Response response = resource.getWeeklyTimetable(10L, "2026-03-11", null);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("v1", response.getEntityTag().getValue());
+        assertFalse(response.getEntityTag().isWeak());
+        ApiResponse<?> body = (ApiResponse<?>) response.getEntity();
+        WeeklyTimetableResponse responseData = (WeeklyTimetableResponse) body.getData();
+        assertEquals(LocalDate.of(2026, 3, 9), responseData.getWeekStart());
+        assertEquals("Yoga", responseData.getSessions().getFirst().getActivityName());
+        assertEquals(3, responseData.getSessions().getFirst().getConfirmedCount());
+        assertEquals(LocalDate.of(2026, 3, 11), getWeeklyTimetableUseCase.day);
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenTimetableIsUnchanged() {
+        Response response = resource.getWeeklyTimetable(10L, null, "\"v0\", \"v1\"");
+
+        assertEquals(304, response.getStatus());
+        assertEquals("v1", response.getEntityTag().getValue());
+        assertNull(response.getEntity());
+    }
+
+    @Test
+    void shouldReturnTimetableWhenEtagIsStale() {
+        Response response = resource.getWeeklyTimetable(10L, null, "\"v0\"");
+
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenWeekIsInvalid() {
+        Response response = resource.getWeeklyTimetable(10L, "next-week", null);
+
+        assertEquals(400, response.getStatus());
+        ApiResponse<?> body = (ApiResponse<?>) response.getEntity();
+        assertEquals("week must be a valid ISO-8601 date", body.getMessage());
+    }
+
     private static class StubGetSessionsUseCase extends GetSessionsUseCase {
         PageResponse<SessionInstance> response;
 
@@ -138,7 +187,8 @@ class SessionResourceUnitTest {
                 Instant to,
                 int page,
                 int limit,
-                String sort
+                String sort,
+                String totalMode
         ) {
             if (response == null) {
                 throw new BadRequestException("No response configured");
@@ -163,6 +213,27 @@ class SessionResourceUnitTest {
         }
     }
 
+    private static class StubGetWeeklyTimetableUseCase extends GetWeeklyTimetableUseCase {
+        LocalDate day;
+
+        @Override
+        public WeeklyTimetable execute(Long headquartersId, LocalDate day) {
+            this.day = day;
+            TimetableEntry entry = new TimetableEntry(
+                    1L,
+                    100L,
+                    "Yoga",
+                    Instant.parse("2026-03-10T09:00:00Z"),
+                    Instant.parse("2026-03-10T10:00:00Z"),
+                    SessionStatus.OPEN,
+                    20,
+                    3,
+                    0
+            );
+            return new WeeklyTimetable(headquartersId, LocalDate.of(2026, 3, 9), List.of(entry), "v1");
+        }
+    }
+
     private static class StubSessionDtoMapper implements SessionDtoMapper {
 
         @Override
@@ -1,10 +1,18 @@
 package org.athlium.payments.application.usecase;
 
 import org.athlium.payments.domain.model.Payment;
+import org.athlium.payments.domain.model.PaymentEvent;
 import org.athlium.payments.domain.model.PaymentListItem;
 import org.athlium.payments.domain.model.PaymentSearchCriteria;
+import org.athlium.payments.domain.model.RevenueSummaryCriteria;
+import org.athlium.payments.domain.model.RevenueSummaryRow;
 import org.athlium.payments.domain.repository.PaymentRepository;
+import org.athlium.payments.domain.repository.PaymentRollupRepository;
+import org.athlium.shared.application.EventOutbox;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,20 +22,28 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CreatePaymentUseCaseTest {
 
     private CreatePaymentUseCase useCase;
     private InMemoryPaymentRepository paymentRepository;
+    private RecordingPaymentRollupRepository rollupRepository;
+    private RecordingEventOutbox eventOutbox;
 
     @BeforeEach
     void setUp() {
         useCase = new CreatePaymentUseCase();
         paymentRepository = new InMemoryPaymentRepository();
         useCase.paymentRepository = paymentRepository;
+        rollupRepository = new RecordingPaymentRollupRepository();
+        useCase.paymentRollupRepository = rollupRepository;
+        eventOutbox = new RecordingEventOutbox();
+        useCase.eventOutbox = eventOutbox;
     }
 
     @Test
@@ -41,6 +57,9 @@ class CreatePaymentUseCaseTest {
         assertEquals(9L, created.getClientId());
         assertEquals(3L, created.getHeadquartersId());
         assertEquals(1L, created.getOrganizationId());
+        assertEquals(List.of(created), rollupRepository.added);
+        assertEquals(List.of(PaymentEvent.CREATED), eventOutbox.eventTypes);
+        assertEquals(1L, ((PaymentEvent) eventOutbox.payloads.get(0)).paymentId());
     }
 
     @Test
@@ -55,6 +74,8 @@ class CreatePaymentUseCaseTest {
         BadRequestException ex = assertThrows(BadRequestException.class,
                 () -> useCase.execute(new BigDecimal("10"), "CARD", null, 3L, 1L));
         assertEquals("clientId is required", ex.getMessage());
+        assertTrue(rollupRepository.added.isEmpty());
+        assertTrue(eventOutbox.eventTypes.isEmpty());
     }
 
     private static class InMemoryPaymentRepository implements PaymentRepository {
@@ -83,8 +104,54 @@ class CreatePaymentUseCaseTest {
         }
 
         @Override
-        public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria) {
+        public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria, TotalMode totalMode) {
             return new PageResponse<>(List.of(), criteria.page(), criteria.size(), 0);
         }
+
+        @Override
+        public CursorPageResponse<PaymentListItem> findPaymentsAfter(PaymentSearchCriteria criteria, SeekCursor after,
+                boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), criteria.size(), null, null);
+        }
+
+        @Override
+        public void streamPayments(PaymentSearchCriteria criteria, Consumer<PaymentListItem> consumer) {
+        }
+    }
+
+    private static class RecordingPaymentRollupRepository implements PaymentRollupRepository {
+        private final List<Payment> added = new ArrayList<>();
+        private final List<Payment> subtracted = new ArrayList<>();
+
+        @Override
+        public void add(Payment payment) {
+            added.add(payment);
+        }
+
+        @Override
+        public void subtract(Payment payment) {
+            subtracted.add(payment);
+        }
+
+        @Override
+        public int rebuild() {
+            return 0;
+        }
+
+        @Override
+        public List<RevenueSummaryRow> summarize(RevenueSummaryCriteria criteria) {
+            return List.of();
+        }
+    }
+
+    private static class RecordingEventOutbox extends EventOutbox {
+        private final List<String> eventTypes = new ArrayList<>();
+        private final List<Object> payloads = new ArrayList<>();
+
+        @Override
+        public void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+            eventTypes.add(eventType);
+            payloads.add(payload);
+        }
     }
 }
@@ -3,43 +3,62 @@ package org.athlium.payments.application.usecase;
 import org.athlium.payments.domain.model.Payment;
 import org.athlium.payments.domain.model.PaymentListItem;
 import org.athlium.payments.domain.model.PaymentSearchCriteria;
+import org.athlium.payments.domain.model.RevenueSummaryCriteria;
+import org.athlium.payments.domain.model.RevenueSummaryRow;
 import org.athlium.payments.domain.repository.PaymentRepository;
+import org.athlium.payments.domain.repository.PaymentRollupRepository;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DeletePaymentUseCaseTest {
 
     private DeletePaymentUseCase useCase;
     private InMemoryPaymentRepository repository;
+    private RecordingPaymentRollupRepository rollupRepository;
 
     @BeforeEach
     void setUp() {
         useCase = new DeletePaymentUseCase();
         repository = new InMemoryPaymentRepository();
         useCase.paymentRepository = repository;
+        rollupRepository = new RecordingPaymentRollupRepository();
+        useCase.paymentRollupRepository = rollupRepository;
     }
 
     @Test
-    void shouldDeletePaymentById() {
+    void shouldDeletePaymentByIdAndTakeItOutOfTheRollup() {
+        Payment existing = new Payment();
+        existing.setId(9L);
+        repository.payment = existing;
         repository.deleteResult = true;
 
         useCase.execute(9L);
 
         assertEquals(9L, repository.deletedId);
+        assertEquals(List.of(existing), rollupRepository.subtracted);
     }
 
     @Test
     void shouldThrowWhenPaymentDoesNotExist() {
         assertThrows(EntityNotFoundException.class, () -> useCase.execute(77L));
+        assertNull(repository.deletedId);
+        assertTrue(rollupRepository.subtracted.isEmpty());
     }
 
     @Test
@@ -49,6 +68,7 @@ class DeletePaymentUseCaseTest {
     }
 
     private static class InMemoryPaymentRepository implements PaymentRepository {
+        Payment payment;
         Long deletedId;
         boolean deleteResult;
 
@@ -64,6 +84,9 @@ class DeletePaymentUseCaseTest {
 
         @Override
         public Optional<Payment> findById(Long paymentId) {
+            if (payment != null && payment.getId().equals(paymentId)) {
+                return Optional.of(payment);
+            }
             return Optional.empty();
         }
 
@@ -74,8 +97,43 @@ class DeletePaymentUseCaseTest {
         }
 
         @Override
-        public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria) {
+        public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria, TotalMode totalMode) {
             return new PageResponse<>(List.of(), criteria.page(), criteria.size(), 0);
         }
+
+        @Override
+        public CursorPageResponse<PaymentListItem> findPaymentsAfter(PaymentSearchCriteria criteria, SeekCursor after,
+                boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), criteria.size(), null, null);
+        }
+
+        @Override
+        public void streamPayments(PaymentSearchCriteria criteria, Consumer<PaymentListItem> consumer) {
+        }
+    }
+
+    private static class RecordingPaymentRollupRepository implements PaymentRollupRepository {
+        private final List<Payment> added = new ArrayList<>();
+        private final List<Payment> subtracted = new ArrayList<>();
+
+        @Override
+        public void add(Payment payment) {
+            added.add(payment);
+        }
+
+        @Override
+        public void subtract(Payment payment) {
+            subtracted.add(payment);
+        }
+
+        @Override
+        public int rebuild() {
+            return 0;
+        }
+
+        @Override
+        public List<RevenueSummaryRow> summarize(RevenueSummaryCriteria criteria) {
+            return List.of();
+        }
     }
 }
@@ -4,7 +4,10 @@ import org.athlium.payments.domain.model.Payment;
 import org.athlium.payments.domain.model.PaymentListItem;
 import org.athlium.payments.domain.model.PaymentSearchCriteria;
 import org.athlium.payments.domain.repository.PaymentRepository;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -78,8 +82,18 @@ class GetPaymentByIdUseCaseTest {
         }
 
         @Override
-        public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria) {
+        public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria, TotalMode totalMode) {
             return new PageResponse<>(List.of(), criteria.page(), criteria.size(), 0);
         }
+
+        @Override
+        public CursorPageResponse<PaymentListItem> findPaymentsAfter(PaymentSearchCriteria criteria, SeekCursor after,
+                boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), criteria.size(), null, null);
+        }
+
+        @Override
+        public void streamPayments(PaymentSearchCriteria criteria, Consumer<PaymentListItem> consumer) {
+        }
     }
 }
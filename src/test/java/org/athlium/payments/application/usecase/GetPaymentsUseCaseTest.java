@@ -4,7 +4,10 @@ import org.athlium.payments.domain.model.Payment;
 import org.athlium.payments.domain.model.PaymentListItem;
 import org.athlium.payments.domain.model.PaymentSearchCriteria;
 import org.athlium.payments.domain.repository.PaymentRepository;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -35,7 +39,7 @@ class GetPaymentsUseCaseTest {
     void shouldThrowWhenPageIsLessThanOne() {
         BadRequestException exception = assertThrows(BadRequestException.class,
                 () -> useCase.execute(null, null, null, null, null, null, null,
-                        null, null, 0, 20, "paidAt:desc"));
+                        null, null, 0, 20, "paidAt:desc", null));
         assertEquals("Page must be >= 1", exception.getMessage());
     }
 
@@ -44,7 +48,7 @@ class GetPaymentsUseCaseTest {
         BadRequestException exception = assertThrows(BadRequestException.class,
                 () -> useCase.execute(null, null, null, null, null,
                         new BigDecimal("100.00"), new BigDecimal("50.00"),
-                        null, null, 1, 20, "paidAt:desc"));
+                        null, null, 1, 20, "paidAt:desc", null));
         assertEquals("amountMin must be less than or equal to amountMax", exception.getMessage());
     }
 
@@ -65,7 +69,8 @@ class GetPaymentsUseCaseTest {
                 2L,
                 1,
                 20,
-                "amount:asc"
+                "amount:asc",
+                "estimate"
         );
 
         assertSame(expected, result);
@@ -78,11 +83,34 @@ class GetPaymentsUseCaseTest {
         assertEquals(5L, repository.lastCriteria.clientId());
         assertEquals(3L, repository.lastCriteria.headquartersId());
         assertEquals(2L, repository.lastCriteria.organizationId());
+        assertEquals(TotalMode.ESTIMATE, repository.lastTotalMode);
+    }
+
+    @Test
+    void shouldDelegateCursorPageWithDecodedCursor() {
+        useCase.executeAfter(null, null, null, null, null, null, null, 3L, null,
+                SeekCursor.of(LocalDate.of(2026, 1, 10), 9L).encode(), 20, "paidAt:desc", true);
+
+        assertEquals(new SeekCursor("2026-01-10", 9L), repository.lastCursor);
+        assertEquals("paid_at", repository.lastCriteria.sortColumn());
+        assertEquals(0, repository.lastCriteria.page());
+        assertTrue(repository.lastIncludeTotal);
+    }
+
+    @Test
+    void shouldRejectCursorPagingByCreatedAt() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> useCase.executeAfter(null, null, null, null, null, null, null,
+                        null, null, null, 20, "createdAt:desc", false));
+        assertEquals("cursor pagination supports sort by paidAt, amount or id", exception.getMessage());
     }
 
     private static class InMemoryPaymentRepository implements PaymentRepository {
         PaymentSearchCriteria lastCriteria;
+        TotalMode lastTotalMode;
         PageResponse<PaymentListItem> findPaymentsResult = new PageResponse<>(List.of(), 0, 20, 0);
+        SeekCursor lastCursor;
+        boolean lastIncludeTotal;
 
         @Override
         public Payment save(Payment payment) {
@@ -105,9 +133,23 @@ class GetPaymentsUseCaseTest {
         }
 
         @Override
-        public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria) {
+        public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria, TotalMode totalMode) {
             this.lastCriteria = criteria;
+            this.lastTotalMode = totalMode;
             return findPaymentsResult;
         }
+
+        @Override
+        public CursorPageResponse<PaymentListItem> findPaymentsAfter(PaymentSearchCriteria criteria, SeekCursor after,
+                boolean includeTotal) {
+            this.lastCriteria = criteria;
+            this.lastCursor = after;
+            this.lastIncludeTotal = includeTotal;
+            return new CursorPageResponse<>(List.of(), criteria.size(), null, null);
+        }
+
+        @Override
+        public void streamPayments(PaymentSearchCriteria criteria, Consumer<PaymentListItem> consumer) {
+        }
     }
 }
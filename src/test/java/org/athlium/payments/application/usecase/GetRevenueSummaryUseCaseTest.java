@@ -0,0 +1,95 @@
+package org.athlium.payments.application.usecase;
+
+import org.athlium.payments.domain.model.Payment;
+import org.athlium.payments.domain.model.PaymentMethod;
+import org.athlium.payments.domain.model.RevenueGranularity;
+import org.athlium.payments.domain.model.RevenueSummaryCriteria;
+import org.athlium.payments.domain.model.RevenueSummaryRow;
+import org.athlium.payments.domain.repository.PaymentRollupRepository;
+import org.athlium.shared.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GetRevenueSummaryUseCaseTest {
+
+    private GetRevenueSummaryUseCase useCase;
+    private CapturingPaymentRollupRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetRevenueSummaryUseCase();
+        repository = new CapturingPaymentRollupRepository();
+        useCase.paymentRollupRepository = repository;
+    }
+
+    @Test
+    void shouldBuildCriteriaFromFilters() {
+        List<RevenueSummaryRow> rows = useCase.execute(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31),
+                "Month", 1L, 3L, "card");
+
+        assertEquals(1, rows.size());
+        RevenueSummaryCriteria criteria = repository.lastCriteria;
+        assertEquals(RevenueGranularity.MONTH, criteria.granularity());
+        assertEquals(1L, criteria.organizationId());
+        assertEquals(3L, criteria.headquartersId());
+        assertEquals(PaymentMethod.CARD, criteria.paymentMethod());
+    }
+
+    @Test
+    void shouldDefaultToDailyBucketsAcrossAllMethods() {
+        useCase.execute(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 7), null, null, null, null);
+
+        assertEquals(RevenueGranularity.DAY, repository.lastCriteria.granularity());
+        assertNull(repository.lastCriteria.paymentMethod());
+    }
+
+    @Test
+    void shouldRejectMissingOrInvertedRange() {
+        BadRequestException missing = assertThrows(BadRequestException.class,
+                () -> useCase.execute(null, LocalDate.of(2026, 1, 7), "day", null, null, null));
+        assertEquals("from and to are required", missing.getMessage());
+
+        BadRequestException inverted = assertThrows(BadRequestException.class,
+                () -> useCase.execute(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 1), "day", null, null, null));
+        assertEquals("from must be less than or equal to to", inverted.getMessage());
+    }
+
+    @Test
+    void shouldRejectUnknownGranularity() {
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> useCase.execute(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 7), "year", null, null, null));
+        assertEquals("granularity must be one of: day, week, month", ex.getMessage());
+    }
+
+    private static class CapturingPaymentRollupRepository implements PaymentRollupRepository {
+        private RevenueSummaryCriteria lastCriteria;
+
+        @Override
+        public void add(Payment payment) {
+        }
+
+        @Override
+        public void subtract(Payment payment) {
+        }
+
+        @Override
+        public int rebuild() {
+            return 0;
+        }
+
+        @Override
+        public List<RevenueSummaryRow> summarize(RevenueSummaryCriteria criteria) {
+            this.lastCriteria = criteria;
+            return List.of(new RevenueSummaryRow(criteria.from(), 1L, 3L, PaymentMethod.CARD, 4L,
+                    new BigDecimal("180.00")));
+        }
+    }
+}
@@ -4,8 +4,14 @@ import org.athlium.payments.domain.model.Payment;
 import org.athlium.payments.domain.model.PaymentListItem;
 import org.athlium.payments.domain.model.PaymentMethod;
 import org.athlium.payments.domain.model.PaymentSearchCriteria;
+import org.athlium.payments.domain.model.RevenueSummaryCriteria;
+import org.athlium.payments.domain.model.RevenueSummaryRow;
 import org.athlium.payments.domain.repository.PaymentRepository;
+import org.athlium.payments.domain.repository.PaymentRollupRepository;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,8 +19,10 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -24,12 +32,15 @@ class UpdatePaymentUseCaseTest {
 
     private UpdatePaymentUseCase useCase;
     private InMemoryPaymentRepository repository;
+    private RecordingPaymentRollupRepository rollupRepository;
 
     @BeforeEach
     void setUp() {
         useCase = new UpdatePaymentUseCase();
         repository = new InMemoryPaymentRepository();
         useCase.paymentRepository = repository;
+        rollupRepository = new RecordingPaymentRollupRepository();
+        useCase.paymentRollupRepository = rollupRepository;
     }
 
     @Test
@@ -57,6 +68,8 @@ class UpdatePaymentUseCaseTest {
         assertEquals(9L, updated.getClientId());
         assertEquals(3L, updated.getHeadquartersId());
         assertEquals(1L, updated.getOrganizationId());
+        assertEquals(List.of(existing), rollupRepository.subtracted);
+        assertEquals(List.of(updated), rollupRepository.added);
     }
 
     @Test
@@ -114,8 +127,43 @@ class UpdatePaymentUseCaseTest {
         }
 
         @Override
-        public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria) {
+        public PageResponse<PaymentListItem> findPayments(PaymentSearchCriteria criteria, TotalMode totalMode) {
             return new PageResponse<>(List.of(), criteria.page(), criteria.size(), 0);
         }
+
+        @Override
+        public CursorPageResponse<PaymentListItem> findPaymentsAfter(PaymentSearchCriteria criteria, SeekCursor after,
+                boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), criteria.size(), null, null);
+        }
+
+        @Override
+        public void streamPayments(PaymentSearchCriteria criteria, Consumer<PaymentListItem> consumer) {
+        }
+    }
+
+    private static class RecordingPaymentRollupRepository implements PaymentRollupRepository {
+        private final List<Payment> added = new ArrayList<>();
+        private final List<Payment> subtracted = new ArrayList<>();
+
+        @Override
+        public void add(Payment payment) {
+            added.add(payment);
+        }
+
+        @Override
+        public void subtract(Payment payment) {
+            subtracted.add(payment);
+        }
+
+        @Override
+        public int rebuild() {
+            return 0;
+        }
+
+        @Override
+        public List<RevenueSummaryRow> summarize(RevenueSummaryCriteria criteria) {
+            return List.of();
+        }
     }
 }
@@ -1,10 +1,12 @@
 package org.athlium.payments.infrastructure.repository;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import org.athlium.payments.domain.model.PaymentListItem;
 import org.athlium.payments.domain.model.PaymentMethod;
 import org.athlium.payments.domain.model.PaymentSearchCriteria;
+import org.athlium.shared.domain.TotalMode;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.InvocationHandler;
@@ -24,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PaymentRepositoryImplTest {
@@ -40,26 +43,16 @@ class PaymentRepositoryImplTest {
                 "Lopez",
                 88L,
                 3L,
-                1L
-        }));
-        QuerySpec packageQuery = QuerySpec.forRows(Collections.singletonList(new Object[] {
-                9L,
-                111L
-        }));
-        QuerySpec activitiesQuery = QuerySpec.forRows(Collections.singletonList(new Object[] {
+                1L,
                 111L,
-                21L,
-                "Yoga",
-                "Mind and body",
-                true,
-                3L,
-                3
+                """
+                [{"activityId":21,"name":"Yoga","description":"Mind and body","isActive":true,"hqId":3,"tokens":3}]"""
         }));
 
-        FakeEntityManager fakeEntityManager = new FakeEntityManager(
-                List.of(countQuery, dataQuery, packageQuery, activitiesQuery));
+        FakeEntityManager fakeEntityManager = new FakeEntityManager(List.of(countQuery, dataQuery));
         PaymentRepositoryImpl repository = new PaymentRepositoryImpl();
         repository.em = fakeEntityManager.proxy();
+        repository.objectMapper = new ObjectMapper();
 
         PaymentSearchCriteria criteria = new PaymentSearchCriteria(
                 "ana",
@@ -77,7 +70,7 @@ class PaymentRepositoryImplTest {
                 true
         );
 
-        var page = repository.findPayments(criteria);
+        var page = repository.findPayments(criteria, TotalMode.EXACT);
 
         assertEquals(1, page.getContent().size());
         PaymentListItem item = page.getContent().getFirst();
@@ -99,19 +92,19 @@ class PaymentRepositoryImplTest {
         assertEquals(1, page.getTotalElements());
         assertEquals(2, page.getPage());
 
+        assertEquals(2, fakeEntityManager.sqlStatements.size());
         String countSql = fakeEntityManager.sqlStatements.getFirst();
         String dataSql = fakeEntityManager.sqlStatements.get(1);
-        String packageSql = fakeEntityManager.sqlStatements.get(2);
-        String activitiesSql = fakeEntityManager.sqlStatements.get(3);
         assertTrue(countSql.contains("LOWER(u.name) LIKE :player"));
         assertTrue(countSql.contains("p.client_id = :clientId"));
         assertTrue(countSql.contains("p.headquarters_id = :headquartersId"));
         assertTrue(countSql.contains("p.organization_id = :organizationId"));
         assertTrue(dataSql.contains("ORDER BY p.amount ASC, p.id DESC"));
-        assertTrue(packageSql.contains("FROM client_packages cp"));
-        assertTrue(activitiesSql.contains("FROM client_package_credits cpc"));
-        assertTrue(activitiesSql.contains("a.isactive"));
-        assertTrue(activitiesSql.contains("cpc.tokens AS weekly_frequency"));
+        assertTrue(dataSql.contains("LEFT JOIN LATERAL"));
+        assertTrue(dataSql.contains("FROM client_packages cp"));
+        assertTrue(dataSql.contains("json_agg"));
+        assertTrue(dataSql.contains("a.isactive"));
+        assertTrue(dataSql.contains("LIMIT :size OFFSET :offset"));
 
         assertEquals("%ana%", countQuery.params.get("player"));
         assertEquals(LocalDate.of(2026, 1, 1), countQuery.params.get("paidAtFrom"));
@@ -124,8 +117,7 @@ class PaymentRepositoryImplTest {
         assertEquals(1L, countQuery.params.get("organizationId"));
         assertEquals(5, dataQuery.params.get("size"));
         assertEquals(10, dataQuery.params.get("offset"));
-        assertEquals(9L, packageQuery.params.get("paymentId0"));
-        assertEquals(111L, activitiesQuery.params.get("packageId0"));
+        assertEquals("%ana%", dataQuery.params.get("player"));
     }
 
     @Test
@@ -140,7 +132,11 @@ class PaymentRepositoryImplTest {
                 "Lopez",
                 88L,
                 3L,
-                1L
+                1L,
+                111L,
+                """
+                [{"activityId":21,"name":"Yoga","description":"Mind and body","isActive":true,"hqId":3,"tokens":3},
+                 {"activityId":22,"name":"Pilates","description":"Core and posture","isActive":true,"hqId":3,"tokens":1}]"""
         }, new Object[] {
                 10L,
                 new BigDecimal("60.00"),
@@ -150,53 +146,16 @@ class PaymentRepositoryImplTest {
                 "Lopez",
                 88L,
                 3L,
-                1L
-        }));
-        QuerySpec packageQuery = QuerySpec.forRows(List.of(new Object[] {
-                9L,
-                111L
-        }, new Object[] {
-                10L,
-                112L
-        }));
-        QuerySpec activitiesQuery = QuerySpec.forRows(List.of(new Object[] {
-                111L,
-                21L,
-                "Yoga",
-                "Mind and body",
-                true,
-                3L,
-                3
-        }, new Object[] {
-                111L,
-                22L,
-                "Pilates",
-                "Core and posture",
-                true,
-                3L,
-                1
-        }, new Object[] {
-                112L,
-                21L,
-                "Yoga",
-                "Mind and body",
-                true,
-                3L,
-                5
-        }, new Object[] {
+                1L,
                 112L,
-                23L,
-                "Box",
-                "Conditioning",
-                true,
-                3L,
-                4
+                """
+                [{"activityId":21,"name":"Yoga","description":"Mind and body","isActive":true,"hqId":3,"tokens":5},
+                 {"activityId":23,"name":"Box","description":"Conditioning","isActive":true,"hqId":3,"tokens":4}]"""
         }));
-
-        FakeEntityManager fakeEntityManager = new FakeEntityManager(
-                List.of(countQuery, dataQuery, packageQuery, activitiesQuery));
+        FakeEntityManager fakeEntityManager = new FakeEntityManager(List.of(countQuery, dataQuery));
         PaymentRepositoryImpl repository = new PaymentRepositoryImpl();
         repository.em = fakeEntityManager.proxy();
+        repository.objectMapper = new ObjectMapper();
 
         PaymentSearchCriteria criteria = new PaymentSearchCriteria(
                 null,
@@ -214,7 +173,7 @@ class PaymentRepositoryImplTest {
                 false
         );
 
-        var page = repository.findPayments(criteria);
+        var page = repository.findPayments(criteria, TotalMode.EXACT);
 
         assertEquals(2, page.getContent().size());
 
@@ -240,9 +199,6 @@ class PaymentRepositoryImplTest {
                 .collect(Collectors.toMap(a -> a.getActivity().getId(), a -> a.getWeeklyFrequency()));
         assertEquals(5, weeklyByActivityPackage112.get(21L));
         assertEquals(4, weeklyByActivityPackage112.get(23L));
-
-        assertEquals(111L, activitiesQuery.params.get("packageId0"));
-        assertEquals(112L, activitiesQuery.params.get("packageId1"));
     }
 
     @Test
@@ -252,6 +208,7 @@ class PaymentRepositoryImplTest {
 
         PaymentRepositoryImpl repository = new PaymentRepositoryImpl();
         repository.em = fakeEntityManager.proxy();
+        repository.objectMapper = new ObjectMapper();
 
         PaymentSearchCriteria criteria = new PaymentSearchCriteria(
                 null,
@@ -269,7 +226,7 @@ class PaymentRepositoryImplTest {
                 false
         );
 
-        var page = repository.findPayments(criteria);
+        var page = repository.findPayments(criteria, TotalMode.EXACT);
 
         assertTrue(page.getContent().isEmpty());
         assertEquals(0, page.getTotalElements());
@@ -277,6 +234,47 @@ class PaymentRepositoryImplTest {
         assertFalse(fakeEntityManager.sqlStatements.getFirst().contains("LIMIT :size OFFSET :offset"));
     }
 
+    @Test
+    void shouldSkipCountAndReadOneRowPastThePageWhenTotalModeIsNone() {
+        QuerySpec dataQuery = QuerySpec.forRows(List.of(
+                new Object[] { 9L, new BigDecimal("45.50"), "CARD", LocalDate.of(2026, 1, 5), "Ana", "Lopez",
+                        88L, 3L, 1L, null, null },
+                new Object[] { 10L, new BigDecimal("60.00"), "CASH", LocalDate.of(2026, 1, 6), "Juan", "Perez",
+                        89L, 3L, 1L, null, null },
+                new Object[] { 11L, new BigDecimal("12.00"), "CASH", LocalDate.of(2026, 1, 7), "Eva", "Diaz",
+                        90L, 3L, 1L, null, null }));
+        FakeEntityManager fakeEntityManager = new FakeEntityManager(List.of(dataQuery));
+
+        PaymentRepositoryImpl repository = new PaymentRepositoryImpl();
+        repository.em = fakeEntityManager.proxy();
+        repository.objectMapper = new ObjectMapper();
+
+        PaymentSearchCriteria criteria = new PaymentSearchCriteria(
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                1,
+                2,
+                "paid_at",
+                false
+        );
+
+        var page = repository.findPayments(criteria, TotalMode.NONE);
+
+        assertEquals(List.of(9L, 10L), page.getContent().stream().map(PaymentListItem::getId).toList());
+        assertEquals(5, page.getTotalElements());
+        assertFalse(page.isTotalExact());
+        assertEquals(1, fakeEntityManager.sqlStatements.size());
+        assertEquals(3, dataQuery.params.get("size"));
+        assertEquals(2, dataQuery.params.get("offset"));
+    }
+
     @Test
     void shouldMapNullableForeignKeysWithoutThrowing() {
         QuerySpec countQuery = QuerySpec.forCount(1L);
@@ -289,13 +287,15 @@ class PaymentRepositoryImplTest {
                 null,
                 null,
                 null,
+                null,
+                null,
                 null
         }));
-        QuerySpec packageQuery = QuerySpec.forRows(List.of());
 
-        FakeEntityManager fakeEntityManager = new FakeEntityManager(List.of(countQuery, dataQuery, packageQuery));
+        FakeEntityManager fakeEntityManager = new FakeEntityManager(List.of(countQuery, dataQuery));
         PaymentRepositoryImpl repository = new PaymentRepositoryImpl();
         repository.em = fakeEntityManager.proxy();
+        repository.objectMapper = new ObjectMapper();
 
         PaymentSearchCriteria criteria = new PaymentSearchCriteria(
                 null,
@@ -313,7 +313,7 @@ class PaymentRepositoryImplTest {
                 false
         );
 
-        var page = repository.findPayments(criteria);
+        var page = repository.findPayments(criteria, TotalMode.EXACT);
 
         assertEquals(1, page.getContent().size());
         PaymentListItem item = page.getContent().getFirst();
@@ -335,13 +335,15 @@ class PaymentRepositoryImplTest {
                 "Perez",
                 8L,
                 2L,
-                1L
+                1L,
+                null,
+                null
         }));
-        QuerySpec packageQuery = QuerySpec.forRows(List.of());
 
-        FakeEntityManager fakeEntityManager = new FakeEntityManager(List.of(countQuery, dataQuery, packageQuery));
+        FakeEntityManager fakeEntityManager = new FakeEntityManager(List.of(countQuery, dataQuery));
         PaymentRepositoryImpl repository = new PaymentRepositoryImpl();
         repository.em = fakeEntityManager.proxy();
+        repository.objectMapper = new ObjectMapper();
 
         PaymentSearchCriteria criteria = new PaymentSearchCriteria(
                 null,
@@ -359,12 +361,53 @@ class PaymentRepositoryImplTest {
                 false
         );
 
-        var page = repository.findPayments(criteria);
+        var page = repository.findPayments(criteria, TotalMode.EXACT);
 
         assertEquals(1, page.getContent().size());
         assertEquals(PaymentMethod.OTHER, page.getContent().getFirst().getPaymentMethod());
     }
 
+    @Test
+    void shouldFailInsteadOfReturningPartialDataWhenPackageActivitiesAreMalformed() {
+        QuerySpec countQuery = QuerySpec.forCount(1L);
+        QuerySpec dataQuery = QuerySpec.forRows(Collections.singletonList(new Object[] {
+                9L,
+                new BigDecimal("45.50"),
+                "CARD",
+                LocalDate.of(2026, 1, 5),
+                "Ana",
+                "Lopez",
+                88L,
+                3L,
+                1L,
+                111L,
+                "[{\"activityId\":"
+        }));
+
+        FakeEntityManager fakeEntityManager = new FakeEntityManager(List.of(countQuery, dataQuery));
+        PaymentRepositoryImpl repository = new PaymentRepositoryImpl();
+        repository.em = fakeEntityManager.proxy();
+        repository.objectMapper = new ObjectMapper();
+
+        PaymentSearchCriteria criteria = new PaymentSearchCriteria(
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                0,
+                20,
+                "paid_at",
+                false
+        );
+
+        assertThrows(IllegalStateException.class, () -> repository.findPayments(criteria, TotalMode.EXACT));
+    }
+
     private static class QuerySpec {
         private final Object singleResult;
         private final List<Object[]> rows;
@@ -2,32 +2,44 @@ package org.athlium.payments.presentation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.athlium.gym.domain.model.Activity;
 import org.athlium.payments.application.usecase.CreatePaymentUseCase;
 import org.athlium.payments.application.usecase.DeletePaymentUseCase;
+import org.athlium.payments.application.usecase.ExportPaymentsUseCase;
 import org.athlium.payments.application.usecase.GetPaymentByIdUseCase;
 import org.athlium.payments.application.usecase.GetPaymentsUseCase;
+import org.athlium.payments.application.usecase.GetRevenueSummaryUseCase;
 import org.athlium.payments.application.usecase.UpdatePaymentUseCase;
 import org.athlium.payments.domain.model.Payment;
 import org.athlium.payments.domain.model.PaymentListItem;
 import org.athlium.payments.domain.model.PaymentMethod;
 import org.athlium.payments.domain.model.PaymentPackageActivity;
 import org.athlium.payments.domain.model.PaymentPackageInfo;
+import org.athlium.payments.domain.model.PaymentSearchCriteria;
+import org.athlium.payments.domain.model.RevenueSummaryRow;
 import org.athlium.payments.presentation.dto.CreatePaymentRequest;
 import org.athlium.payments.presentation.dto.PaymentListItemResponse;
+import org.athlium.payments.presentation.dto.RevenueSummaryResponse;
 import org.athlium.payments.presentation.dto.UpdatePaymentRequest;
+import org.athlium.payments.presentation.export.PaymentExportWriter;
 import org.athlium.payments.presentation.mapper.PaymentDtoMapper;
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
 import org.athlium.shared.dto.ApiResponse;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -52,7 +64,7 @@ class PaymentResourceTest {
             @Override
             public PageResponse<PaymentListItem> execute(String player, LocalDate paidAtFrom, LocalDate paidAtTo,
                     Long clientId, String paymentMethod, BigDecimal amountMin, BigDecimal amountMax,
-                    Long headquartersId, Long organizationId, int page, int size, String sort) {
+                    Long headquartersId, Long organizationId, int page, int size, String sort, String totalMode) {
                 PaymentPackageActivity packageActivity = new PaymentPackageActivity(activity, 2);
                 PaymentPackageInfo paidPackage = new PaymentPackageInfo(77L, List.of(packageActivity));
                 return new PageResponse<>(
@@ -75,7 +87,7 @@ class PaymentResourceTest {
         resource.paymentDtoMapper = new PaymentDtoMapper();
 
         var response = resource.getPayments("ana", null, null, null, null, null, null,
-                null, null, null, 1, 20, "paidAt:desc");
+                null, null, null, 1, 20, "paidAt:desc", null, false, "exact");
 
         assertEquals(200, response.getStatus());
         Object entity = response.getEntity();
@@ -108,7 +120,7 @@ class PaymentResourceTest {
             @Override
             public PageResponse<PaymentListItem> execute(String player, LocalDate paidAtFrom, LocalDate paidAtTo,
                     Long clientId, String paymentMethod, BigDecimal amountMin, BigDecimal amountMax,
-                    Long headquartersId, Long organizationId, int page, int size, String sort) {
+                    Long headquartersId, Long organizationId, int page, int size, String sort, String totalMode) {
                 throw new BadRequestException("amountMin must be less than or equal to amountMax");
             }
         };
@@ -122,7 +134,7 @@ class PaymentResourceTest {
         resource.paymentDtoMapper = new PaymentDtoMapper();
 
         var response = resource.getPayments(null, null, null, null, null, null, null,
-                null, null, null, 1, 20, "paidAt:desc");
+                null, null, null, 1, 20, "paidAt:desc", null, false, "exact");
 
         assertEquals(400, response.getStatus());
         ApiResponse<?> apiResponse = (ApiResponse<?>) response.getEntity();
@@ -192,7 +204,7 @@ class PaymentResourceTest {
         Method listMethod = PaymentResource.class.getMethod(
                 "getPayments", String.class, String.class, String.class, Long.class, String.class,
                 BigDecimal.class, BigDecimal.class, Long.class, Long.class, Long.class, int.class, int.class,
-                String.class);
+                String.class, String.class, boolean.class);
         Parameter[] params = listMethod.getParameters();
 
         DefaultValue pageDefault = params[10].getAnnotation(DefaultValue.class);
@@ -280,12 +292,126 @@ class PaymentResourceTest {
         resource.paymentDtoMapper = new PaymentDtoMapper();
 
         var response = resource.getPayments(null, null, null, null, null, null, null,
-                3L, null, null, 2, 5, "paidAt:desc");
+                3L, null, null, 2, 5, "paidAt:desc", null, false, "estimate");
 
         assertEquals(200, response.getStatus());
         assertEquals(3L, getPaymentsUseCase.lastHeadquartersId);
         assertEquals(2, getPaymentsUseCase.lastPage);
         assertEquals(5, getPaymentsUseCase.lastSize);
+        assertEquals("estimate", getPaymentsUseCase.lastTotalMode);
+        PageResponse<?> page = (PageResponse<?>) ((ApiResponse<?>) response.getEntity()).getData();
+        assertFalse(page.isTotalExact());
+    }
+
+    @Test
+    void shouldSwitchToCursorPagingWhenCursorParamIsPresent() {
+        CapturingGetPaymentsUseCase getPaymentsUseCase = new CapturingGetPaymentsUseCase();
+
+        PaymentResource resource = new PaymentResource();
+        resource.getPaymentsUseCase = getPaymentsUseCase;
+        resource.paymentDtoMapper = new PaymentDtoMapper();
+
+        var response = resource.getPayments(null, null, null, null, null, null, null,
+                3L, null, null, 1, 5, "paidAt:desc", "", true, "exact");
+
+        assertEquals(200, response.getStatus());
+        ApiResponse<?> body = (ApiResponse<?>) response.getEntity();
+        CursorPageResponse<?> page = assertInstanceOf(CursorPageResponse.class, body.getData());
+        assertEquals("next", page.getNextCursor());
+        assertEquals("", getPaymentsUseCase.lastCursor);
+        assertTrue(getPaymentsUseCase.lastIncludeTotal);
+        assertEquals(3L, getPaymentsUseCase.lastHeadquartersId);
+        assertEquals(0, getPaymentsUseCase.lastPage);
+    }
+
+    @Test
+    void shouldStreamExportRowsAsTheUseCaseProducesThem() throws Exception {
+        ExportPaymentsUseCase exportPaymentsUseCase = new ExportPaymentsUseCase() {
+            @Override
+            public PaymentSearchCriteria prepare(String player, LocalDate paidAtFrom, LocalDate paidAtTo,
+                    Long clientId, String paymentMethod, BigDecimal amountMin, BigDecimal amountMax,
+                    Long headquartersId, Long organizationId, String sort) {
+                return new PaymentSearchCriteria(null, null, null, null, null, null, null, headquartersId,
+                        null, 0, 0, "paid_at", false);
+            }
+
+            @Override
+            public void execute(PaymentSearchCriteria criteria, Consumer<PaymentListItem> consumer) {
+                consumer.accept(new PaymentListItem(7L, new BigDecimal("45.50"), PaymentMethod.CARD,
+                        LocalDate.of(2026, 1, 10), "Ana", "Lopez", List.of(), null, 55L, 3L, 1L));
+            }
+        };
+        PaymentExportWriter exportWriter = new PaymentExportWriter();
+        setField(exportWriter, "paymentDtoMapper", new PaymentDtoMapper());
+        setField(exportWriter, "objectMapper", new ObjectMapper().findAndRegisterModules());
+
+        PaymentResource resource = new PaymentResource();
+        resource.exportPaymentsUseCase = exportPaymentsUseCase;
+        resource.paymentExportWriter = exportWriter;
+
+        var response = resource.exportPayments(null, null, null, null, null, null, null,
+                3L, null, null, "paidAt:desc", "csv");
+
+        assertEquals(200, response.getStatus());
+        assertEquals("text/csv", response.getMediaType().toString());
+        assertEquals("attachment; filename=\"payments.csv\"", response.getHeaderString("Content-Disposition"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(out);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("7,2026-01-10,45.50,CARD,55,Ana,Lopez,3,1,,", lines[1]);
+    }
+
+    @Test
+    void shouldRejectUnknownExportFormatBeforeStreaming() {
+        PaymentResource resource = new PaymentResource();
+        resource.exportPaymentsUseCase = new ExportPaymentsUseCase();
+
+        var response = resource.exportPayments(null, null, null, null, null, null, null,
+                null, null, null, "paidAt:desc", "xlsx");
+
+        assertEquals(400, response.getStatus());
+        ApiResponse<?> apiResponse = (ApiResponse<?>) response.getEntity();
+        assertEquals("format must be one of: csv, ndjson", apiResponse.getMessage());
+    }
+
+    @Test
+    void shouldReturnRevenueSummaryBuckets() {
+        GetRevenueSummaryUseCase getRevenueSummaryUseCase = new GetRevenueSummaryUseCase() {
+            @Override
+            public List<RevenueSummaryRow> execute(LocalDate from, LocalDate to, String granularity,
+                    Long organizationId, Long headquartersId, String paymentMethod) {
+                return List.of(new RevenueSummaryRow(from, 1L, 3L, PaymentMethod.CASH, 12L,
+                        new BigDecimal("960.00")));
+            }
+        };
+
+        PaymentResource resource = new PaymentResource();
+        resource.getRevenueSummaryUseCase = getRevenueSummaryUseCase;
+        resource.paymentDtoMapper = new PaymentDtoMapper();
+
+        var response = resource.getRevenueSummary("2026-01-01", "2026-01-31", "month", 1L, null, null);
+
+        assertEquals(200, response.getStatus());
+        ApiResponse<?> body = (ApiResponse<?>) response.getEntity();
+        List<?> data = assertInstanceOf(List.class, body.getData());
+        RevenueSummaryResponse bucket = (RevenueSummaryResponse) data.getFirst();
+        assertEquals(LocalDate.of(2026, 1, 1), bucket.getPeriodStart());
+        assertEquals("CASH", bucket.getPaymentMethod());
+        assertEquals(12L, bucket.getPaymentCount());
+        assertEquals(new BigDecimal("960.00"), bucket.getTotalAmount());
+    }
+
+    @Test
+    void shouldRejectRevenueSummaryWithMalformedDates() {
+        PaymentResource resource = new PaymentResource();
+        resource.getRevenueSummaryUseCase = new GetRevenueSummaryUseCase();
+
+        var response = resource.getRevenueSummary("01/01/2026", "2026-01-31", "day", null, null, null);
+
+        assertEquals(400, response.getStatus());
+        ApiResponse<?> apiResponse = (ApiResponse<?>) response.getEntity();
+        assertEquals("from must be a valid ISO-8601 date (yyyy-MM-dd)", apiResponse.getMessage());
     }
 
     @Test
@@ -343,7 +469,7 @@ class PaymentResourceTest {
         resource.paymentDtoMapper = new PaymentDtoMapper();
 
         var response = resource.getPayments(null, null, null, null, null, null, null,
-                null, 8L, null, 1, 20, "paidAt:desc");
+                null, 8L, null, 1, 20, "paidAt:desc", null, false, "exact");
 
         assertEquals(200, response.getStatus());
         assertEquals(8L, getPaymentsUseCase.lastHeadquartersId);
@@ -378,15 +504,41 @@ class PaymentResourceTest {
         Long lastHeadquartersId;
         int lastPage;
         int lastSize;
+        String lastTotalMode;
+        String lastCursor;
+        boolean lastIncludeTotal;
 
         @Override
         public PageResponse<PaymentListItem> execute(String player, LocalDate paidAtFrom, LocalDate paidAtTo,
                 Long clientId, String paymentMethod, BigDecimal amountMin, BigDecimal amountMax,
-                Long headquartersId, Long organizationId, int page, int size, String sort) {
+                Long headquartersId, Long organizationId, int page, int size, String sort, String totalMode) {
             this.lastHeadquartersId = headquartersId;
             this.lastPage = page;
             this.lastSize = size;
-            return new PageResponse<>(List.of(), page - 1, size, 0);
+            this.lastTotalMode = totalMode;
+            return new PageResponse<>(List.of(), page - 1, size, 0, !"estimate".equals(totalMode));
+        }
+
+        @Override
+        public CursorPageResponse<PaymentListItem> executeAfter(String player, LocalDate paidAtFrom,
+                LocalDate paidAtTo, Long clientId, String paymentMethod, BigDecimal amountMin, BigDecimal amountMax,
+                Long headquartersId, Long organizationId, String cursor, int size, String sort,
+                boolean includeTotal) {
+            this.lastHeadquartersId = headquartersId;
+            this.lastSize = size;
+            this.lastCursor = cursor;
+            this.lastIncludeTotal = includeTotal;
+            return new CursorPageResponse<>(List.of(), size, "next", null);
+        }
+    }
+
+    private static void setField(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed setting field " + fieldName, e);
         }
     }
 }
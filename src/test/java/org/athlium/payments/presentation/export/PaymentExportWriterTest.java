@@ -0,0 +1,80 @@
+package org.athlium.payments.presentation.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.athlium.gym.domain.model.Activity;
+import org.athlium.payments.domain.model.PaymentListItem;
+import org.athlium.payments.domain.model.PaymentMethod;
+import org.athlium.payments.domain.model.PaymentPackageActivity;
+import org.athlium.payments.domain.model.PaymentPackageInfo;
+import org.athlium.payments.presentation.mapper.PaymentDtoMapper;
+import org.athlium.shared.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PaymentExportWriterTest {
+
+    @Test
+    void shouldWriteCsvHeaderAndEscapeFieldsThatNeedQuoting() throws Exception {
+        PaymentExportWriter writer = newWriter();
+        StringWriter out = new StringWriter();
+
+        writer.writeHeader(PaymentExportFormat.CSV, out);
+        writer.writeRow(PaymentExportFormat.CSV, out, payment("Ana, \"La\"", "Lopez"));
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(PaymentExportWriter.CSV_HEADER, lines[0]);
+        assertEquals("7,2026-01-10,45.50,CARD,55,\"Ana, \"\"La\"\"\",Lopez,3,1,77,Yoga; Spinning", lines[1]);
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLineWithoutHeaderForNdjson() throws Exception {
+        PaymentExportWriter writer = newWriter();
+        StringWriter out = new StringWriter();
+
+        writer.writeHeader(PaymentExportFormat.NDJSON, out);
+        writer.writeRow(PaymentExportFormat.NDJSON, out, payment("Ana", "Lopez"));
+        writer.writeRow(PaymentExportFormat.NDJSON, out, payment("Juan", "Perez"));
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertEquals(7L, first.get("id").asLong());
+        assertEquals("Ana", first.get("userName").asText());
+        assertEquals(77L, first.get("paidPackage").get("id").asLong());
+        assertEquals("Juan", new ObjectMapper().readTree(lines[1]).get("userName").asText());
+    }
+
+    @Test
+    void shouldDefaultToCsvAndRejectUnknownFormats() {
+        assertEquals(PaymentExportFormat.CSV, PaymentExportFormat.fromString(null));
+        assertEquals(PaymentExportFormat.NDJSON, PaymentExportFormat.fromString("NDJSON"));
+
+        BadRequestException ex = assertThrows(BadRequestException.class, () -> PaymentExportFormat.fromString("xlsx"));
+        assertEquals("format must be one of: csv, ndjson", ex.getMessage());
+    }
+
+    private PaymentExportWriter newWriter() {
+        PaymentExportWriter writer = new PaymentExportWriter();
+        writer.paymentDtoMapper = new PaymentDtoMapper();
+        writer.objectMapper = new ObjectMapper().findAndRegisterModules();
+        return writer;
+    }
+
+    private PaymentListItem payment(String userName, String userLastName) {
+        Activity yoga = Activity.builder().id(9L).name("Yoga").isActive(true).hqId(3L).build();
+        Activity spinning = Activity.builder().id(10L).name("Spinning").isActive(true).hqId(3L).build();
+        PaymentPackageInfo paidPackage = new PaymentPackageInfo(77L, List.of(
+                new PaymentPackageActivity(yoga, 2),
+                new PaymentPackageActivity(spinning, 1)));
+        return new PaymentListItem(7L, new BigDecimal("45.50"), PaymentMethod.CARD, LocalDate.of(2026, 1, 10),
+                userName, userLastName, List.of(yoga, spinning), paidPackage, 55L, 3L, 1L);
+    }
+}
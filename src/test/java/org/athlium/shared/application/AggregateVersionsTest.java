@@ -0,0 +1,126 @@
+package org.athlium.shared.application;
+
+import jakarta.enterprise.event.Event;
+import org.athlium.shared.domain.repository.AggregateVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AggregateVersionsTest {
+
+    private AggregateVersions aggregateVersions;
+    private InMemoryAggregateVersionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        aggregateVersions = new AggregateVersions();
+        repository = new InMemoryAggregateVersionRepository();
+        aggregateVersions.aggregateVersionRepository = repository;
+        aggregateVersions.versionCommitted = committingEvent(aggregateVersions);
+    }
+
+    @Test
+    void shouldReportUnknownVersionsUntilFirstSync() {
+        repository.versions.put("activity", 3L);
+
+        assertNull(aggregateVersions.versionOf("activity"));
+
+        aggregateVersions.sync();
+
+        assertEquals(3L, aggregateVersions.versionOf("activity"));
+        assertEquals(0L, aggregateVersions.versionOf("organization"));
+    }
+
+    @Test
+    void shouldAdvanceOnCommittedBumpsWithoutGoingBackwards() {
+        repository.versions.put("activity", 3L);
+        aggregateVersions.sync();
+
+        aggregateVersions.onVersionCommitted(new AggregateVersions.VersionCommitted("activity", 5L));
+        aggregateVersions.sync();
+
+        assertEquals(5L, aggregateVersions.versionOf("activity"));
+    }
+
+    @Test
+    void shouldForgetLoadedStateWhenSyncFails() {
+        aggregateVersions.sync();
+        repository.failing = true;
+
+        assertThrows(IllegalStateException.class, () -> aggregateVersions.sync());
+
+        assertNull(aggregateVersions.versionOf("activity"));
+    }
+
+    @Test
+    void shouldRetryBumpAfterWrite() {
+        repository.versions.put("schedule", 3L);
+        aggregateVersions.sync();
+        repository.failedIncrements = AggregateVersions.BUMP_ATTEMPTS - 1;
+
+        aggregateVersions.bumpAfterWrite("schedule");
+
+        assertEquals(4L, aggregateVersions.versionOf("schedule"));
+    }
+
+    @Test
+    void shouldKeepBumpPendingUntilNextSyncWhenRetriesAreExhausted() {
+        repository.versions.put("schedule", 3L);
+        aggregateVersions.sync();
+        repository.failedIncrements = AggregateVersions.BUMP_ATTEMPTS;
+
+        aggregateVersions.bumpAfterWrite("schedule");
+
+        assertNull(aggregateVersions.versionOf("schedule"));
+        assertEquals(3L, repository.versions.get("schedule"));
+
+        aggregateVersions.sync();
+
+        assertEquals(4L, aggregateVersions.versionOf("schedule"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Event<AggregateVersions.VersionCommitted> committingEvent(AggregateVersions aggregateVersions) {
+        // Stands in for the after-commit observer; there is no transaction in these tests.
+        return (Event<AggregateVersions.VersionCommitted>) Proxy.newProxyInstance(
+                Event.class.getClassLoader(),
+                new Class<?>[] { Event.class },
+                (proxy, invoked, args) -> {
+                    if (!"fire".equals(invoked.getName())) {
+                        throw new UnsupportedOperationException("Unsupported event method: " + invoked.getName());
+                    }
+                    aggregateVersions.onVersionCommitted((AggregateVersions.VersionCommitted) args[0]);
+                    return null;
+                });
+    }
+
+    private static class InMemoryAggregateVersionRepository implements AggregateVersionRepository {
+        final Map<String, Long> versions = new HashMap<>();
+        boolean failing;
+        int failedIncrements;
+
+        @Override
+        public long increment(String aggregate) {
+            if (failedIncrements > 0) {
+                failedIncrements--;
+                throw new IllegalStateException("database unavailable");
+            }
+            return versions.merge(aggregate, 1L, Long::sum);
+        }
+
+        @Override
+        public Map<String, Long> findAll() {
+            if (failing) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return Map.copyOf(versions);
+        }
+    }
+}
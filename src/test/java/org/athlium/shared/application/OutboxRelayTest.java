@@ -0,0 +1,129 @@
+package org.athlium.shared.application;
+
+import org.athlium.shared.domain.OutboxEvent;
+import org.athlium.shared.domain.repository.OutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutboxRelayTest {
+
+    private OutboxRelay relay;
+    private InMemoryOutboxRepository outboxRepository;
+    private RecordingSink eventBusSink;
+    private RecordingSink fileSink;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay();
+        outboxRepository = new InMemoryOutboxRepository();
+        relay.outboxRepository = outboxRepository;
+        eventBusSink = new RecordingSink("event-bus");
+        fileSink = new RecordingSink("file");
+        relay.sinks = List.of(eventBusSink, fileSink);
+        relay.sinkNames = List.of("event-bus", "file");
+        relay.batchSize = 2;
+    }
+
+    @Test
+    void shouldPublishBatchToEverySinkAndDeleteIt() {
+        outboxRepository.append("booking", 1L, "booking.created", "{}");
+        outboxRepository.append("booking", 2L, "booking.created", "{}");
+        outboxRepository.append("payment", 3L, "payment.created", "{}");
+
+        int relayed = relay.relayBatch();
+
+        assertEquals(2, relayed);
+        assertEquals(List.of(1L, 2L), eventBusSink.publishedIds);
+        assertEquals(List.of(1L, 2L), fileSink.publishedIds);
+        assertEquals(List.of(3L), outboxRepository.events.stream().map(OutboxEvent::id).toList());
+    }
+
+    @Test
+    void shouldOnlyPublishToConfiguredSinks() {
+        relay.sinkNames = List.of(" file ");
+        outboxRepository.append("booking", 1L, "booking.created", "{}");
+
+        relay.relayBatch();
+
+        assertTrue(eventBusSink.publishedIds.isEmpty());
+        assertEquals(List.of(1L), fileSink.publishedIds);
+    }
+
+    @Test
+    void shouldKeepEventsWhenSinkFails() {
+        fileSink.fail = true;
+        outboxRepository.append("booking", 1L, "booking.created", "{}");
+
+        assertThrows(IllegalStateException.class, () -> relay.relayBatch());
+
+        assertEquals(1, outboxRepository.events.size());
+    }
+
+    @Test
+    void shouldRejectUnknownSinkName() {
+        relay.sinkNames = List.of("kafka");
+        outboxRepository.append("booking", 1L, "booking.created", "{}");
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> relay.relayBatch());
+
+        assertEquals("No outbox sink named kafka", ex.getMessage());
+        assertEquals(1, outboxRepository.events.size());
+    }
+
+    @Test
+    void shouldReturnZeroWhenOutboxIsEmpty() {
+        assertEquals(0, relay.relayBatch());
+        assertTrue(eventBusSink.publishedIds.isEmpty());
+    }
+
+    private static class InMemoryOutboxRepository implements OutboxRepository {
+        private final List<OutboxEvent> events = new ArrayList<>();
+        private long nextId = 1L;
+
+        @Override
+        public void append(String aggregateType, Long aggregateId, String eventType, String payload) {
+            events.add(new OutboxEvent(nextId++, aggregateType, aggregateId, eventType, payload, Instant.now()));
+        }
+
+        @Override
+        public List<OutboxEvent> lockNextBatch(int limit) {
+            return events.stream().limit(limit).toList();
+        }
+
+        @Override
+        public void delete(List<Long> ids) {
+            events.removeIf(event -> ids.contains(event.id()));
+        }
+    }
+
+    private static class RecordingSink implements OutboxSink {
+        private final String name;
+        private final List<Long> publishedIds = new ArrayList<>();
+        private boolean fail;
+
+        private RecordingSink(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void publish(List<OutboxEvent> events) {
+            if (fail) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            events.forEach(event -> publishedIds.add(event.id()));
+        }
+    }
+}
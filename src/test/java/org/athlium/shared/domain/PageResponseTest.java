@@ -0,0 +1,46 @@
+package org.athlium.shared.domain;
+
+import org.athlium.shared.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageResponseTest {
+
+    @Test
+    void shouldReportLowerBoundWhileLookaheadRowWasRead() {
+        PageResponse<Long> page = PageResponse.fromLookahead(List.of(5L, 6L, 7L), 2, 2);
+
+        assertEquals(List.of(5L, 6L), page.getContent());
+        assertEquals(7, page.getTotalElements());
+        assertEquals(4, page.getTotalPages());
+        assertFalse(page.isTotalExact());
+    }
+
+    @Test
+    void shouldPinExactTotalOnShortOrFirstPage() {
+        PageResponse<Long> lastPage = PageResponse.fromLookahead(List.of(5L), 2, 2);
+        PageResponse<Long> emptyFirstPage = PageResponse.fromLookahead(List.of(), 0, 2);
+        PageResponse<Long> pastTheEnd = PageResponse.fromLookahead(List.of(), 4, 2);
+
+        assertEquals(5, lastPage.getTotalElements());
+        assertTrue(lastPage.isTotalExact());
+        assertEquals(0, emptyFirstPage.getTotalElements());
+        assertTrue(emptyFirstPage.isTotalExact());
+        assertFalse(pastTheEnd.isTotalExact());
+    }
+
+    @Test
+    void shouldDefaultTotalModeToExactAndRejectUnknownValues() {
+        assertEquals(TotalMode.EXACT, TotalMode.fromString(null));
+        assertEquals(TotalMode.NONE, TotalMode.fromString(" None "));
+
+        BadRequestException ex = assertThrows(BadRequestException.class, () -> TotalMode.fromString("fast"));
+        assertEquals("totalMode must be one of: exact, estimate, none", ex.getMessage());
+    }
+}
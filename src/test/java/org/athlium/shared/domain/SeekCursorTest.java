@@ -0,0 +1,53 @@
+package org.athlium.shared.domain;
+
+import org.athlium.shared.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeekCursorTest {
+
+    @Test
+    void shouldRoundTripSortKeysContainingTheSeparator() {
+        SeekCursor cursor = new SeekCursor("Doe|Jane", 42L);
+
+        assertEquals(cursor, SeekCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void shouldTreatBlankCursorAsFirstPage() {
+        assertNull(SeekCursor.decode(null));
+        assertNull(SeekCursor.decode(" "));
+    }
+
+    @Test
+    void shouldRejectCursorsThatDoNotParse() {
+        assertThrows(BadRequestException.class, () -> SeekCursor.decode("%%%"));
+
+        SeekCursor notAnInstant = new SeekCursor("yesterday", 1L);
+        BadRequestException ex = assertThrows(BadRequestException.class, () -> notAnInstant.sortKey(Instant::parse));
+        assertEquals("cursor is invalid", ex.getMessage());
+    }
+
+    @Test
+    void shouldOnlyPointToNextPageWhenLookaheadRowWasRead() {
+        CursorPageResponse<Long> lastPage = CursorPageResponse.fromLookahead(
+                List.of(1L, 2L), 2, id -> SeekCursor.of(id, id), null);
+        CursorPageResponse<Long> middlePage = CursorPageResponse.fromLookahead(
+                List.of(1L, 2L, 3L), 2, id -> SeekCursor.of(id * 10, id), 7L);
+
+        assertFalse(lastPage.isHasNext());
+        assertNull(lastPage.getNextCursor());
+        assertEquals(List.of(1L, 2L), middlePage.getContent());
+        assertTrue(middlePage.isHasNext());
+        assertEquals(new SeekCursor("20", 2L), SeekCursor.decode(middlePage.getNextCursor()));
+        assertEquals(7L, middlePage.getTotalElements());
+    }
+}
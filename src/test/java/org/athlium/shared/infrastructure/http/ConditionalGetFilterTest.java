@@ -0,0 +1,219 @@
+package org.athlium.shared.infrastructure.http;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import org.athlium.shared.application.AggregateVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConditionalGetFilterTest {
+
+    private static final String ETAG = "activity-3.headquarters-7";
+
+    private ConditionalGetFilter filter;
+    private StubAggregateVersions aggregateVersions;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        filter = new ConditionalGetFilter();
+        aggregateVersions = new StubAggregateVersions();
+        aggregateVersions.versions.put("activity", 3L);
+        aggregateVersions.versions.put("headquarters", 7L);
+        filter.aggregateVersions = aggregateVersions;
+        filter.resourceInfo = new StubResourceInfo(CatalogResource.class.getMethod("list"));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenTagMatches() {
+        FakeRequest request = new FakeRequest(HttpMethod.GET, "\"" + ETAG + "\"");
+
+        filter.filter(request.proxy());
+
+        assertEquals(304, request.aborted.getStatus());
+        assertEquals(new EntityTag(ETAG), request.aborted.getEntityTag());
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForWeakTagAmongOthers() {
+        FakeRequest request = new FakeRequest(HttpMethod.GET, "\"activity-2.headquarters-7\", W/\"" + ETAG + "\"");
+
+        filter.filter(request.proxy());
+
+        assertEquals(304, request.aborted.getStatus());
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForWildcard() {
+        FakeRequest request = new FakeRequest(HttpMethod.HEAD, "*");
+
+        filter.filter(request.proxy());
+
+        assertEquals(304, request.aborted.getStatus());
+    }
+
+    @Test
+    void shouldServeInFullAndTagResponseWhenTagIsStale() {
+        FakeRequest request = new FakeRequest(HttpMethod.GET, "\"activity-2.headquarters-7\"");
+        FakeResponse response = new FakeResponse(200);
+
+        filter.filter(request.proxy());
+        filter.filter(request.proxy(), response.proxy());
+
+        assertNull(request.aborted);
+        assertEquals(new EntityTag(ETAG), response.headers.getFirst(HttpHeaders.ETAG));
+        assertEquals("private, no-cache", response.headers.getFirst(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void shouldServeInFullWithoutTagWhileVersionsAreNotLoaded() {
+        aggregateVersions.loaded = false;
+        FakeRequest request = new FakeRequest(HttpMethod.GET, "*");
+        FakeResponse response = new FakeResponse(200);
+
+        filter.filter(request.proxy());
+        filter.filter(request.proxy(), response.proxy());
+
+        assertNull(request.aborted);
+        assertFalse(response.headers.containsKey(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void shouldNotTagResponsesOtherThanOk() {
+        FakeRequest request = new FakeRequest(HttpMethod.GET, null);
+        FakeResponse response = new FakeResponse(404);
+
+        filter.filter(request.proxy());
+        filter.filter(request.proxy(), response.proxy());
+
+        assertFalse(response.headers.containsKey(HttpHeaders.ETAG));
+        assertFalse(response.headers.containsKey(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void shouldIgnoreRequestsOtherThanGetAndHead() {
+        FakeRequest request = new FakeRequest(HttpMethod.PUT, "\"" + ETAG + "\"");
+        FakeResponse response = new FakeResponse(200);
+
+        filter.filter(request.proxy());
+        filter.filter(request.proxy(), response.proxy());
+
+        assertNull(request.aborted);
+        assertFalse(response.headers.containsKey(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void shouldIgnoreEndpointsWithoutVersionedBy() throws NoSuchMethodException {
+        filter.resourceInfo = new StubResourceInfo(UnversionedResource.class.getMethod("get"));
+        FakeRequest request = new FakeRequest(HttpMethod.GET, "*");
+
+        filter.filter(request.proxy());
+
+        assertNull(request.aborted);
+    }
+
+    @VersionedBy({"headquarters", "activity"})
+    public static class CatalogResource {
+
+        public String list() {
+            return "catalog";
+        }
+    }
+
+    public static class UnversionedResource {
+
+        public String get() {
+            return "live";
+        }
+    }
+
+    private static class StubAggregateVersions extends AggregateVersions {
+        private final Map<String, Long> versions = new HashMap<>();
+        private boolean loaded = true;
+
+        @Override
+        public Long versionOf(String aggregate) {
+            return loaded ? versions.getOrDefault(aggregate, 0L) : null;
+        }
+    }
+
+    private record StubResourceInfo(Method method) implements ResourceInfo {
+
+        @Override
+        public Method getResourceMethod() {
+            return method;
+        }
+
+        @Override
+        public Class<?> getResourceClass() {
+            return method.getDeclaringClass();
+        }
+    }
+
+    private static class FakeRequest {
+        private final String method;
+        private final String ifNoneMatch;
+        private final Map<String, Object> properties = new HashMap<>();
+        private Response aborted;
+
+        private FakeRequest(String method, String ifNoneMatch) {
+            this.method = method;
+            this.ifNoneMatch = ifNoneMatch;
+        }
+
+        ContainerRequestContext proxy() {
+            return (ContainerRequestContext) Proxy.newProxyInstance(
+                    ContainerRequestContext.class.getClassLoader(),
+                    new Class<?>[] { ContainerRequestContext.class },
+                    (proxy, invoked, args) -> switch (invoked.getName()) {
+                        case "getMethod" -> method;
+                        case "getHeaderString" -> HttpHeaders.IF_NONE_MATCH.equals(args[0]) ? ifNoneMatch : null;
+                        case "getProperty" -> properties.get((String) args[0]);
+                        case "setProperty" -> {
+                            properties.put((String) args[0], args[1]);
+                            yield null;
+                        }
+                        case "abortWith" -> {
+                            aborted = (Response) args[0];
+                            yield null;
+                        }
+                        default -> throw new UnsupportedOperationException("Unsupported request method: " + invoked.getName());
+                    });
+        }
+    }
+
+    private static class FakeResponse {
+        private final int status;
+        private final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+        private FakeResponse(int status) {
+            this.status = status;
+        }
+
+        ContainerResponseContext proxy() {
+            return (ContainerResponseContext) Proxy.newProxyInstance(
+                    ContainerResponseContext.class.getClassLoader(),
+                    new Class<?>[] { ContainerResponseContext.class },
+                    (proxy, invoked, args) -> switch (invoked.getName()) {
+                        case "getStatus" -> status;
+                        case "getHeaders" -> headers;
+                        default -> throw new UnsupportedOperationException("Unsupported response method: " + invoked.getName());
+                    });
+        }
+    }
+}
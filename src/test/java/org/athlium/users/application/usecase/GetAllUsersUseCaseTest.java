@@ -1,6 +1,9 @@
 package org.athlium.users.application.usecase;
 
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.users.domain.model.PackageStatus;
 import org.athlium.users.domain.model.UserHqMembership;
@@ -32,7 +35,7 @@ class GetAllUsersUseCaseTest {
         repository.addUser(createTestUser(1L, "Alice", PackageStatus.ACTIVE));
         repository.addUser(createTestUser(2L, "Bob", PackageStatus.EXPIRING));
 
-        PageResponse<UserWithPackageStatus> result = useCase.execute(null, null, 1, 20, null);
+        PageResponse<UserWithPackageStatus> result = useCase.execute(null, null, 1, 20, null, null);
 
         assertEquals(2, result.getContent().size());
         assertEquals(0, repository.lastPage); // 1-indexed → 0-indexed
@@ -43,32 +46,32 @@ class GetAllUsersUseCaseTest {
     @Test
     void shouldThrowWhenPageIsLessThanOne() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute(null, null, 0, 20, null));
+                () -> useCase.execute(null, null, 0, 20, null, null));
     }
 
     @Test
     void shouldThrowWhenSizeIsZero() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute(null, null, 1, 0, null));
+                () -> useCase.execute(null, null, 1, 0, null, null));
     }
 
     @Test
     void shouldThrowWhenSizeExceedsMax() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute(null, null, 1, 101, null));
+                () -> useCase.execute(null, null, 1, 101, null, null));
     }
 
     @Test
     void shouldThrowWhenStatusIsInvalid() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute("INVALID", null, 1, 20, null));
+                () -> useCase.execute("INVALID", null, 1, 20, null, null));
     }
 
     @Test
     void shouldPassStatusFilterToRepository() {
         repository.addUser(createTestUser(1L, "Alice", PackageStatus.NO_PACKAGE));
 
-        useCase.execute("NO_PACKAGE", null, 1, 20, null);
+        useCase.execute("NO_PACKAGE", null, 1, 20, null, null);
 
         assertEquals("NO_PACKAGE", repository.lastStatus);
     }
@@ -77,7 +80,7 @@ class GetAllUsersUseCaseTest {
     void shouldPassSearchToRepository() {
         repository.addUser(createTestUser(1L, "John", PackageStatus.ACTIVE));
 
-        useCase.execute(null, "john", 1, 20, null);
+        useCase.execute(null, "john", 1, 20, null, null);
 
         assertEquals("john", repository.lastSearch);
     }
@@ -86,11 +89,18 @@ class GetAllUsersUseCaseTest {
     void shouldDefaultSortToNameAsc() {
         repository.addUser(createTestUser(1L, "Alice", PackageStatus.ACTIVE));
 
-        useCase.execute(null, null, 1, 20, null);
+        useCase.execute(null, null, 1, 20, null, null);
 
         assertEquals("name:asc", repository.lastSort);
     }
 
+    @Test
+    void shouldPassRequestedTotalModeToRepository() {
+        useCase.execute(null, null, 1, 20, null, "none");
+
+        assertEquals(TotalMode.NONE, repository.lastTotalMode);
+    }
+
     private static UserWithPackageStatus createTestUser(Long id, String name, PackageStatus status) {
         UserWithPackageStatus user = new UserWithPackageStatus();
         user.setId(id);
@@ -112,6 +122,7 @@ class GetAllUsersUseCaseTest {
         int lastPage;
         int lastSize;
         String lastSort;
+        TotalMode lastTotalMode;
         boolean findAllUsersCalled;
 
         void addUser(UserWithPackageStatus user) {
@@ -120,13 +131,13 @@ class GetAllUsersUseCaseTest {
 
         @Override
         public PageResponse<UserWithPackageStatus> findUsersByHeadquarters(Long headquartersId, String status,
-                String search, int page, int size, String sort) {
+                String search, int page, int size, String sort, TotalMode totalMode) {
             return new PageResponse<>(new ArrayList<>(users), page, size, users.size());
         }
 
         @Override
         public PageResponse<UserWithPackageStatus> findUsersByOrganization(Long organizationId, String status,
-                String search, int page, int size, String sort) {
+                String search, int page, int size, String sort, TotalMode totalMode) {
             return new PageResponse<>(new ArrayList<>(users), page, size, users.size());
         }
 
@@ -137,13 +148,14 @@ class GetAllUsersUseCaseTest {
 
         @Override
         public PageResponse<UserWithPackageStatus> findAllUsers(String status, String search,
-                int page, int size, String sort) {
+                int page, int size, String sort, TotalMode totalMode) {
             this.findAllUsersCalled = true;
             this.lastStatus = status;
             this.lastSearch = search;
             this.lastPage = page;
             this.lastSize = size;
             this.lastSort = sort;
+            this.lastTotalMode = totalMode;
             return new PageResponse<>(new ArrayList<>(users), page, size, users.size());
         }
 
@@ -151,5 +163,17 @@ class GetAllUsersUseCaseTest {
         public UserWithPackageStatus findUserById(Long userId) {
             return null;
         }
+
+        @Override
+        public List<UserWithPackageStatus> searchMembers(Long headquartersId, Long organizationId,
+                String search, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public CursorPageResponse<UserWithPackageStatus> findMembersAfter(Long headquartersId, Long organizationId,
+                String status, String search, SeekCursor after, int size, String sort, boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
     }
 }
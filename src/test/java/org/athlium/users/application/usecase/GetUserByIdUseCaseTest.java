@@ -1,6 +1,9 @@
 package org.athlium.users.application.usecase;
 
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.shared.exception.EntityNotFoundException;
 import org.athlium.users.domain.model.PackageStatus;
@@ -130,13 +133,13 @@ class GetUserByIdUseCaseTest {
 
         @Override
         public PageResponse<UserWithPackageStatus> findUsersByHeadquarters(Long headquartersId, String status,
-                String search, int page, int size, String sort) {
+                String search, int page, int size, String sort, TotalMode totalMode) {
             throw new UnsupportedOperationException("Not used in this test");
         }
 
         @Override
         public PageResponse<UserWithPackageStatus> findUsersByOrganization(Long organizationId, String status,
-                String search, int page, int size, String sort) {
+                String search, int page, int size, String sort, TotalMode totalMode) {
             throw new UnsupportedOperationException("Not used in this test");
         }
 
@@ -147,7 +150,7 @@ class GetUserByIdUseCaseTest {
 
         @Override
         public PageResponse<UserWithPackageStatus> findAllUsers(String status, String search,
-                int page, int size, String sort) {
+                int page, int size, String sort, TotalMode totalMode) {
             throw new UnsupportedOperationException("Not used in this test");
         }
 
@@ -155,6 +158,18 @@ class GetUserByIdUseCaseTest {
         public UserWithPackageStatus findUserById(Long userId) {
             return findByIdResult;
         }
+
+        @Override
+        public List<UserWithPackageStatus> searchMembers(Long headquartersId, Long organizationId,
+                String search, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public CursorPageResponse<UserWithPackageStatus> findMembersAfter(Long headquartersId, Long organizationId,
+                String status, String search, SeekCursor after, int size, String sort, boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
     }
 
     static class InMemoryUserRepository implements UserRepository {
@@ -1,6 +1,9 @@
 package org.athlium.users.application.usecase;
 
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.users.domain.model.PackageStatus;
 import org.athlium.users.domain.model.UserHqMembership;
@@ -33,7 +36,7 @@ class GetUsersByHqUseCaseTest {
         repository.addUser(createTestUser(1L, "Alice", PackageStatus.ACTIVE));
         repository.addUser(createTestUser(2L, "Bob", PackageStatus.EXPIRING));
 
-        PageResponse<UserWithPackageStatus> result = useCase.execute(1L, null, null, 1, 20, null);
+        PageResponse<UserWithPackageStatus> result = useCase.execute(1L, null, null, 1, 20, null, null);
 
         assertEquals(2, result.getContent().size());
         assertEquals(1L, repository.lastHeadquartersId);
@@ -44,38 +47,38 @@ class GetUsersByHqUseCaseTest {
     @Test
     void shouldThrowWhenHeadquartersIdIsNull() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute(null, null, null, 1, 20, null));
+                () -> useCase.execute(null, null, null, 1, 20, null, null));
     }
 
     @Test
     void shouldThrowWhenPageIsLessThanOne() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute(1L, null, null, 0, 20, null));
+                () -> useCase.execute(1L, null, null, 0, 20, null, null));
     }
 
     @Test
     void shouldThrowWhenSizeIsZero() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute(1L, null, null, 1, 0, null));
+                () -> useCase.execute(1L, null, null, 1, 0, null, null));
     }
 
     @Test
     void shouldThrowWhenSizeExceedsMax() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute(1L, null, null, 1, 101, null));
+                () -> useCase.execute(1L, null, null, 1, 101, null, null));
     }
 
     @Test
     void shouldThrowWhenStatusIsInvalid() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute(1L, "INVALID", null, 1, 20, null));
+                () -> useCase.execute(1L, "INVALID", null, 1, 20, null, null));
     }
 
     @Test
     void shouldAcceptValidStatusFilter() {
         repository.addUser(createTestUser(1L, "Alice", PackageStatus.ACTIVE));
 
-        PageResponse<UserWithPackageStatus> result = useCase.execute(1L, "ACTIVE", null, 1, 20, null);
+        PageResponse<UserWithPackageStatus> result = useCase.execute(1L, "ACTIVE", null, 1, 20, null, null);
 
         assertNotNull(result);
         assertEquals("ACTIVE", repository.lastStatus);
@@ -85,7 +88,7 @@ class GetUsersByHqUseCaseTest {
     void shouldDefaultSortToNameAsc() {
         repository.addUser(createTestUser(1L, "Alice", PackageStatus.ACTIVE));
 
-        useCase.execute(1L, null, null, 1, 20, null);
+        useCase.execute(1L, null, null, 1, 20, null, null);
 
         assertEquals("name:asc", repository.lastSort);
     }
@@ -94,11 +97,32 @@ class GetUsersByHqUseCaseTest {
     void shouldPassSearchToRepository() {
         repository.addUser(createTestUser(1L, "Alice", PackageStatus.ACTIVE));
 
-        useCase.execute(1L, null, "alice", 1, 20, null);
+        useCase.execute(1L, null, "alice", 1, 20, null, null);
 
         assertEquals("alice", repository.lastSearch);
     }
 
+    @Test
+    void shouldListHeadquartersMembersByCursorWithoutCountingByDefault() {
+        repository.addUser(createTestUser(1L, "Alice", PackageStatus.ACTIVE));
+
+        CursorPageResponse<UserWithPackageStatus> result = useCase.executeAfter(1L, null, null,
+                SeekCursor.of("Aaron", 5L).encode(), 20, "name:asc", false);
+
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getTotalElements());
+        assertEquals(1L, repository.lastHeadquartersId);
+        assertNull(repository.lastOrganizationId);
+        assertEquals(new SeekCursor("Aaron", 5L), repository.lastCursor);
+        assertFalse(repository.lastIncludeTotal);
+    }
+
+    @Test
+    void shouldThrowWhenCursorIsMalformed() {
+        assertThrows(BadRequestException.class,
+                () -> useCase.executeAfter(1L, null, null, "***", 20, null, false));
+    }
+
     private static UserWithPackageStatus createTestUser(Long id, String name, PackageStatus status) {
         UserWithPackageStatus user = new UserWithPackageStatus();
         user.setId(id);
@@ -126,6 +150,8 @@ class GetUsersByHqUseCaseTest {
         List<Long> lastUserIds;
         Long lastFindByIdUserId;
         UserWithPackageStatus findByIdResult;
+        SeekCursor lastCursor;
+        boolean lastIncludeTotal;
 
         void addUser(UserWithPackageStatus user) {
             users.add(user);
@@ -137,7 +163,7 @@ class GetUsersByHqUseCaseTest {
 
         @Override
         public PageResponse<UserWithPackageStatus> findUsersByHeadquarters(Long headquartersId, String status,
-                String search, int page, int size, String sort) {
+                String search, int page, int size, String sort, TotalMode totalMode) {
             this.lastHeadquartersId = headquartersId;
             this.lastStatus = status;
             this.lastSearch = search;
@@ -149,7 +175,7 @@ class GetUsersByHqUseCaseTest {
 
         @Override
         public PageResponse<UserWithPackageStatus> findUsersByOrganization(Long organizationId, String status,
-                String search, int page, int size, String sort) {
+                String search, int page, int size, String sort, TotalMode totalMode) {
             this.lastOrganizationId = organizationId;
             this.lastStatus = status;
             this.lastSearch = search;
@@ -168,7 +194,7 @@ class GetUsersByHqUseCaseTest {
 
         @Override
         public PageResponse<UserWithPackageStatus> findAllUsers(String status, String search,
-                int page, int size, String sort) {
+                int page, int size, String sort, TotalMode totalMode) {
             this.lastStatus = status;
             this.lastSearch = search;
             this.lastPage = page;
@@ -182,5 +208,22 @@ class GetUsersByHqUseCaseTest {
             this.lastFindByIdUserId = userId;
             return findByIdResult;
         }
+
+        @Override
+        public List<UserWithPackageStatus> searchMembers(Long headquartersId, Long organizationId,
+                String search, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public CursorPageResponse<UserWithPackageStatus> findMembersAfter(Long headquartersId, Long organizationId,
+                String status, String search, SeekCursor after, int size, String sort, boolean includeTotal) {
+            this.lastHeadquartersId = headquartersId;
+            this.lastOrganizationId = organizationId;
+            this.lastCursor = after;
+            this.lastSize = size;
+            this.lastIncludeTotal = includeTotal;
+            return new CursorPageResponse<>(new ArrayList<>(users), size, null, includeTotal ? (long) users.size() : null);
+        }
     }
 }
@@ -1,6 +1,9 @@
 package org.athlium.users.application.usecase;
 
+import org.athlium.shared.domain.CursorPageResponse;
 import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
 import org.athlium.shared.exception.BadRequestException;
 import org.athlium.users.domain.model.PackageStatus;
 import org.athlium.users.domain.model.UserHqMembership;
@@ -31,7 +34,7 @@ class GetUsersByOrgUseCaseTest {
     void shouldReturnUsersForValidInput() {
         repository.addUser(createTestUser(1L, "Alice", PackageStatus.ACTIVE));
 
-        PageResponse<UserWithPackageStatus> result = useCase.execute(1L, null, null, 1, 20, null);
+        PageResponse<UserWithPackageStatus> result = useCase.execute(1L, null, null, 1, 20, null, null);
 
         assertEquals(1, result.getContent().size());
         assertEquals(1L, repository.lastOrganizationId);
@@ -42,38 +45,38 @@ class GetUsersByOrgUseCaseTest {
     @Test
     void shouldThrowWhenOrganizationIdIsNull() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute(null, null, null, 1, 20, null));
+                () -> useCase.execute(null, null, null, 1, 20, null, null));
     }
 
     @Test
     void shouldThrowWhenPageIsLessThanOne() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute(1L, null, null, 0, 20, null));
+                () -> useCase.execute(1L, null, null, 0, 20, null, null));
     }
 
     @Test
     void shouldThrowWhenSizeIsZero() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute(1L, null, null, 1, 0, null));
+                () -> useCase.execute(1L, null, null, 1, 0, null, null));
     }
 
     @Test
     void shouldThrowWhenSizeExceedsMax() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute(1L, null, null, 1, 101, null));
+                () -> useCase.execute(1L, null, null, 1, 101, null, null));
     }
 
     @Test
     void shouldThrowWhenStatusIsInvalid() {
         assertThrows(BadRequestException.class,
-                () -> useCase.execute(1L, "INVALID", null, 1, 20, null));
+                () -> useCase.execute(1L, "INVALID", null, 1, 20, null, null));
     }
 
     @Test
     void shouldDefaultSortToNameAsc() {
         repository.addUser(createTestUser(1L, "Alice", PackageStatus.ACTIVE));
 
-        useCase.execute(1L, null, null, 1, 20, null);
+        useCase.execute(1L, null, null, 1, 20, null, null);
 
         assertEquals("name:asc", repository.lastSort);
     }
@@ -82,7 +85,7 @@ class GetUsersByOrgUseCaseTest {
     void shouldPassSearchToRepository() {
         repository.addUser(createTestUser(1L, "Alice", PackageStatus.ACTIVE));
 
-        useCase.execute(1L, null, "ali", 1, 20, null);
+        useCase.execute(1L, null, "ali", 1, 20, null, null);
 
         assertEquals("ali", repository.lastSearch);
     }
@@ -115,13 +118,13 @@ class GetUsersByOrgUseCaseTest {
 
         @Override
         public PageResponse<UserWithPackageStatus> findUsersByHeadquarters(Long headquartersId, String status,
-                String search, int page, int size, String sort) {
+                String search, int page, int size, String sort, TotalMode totalMode) {
             return new PageResponse<>(new ArrayList<>(users), page, size, users.size());
         }
 
         @Override
         public PageResponse<UserWithPackageStatus> findUsersByOrganization(Long organizationId, String status,
-                String search, int page, int size, String sort) {
+                String search, int page, int size, String sort, TotalMode totalMode) {
             this.lastOrganizationId = organizationId;
             this.lastSearch = search;
             this.lastPage = page;
@@ -137,7 +140,7 @@ class GetUsersByOrgUseCaseTest {
 
         @Override
         public PageResponse<UserWithPackageStatus> findAllUsers(String status, String search,
-                int page, int size, String sort) {
+                int page, int size, String sort, TotalMode totalMode) {
             return new PageResponse<>(new ArrayList<>(users), page, size, users.size());
         }
 
@@ -145,5 +148,17 @@ class GetUsersByOrgUseCaseTest {
         public UserWithPackageStatus findUserById(Long userId) {
             return null;
         }
+
+        @Override
+        public List<UserWithPackageStatus> searchMembers(Long headquartersId, Long organizationId,
+                String search, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public CursorPageResponse<UserWithPackageStatus> findMembersAfter(Long headquartersId, Long organizationId,
+                String status, String search, SeekCursor after, int size, String sort, boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
     }
 }
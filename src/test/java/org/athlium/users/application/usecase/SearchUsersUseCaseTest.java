@@ -0,0 +1,103 @@
+package org.athlium.users.application.usecase;
+
+import org.athlium.shared.domain.CursorPageResponse;
+import org.athlium.shared.domain.PageResponse;
+import org.athlium.shared.domain.SeekCursor;
+import org.athlium.shared.domain.TotalMode;
+import org.athlium.shared.exception.BadRequestException;
+import org.athlium.users.domain.model.UserHqMembership;
+import org.athlium.users.domain.model.UserWithPackageStatus;
+import org.athlium.users.domain.repository.UserQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SearchUsersUseCaseTest {
+
+    private SearchUsersUseCase useCase;
+    private RecordingUserQueryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new SearchUsersUseCase();
+        repository = new RecordingUserQueryRepository();
+        useCase.userQueryRepository = repository;
+    }
+
+    @Test
+    void shouldSearchWithinHeadquartersUsingTrimmedQuery() {
+        useCase.execute(5L, null, "  ana ", 10);
+
+        assertEquals(5L, repository.lastHeadquartersId);
+        assertEquals("ana", repository.lastSearch);
+        assertEquals(10, repository.lastLimit);
+    }
+
+    @Test
+    void shouldThrowWhenQueryIsBlank() {
+        assertThrows(BadRequestException.class, () -> useCase.execute(5L, null, " ", 10));
+    }
+
+    @Test
+    void shouldThrowWhenLimitExceedsTypeaheadSize() {
+        assertThrows(BadRequestException.class, () -> useCase.execute(5L, null, "ana", 21));
+    }
+
+    @Test
+    void shouldThrowWhenBothScopesAreProvided() {
+        assertThrows(BadRequestException.class, () -> useCase.execute(5L, 1L, "ana", 10));
+    }
+
+    static class RecordingUserQueryRepository implements UserQueryRepository {
+        Long lastHeadquartersId;
+        String lastSearch;
+        int lastLimit;
+
+        @Override
+        public PageResponse<UserWithPackageStatus> findUsersByHeadquarters(Long headquartersId, String status,
+                String search, int page, int size, String sort, TotalMode totalMode) {
+            return new PageResponse<>(List.of(), page, size, 0);
+        }
+
+        @Override
+        public PageResponse<UserWithPackageStatus> findUsersByOrganization(Long organizationId, String status,
+                String search, int page, int size, String sort, TotalMode totalMode) {
+            return new PageResponse<>(List.of(), page, size, 0);
+        }
+
+        @Override
+        public List<UserHqMembership> findHqMembershipsByUserIds(List<Long> userIds) {
+            return List.of();
+        }
+
+        @Override
+        public PageResponse<UserWithPackageStatus> findAllUsers(String status, String search,
+                int page, int size, String sort, TotalMode totalMode) {
+            return new PageResponse<>(List.of(), page, size, 0);
+        }
+
+        @Override
+        public UserWithPackageStatus findUserById(Long userId) {
+            return null;
+        }
+
+        @Override
+        public List<UserWithPackageStatus> searchMembers(Long headquartersId, Long organizationId,
+                String search, int limit) {
+            this.lastHeadquartersId = headquartersId;
+            this.lastSearch = search;
+            this.lastLimit = limit;
+            return List.of();
+        }
+
+        @Override
+        public CursorPageResponse<UserWithPackageStatus> findMembersAfter(Long headquartersId, Long organizationId,
+                String status, String search, SeekCursor after, int size, String sort, boolean includeTotal) {
+            return new CursorPageResponse<>(List.of(), size, null, null);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.athlium.users.application.usecase;
 
+import org.athlium.auth.application.service.AuthenticatedUserCache;
+import org.athlium.auth.domain.model.AuthenticatedUser;
 import org.athlium.shared.exception.DomainException;
 import org.athlium.users.domain.model.Role;
 import org.athlium.users.domain.model.User;
@@ -35,6 +37,7 @@ class UpdateUserRolesUseCaseTest {
 
         updateUserRolesUseCase = new UpdateUserRolesUseCase();
         updateUserRolesUseCase.userRepository = userRepository;
+        updateUserRolesUseCase.authenticatedUserCache = new AuthenticatedUserCache();
     }
 
     @Test
@@ -50,6 +53,19 @@ class UpdateUserRolesUseCaseTest {
         assertTrue(!targetUser.hasRole(Role.PROFESSOR));
     }
 
+    @Test
+    void shouldEvictCachedPrincipalOfUpdatedUser() {
+        createUserUseCase.execute("target-uid", "target@mail.com", "Target", "User");
+        User currentUser = createUserUseCase.execute("admin-uid", "admin@mail.com", "Admin", "User");
+        setRoles(currentUser, Set.of(Role.CLIENT, Role.ORG_ADMIN));
+        AuthenticatedUserCache cache = updateUserRolesUseCase.authenticatedUserCache;
+        cache.get("target-uid", () -> AuthenticatedUser.builder().firebaseUid("target-uid").userId(TARGET_USER_ID).build());
+
+        updateUserRolesUseCase.execute(TARGET_USER_ID, Set.of(Role.PROFESSOR), currentUser);
+
+        assertEquals(0, cache.size());
+    }
+
     @Test
     void shouldFailWhenCurrentUserIsNotAdmin() {
         createUserUseCase.execute("target-uid", "target@mail.com", "Target", "User");
@@ -1,5 +1,6 @@
 package org.athlium.users.application.usecase;
 
+import org.athlium.auth.application.service.AuthenticatedUserCache;
 import org.athlium.shared.exception.DomainException;
 import org.athlium.users.domain.model.Role;
 import org.athlium.users.domain.model.User;
@@ -32,6 +33,7 @@ class UpdateUserUseCaseTest {
 
         updateUserUseCase = new UpdateUserUseCase();
         updateUserUseCase.userRepository = userRepository;
+        updateUserUseCase.authenticatedUserCache = new AuthenticatedUserCache();
     }
 
     @Test
@@ -1,5 +1,6 @@
 package org.athlium.users.application.usecase;
 
+import org.athlium.auth.application.service.AuthenticatedUserCache;
 import org.athlium.gym.domain.model.Headquarters;
 import org.athlium.gym.domain.repository.HeadquartersRepository;
 import org.athlium.shared.exception.DomainException;
@@ -48,10 +49,12 @@ class UserHeadquartersUseCasesTest {
 
         assignUseCase = new AssignUserToHeadquartersUseCase();
         assignUseCase.userRepository = userRepository;
+        assignUseCase.authenticatedUserCache = new AuthenticatedUserCache();
         assignUseCase.authorizationService = authorizationService;
 
         removeUseCase = new RemoveUserFromHeadquartersUseCase();
         removeUseCase.userRepository = userRepository;
+        removeUseCase.authenticatedUserCache = new AuthenticatedUserCache();
         removeUseCase.authorizationService = authorizationService;
     }
 
@@ -239,6 +242,11 @@ class UserHeadquartersUseCasesTest {
                     .build());
         }
 
+        @Override
+        public List<Headquarters> findByIds(java.util.Collection<Long> ids) {
+            return ids.stream().map(this::findById).flatMap(Optional::stream).toList();
+        }
+
         @Override
         public List<Headquarters> findAll() {
             return List.of();
@@ -273,7 +273,7 @@ class UserQueryResourceUnitTest {
 
         @Override
         public PageResponse<UserWithPackageStatus> execute(Long headquartersId, String status,
-                String search, int page, int size, String sort) {
+                String search, int page, int size, String sort, String totalMode) {
             executeCalled = true;
             lastSearch = search;
             if (exception != null) throw exception;
@@ -297,7 +297,7 @@ class UserQueryResourceUnitTest {
 
         @Override
         public PageResponse<UserWithPackageStatus> execute(Long organizationId, String status,
-                String search, int page, int size, String sort) {
+                String search, int page, int size, String sort, String totalMode) {
             executeCalled = true;
             lastSearch = search;
             if (exception != null) throw exception;
@@ -321,7 +321,7 @@ class UserQueryResourceUnitTest {
 
         @Override
         public PageResponse<UserWithPackageStatus> execute(String status, String search,
-                int page, int size, String sort) {
+                int page, int size, String sort, String totalMode) {
             executeCalled = true;
             lastSearch = search;
             if (exception != null) throw exception;